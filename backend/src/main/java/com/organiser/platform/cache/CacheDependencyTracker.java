@@ -0,0 +1,104 @@
+package com.organiser.platform.cache;
+
+import com.organiser.platform.dto.EventDTO;
+import com.organiser.platform.dto.GroupDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Reverse index from dependency tag to cache keys, per cache.
+ *
+ * Tags come from the key (see {@link CacheKeys.Tagged}) and from the cached value: an EventDTO
+ * depends on its event, group, organiser and host; a GroupDTO on its group and organiser; pages
+ * and collections on each element. Entries are untracked when they are evicted explicitly or by
+ * Caffeine's size/expiry policy, so the index never outgrows the caches themselves.
+ */
+@Component
+public class CacheDependencyTracker {
+
+    private final Map<String, Map<String, Set<Object>>> keysByTag = new ConcurrentHashMap<>();
+    private final Map<String, Map<Object, Set<String>>> tagsByKey = new ConcurrentHashMap<>();
+
+    public void track(String cacheName, Object key, Object value) {
+        Set<String> tags = tagsOf(key, value);
+        if (tags.isEmpty()) {
+            return;
+        }
+        Set<String> previous = tagsByKey.computeIfAbsent(cacheName, n -> new ConcurrentHashMap<>()).put(key, tags);
+        if (previous != null) {
+            previous.stream().filter(tag -> !tags.contains(tag)).forEach(tag -> unindex(cacheName, tag, key));
+        }
+        Map<String, Set<Object>> index = keysByTag.computeIfAbsent(cacheName, n -> new ConcurrentHashMap<>());
+        tags.forEach(tag -> index.computeIfAbsent(tag, t -> ConcurrentHashMap.newKeySet()).add(key));
+    }
+
+    /**
+     * Keys currently cached in {@code cacheName} that depend on {@code tag}.
+     */
+    public Set<Object> keysTagged(String cacheName, String tag) {
+        Map<String, Set<Object>> index = keysByTag.get(cacheName);
+        Set<Object> keys = index != null ? index.get(tag) : null;
+        return keys != null ? new HashSet<>(keys) : Set.of();
+    }
+
+    public void untrack(String cacheName, Object key) {
+        Map<Object, Set<String>> byKey = tagsByKey.get(cacheName);
+        Set<String> tags = byKey != null ? byKey.remove(key) : null;
+        if (tags != null) {
+            tags.forEach(tag -> unindex(cacheName, tag, key));
+        }
+    }
+
+    public void clear(String cacheName) {
+        keysByTag.remove(cacheName);
+        tagsByKey.remove(cacheName);
+    }
+
+    private void unindex(String cacheName, String tag, Object key) {
+        Map<String, Set<Object>> index = keysByTag.get(cacheName);
+        if (index != null) {
+            index.computeIfPresent(tag, (t, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    static Set<String> tagsOf(Object key, Object value) {
+        Set<String> tags = new HashSet<>();
+        if (key instanceof CacheKeys.Tagged tagged) {
+            tags.addAll(tagged.tags());
+        }
+        collectValueTags(value, tags);
+        return tags;
+    }
+
+    private static void collectValueTags(Object value, Set<String> tags) {
+        if (value instanceof EventDTO event) {
+            addTag(tags, event.getId(), CacheKeys::eventTag);
+            addTag(tags, event.getGroupId(), CacheKeys::groupTag);
+            addTag(tags, event.getOrganiserId(), CacheKeys::memberTag);
+            addTag(tags, event.getHostMemberId(), CacheKeys::memberTag);
+        } else if (value instanceof GroupDTO group) {
+            addTag(tags, group.getId(), CacheKeys::groupTag);
+            addTag(tags, group.getPrimaryOrganiserId(), CacheKeys::memberTag);
+        } else if (value instanceof Page<?> page) {
+            page.getContent().forEach(element -> collectValueTags(element, tags));
+        } else if (value instanceof Collection<?> collection) {
+            collection.forEach(element -> collectValueTags(element, tags));
+        }
+    }
+
+    private static void addTag(Set<String> tags, Long id, Function<Long, String> tag) {
+        if (id != null) {
+            tags.add(tag.apply(id));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.organiser.platform.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.organiser.platform.dto.EventDTO;
+import org.springframework.data.domain.Page;
+
+import java.util.Collection;
+
+/**
+ * Approximate memory weight of a cached value, for caches sized with {@code maximumWeight}.
+ *
+ * One unit is roughly one kilobyte: an event costs one unit plus its description and image
+ * list, and pages/lists cost the sum of their elements. The events cache holds both single
+ * event bodies and whole group pages, so counting entries alone would let a thousand
+ * 100-event pages crowd out the heap.
+ */
+public class CacheEntryWeigher implements Weigher<Object, Object> {
+
+    private static final int BYTES_PER_UNIT = 1024;
+
+    @Override
+    public int weigh(Object key, Object value) {
+        return Math.max(1, weightOf(value));
+    }
+
+    private static int weightOf(Object value) {
+        if (value instanceof EventDTO event) {
+            int weight = 1;
+            if (event.getDescription() != null) {
+                weight += event.getDescription().length() / BYTES_PER_UNIT;
+            }
+            if (event.getAdditionalImages() != null) {
+                weight += event.getAdditionalImages().size() / 4;
+            }
+            return weight;
+        }
+        if (value instanceof Page<?> page) {
+            return weightOf(page.getContent());
+        }
+        if (value instanceof Collection<?> collection) {
+            int weight = 0;
+            for (Object element : collection) {
+                weight += weightOf(element);
+            }
+            return weight;
+        }
+        return 1;
+    }
+}
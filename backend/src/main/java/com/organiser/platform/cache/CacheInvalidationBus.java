@@ -0,0 +1,190 @@
+package com.organiser.platform.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+/**
+ * Cross-node cache invalidation over Postgres LISTEN/NOTIFY.
+ *
+ * Each backend instance keeps its own Caffeine caches. When one node evicts a dependency tag it
+ * publishes {@code origin|cache|tag} on the {@value #CHANNEL} channel; every other node receives
+ * it on a dedicated listening connection and evicts the matching entries from its local caches.
+ * A tag of {@value #ALL} clears the whole cache.
+ *
+ * Delivery is best-effort: if the listening connection drops, notifications sent meanwhile are
+ * lost, so after reconnecting subscribers are told to clear everything (cache = null).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidationBus implements SmartLifecycle {
+
+    public static final String CHANNEL = "cache_invalidation";
+    public static final String ALL = "*";
+
+    private static final int POLL_TIMEOUT_MILLIS = 1000;
+    private static final long MAX_BACKOFF_MILLIS = 30_000;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.cache.bus.enabled:true}")
+    private volatile boolean enabled;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<BiConsumer<String, String>> subscribers = new CopyOnWriteArrayList<>();
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    // ============================================================
+    // PUBLIC METHODS
+    // ============================================================
+
+    /**
+     * Register a callback receiving (cacheName, tag) for evictions published by other nodes.
+     * cacheName is null when every cache must be cleared.
+     */
+    public void subscribe(BiConsumer<String, String> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * Tell the other nodes to evict {@code tag} from {@code cacheName}.
+     * Runs in its own auto-commit statement, so call it after the change has committed.
+     */
+    public void publish(String cacheName, String tag) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, CHANNEL, nodeId + "|" + cacheName + "|" + tag);
+        } catch (DataAccessException e) {
+            // Other nodes fall back to their TTL for this entry
+            log.warn("Failed to publish cache invalidation {} {}: {}", cacheName, tag, e.getMessage());
+        }
+    }
+
+    // ============================================================
+    // LIFECYCLE
+    // ============================================================
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            log.info("Cache invalidation bus disabled - caches are local to this node");
+            return;
+        }
+        running = true;
+        listenerThread = new Thread(this::listen, "cache-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            try {
+                listenerThread.join(POLL_TIMEOUT_MILLIS * 2L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            listenerThread = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // ============================================================
+    // PRIVATE HELPER METHODS
+    // ============================================================
+
+    private void listen() {
+        long backoffMillis = 1000;
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                if (!connection.isWrapperFor(PGConnection.class)) {
+                    log.info("Cache invalidation bus needs PostgreSQL - caches are local to this node");
+                    enabled = false;
+                    running = false;
+                    return;
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                log.info("Listening for cache invalidations on channel {} (node {})", CHANNEL, nodeId);
+                if (reconnecting) {
+                    // Anything published while we were disconnected is lost
+                    dispatch(null, ALL);
+                }
+                backoffMillis = 1000;
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            handle(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    break;
+                }
+                log.warn("Cache invalidation listener lost its connection, retrying in {} ms: {}", backoffMillis, e.getMessage());
+                reconnecting = true;
+                try {
+                    Thread.sleep(backoffMillis);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    private void handle(String payload) {
+        String[] parts = payload.split("\\|", 3);
+        if (parts.length != 3) {
+            log.warn("Ignoring malformed cache invalidation payload: {}", payload);
+            return;
+        }
+        if (nodeId.equals(parts[0])) {
+            return;  // Already applied locally
+        }
+        dispatch(parts[1], parts[2]);
+    }
+
+    private void dispatch(String cacheName, String tag) {
+        for (BiConsumer<String, String> subscriber : subscribers) {
+            try {
+                subscriber.accept(cacheName, tag);
+            } catch (RuntimeException e) {
+                log.error("Failed to apply cache invalidation {} {}", cacheName, tag, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.organiser.platform.cache;
+
+import org.springframework.data.domain.Pageable;
+
+import java.util.Set;
+
+/**
+ * Structured cache keys and dependency tags.
+ *
+ * Every key used with {@code @Cacheable} in the event/group caches is built here (from SpEL via
+ * {@code T(com.organiser.platform.cache.CacheKeys).xxx(...)}) and declares the tags it depends on.
+ * {@link CacheDependencyTracker} indexes entries by those tags, plus tags derived from the cached
+ * value, so a write can evict exactly the entries it affects instead of clearing whole caches.
+ */
+public final class CacheKeys {
+
+    private CacheKeys() {}
+
+    /**
+     * A cache key that knows which dependency tags it belongs to.
+     */
+    public interface Tagged {
+        Set<String> tags();
+    }
+
+    // ============================================================
+    // Dependency tags
+    // ============================================================
+
+    /** Entries that display this event (detail views, list pages containing it). */
+    public static String eventTag(Long eventId) {
+        return "event:" + eventId;
+    }
+
+    /** Entries that display this group, or an event belonging to it. */
+    public static String groupTag(Long groupId) {
+        return "group:" + groupId;
+    }
+
+    /** Paged event lists of this group, including empty pages. */
+    public static String groupEventsTag(Long groupId) {
+        return "group-events:" + groupId;
+    }
+
+    /** Entries personal to this member, or displaying them as organiser/host. */
+    public static String memberTag(Long memberId) {
+        return "member:" + memberId;
+    }
+
+    /** The public group directory. */
+    public static final String PUBLIC_GROUPS_TAG = "groups:public";
+
+    // ============================================================
+    // Keys
+    // ============================================================
+
+    public static EventDetail eventDetail(Long eventId) {
+        return new EventDetail(eventId);
+    }
+
+    public static GroupEventsPage groupEventsPage(Long groupId, Pageable pageable) {
+        return new GroupEventsPage(groupId, pageable.getPageNumber(), pageable.getPageSize());
+    }
+
+    public static UpcomingPage upcomingPage(Pageable pageable) {
+        return new UpcomingPage(pageable.getPageNumber(), pageable.getPageSize());
+    }
+
+    public static MemberGroups subscribedGroups(Long memberId) {
+        return new MemberGroups(memberId, false);
+    }
+
+    public static MemberGroups organisedGroups(Long memberId) {
+        return new MemberGroups(memberId, true);
+    }
+
+    public static GroupDetail groupDetail(Long groupId) {
+        return new GroupDetail(groupId);
+    }
+
+    public static PublicGroups publicGroups() {
+        return PublicGroups.INSTANCE;
+    }
+
+    public static Principal principal(Long memberId) {
+        return new Principal(memberId);
+    }
+
+    /** The viewer-independent body of one event; per-viewer fields are overlaid per request. */
+    public record EventDetail(Long eventId) implements Tagged {
+        @Override
+        public Set<String> tags() {
+            return Set.of(eventTag(eventId));
+        }
+    }
+
+    public record GroupEventsPage(Long groupId, int page, int size) implements Tagged {
+        @Override
+        public Set<String> tags() {
+            return Set.of(groupEventsTag(groupId));
+        }
+    }
+
+    /** Upcoming pages depend only on their contents; listing changes clear the whole cache. */
+    public record UpcomingPage(int page, int size) implements Tagged {
+        @Override
+        public Set<String> tags() {
+            return Set.of();
+        }
+    }
+
+    public record MemberGroups(Long memberId, boolean organised) implements Tagged {
+        @Override
+        public Set<String> tags() {
+            return Set.of(memberTag(memberId));
+        }
+    }
+
+    public record GroupDetail(Long groupId) implements Tagged {
+        @Override
+        public Set<String> tags() {
+            return Set.of(groupTag(groupId));
+        }
+    }
+
+    /** Auth state of one member, see MemberPrincipalService. */
+    public record Principal(Long memberId) implements Tagged {
+        @Override
+        public Set<String> tags() {
+            return Set.of(memberTag(memberId));
+        }
+    }
+
+    public enum PublicGroups implements Tagged {
+        INSTANCE;
+
+        @Override
+        public Set<String> tags() {
+            return Set.of(PUBLIC_GROUPS_TAG);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.organiser.platform.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Cache decorator that registers every stored entry with {@link CacheDependencyTracker}
+ * so it can later be evicted by dependency tag.
+ */
+public class TrackingCache implements Cache {
+
+    private final Cache delegate;
+    private final CacheDependencyTracker tracker;
+
+    public TrackingCache(Cache delegate, CacheDependencyTracker tracker) {
+        this.delegate = delegate;
+        this.tracker = tracker;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return delegate.get(key, () -> {
+            T value = valueLoader.call();
+            tracker.track(getName(), key, value);
+            return value;
+        });
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return delegate.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return delegate.retrieve(key, () -> valueLoader.get().thenApply(value -> {
+            tracker.track(getName(), key, value);
+            return value;
+        }));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        // Index before storing so a concurrent tag eviction cannot miss the new entry
+        tracker.track(getName(), key, value);
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        tracker.track(getName(), key, value);
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        tracker.untrack(getName(), key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = delegate.evictIfPresent(key);
+        tracker.untrack(getName(), key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        tracker.clear(getName());
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = delegate.invalidate();
+        tracker.clear(getName());
+        return invalidated;
+    }
+}
@@ -0,0 +1,39 @@
+package com.organiser.platform.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * CacheManager decorator handing out {@link TrackingCache}s, so entries written through
+ * {@code @Cacheable} are indexed by dependency tag.
+ */
+public class TrackingCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final CacheDependencyTracker tracker;
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public TrackingCacheManager(CacheManager delegate, CacheDependencyTracker tracker) {
+        this.delegate = delegate;
+        this.tracker = tracker;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        return target != null ? caches.computeIfAbsent(name, n -> new TrackingCache(target, tracker)) : null;
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
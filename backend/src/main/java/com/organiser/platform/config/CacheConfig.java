@@ -1,58 +1,143 @@
 package com.organiser.platform.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.organiser.platform.cache.CacheDependencyTracker;
+import com.organiser.platform.cache.CacheEntryWeigher;
+import com.organiser.platform.cache.CacheKeys;
+import com.organiser.platform.cache.TrackingCacheManager;
+import com.organiser.platform.service.EventService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.PageRequest;
 
-import java.util.concurrent.TimeUnit;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Cache configuration using Caffeine for high-performance in-memory caching.
  * 
- * Caches:
- * - upcomingEvents: List of upcoming events (5 min TTL)
- * - eventDetail: Individual event details (5 min TTL)
- * - publicGroups: List of public groups (5 min TTL)
- * - groupDetail: Individual group details (5 min TTL)
+ * Caches (defaults below, each overridable with app.cache.spec.<name>=<Caffeine spec>):
+ * - upcomingEvents: Home page listing, refreshed in the background every 4 min (15 min TTL)
+ * - events: Event detail views and group event pages, sized by weight (10 min TTL)
+ * - groups: Group details and group lists (10 min TTL)
+ * - members: Member data (10 min TTL)
+ * - principals: Active flag and role per member for request authentication (5 min TTL)
+ * - featureFlags / featureFlagsMap: Evicted explicitly on update (12 h TTL as a safety net)
+ *
+ * Entries are indexed by dependency tag (see CacheKeys / CacheDependencyTracker) so writes
+ * evict only what they affect via CacheInvalidationService, rather than whole caches.
  */
 @Configuration
 @EnableCaching
+@Slf4j
 public class CacheConfig {
 
+    static final String SPEC_PROPERTY_PREFIX = "app.cache.spec.";
+
+    private static final Map<String, String> DEFAULT_SPECS = new LinkedHashMap<>();
+    static {
+        DEFAULT_SPECS.put("upcomingEvents", "maximumSize=200,expireAfterWrite=15m,refreshAfterWrite=4m");
+        DEFAULT_SPECS.put("events", "maximumWeight=20000,expireAfterWrite=10m");  // ~20 MB, see CacheEntryWeigher
+        DEFAULT_SPECS.put("groups", "maximumSize=2000,expireAfterWrite=10m");
+        DEFAULT_SPECS.put("eventDetail", "maximumSize=1000,expireAfterWrite=10m");
+        DEFAULT_SPECS.put("publicGroups", "maximumSize=1000,expireAfterWrite=10m");
+        DEFAULT_SPECS.put("groupDetail", "maximumSize=1000,expireAfterWrite=10m");
+        DEFAULT_SPECS.put("members", "maximumSize=1000,expireAfterWrite=10m");
+        DEFAULT_SPECS.put("principals", "maximumSize=10000,expireAfterWrite=5m");
+        DEFAULT_SPECS.put("featureFlags", "maximumSize=100,expireAfterWrite=12h");
+        DEFAULT_SPECS.put("featureFlagsMap", "maximumSize=10,expireAfterWrite=12h");
+    }
+
     /**
-     * Configure Caffeine cache manager with custom settings.
+     * Configure the Caffeine cache manager with a policy per cache.
      * 
      * Performance characteristics:
-     * - Maximum 1000 entries per cache
-     * - 10 minute expiration after write (matches frontend cache)
-     * - Automatic eviction of least recently used entries
-     * - Thread-safe concurrent access
-     * 
-     * OPTIMIZED: Increased from 5 to 10 minutes for better production performance
-     * Events don't change frequently, so longer cache is safe
+     * - Size, TTL and refresh configured per cache from a Caffeine spec string
+     * - Weight-based sizing (maximumWeight) uses CacheEntryWeigher
+     * - refreshAfterWrite reloads asynchronously: readers keep getting the current page while
+     *   a background thread replaces it, so the home page never pays a cold load after warm-up
+     * - Hit/miss/eviction/load metrics per cache (cache.gets{cache=...,result=hit|miss} in /actuator/metrics)
      */
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
-            "upcomingEvents",
-            "events",  // Generic events cache (for getEventById, getEventsByGroup, etc.)
-            "groups",  // Generic groups cache (for getAllPublicGroups, getGroupById, etc.)
-            "eventDetail", 
-            "publicGroups",
-            "groupDetail",
-            "members",  // Member cache for profile photos
-            "featureFlags",  // Feature flags cache
-            "featureFlagsMap"  // Feature flags map cache for frontend
-        );
-        
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-            .maximumSize(1000)  // Max 1000 entries per cache
-            .expireAfterWrite(10, TimeUnit.MINUTES)  // 10 minute TTL (matches frontend)
-            .recordStats());  // Enable statistics for monitoring
-        
-        return cacheManager;
+    public CacheManager cacheManager(CacheDependencyTracker dependencyTracker,
+                                     ObjectProvider<MeterRegistry> meterRegistry,
+                                     ObjectProvider<EventService> eventService,
+                                     Environment environment) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        Executor refreshExecutor = refreshExecutor();
+
+        for (Map.Entry<String, String> entry : DEFAULT_SPECS.entrySet()) {
+            String name = entry.getKey();
+            String spec = environment.getProperty(SPEC_PROPERTY_PREFIX + name, entry.getValue());
+
+            Caffeine<Object, Object> builder = Caffeine.from(spec)
+                // Size/TTL evictions drop the entry from the dependency index too
+                .evictionListener((key, value, cause) -> dependencyTracker.untrack(name, key));
+            if (!spec.contains("recordStats")) {
+                builder.recordStats();  // Enable statistics for monitoring
+            }
+            if (spec.contains("maximumWeight")) {
+                builder.weigher(new CacheEntryWeigher());
+            }
+
+            Cache<Object, Object> cache;
+            if (spec.contains("refreshAfterWrite")) {
+                CacheLoader<Object, Object> loader = refreshingLoader(name, eventService);
+                // Values loaded by the cache itself bypass TrackingCache.put, so index them here
+                cache = builder.executor(refreshExecutor).build(key -> {
+                    Object value = loader.load(key);
+                    dependencyTracker.track(name, key, value);
+                    return value;
+                });
+            } else {
+                cache = builder.build();
+            }
+
+            cacheManager.registerCustomCache(name, cache);
+            meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, name));
+            log.info("Cache '{}' configured with spec [{}]", name, spec);
+        }
+
+        return new TrackingCacheManager(cacheManager, dependencyTracker);
+    }
+
+    /**
+     * Loader for caches with refreshAfterWrite: it must be able to rebuild a value from the key
+     * alone. Only the upcoming events listing is wired up so far.
+     */
+    private CacheLoader<Object, Object> refreshingLoader(String name, ObjectProvider<EventService> eventService) {
+        if ("upcomingEvents".equals(name)) {
+            return key -> {
+                CacheKeys.UpcomingPage page = (CacheKeys.UpcomingPage) key;
+                return eventService.getObject().loadUpcomingEvents(PageRequest.of(page.page(), page.size()));
+            };
+        }
+        throw new IllegalStateException("refreshAfterWrite is not supported for cache '" + name + "'");
+    }
+
+    /**
+     * Small dedicated pool for background reloads, so they never queue behind (or block)
+     * work on the common fork-join pool.
+     */
+    private static Executor refreshExecutor() {
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "cache-refresh-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 }
@@ -0,0 +1,34 @@
+package com.organiser.platform.config;
+
+import com.organiser.platform.ratelimit.BucketStore;
+import com.organiser.platform.ratelimit.InMemoryBucketStore;
+import com.organiser.platform.ratelimit.JdbcBucketStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Picks the rate-limit bucket store.
+ *
+ * app.rate-limit.store=memory keeps buckets per instance (local dev, single node);
+ * app.rate-limit.store=jdbc shares them through Postgres so limits hold across all nodes.
+ */
+@Configuration
+@Slf4j
+public class RateLimitConfig {
+
+    @Bean
+    public BucketStore bucketStore(@Value("${app.rate-limit.store:memory}") String store,
+                                   ObjectProvider<JdbcTemplate> jdbcTemplate) {
+        BucketStore bucketStore = switch (store) {
+            case "memory" -> new InMemoryBucketStore();
+            case "jdbc" -> new JdbcBucketStore(jdbcTemplate.getObject());
+            default -> throw new IllegalStateException("Unknown app.rate-limit.store: " + store);
+        };
+        log.info("Rate limit buckets stored in {}", store);
+        return bucketStore;
+    }
+}
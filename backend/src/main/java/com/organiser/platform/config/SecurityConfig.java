@@ -1,6 +1,8 @@
 package com.organiser.platform.config;
 
+import com.organiser.platform.security.ApiRateLimitFilter;
 import com.organiser.platform.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -27,6 +29,7 @@ import java.util.List;
 public class SecurityConfig {
     
     private final JwtAuthenticationFilter jwtAuthFilter;
+    private final ApiRateLimitFilter apiRateLimitFilter;
     
     @Value("${cors.allowed-origins}")
     private String allowedOrigins;
@@ -37,6 +40,9 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(auth -> auth
+                        // Async re-dispatches of already-authorised requests (SSE completion/timeout)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        
                         // Authentication endpoints - public
                         .requestMatchers(
                                 new AntPathRequestMatcher("/api/v1/auth/magic-link", "POST"),
@@ -69,7 +75,8 @@ public class SecurityConfig {
                                 new AntPathRequestMatcher("/api/v1/events/public/group/*", "GET"),
                                 new AntPathRequestMatcher("/api/v1/events/public/*/participants", "GET"),
                                 new AntPathRequestMatcher("/api/v1/events/public/*/calendar", "GET"),
-                                new AntPathRequestMatcher("/api/v1/events/search", "GET")
+                                new AntPathRequestMatcher("/api/v1/events/search", "GET"),
+                                new AntPathRequestMatcher("/api/v1/events/search/cursor", "GET")
                         ).permitAll()
                         
                         // Public READ-ONLY endpoints for groups
@@ -200,6 +207,7 @@ public class SecurityConfig {
                         .requestMatchers(
                                 new AntPathRequestMatcher("/api/v1/notifications", "GET"),
                                 new AntPathRequestMatcher("/api/v1/notifications/unread-count", "GET"),
+                                new AntPathRequestMatcher("/api/v1/notifications/stream", "GET"),
                                 new AntPathRequestMatcher("/api/v1/notifications/*", "PUT"),
                                 new AntPathRequestMatcher("/api/v1/notifications/read-all", "PUT"),
                                 new AntPathRequestMatcher("/api/v1/notifications/*", "DELETE")
@@ -252,7 +260,9 @@ public class SecurityConfig {
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
-                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+                // After JWT auth so authenticated requests are limited per member rather than per IP
+                .addFilterAfter(apiRateLimitFilter, JwtAuthenticationFilter.class);
         
         return http.build();
     }
@@ -275,7 +285,11 @@ public class SecurityConfig {
         ));
         configuration.setExposedHeaders(Arrays.asList(
                 "Authorization",
-                "Content-Type"
+                "Content-Type",
+                "RateLimit-Limit",
+                "RateLimit-Remaining",
+                "RateLimit-Reset",
+                "Retry-After"
         ));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
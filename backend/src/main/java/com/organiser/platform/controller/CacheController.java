@@ -1,21 +1,25 @@
 package com.organiser.platform.controller;
 
-import org.springframework.cache.annotation.CacheEvict;
+import com.organiser.platform.service.CacheInvalidationService;
+import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequestMapping("/api/v1/cache")
+@RequiredArgsConstructor
 public class CacheController {
     
+    private final CacheInvalidationService cacheInvalidationService;
+    
     /**
-     * Clear all caches
+     * Clear all caches (on every node)
      * Useful for development when data is modified directly in database
      */
     @PostMapping("/clear")
-    @CacheEvict(value = {"events", "groups"}, allEntries = true)
     public String clearAllCaches() {
+        cacheInvalidationService.clearCaches("events", "upcomingEvents", "groups");
         return "All caches cleared successfully";
     }
     
@@ -23,8 +27,8 @@ public class CacheController {
      * Clear events cache only
      */
     @PostMapping("/clear/events")
-    @CacheEvict(value = "events", allEntries = true)
     public String clearEventsCache() {
+        cacheInvalidationService.clearCaches("events", "upcomingEvents");
         return "Events cache cleared successfully";
     }
     
@@ -32,8 +36,8 @@ public class CacheController {
      * Clear groups cache only
      */
     @PostMapping("/clear/groups")
-    @CacheEvict(value = "groups", allEntries = true)
     public String clearGroupsCache() {
+        cacheInvalidationService.clearCaches("groups");
         return "Groups cache cleared successfully";
     }
 }
@@ -2,6 +2,7 @@ package com.organiser.platform.controller;
 
 import com.organiser.platform.dto.CalendarEventDTO;
 import com.organiser.platform.dto.CreateEventRequest;
+import com.organiser.platform.dto.EventCursorPage;
 import com.organiser.platform.dto.EventDTO;
 import com.organiser.platform.dto.EventSearchResponse;
 import com.organiser.platform.dto.JoinEventRequest;
@@ -32,6 +33,19 @@ public class EventController {
         Pageable pageable = PageRequest.of(page, size, Sort.by("eventDate").ascending());
         return ResponseEntity.ok(eventService.getUpcomingEvents(pageable));
     }
+
+    /**
+     * Upcoming events, keyset-paginated for infinite scroll: send an empty cursor for the
+     * first page, then the previous response's nextCursor. Every page costs the same.
+     * size is clamped to 1..100.
+     */
+    @GetMapping("/public/cursor")
+    public ResponseEntity<EventCursorPage> getUpcomingEventsByCursor(
+            @RequestParam(defaultValue = "") String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(eventService.getUpcomingEvents(cursor, size));
+    }
     
     @GetMapping("/public/{id}")
     public ResponseEntity<EventDTO> getEventById(
@@ -201,6 +215,21 @@ public class EventController {
                 .build();
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Token search (same tokens as /search), keyset-paginated in date order for infinite scroll.
+     * Free text filters but does not rank, so the cursor stays stable. size is clamped to 1..100.
+     */
+    @GetMapping("/search/cursor")
+    public ResponseEntity<EventCursorPage> searchEventsByCursor(
+            Authentication authentication,
+            @RequestParam(name = "q", required = false) String query,
+            @RequestParam(defaultValue = "") String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Long userId = authentication != null ? getUserIdFromAuth(authentication) : null;
+        return ResponseEntity.ok(eventService.searchEventsAdvanced(query, cursor, size, userId));
+    }
     
     @GetMapping("/public/{id}/participants")
     public ResponseEntity<?> getEventParticipants(
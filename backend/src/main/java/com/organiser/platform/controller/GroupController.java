@@ -77,11 +77,20 @@ public class GroupController {
         return ResponseEntity.ok(groupService.getGroupById(groupId));
     }
     
+    /**
+     * Active group members. Send a cursor (empty for the first page, then the previous
+     * response's nextCursor) to get keyset pagination; without one, the full list is returned.
+     */
     @GetMapping("/{groupId}/members")
     public ResponseEntity<?> getGroupMembers(
             @PathVariable Long groupId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
             Authentication authentication
     ) {
+        if (cursor != null) {
+            return ResponseEntity.ok(groupService.getGroupMembers(groupId, cursor, size));
+        }
         // Get requester ID (null if not authenticated)
         Long requesterId = null;
         if (authentication != null && authentication.isAuthenticated()) {
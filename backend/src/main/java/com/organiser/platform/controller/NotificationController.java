@@ -4,12 +4,15 @@ import static com.organiser.platform.controller.EventController.getUserIdFromAut
 
 import com.organiser.platform.dto.NotificationDTO;
 import com.organiser.platform.service.NotificationService;
+import com.organiser.platform.service.NotificationStreamService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -21,6 +24,7 @@ import java.util.Map;
 public class NotificationController {
     
     private final NotificationService notificationService;
+    private final NotificationStreamService notificationStreamService;
     
     /**
      * Get all notifications for the current user
@@ -36,6 +40,17 @@ public class NotificationController {
         return ResponseEntity.ok(notifications);
     }
     
+    /**
+     * Live stream of unread counts and new notifications (Server-Sent Events).
+     * Sends an "unread-count" event on connect and on every change, and a "notification"
+     * event for each new notification; replaces polling /unread-count.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(Authentication authentication) {
+        Long memberId = getUserIdFromAuth(authentication);
+        return notificationStreamService.open(memberId);
+    }
+    
     /**
      * Get unread notification count
      */
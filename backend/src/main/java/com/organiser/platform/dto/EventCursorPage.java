@@ -0,0 +1,23 @@
+package com.organiser.platform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a cursor-paginated event list.
+ * Pass nextCursor back as the cursor parameter to fetch the following page; it is null on the last page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventCursorPage {
+    private List<EventDTO> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
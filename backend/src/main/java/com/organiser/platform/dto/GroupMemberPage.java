@@ -0,0 +1,24 @@
+package com.organiser.platform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a cursor-paginated group member list (organiser first, then by join date).
+ * Pass nextCursor back as the cursor parameter to fetch the following page; it is null on the last page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupMemberPage {
+    private List<MemberDTO> content;
+    private int size;
+    private long totalMembers;
+    private boolean hasNext;
+    private String nextCursor;
+}
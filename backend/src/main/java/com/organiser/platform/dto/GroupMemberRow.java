@@ -0,0 +1,22 @@
+package com.organiser.platform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of an active group subscription: only the columns the member list shows.
+ * Built by a JPQL constructor expression, so no Subscription or Member entities are loaded.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupMemberRow {
+    private Long subscriptionId;
+    private Long memberId;
+    private String displayName;
+    private String profilePhotoUrl;
+    private LocalDateTime subscribedAt;
+}
@@ -0,0 +1,212 @@
+package com.organiser.platform.email;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A parsed email template: literal text, variables and sections, ready to render without
+ * re-scanning the source.
+ *
+ * Syntax (a small Mustache subset):
+ * <ul>
+ *   <li>{@code {{name}}} - value, HTML-escaped</li>
+ *   <li>{@code {{{name}}}} - value, inserted as is</li>
+ *   <li>{@code {{#name}}...{{/name}}} - rendered only when the value is present (non-null, non-empty, not false)</li>
+ * </ul>
+ * Rendering fails fast on a variable missing from the model, so typos surface in tests
+ * rather than as blank emails.
+ */
+public final class EmailTemplate {
+
+    private sealed interface Node permits Literal, Variable, Section {
+    }
+
+    private record Literal(String text) implements Node {
+    }
+
+    private record Variable(String name, boolean escape) implements Node {
+    }
+
+    private record Section(String name, Node[] body) implements Node {
+    }
+
+    private final String name;
+    private final Node[] nodes;
+    private final Set<String> variableNames;
+    private final int literalLength;
+
+    private EmailTemplate(String name, Node[] nodes, Set<String> variableNames, int literalLength) {
+        this.name = name;
+        this.nodes = nodes;
+        this.variableNames = Collections.unmodifiableSet(variableNames);
+        this.literalLength = literalLength;
+    }
+
+    /**
+     * Parse a template source once
+     * @throws IllegalArgumentException on unbalanced tags or sections
+     */
+    public static EmailTemplate compile(String name, String source) {
+        Parser parser = new Parser(name, source);
+        Node[] nodes = parser.parse(null);
+        return new EmailTemplate(name, nodes, parser.variableNames, parser.literalLength);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Every variable and section name the template refers to
+     */
+    public Set<String> getVariableNames() {
+        return variableNames;
+    }
+
+    /**
+     * Output size without variables: a good initial buffer capacity
+     */
+    public int getLiteralLength() {
+        return literalLength;
+    }
+
+    /**
+     * Append the rendered template to {@code out}
+     */
+    public void renderTo(Map<String, ?> model, StringBuilder out) {
+        render(nodes, model, out);
+    }
+
+    private void render(Node[] nodes, Map<String, ?> model, StringBuilder out) {
+        for (Node node : nodes) {
+            switch (node) {
+                case Literal literal -> out.append(literal.text());
+                case Variable variable -> {
+                    String value = String.valueOf(lookup(model, variable.name()));
+                    if (variable.escape()) {
+                        escapeHtml(value, out);
+                    } else {
+                        out.append(value);
+                    }
+                }
+                case Section section -> {
+                    if (isPresent(lookup(model, section.name()))) {
+                        render(section.body(), model, out);
+                    }
+                }
+            }
+        }
+    }
+
+    private Object lookup(Map<String, ?> model, String variable) {
+        if (!model.containsKey(variable)) {
+            throw new IllegalArgumentException("Email template '" + name + "' needs a value for '" + variable + "'");
+        }
+        return model.get(variable);
+    }
+
+    private static boolean isPresent(Object value) {
+        if (value == null || Boolean.FALSE.equals(value)) {
+            return false;
+        }
+        return !(value instanceof CharSequence text) || !text.isEmpty();
+    }
+
+    /**
+     * Escape HTML special characters straight into the output buffer
+     */
+    static void escapeHtml(String value, StringBuilder out) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#x27;");
+                case '/' -> out.append("&#x2F;");
+                default -> out.append(c);
+            }
+        }
+    }
+
+    // ============================================================
+    // PARSER
+    // ============================================================
+
+    private static final class Parser {
+
+        private final String name;
+        private final String source;
+        private final Set<String> variableNames = new LinkedHashSet<>();
+        private int position;
+        private int literalLength;
+
+        private Parser(String name, String source) {
+            this.name = name;
+            this.source = source;
+        }
+
+        /**
+         * Parse until the end of input, or until {@code {{/section}}} when inside a section
+         */
+        private Node[] parse(String section) {
+            List<Node> nodes = new ArrayList<>();
+            while (position < source.length()) {
+                int open = source.indexOf("{{", position);
+                if (open < 0) {
+                    addLiteral(nodes, source.substring(position));
+                    position = source.length();
+                    break;
+                }
+                addLiteral(nodes, source.substring(position, open));
+
+                boolean raw = source.startsWith("{{{", open);
+                String closeTag = raw ? "}}}" : "}}";
+                int close = source.indexOf(closeTag, open);
+                if (close < 0) {
+                    throw error("unclosed tag", open);
+                }
+                String tag = source.substring(open + (raw ? 3 : 2), close).trim();
+                position = close + closeTag.length();
+
+                if (!raw && tag.startsWith("#")) {
+                    String sectionName = tag.substring(1).trim();
+                    variableNames.add(sectionName);
+                    nodes.add(new Section(sectionName, parse(sectionName)));
+                } else if (!raw && tag.startsWith("/")) {
+                    String closing = tag.substring(1).trim();
+                    if (!closing.equals(section)) {
+                        throw error("unexpected {{/" + closing + "}}", open);
+                    }
+                    return nodes.toArray(Node[]::new);
+                } else {
+                    if (tag.isEmpty()) {
+                        throw error("empty tag", open);
+                    }
+                    variableNames.add(tag);
+                    nodes.add(new Variable(tag, !raw));
+                }
+            }
+            if (section != null) {
+                throw error("missing {{/" + section + "}}", source.length());
+            }
+            return nodes.toArray(Node[]::new);
+        }
+
+        private void addLiteral(List<Node> nodes, String text) {
+            if (!text.isEmpty()) {
+                nodes.add(new Literal(text));
+                literalLength += text.length();
+            }
+        }
+
+        private IllegalArgumentException error(String problem, int at) {
+            return new IllegalArgumentException("Email template '" + name + "': " + problem + " at offset " + at);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.organiser.platform.email;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Loads every {@code classpath:email-templates/*.html} once at startup, compiles it to an
+ * {@link EmailTemplate}, and renders into a per-thread buffer that is reused across sends.
+ * A broken template fails application startup instead of the first send.
+ */
+@Component
+@Slf4j
+public class EmailTemplateEngine {
+
+    static final String TEMPLATE_LOCATION = "classpath*:email-templates/*.html";
+
+    // Buffers that grew past this are not kept, so one huge email does not pin memory per thread
+    private static final int MAX_RETAINED_BUFFER = 256 * 1024;
+
+    private final Map<String, EmailTemplate> templates = new HashMap<>();
+    private final ThreadLocal<StringBuilder> buffers = ThreadLocal.withInitial(() -> new StringBuilder(8 * 1024));
+
+    @PostConstruct
+    public void loadTemplates() {
+        try {
+            Resource[] resources = new PathMatchingResourcePatternResolver().getResources(TEMPLATE_LOCATION);
+            for (Resource resource : resources) {
+                String filename = resource.getFilename();
+                String name = filename.substring(0, filename.length() - ".html".length());
+                String source = resource.getContentAsString(StandardCharsets.UTF_8);
+                templates.put(name, EmailTemplate.compile(name, source));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load email templates", e);
+        }
+        log.info("Compiled {} email templates: {}", templates.size(), templates.keySet());
+    }
+
+    /**
+     * Render a template by name (file name without .html)
+     * @throws IllegalArgumentException for an unknown template or a missing model value
+     */
+    public String render(String templateName, Map<String, ?> model) {
+        EmailTemplate template = getTemplate(templateName);
+        StringBuilder buffer = buffers.get();
+        buffer.setLength(0);
+        buffer.ensureCapacity(template.getLiteralLength() + 512);
+        template.renderTo(model, buffer);
+        String html = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            buffers.remove();
+        }
+        return html;
+    }
+
+    /**
+     * Render with every variable replaced by a visible {@code [name]} marker and every section shown,
+     * for previewing a template's layout
+     */
+    public String preview(String templateName) {
+        Map<String, Object> model = new LinkedHashMap<>();
+        getTemplate(templateName).getVariableNames().forEach(name -> model.put(name, "[" + name + "]"));
+        return render(templateName, model);
+    }
+
+    public EmailTemplate getTemplate(String templateName) {
+        EmailTemplate template = templates.get(templateName);
+        if (template == null) {
+            throw new IllegalArgumentException("Unknown email template: " + templateName);
+        }
+        return template;
+    }
+}
@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.Formula;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -87,6 +88,12 @@ public class Event {
     
     @Column(name = "end_date")
     private Instant endDate;
+
+    // EventTimingUtils.effectiveEnd, computed by the database: the generated column from V65.
+    // Mapped as a read-only formula so the expression lives in one place, the migration
+    // (which the test profile also applies); loaded with the entity, not refreshed after a write.
+    @Formula("effective_end")
+    private Instant effectiveEnd;
     
     @Column(name = "registration_deadline")
     private Instant registrationDeadline;
@@ -173,6 +180,16 @@ public class Event {
     @Column(name = "join_question", columnDefinition = "TEXT")
     private String joinQuestion;
     
+    // Denormalized participant counters, maintained atomically through EventRepository.
+    // Not updatable from the entity so a stale in-memory copy can never overwrite them.
+    @Column(name = "confirmed_headcount", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer confirmedHeadcount = 0;
+
+    @Column(name = "waitlist_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer waitlistCount = 0;
+
     @Column(name = "average_rating")
     private Double averageRating;
     
@@ -201,7 +218,7 @@ public class Event {
     }
     
     public int getCurrentParticipantCount() {
-        return participants != null ? participants.size() : 0;
+        return confirmedHeadcount != null ? confirmedHeadcount : 0;
     }
     
     public boolean isFull() {
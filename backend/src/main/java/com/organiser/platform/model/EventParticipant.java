@@ -21,8 +21,8 @@ import java.time.LocalDateTime;
 @Table(name = "event_participants",
     uniqueConstraints = @UniqueConstraint(columnNames = {"member_id", "event_id"}),
     indexes = {
-        @Index(name = "idx_participant_member", columnList = "member_id"),
-        @Index(name = "idx_participant_event", columnList = "event_id")
+        @Index(name = "idx_event_participants_event_status", columnList = "event_id, status"),
+        @Index(name = "idx_event_participants_member_status", columnList = "member_id, status")
     }
 )
 @EntityListeners(AuditingEntityListener.class)
@@ -85,6 +85,24 @@ public class EventParticipant {
     @Column(name = "review_prompt_dismissed_at")
     private Instant reviewPromptDismissedAt;
     
+    /**
+     * Seats this participation takes towards the event's confirmed headcount (self + guests).
+     * Cancelled and waitlisted participations take none.
+     */
+    public int headcountSlots() {
+        if (status == ParticipationStatus.CANCELLED || status == ParticipationStatus.WAITLISTED) {
+            return 0;
+        }
+        return 1 + (guestCount != null ? guestCount : 0);
+    }
+
+    /**
+     * Places this participation takes on the event's waitlist.
+     */
+    public int waitlistSlots() {
+        return status == ParticipationStatus.WAITLISTED ? 1 : 0;
+    }
+    
     public enum ParticipationStatus {
         REGISTERED,
         CONFIRMED,
@@ -20,10 +20,8 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "notifications", indexes = {
-    @Index(name = "idx_notification_member", columnList = "member_id"),
-    @Index(name = "idx_notification_type", columnList = "notification_type"),
-    @Index(name = "idx_notification_is_read", columnList = "is_read"),
-    @Index(name = "idx_notification_created_at", columnList = "created_at")
+    // Partial indexes (unread, read_at, related_group_id) live in V63
+    @Index(name = "idx_notifications_member_created", columnList = "member_id, created_at desc")
 })
 @EntityListeners(AuditingEntityListener.class)
 @Data
@@ -0,0 +1,80 @@
+package com.organiser.platform.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * NotificationOutbox entity - one pending notification fan-out
+ * Written in the same transaction as the event/comment that triggers it, then expanded into
+ * one notification per recipient (and web pushes) after commit by NotificationFanoutService.
+ * Ids are stored as plain columns so the worker never touches lazy associations.
+ */
+@Entity
+@Table(name = "notification_outbox", indexes = {
+    @Index(name = "idx_notification_outbox_unfinished", columnList = "status, created_at")
+})
+@EntityListeners(AuditingEntityListener.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationOutbox {
+
+    public enum FanoutType {
+        NEW_EVENT,      // Notify active subscribers of the event's group
+        NEW_COMMENT     // Notify participants of the commented event
+    }
+
+    public enum Status {
+        PENDING,
+        PROCESSING,
+        DONE,
+        FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "fanout_type", nullable = false, length = 30)
+    private FanoutType fanoutType;
+
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(name = "comment_id")
+    private Long commentId;
+
+    @Column(name = "actor_member_id", nullable = false)
+    private Long actorMemberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+}
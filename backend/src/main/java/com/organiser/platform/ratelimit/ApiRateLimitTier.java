@@ -0,0 +1,59 @@
+package com.organiser.platform.ratelimit;
+
+/**
+ * Quota groups for the global API rate limit (ApiRateLimitFilter).
+ *
+ * Each tier is a per-minute budget per member (authenticated) or per client IP (anonymous),
+ * overridable with app.rate-limit.api.&lt;property&gt;.
+ */
+public enum ApiRateLimitTier {
+
+    /** Event search: the main scraping target, and every call is a full-text query */
+    SEARCH("search", 30),
+    /** Admin console */
+    ADMIN("admin", 120),
+    /** POST / PUT / PATCH / DELETE */
+    WRITE("write", 60),
+    /** Everything else: GETs of public and personal data */
+    READ("read", 300);
+
+    private final String property;
+    private final long defaultPerMinute;
+
+    ApiRateLimitTier(String property, long defaultPerMinute) {
+        this.property = property;
+        this.defaultPerMinute = defaultPerMinute;
+    }
+
+    public String property() {
+        return property;
+    }
+
+    public long defaultPerMinute() {
+        return defaultPerMinute;
+    }
+
+    /**
+     * Tier for a request, or null when the route is exempt: auth endpoints have their own
+     * brute-force limits and health checks must never be throttled.
+     * Plain prefix checks, no pattern matching, as this runs on every request.
+     */
+    public static ApiRateLimitTier classify(String method, String path) {
+        if (!path.startsWith("/api/v1/")
+                || path.startsWith("/api/v1/auth/")
+                || path.startsWith("/api/v1/actuator/")
+                || "OPTIONS".equals(method)) {
+            return null;
+        }
+        if (path.startsWith("/api/v1/events/public/search") || path.startsWith("/api/v1/events/search")) {
+            return SEARCH;
+        }
+        if (path.startsWith("/api/v1/admin/") && !path.equals("/api/v1/admin/feature-flags/map")) {
+            return ADMIN;
+        }
+        if ("GET".equals(method) || "HEAD".equals(method)) {
+            return READ;
+        }
+        return WRITE;
+    }
+}
@@ -0,0 +1,38 @@
+package com.organiser.platform.ratelimit;
+
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+
+import java.time.Duration;
+
+/**
+ * Where RateLimitService keeps its token buckets.
+ *
+ * InMemoryBucketStore keeps them per JVM, which is fine for a single instance. JdbcBucketStore
+ * shares them through Postgres so a limit holds across every backend node. Selected with
+ * app.rate-limit.store=memory|jdbc (see RateLimitConfig).
+ */
+public interface BucketStore {
+
+    /**
+     * The bucket for {@code key}, created with {@code configuration} on first use.
+     *
+     * @param exact true for brute-force limits (magic links, passcodes) that must never be exceeded;
+     *              false lets a shared store serve a few tokens locally between synchronisations,
+     *              trading a small overshoot for fewer round trips on hot, generous limits
+     */
+    Bucket resolve(String key, BucketConfiguration configuration, boolean exact);
+
+    /**
+     * Drop persisted buckets untouched for {@code idleFor}; an idle bucket has refilled anyway.
+     * @return number of buckets removed
+     */
+    default int purgeIdle(Duration idleFor) {
+        return 0;
+    }
+
+    /**
+     * Forget every bucket held locally (tests, manual reset)
+     */
+    void clear();
+}
@@ -0,0 +1,37 @@
+package com.organiser.platform.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.local.LocalBucketBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-JVM buckets in a Caffeine cache. Limits are per instance: N nodes allow N times the budget.
+ */
+public class InMemoryBucketStore implements BucketStore {
+
+    private final Cache<String, Bucket> buckets = Caffeine.newBuilder()
+            .expireAfterWrite(1, TimeUnit.HOURS)
+            .maximumSize(100_000)
+            .build();
+
+    @Override
+    public Bucket resolve(String key, BucketConfiguration configuration, boolean exact) {
+        return buckets.get(key, k -> {
+            LocalBucketBuilder builder = Bucket.builder();
+            for (Bandwidth limit : configuration.getBandwidths()) {
+                builder.addLimit(limit);
+            }
+            return builder.build();
+        });
+    }
+
+    @Override
+    public void clear() {
+        buckets.invalidateAll();
+    }
+}
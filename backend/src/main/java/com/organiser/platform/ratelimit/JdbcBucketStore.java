@@ -0,0 +1,65 @@
+package com.organiser.platform.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.distributed.proxy.optimization.DelayParameters;
+import io.github.bucket4j.distributed.proxy.optimization.Optimization;
+import io.github.bucket4j.distributed.proxy.optimization.Optimizations;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Buckets shared by every backend node through Postgres (rate_limit_buckets, V61).
+ *
+ * Bucket proxies are kept in a local near-cache so the hot path reuses one proxy per key, and
+ * with it the proxy's optimization state:
+ * - exact buckets batch concurrent requests for the same key into one compare-and-swap round
+ *   trip but never consume without asking the database, so the limit holds cluster-wide;
+ * - other buckets may consume up to {@value #MAX_UNSYNCHRONIZED_TOKENS} tokens (or
+ *   {@link #MAX_UNSYNCHRONIZED_TIMEOUT}) locally before synchronising, so most checks
+ *   never leave the JVM.
+ */
+public class JdbcBucketStore implements BucketStore {
+
+    private static final long MAX_UNSYNCHRONIZED_TOKENS = 10;
+    private static final Duration MAX_UNSYNCHRONIZED_TIMEOUT = Duration.ofSeconds(1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PostgresCompareAndSwapProxyManager proxyManager;
+    private final Optimization exactOptimization = Optimizations.batching();
+    private final Optimization relaxedOptimization = Optimizations.delaying(
+            new DelayParameters(MAX_UNSYNCHRONIZED_TOKENS, MAX_UNSYNCHRONIZED_TIMEOUT));
+
+    private final Cache<String, Bucket> nearCache = Caffeine.newBuilder()
+            .expireAfterAccess(10, TimeUnit.MINUTES)
+            .maximumSize(100_000)
+            .build();
+
+    public JdbcBucketStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.proxyManager = new PostgresCompareAndSwapProxyManager(jdbcTemplate);
+    }
+
+    @Override
+    public Bucket resolve(String key, BucketConfiguration configuration, boolean exact) {
+        return nearCache.get(key, k -> proxyManager.builder()
+                .withOptimization(exact ? exactOptimization : relaxedOptimization)
+                .build(k, () -> configuration));
+    }
+
+    @Override
+    public int purgeIdle(Duration idleFor) {
+        return jdbcTemplate.update(
+                "DELETE FROM rate_limit_buckets WHERE updated_at < CURRENT_TIMESTAMP - (? * INTERVAL '1 second')",
+                idleFor.toSeconds());
+    }
+
+    @Override
+    public void clear() {
+        nearCache.invalidateAll();
+    }
+}
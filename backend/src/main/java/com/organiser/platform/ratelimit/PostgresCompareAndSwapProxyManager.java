@@ -0,0 +1,107 @@
+package com.organiser.platform.ratelimit;
+
+import io.github.bucket4j.distributed.proxy.ClientSideConfig;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.AbstractCompareAndSwapBasedProxyManager;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.AsyncCompareAndSwapOperation;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.CompareAndSwapOperation;
+import io.github.bucket4j.distributed.remote.RemoteBucketState;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Bucket4j proxy manager over the rate_limit_buckets table.
+ *
+ * Each operation reads the serialized bucket state, applies the command locally and writes the
+ * result back only if the row still holds the bytes it read (INSERT ... ON CONFLICT DO NOTHING
+ * for a new bucket, UPDATE ... WHERE state = original otherwise). A lost race retries with the
+ * fresh state, so no row locks are held between statements and every statement auto-commits.
+ *
+ * JDBC has no non-blocking driver here, so the async API runs the same statements on virtual
+ * threads: callers of {@code asAsync()} get futures without tying up their own thread.
+ */
+class PostgresCompareAndSwapProxyManager extends AbstractCompareAndSwapBasedProxyManager<String> {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Executor asyncExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    PostgresCompareAndSwapProxyManager(JdbcTemplate jdbcTemplate) {
+        super(ClientSideConfig.getDefault());
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    protected CompareAndSwapOperation beginCompareAndSwapOperation(String key) {
+        return new CompareAndSwapOperation() {
+            @Override
+            public Optional<byte[]> getStateData(Optional<Long> timeoutNanos) {
+                return readState(key);
+            }
+
+            @Override
+            public boolean compareAndSwap(byte[] originalData, byte[] newData, RemoteBucketState newState,
+                                          Optional<Long> timeoutNanos) {
+                return swapState(key, originalData, newData);
+            }
+        };
+    }
+
+    @Override
+    protected AsyncCompareAndSwapOperation beginAsyncCompareAndSwapOperation(String key) {
+        return new AsyncCompareAndSwapOperation() {
+            @Override
+            public CompletableFuture<Optional<byte[]>> getStateData(Optional<Long> timeoutNanos) {
+                return CompletableFuture.supplyAsync(() -> readState(key), asyncExecutor);
+            }
+
+            @Override
+            public CompletableFuture<Boolean> compareAndSwap(byte[] originalData, byte[] newData,
+                                                             RemoteBucketState newState, Optional<Long> timeoutNanos) {
+                return CompletableFuture.supplyAsync(() -> swapState(key, originalData, newData), asyncExecutor);
+            }
+        };
+    }
+
+    @Override
+    public void removeProxy(String key) {
+        jdbcTemplate.update("DELETE FROM rate_limit_buckets WHERE id = ?", key);
+    }
+
+    @Override
+    protected CompletableFuture<Void> removeAsync(String key) {
+        return CompletableFuture.runAsync(() -> removeProxy(key), asyncExecutor);
+    }
+
+    @Override
+    public boolean isAsyncModeSupported() {
+        return true;
+    }
+
+    // ============================================================
+    // PRIVATE HELPER METHODS
+    // ============================================================
+
+    private Optional<byte[]> readState(String key) {
+        List<byte[]> states = jdbcTemplate.query(
+                "SELECT state FROM rate_limit_buckets WHERE id = ?",
+                (rs, rowNum) -> rs.getBytes(1), key);
+        return states.stream().findFirst();
+    }
+
+    private boolean swapState(String key, byte[] originalData, byte[] newData) {
+        if (originalData == null) {
+            return jdbcTemplate.update(
+                    "INSERT INTO rate_limit_buckets (id, state, updated_at) VALUES (?, ?, CURRENT_TIMESTAMP) "
+                            + "ON CONFLICT (id) DO NOTHING",
+                    key, newData) == 1;
+        }
+        return jdbcTemplate.update(
+                "UPDATE rate_limit_buckets SET state = ?, updated_at = CURRENT_TIMESTAMP "
+                        + "WHERE id = ? AND state = ?",
+                newData, key, originalData) == 1;
+    }
+}
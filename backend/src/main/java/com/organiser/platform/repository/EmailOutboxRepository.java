@@ -0,0 +1,96 @@
+package com.organiser.platform.repository;
+
+import com.organiser.platform.model.EmailOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    /**
+     * Enqueue an email; a second enqueue with the same idempotency key is a no-op.
+     * @return 1 if inserted, 0 if the key was already queued
+     */
+    @Modifying
+    @Query(value = "INSERT INTO email_outbox (idempotency_key, email_type, to_email, subject, html, " +
+           "status, attempts, next_attempt_at, created_at) " +
+           "VALUES (:key, :type, :to, :subject, :html, 'PENDING', 0, :now, :now) " +
+           "ON CONFLICT (idempotency_key) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("key") String idempotencyKey,
+                       @Param("type") String emailType,
+                       @Param("to") String toEmail,
+                       @Param("subject") String subject,
+                       @Param("html") String html,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * Lock due rows for this worker; rows locked by another node are skipped, not waited on.
+     * A SENDING claim older than staleBefore belongs to a worker that died mid-send.
+     */
+    @Query(value = "SELECT id FROM email_outbox " +
+           "WHERE (status = 'PENDING' AND next_attempt_at <= :now) " +
+           "OR (status = 'SENDING' AND claimed_at < :staleBefore) " +
+           "ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockDueIds(@Param("now") LocalDateTime now,
+                          @Param("staleBefore") LocalDateTime staleBefore,
+                          @Param("limit") int limit);
+
+    /**
+     * Dead-letter reclaimed stale claims whose lost send was their last attempt.
+     */
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = 'DEAD', e.attempts = e.attempts + 1, " +
+           "e.lastError = :error, e.html = null " +
+           "WHERE e.id IN :ids AND e.status = 'SENDING' AND e.attempts + 1 >= :maxAttempts")
+    int markStaleDead(@Param("ids") Collection<Long> ids,
+                      @Param("maxAttempts") int maxAttempts,
+                      @Param("error") String error);
+
+    /**
+     * Claim the locked rows. A reclaimed stale SENDING row counts its lost send as an attempt,
+     * so a row that keeps killing its worker is eventually dead-lettered.
+     */
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.attempts = e.attempts + CASE WHEN e.status = 'SENDING' THEN 1 ELSE 0 END, " +
+           "e.status = 'SENDING', e.claimedAt = :now WHERE e.id IN :ids AND e.status <> 'DEAD'")
+    int markSending(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = 'SENT', e.attempts = e.attempts + 1, " +
+           "e.sentAt = :now, e.lastError = null, e.html = null WHERE e.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = 'PENDING', e.attempts = e.attempts + 1, " +
+           "e.nextAttemptAt = :nextAttemptAt, e.lastError = :error WHERE e.id IN :ids")
+    int reschedule(@Param("ids") Collection<Long> ids,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("error") String error);
+
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = 'DEAD', e.attempts = e.attempts + 1, " +
+           "e.lastError = :error, e.html = null WHERE e.id IN :ids")
+    int markDead(@Param("ids") Collection<Long> ids, @Param("error") String error);
+
+    /**
+     * Delete up to :limit finished (SENT or DEAD) rows created before the cutoff, oldest first.
+     * Ids grow with created_at, so the primary key walk reaches the old rows first.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM email_outbox WHERE id IN (" +
+           "SELECT id FROM email_outbox WHERE status IN ('SENT', 'DEAD') AND created_at < :cutoff " +
+           "ORDER BY id LIMIT :limit)", nativeQuery = true)
+    int deleteFinishedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    Optional<EmailOutbox> findByIdempotencyKey(String idempotencyKey);
+
+    long countByStatus(EmailOutbox.Status status);
+}
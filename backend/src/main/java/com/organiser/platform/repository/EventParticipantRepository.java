@@ -8,14 +8,38 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.time.LocalDateTime;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface EventParticipantRepository extends JpaRepository<EventParticipant, Long> {
+
+    /**
+     * Pending review prompts shared by the claim and retire queries below
+     */
+    String PENDING_REVIEW_PROMPT_SQL = "FROM event_participants ep " +
+            "JOIN events e ON e.id = ep.event_id " +
+            "JOIN groups g ON g.id = e.group_id " +
+            "WHERE ep.review_prompt_sent = FALSE AND ep.review_prompt_dismissed_at IS NULL " +
+            "AND ep.status IN ('REGISTERED', 'CONFIRMED', 'ATTENDED') ";
+
+    // Starts from the due events (idx_events_effective_end) and probes each one's pending prompts
+    // through the partial idx_event_participants_review_pending; QueryIndexPlanTest checks the plan.
+    String CLAIM_DUE_REVIEW_PROMPTS_SQL = "SELECT ep.id, ep.event_id, ep.member_id " + PENDING_REVIEW_PROMPT_SQL +
+            "AND e.effective_end BETWEEN :dueFrom AND :dueTo " +
+            "AND ep.member_id <> g.primary_organiser_id " +
+            "AND (e.host_member_id IS NULL OR ep.member_id <> e.host_member_id) " +
+            "AND NOT EXISTS (SELECT 1 FROM event_reviews r WHERE r.event_id = ep.event_id AND r.member_id = ep.member_id) " +
+            "AND ep.id > :afterId " +
+            "ORDER BY ep.id LIMIT :limit " +
+            "FOR UPDATE OF ep SKIP LOCKED";
     
     List<EventParticipant> findByEventId(Long eventId);
+
+    @Query("SELECT DISTINCT ep.member.id FROM EventParticipant ep WHERE ep.event.id = :eventId")
+    List<Long> findMemberIdsByEventId(@Param("eventId") Long eventId);
     
     List<EventParticipant> findByMemberId(Long memberId);
     
@@ -40,9 +64,36 @@ public interface EventParticipantRepository extends JpaRepository<EventParticipa
     // Admin dashboard queries
     Long countByMemberId(Long memberId);
 
+    @Query("SELECT DISTINCT ep.event.id FROM EventParticipant ep WHERE ep.member.id = :memberId AND ep.event.eventDate > :cutoff")
+    List<Long> findFutureEventIdsByMemberId(@Param("memberId") Long memberId, @Param("cutoff") Instant cutoff);
+
     @Modifying
     @Query("DELETE FROM EventParticipant ep WHERE ep.member.id = :memberId AND ep.event.eventDate > :cutoff")
     void deleteFutureParticipations(@Param("memberId") Long memberId, @Param("cutoff") Instant cutoff);
+
+    /**
+     * A member's live participations in a group's events after the cutoff, as
+     * (eventId, status, event waitlistCount) rows; used to plan a bulk removal
+     */
+    @Query("SELECT e.id, ep.status, e.waitlistCount FROM EventParticipant ep JOIN ep.event e " +
+           "WHERE ep.member.id = :memberId AND e.group.id = :groupId AND e.eventDate > :cutoff " +
+           "AND ep.status <> 'CANCELLED'")
+    List<Object[]> findLiveParticipationsInGroupAfter(@Param("memberId") Long memberId,
+                                                      @Param("groupId") Long groupId,
+                                                      @Param("cutoff") Instant cutoff);
+
+    /**
+     * Soft-cancel all of a member's participations in a group's events after the cutoff in one statement
+     * (organiser removes or bans the member). Event counters must be recalculated afterwards.
+     */
+    @Modifying
+    @Query("UPDATE EventParticipant ep SET ep.status = 'CANCELLED', ep.cancelledAt = :cancelledAt " +
+           "WHERE ep.member.id = :memberId AND ep.status <> 'CANCELLED' " +
+           "AND ep.event.id IN (SELECT e.id FROM Event e WHERE e.group.id = :groupId AND e.eventDate > :cutoff)")
+    int cancelParticipationsInGroupAfter(@Param("memberId") Long memberId,
+                                         @Param("groupId") Long groupId,
+                                         @Param("cutoff") Instant cutoff,
+                                         @Param("cancelledAt") LocalDateTime cancelledAt);
     
     /**
      * Delete all participants for an event (used when permanently deleting event)
@@ -50,30 +101,68 @@ public interface EventParticipantRepository extends JpaRepository<EventParticipa
     void deleteByEventId(Long eventId);
 
     /**
-     * Find participants who have not yet received a review prompt and are eligible:
+     * Claim the next chunk of due review prompts, keyset-paged by participant id:
+     * effective_end between dueFrom and dueTo, not the organiser or host, not yet reviewed.
+     * Rows are locked (SKIP LOCKED) until the caller's transaction marks them sent, so
+     * overlapping runs never claim the same prompt.
+     * @return (participantId, eventId, memberId) rows
+     */
+    @Query(value = CLAIM_DUE_REVIEW_PROMPTS_SQL, nativeQuery = true)
+    List<Object[]> claimDueReviewPrompts(@Param("dueFrom") Instant dueFrom,
+                                         @Param("dueTo") Instant dueTo,
+                                         @Param("afterId") Long afterId,
+                                         @Param("limit") int limit);
+
+    /**
+     * Mark review prompts as sent in one statement
+     */
+    @Modifying
+    @Query("UPDATE EventParticipant ep SET ep.reviewPromptSent = true WHERE ep.id IN :ids")
+    int markReviewPromptSent(@Param("ids") java.util.Collection<Long> ids);
+
+    /**
+     * Mark up to {@code limit} pending prompts that will never be sent as sent, so later runs
+     * skip them: review window closed (effective_end before dueFrom), or the member is the
+     * group organiser or the event host of an event that ended before dueTo.
+     */
+    @Modifying
+    @Query(value = "UPDATE event_participants SET review_prompt_sent = TRUE WHERE id IN (" +
+           "SELECT ep.id " + PENDING_REVIEW_PROMPT_SQL +
+           "AND e.effective_end <= :dueTo " +
+           "AND (e.effective_end < :dueFrom " +
+           "OR ep.member_id = g.primary_organiser_id OR ep.member_id = e.host_member_id) " +
+           "LIMIT :limit)", nativeQuery = true)
+    int retireUnsendableReviewPrompts(@Param("dueFrom") Instant dueFrom,
+                                      @Param("dueTo") Instant dueTo,
+                                      @Param("limit") int limit);
+
+    /**
+     * A member's events awaiting a review (newest first):
      * - Status is REGISTERED, CONFIRMED, or ATTENDED (not cancelled/no-show)
-     * - Prompt not yet sent
+     * - Prompt not yet sent or dismissed
      * - No review already submitted for this event
-     * - Event ended within the review window (eventDate between cutoffOld and cutoffRecent)
-     *   NOTE: Java-side filtering via EventTimingUtils handles endDate/duration fallback,
-     *   so we use a broad eventDate window here and filter precisely in the scheduler.
+     * - Event ended (effective_end) between dueFrom and dueTo
+     * - The member is neither the group organiser nor the event host
      */
     @Query("""
         SELECT ep FROM EventParticipant ep
-        JOIN FETCH ep.member
         JOIN FETCH ep.event e
         JOIN FETCH e.group g
-        JOIN FETCH g.primaryOrganiser
-        WHERE ep.reviewPromptSent = false
+        WHERE ep.member.id = :memberId
+          AND ep.reviewPromptSent = false
           AND ep.reviewPromptDismissedAt IS NULL
           AND ep.status IN ('REGISTERED', 'CONFIRMED', 'ATTENDED')
-          AND e.eventDate BETWEEN :windowStart AND :windowEnd
+          AND e.effectiveEnd BETWEEN :dueFrom AND :dueTo
+          AND g.primaryOrganiser.id <> :memberId
+          AND (e.hostMember IS NULL OR e.hostMember.id <> :memberId)
           AND NOT EXISTS (
               SELECT r FROM EventReview r
               WHERE r.event = e AND r.member = ep.member
           )
+        ORDER BY e.eventDate DESC
         """)
-    List<EventParticipant> findEligibleForReviewPrompt(
-            @Param("windowStart") Instant windowStart,
-            @Param("windowEnd") Instant windowEnd);
+    List<EventParticipant> findPendingReviewsForMember(
+            @Param("memberId") Long memberId,
+            @Param("dueFrom") Instant dueFrom,
+            @Param("dueTo") Instant dueTo);
 }
@@ -5,6 +5,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -12,6 +13,7 @@ import org.springframework.stereotype.Repository;
 import jakarta.persistence.LockModeType;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,10 +30,6 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     @Query("SELECT e FROM Event e WHERE e.group.activity.id = :activityId")
     Page<Event> findByActivityId(@Param("activityId") Long activityId, Pageable pageable);
     
-    // Get events by organiser through group relationship
-    @Query("SELECT e FROM Event e WHERE e.group.primaryOrganiser.id = :organiserId ORDER BY e.eventDate ASC")
-    Page<Event> findByOrganiserId(@Param("organiserId") Long organiserId, Pageable pageable);
-    
     // Get events by group
     @Query("SELECT e FROM Event e WHERE e.group.id = :groupId ORDER BY e.eventDate ASC")
     Page<Event> findByGroupId(@Param("groupId") Long groupId, Pageable pageable);
@@ -47,74 +45,180 @@ public interface EventRepository extends JpaRepository<Event, Long> {
            "LEFT JOIN FETCH e.group g " +
            "LEFT JOIN FETCH g.primaryOrganiser " +
            // "LEFT JOIN FETCH g.activity " +  // TODO: Uncomment when supporting multiple activities
-           "WHERE e.status = 'PUBLISHED' AND " +
-           "((e.endDate IS NOT NULL AND e.endDate > :now) OR (e.endDate IS NULL AND e.eventDate >= :startOfToday)) " +
+           "WHERE e.status = 'PUBLISHED' AND e.effectiveEnd >= :now " +
            "ORDER BY e.eventDate ASC")
-    Page<Event> findUpcomingEvents(@Param("now") Instant now, @Param("startOfToday") Instant startOfToday, Pageable pageable);
+    Page<Event> findUpcomingEvents(@Param("now") Instant now, Pageable pageable);
+
+    // Keyset pagination for upcoming events: seeks past the (eventDate, id) of the previous page's
+    // last row instead of counting off skipped rows. The redundant "eventDate >= :afterDate" gives
+    // the planner a range start on idx_events_published_date_id. Pass PageRequest.of(0, size).
+    @Query("SELECT e FROM Event e " +
+           "LEFT JOIN FETCH e.group g " +
+           "LEFT JOIN FETCH g.primaryOrganiser " +
+           "WHERE e.status = 'PUBLISHED' AND e.effectiveEnd >= :now " +
+           "ORDER BY e.eventDate ASC, e.id ASC")
+    List<Event> findUpcomingEventsFirstPage(@Param("now") Instant now, Pageable pageable);
+
+    @Query("SELECT e FROM Event e " +
+           "LEFT JOIN FETCH e.group g " +
+           "LEFT JOIN FETCH g.primaryOrganiser " +
+           "WHERE e.status = 'PUBLISHED' AND e.effectiveEnd >= :now " +
+           "AND e.eventDate >= :afterDate " +
+           "AND (e.eventDate > :afterDate OR e.id > :afterId) " +
+           "ORDER BY e.eventDate ASC, e.id ASC")
+    List<Event> findUpcomingEventsAfter(@Param("now") Instant now,
+                                        @Param("afterDate") Instant afterDate,
+                                        @Param("afterId") Long afterId,
+                                        Pageable pageable);
     
     // Get upcoming events by activity through group relationship
-    @Query("SELECT e FROM Event e WHERE e.status = 'PUBLISHED' AND " +
-           "((e.endDate IS NOT NULL AND e.endDate > :now) OR (e.endDate IS NULL AND e.eventDate >= :startOfToday)) " +
+    @Query("SELECT e FROM Event e WHERE e.status = 'PUBLISHED' AND e.effectiveEnd >= :now " +
            "AND e.group.activity.id = :activityId ORDER BY e.eventDate ASC")
     Page<Event> findUpcomingEventsByActivityId(
         @Param("now") Instant now,
-        @Param("startOfToday") Instant startOfToday,
         @Param("activityId") Long activityId,
         Pageable pageable
     );
     
-    @Query("SELECT e FROM Event e WHERE e.status = 'PUBLISHED' AND " +
-           "((e.endDate IS NOT NULL AND e.endDate > :now) OR (e.endDate IS NULL AND e.eventDate >= :startOfToday)) " +
+    @Query("SELECT e FROM Event e WHERE e.status = 'PUBLISHED' AND e.effectiveEnd >= :now " +
            "AND LOWER(e.location) LIKE LOWER(CONCAT('%', :location, '%')) ORDER BY e.eventDate ASC")
     Page<Event> findUpcomingEventsByLocation(
         @Param("now") Instant now,
-        @Param("startOfToday") Instant startOfToday,
         @Param("location") String location,
         Pageable pageable
     );
     
     @Query("SELECT e FROM Event e JOIN e.participants p WHERE p.id = :userId ORDER BY e.eventDate ASC")
     Page<Event> findEventsByParticipant(@Param("userId") Long userId, Pageable pageable);
+
+    // Organiser and participant event lists, split on effective_end in SQL (V65) so paging
+    // and totals match what is shown. Upcoming lists run soonest first, past lists newest first.
+    @Query("SELECT e FROM Event e WHERE e.group.primaryOrganiser.id = :organiserId AND e.effectiveEnd >= :now " +
+           "ORDER BY e.eventDate ASC, e.id ASC")
+    Page<Event> findUpcomingByOrganiserId(@Param("organiserId") Long organiserId, @Param("now") Instant now, Pageable pageable);
+
+    @Query("SELECT e FROM Event e WHERE e.group.primaryOrganiser.id = :organiserId AND e.effectiveEnd < :now " +
+           "ORDER BY e.eventDate DESC, e.id DESC")
+    Page<Event> findPastByOrganiserId(@Param("organiserId") Long organiserId, @Param("now") Instant now, Pageable pageable);
+
+    // Participations that hold a place (not cancelled or waitlisted)
+    @Query("SELECT e FROM Event e WHERE e.effectiveEnd >= :now AND EXISTS (" +
+           "SELECT 1 FROM EventParticipant p WHERE p.event = e AND p.member.id = :memberId " +
+           "AND p.status NOT IN ('CANCELLED', 'WAITLISTED')) " +
+           "ORDER BY e.eventDate ASC, e.id ASC")
+    Page<Event> findUpcomingByParticipantId(@Param("memberId") Long memberId, @Param("now") Instant now, Pageable pageable);
+
+    @Query("SELECT e FROM Event e WHERE e.effectiveEnd < :now AND EXISTS (" +
+           "SELECT 1 FROM EventParticipant p WHERE p.event = e AND p.member.id = :memberId " +
+           "AND p.status NOT IN ('CANCELLED', 'WAITLISTED')) " +
+           "ORDER BY e.eventDate DESC, e.id DESC")
+    Page<Event> findPastByParticipantId(@Param("memberId") Long memberId, @Param("now") Instant now, Pageable pageable);
     
-    @Query("SELECT e FROM Event e WHERE e.status = 'PUBLISHED' AND " +
-           "((e.endDate IS NOT NULL AND e.endDate > :now) OR (e.endDate IS NULL AND e.eventDate >= :startOfToday)) " +
-           "AND (LOWER(e.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "OR LOWER(e.description) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "OR LOWER(e.location) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "OR LOWER(e.difficultyLevel) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "OR LOWER(e.group.name) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "OR LOWER(e.group.primaryOrganiser.displayName) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "OR LOWER(e.group.primaryOrganiser.email) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
-           "ORDER BY e.eventDate ASC")
-    Page<Event> searchEvents(@Param("keyword") String keyword, @Param("now") Instant now, @Param("startOfToday") Instant startOfToday, Pageable pageable);
-
-    @Query("""
-        SELECT DISTINCT e FROM Event e
-        LEFT JOIN e.participants p
-        LEFT JOIN e.hostMember h
-        WHERE (:groupId IS NULL OR e.group.id = :groupId)
-          AND (:hostingId IS NULL OR h.id = :hostingId)
-          AND (:participantId IS NULL OR p.member.id = :participantId)
-          AND (:pastOnly = FALSE OR (e.endDate IS NOT NULL AND e.endDate <= :now) OR (e.endDate IS NULL AND e.eventDate < :startOfToday))
-          AND (:futureOnly = FALSE OR (e.endDate IS NOT NULL AND e.endDate > :now) OR (e.endDate IS NULL AND e.eventDate >= :startOfToday))
-          AND (
-            :text IS NULL OR :text = '' OR
-            LOWER(e.title) LIKE LOWER(CONCAT('%', :text, '%')) OR
-            LOWER(e.description) LIKE LOWER(CONCAT('%', :text, '%')) OR
-            LOWER(e.location) LIKE LOWER(CONCAT('%', :text, '%')) OR
-            LOWER(e.group.name) LIKE LOWER(CONCAT('%', :text, '%'))
-          )
-        ORDER BY e.eventDate ASC
-        """)
-    Page<Event> searchAdvanced(@Param("groupId") Long groupId,
+    // ============================================================
+    // Event search (V57)
+    // ============================================================
+
+    // Filters shared by every search query; null filters are ignored
+    String SEARCH_FILTERS_SQL = """
+            (:publishedOnly = FALSE OR e.status = 'PUBLISHED')
+              AND (CAST(:groupId AS BIGINT) IS NULL OR e.group_id = CAST(:groupId AS BIGINT))
+              AND (CAST(:hostingId AS BIGINT) IS NULL OR e.host_member_id = CAST(:hostingId AS BIGINT))
+              AND (CAST(:participantId AS BIGINT) IS NULL OR EXISTS (
+                    SELECT 1 FROM event_participants p
+                    WHERE p.event_id = e.id AND p.member_id = CAST(:participantId AS BIGINT)))
+              AND (:pastOnly = FALSE OR e.effective_end < :now)
+              AND (:futureOnly = FALSE OR e.effective_end >= :now)
+            """;
+
+    String TS_QUERY_SQL =
+            "(to_tsquery('english', CAST(:tsQuery AS TEXT)) || to_tsquery('simple', CAST(:tsQuery AS TEXT)))";
+
+    // Both arms are index conditions (idx_events_search_vector, idx_events_location_trgm), so the
+    // planner can BitmapOr the two GIN indexes. Keep anything that is not indexable out of it.
+    String TEXT_MATCH_SQL = "(e.search_vector @@ " + TS_QUERY_SQL + " OR CAST(:text AS TEXT) <% e.location)";
+
+    String KEYSET_AFTER_SQL = """
+              AND (CAST(:afterDate AS TIMESTAMP) IS NULL
+                   OR (e.event_date >= CAST(:afterDate AS TIMESTAMP)
+                       AND (e.event_date, e.id) > (CAST(:afterDate AS TIMESTAMP), CAST(:afterId AS BIGINT))))
+            """;
+
+    /**
+     * Search without free text: filters only, in date order.
+     */
+    @Query(value = "SELECT e.* FROM events e WHERE " + SEARCH_FILTERS_SQL +
+                   " ORDER BY e.event_date ASC, e.id ASC",
+           countQuery = "SELECT COUNT(*) FROM events e WHERE " + SEARCH_FILTERS_SQL,
+           nativeQuery = true)
+    Page<Event> searchFiltered(@Param("publishedOnly") boolean publishedOnly,
+                               @Param("groupId") Long groupId,
                                @Param("hostingId") Long hostingId,
                                @Param("participantId") Long participantId,
                                @Param("pastOnly") boolean pastOnly,
                                @Param("futureOnly") boolean futureOnly,
+                               @Param("now") Instant now,
+                               Pageable pageable);
+
+    /**
+     * Full-text search over the trigger-maintained events.search_vector (GIN indexed, see V57).
+     * tsQuery is a prefix query ("hik:* & box:*", never null here) matched against both the stemmed
+     * and the verbatim dictionaries; text is also matched against location with pg_trgm word
+     * similarity so a misspelt place still hits. Results are ranked by relevance, then by date.
+     * Searches without text go to {@link #searchFiltered}.
+     */
+    @Query(value = "SELECT e.* FROM events e WHERE " + SEARCH_FILTERS_SQL + " AND " + TEXT_MATCH_SQL +
+                   " ORDER BY ts_rank_cd(e.search_vector, " + TS_QUERY_SQL + ")" +
+                   " + word_similarity(CAST(:text AS TEXT), e.location) DESC, e.event_date ASC, e.id ASC",
+           countQuery = "SELECT COUNT(*) FROM events e WHERE " + SEARCH_FILTERS_SQL + " AND " + TEXT_MATCH_SQL,
+           nativeQuery = true)
+    Page<Event> searchFullText(@Param("publishedOnly") boolean publishedOnly,
+                               @Param("groupId") Long groupId,
+                               @Param("hostingId") Long hostingId,
+                               @Param("participantId") Long participantId,
+                               @Param("pastOnly") boolean pastOnly,
+                               @Param("futureOnly") boolean futureOnly,
+                               @Param("tsQuery") String tsQuery,
                                @Param("text") String text,
                                @Param("now") Instant now,
-                               @Param("startOfToday") Instant startOfToday,
                                Pageable pageable);
+
+    /**
+     * Keyset-paginated variant of {@link #searchFiltered}: same filters, starting strictly after the
+     * (eventDate, id) cursor (null cursor = first page). Returns at most :limit rows.
+     */
+    @Query(value = "SELECT e.* FROM events e WHERE " + SEARCH_FILTERS_SQL + KEYSET_AFTER_SQL +
+                   " ORDER BY e.event_date ASC, e.id ASC LIMIT :limit",
+           nativeQuery = true)
+    List<Event> searchFilteredAfter(@Param("publishedOnly") boolean publishedOnly,
+                                    @Param("groupId") Long groupId,
+                                    @Param("hostingId") Long hostingId,
+                                    @Param("participantId") Long participantId,
+                                    @Param("pastOnly") boolean pastOnly,
+                                    @Param("futureOnly") boolean futureOnly,
+                                    @Param("now") Instant now,
+                                    @Param("afterDate") Instant afterDate,
+                                    @Param("afterId") Long afterId,
+                                    @Param("limit") int limit);
+
+    /**
+     * Keyset-paginated variant of {@link #searchFullText}: always in (eventDate, id) order, so
+     * relevance only filters here, it does not order. Returns at most :limit rows.
+     */
+    @Query(value = "SELECT e.* FROM events e WHERE " + SEARCH_FILTERS_SQL + " AND " + TEXT_MATCH_SQL +
+                   KEYSET_AFTER_SQL + " ORDER BY e.event_date ASC, e.id ASC LIMIT :limit",
+           nativeQuery = true)
+    List<Event> searchFullTextAfter(@Param("publishedOnly") boolean publishedOnly,
+                                    @Param("groupId") Long groupId,
+                                    @Param("hostingId") Long hostingId,
+                                    @Param("participantId") Long participantId,
+                                    @Param("pastOnly") boolean pastOnly,
+                                    @Param("futureOnly") boolean futureOnly,
+                                    @Param("tsQuery") String tsQuery,
+                                    @Param("text") String text,
+                                    @Param("now") Instant now,
+                                    @Param("afterDate") Instant afterDate,
+                                    @Param("afterId") Long afterId,
+                                    @Param("limit") int limit);
     
     // Admin dashboard queries
     Long countByGroupId(Long groupId);
@@ -127,4 +231,106 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     Long countByOrganiserId(@Param("organiserId") Long organiserId);
 
     boolean existsByHostMemberIdAndEventDateAfter(Long hostMemberId, Instant dateTime);
+
+    // ============================================================
+    // Denormalized participant counters
+    // ============================================================
+
+    /**
+     * Atomically shift the confirmed headcount and waitlist counters of one event.
+     * Applied in SQL so concurrent joins/leaves never overwrite each other's changes.
+     */
+    @Modifying
+    @Query("UPDATE Event e SET e.confirmedHeadcount = e.confirmedHeadcount + :headcountDelta, " +
+           "e.waitlistCount = e.waitlistCount + :waitlistDelta WHERE e.id = :eventId")
+    int adjustParticipantCounters(@Param("eventId") Long eventId,
+                                  @Param("headcountDelta") int headcountDelta,
+                                  @Param("waitlistDelta") int waitlistDelta);
+
+    /**
+     * Conditionally claim seats: only succeeds (returns 1) while the new headcount fits within
+     * max_participants. Postgres re-checks the predicate after waiting on a concurrent writer's
+     * row lock, so parallel reservations can never overbook.
+     */
+    @Modifying
+    @Query("UPDATE Event e SET e.confirmedHeadcount = e.confirmedHeadcount + :slots WHERE e.id = :eventId " +
+           "AND (e.maxParticipants IS NULL OR e.confirmedHeadcount + :slots <= e.maxParticipants)")
+    int reserveSeats(@Param("eventId") Long eventId, @Param("slots") int slots);
+
+    /**
+     * Conditionally claim a waitlist place: only succeeds while the event has a waitlist with room.
+     */
+    @Modifying
+    @Query("UPDATE Event e SET e.waitlistCount = e.waitlistCount + 1 WHERE e.id = :eventId " +
+           "AND e.maxWaitlist IS NOT NULL AND e.waitlistCount < e.maxWaitlist")
+    int reserveWaitlistPlace(@Param("eventId") Long eventId);
+
+    // Events with their group in one query (batch jobs that need title and group name)
+    @Query("SELECT e FROM Event e JOIN FETCH e.group WHERE e.id IN :eventIds")
+    List<Event> findAllWithGroupByIdIn(@Param("eventIds") Collection<Long> eventIds);
+
+    @Query("SELECT e.confirmedHeadcount FROM Event e WHERE e.id = :eventId")
+    int findConfirmedHeadcountById(@Param("eventId") Long eventId);
+
+    @Query("SELECT e.waitlistCount FROM Event e WHERE e.id = :eventId")
+    int findWaitlistCountById(@Param("eventId") Long eventId);
+
+    /**
+     * Lock the given events' rows, in id order. Joins, leaves and promotions all update the event
+     * row (reserveSeats, reserveWaitlistPlace, adjustParticipantCounters) before they commit, so once
+     * this returns every participant change on these events is either committed or waiting on us.
+     * Call it before recalculateParticipantCounters / reconcileParticipantCounters, in the same
+     * transaction: a counter recomputed from an older snapshot would overwrite a concurrent
+     * reservation and let reserveSeats overbook.
+     */
+    @Query(value = "SELECT id FROM events WHERE id IN (:eventIds) ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<Long> lockByIdIn(@Param("eventIds") Collection<Long> eventIds);
+
+    /**
+     * Lock the next {@code limit} events after {@code afterId}, in id order (see lockByIdIn).
+     * @return the locked ids, empty past the last event
+     */
+    @Query(value = "SELECT id FROM events WHERE id > :afterId ORDER BY id LIMIT :limit FOR UPDATE", nativeQuery = true)
+    List<Long> lockIdsAfter(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    /**
+     * Recompute the counters of the given events from event_participants.
+     * Used after bulk participant deletes where per-row deltas are not available.
+     * The rows must already be locked with lockByIdIn.
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE events e
+        SET confirmed_headcount = COALESCE((SELECT SUM(1 + p.guest_count) FROM event_participants p
+                                            WHERE p.event_id = e.id AND p.status NOT IN ('CANCELLED', 'WAITLISTED')), 0),
+            waitlist_count      = (SELECT COUNT(*) FROM event_participants p
+                                   WHERE p.event_id = e.id AND p.status = 'WAITLISTED')
+        WHERE e.id IN (:eventIds)
+        """, nativeQuery = true)
+    int recalculateParticipantCounters(@Param("eventIds") Collection<Long> eventIds);
+
+    /**
+     * Repair counter drift on the given events, touching only rows whose stored values are wrong.
+     * The rows must already be locked with lockByIdIn / lockIdsAfter.
+     * Returns the number of events corrected.
+     */
+    @Modifying
+    @Query(value = """
+        WITH actual AS (
+            SELECT e.id,
+                   COALESCE(SUM(1 + p.guest_count) FILTER (WHERE p.status NOT IN ('CANCELLED', 'WAITLISTED')), 0) AS headcount,
+                   COUNT(p.id) FILTER (WHERE p.status = 'WAITLISTED') AS waitlisted
+            FROM events e
+            LEFT JOIN event_participants p ON p.event_id = e.id
+            WHERE e.id IN (:eventIds)
+            GROUP BY e.id
+        )
+        UPDATE events e
+        SET confirmed_headcount = a.headcount,
+            waitlist_count      = a.waitlisted
+        FROM actual a
+        WHERE a.id = e.id
+          AND (e.confirmed_headcount <> a.headcount OR e.waitlist_count <> a.waitlisted)
+        """, nativeQuery = true)
+    int reconcileParticipantCounters(@Param("eventIds") Collection<Long> eventIds);
 }
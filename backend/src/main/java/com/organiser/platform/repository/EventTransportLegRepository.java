@@ -4,6 +4,7 @@ import com.organiser.platform.model.EventTransportLeg;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -11,5 +12,10 @@ public interface EventTransportLegRepository extends JpaRepository<EventTranspor
 
     List<EventTransportLeg> findByEventIdOrderBySortOrderAsc(Long eventId);
 
+    /**
+     * Batch variant for list endpoints - loads legs for a whole page of events in one query.
+     */
+    List<EventTransportLeg> findByEventIdInOrderBySortOrderAsc(Collection<Long> eventIds);
+
     void deleteByEventId(Long eventId);
 }
@@ -2,6 +2,8 @@ package com.organiser.platform.repository;
 
 import com.organiser.platform.model.Group;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,6 +18,17 @@ public interface GroupRepository extends JpaRepository<Group, Long> {
     List<Group> findByPrimaryOrganiserId(Long organiserId);
     
     List<Group> findByIsPublicTrueAndActiveTrue();
+
+    /**
+     * Discover-groups listing with organiser and activity loaded in the same query
+     */
+    @Query("SELECT g FROM Group g LEFT JOIN FETCH g.primaryOrganiser LEFT JOIN FETCH g.activity " +
+           "WHERE g.isPublic = true AND g.active = true")
+    List<Group> findPublicActiveWithOrganiserAndActivity();
+
+    @Query("SELECT g FROM Group g LEFT JOIN FETCH g.primaryOrganiser LEFT JOIN FETCH g.activity " +
+           "WHERE g.primaryOrganiser.id = :organiserId")
+    List<Group> findWithActivityByPrimaryOrganiserId(@Param("organiserId") Long organiserId);
     
     // Admin dashboard queries
     Long countByPrimaryOrganiserId(Long organiserId);
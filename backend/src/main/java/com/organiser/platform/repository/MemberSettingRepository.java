@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,4 +18,7 @@ public interface MemberSettingRepository extends JpaRepository<MemberSetting, Me
 
     @Query("SELECT s FROM MemberSetting s WHERE s.id.memberId = :memberId AND s.id.key IN :keys")
     List<MemberSetting> findByMemberIdAndKeys(@Param("memberId") Long memberId, @Param("keys") List<String> keys);
+
+    @Query("SELECT s FROM MemberSetting s WHERE s.id.memberId IN :memberIds AND s.id.key = :key")
+    List<MemberSetting> findByMemberIdsAndKey(@Param("memberIds") Collection<Long> memberIds, @Param("key") String key);
 }
@@ -0,0 +1,63 @@
+package com.organiser.platform.repository;
+
+import com.organiser.platform.model.NotificationOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * Claim a fan-out for processing. Returns 0 when another worker (or node) already owns it
+     * or it is finished; a PROCESSING claim older than staleBefore is considered abandoned.
+     */
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.status = 'PROCESSING', " +
+           "o.claimedAt = :now " +
+           "WHERE o.id = :id AND (o.status = 'PENDING' " +
+           "OR (o.status = 'PROCESSING' AND o.claimedAt < :staleBefore))")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.status = 'DONE', " +
+           "o.processedAt = :now WHERE o.id = :id")
+    int markDone(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * Record a failed attempt: back to PENDING for the sweeper, or FAILED once attempts run out.
+     */
+    @Modifying
+    @Query(value = "UPDATE notification_outbox SET attempts = attempts + 1, last_error = :error, " +
+           "status = CASE WHEN attempts + 1 >= :maxAttempts THEN 'FAILED' ELSE 'PENDING' END " +
+           "WHERE id = :id", nativeQuery = true)
+    int recordFailure(@Param("id") Long id, @Param("error") String error, @Param("maxAttempts") int maxAttempts);
+
+    /**
+     * Fan-outs that were never picked up (worker queue full, node restarted before commit hook ran)
+     * or whose worker died mid-way.
+     */
+    @Query("SELECT o.id FROM NotificationOutbox o " +
+           "WHERE (o.status = 'PENDING' AND o.createdAt < :pendingBefore) " +
+           "OR (o.status = 'PROCESSING' AND o.claimedAt < :staleBefore) " +
+           "ORDER BY o.id")
+    List<Long> findIdsToRetry(@Param("pendingBefore") LocalDateTime pendingBefore,
+                              @Param("staleBefore") LocalDateTime staleBefore,
+                              Pageable pageable);
+
+    /**
+     * Delete up to {@code limit} DONE fan-outs processed before the cutoff, oldest ids first.
+     * FAILED rows are kept for inspection.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM notification_outbox WHERE id IN (" +
+           "SELECT id FROM notification_outbox WHERE status = 'DONE' AND processed_at < :cutoff " +
+           "ORDER BY id LIMIT :limit)", nativeQuery = true)
+    int deleteDoneBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
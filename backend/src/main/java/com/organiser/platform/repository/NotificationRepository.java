@@ -9,6 +9,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -28,6 +30,13 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
      * Count unread notifications for a member
      */
     long countByMemberIdAndIsReadFalse(Long memberId);
+
+    /**
+     * Unread count per member in one query (notification stream resync); members with none are absent
+     */
+    @Query("SELECT n.member.id, COUNT(n) FROM Notification n WHERE n.member.id IN :memberIds " +
+           "AND n.isRead = false GROUP BY n.member.id")
+    List<Object[]> countUnreadByMemberIds(@Param("memberIds") Collection<Long> memberIds);
     
     /**
      * Mark all notifications as read for a member
@@ -37,11 +46,28 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     int markAllAsReadForMember(@Param("memberId") Long memberId);
     
     /**
-     * Delete old read notifications (older than 30 days)
+     * (id, createdAt) of the first notifications after an id; drives the chunked cleanup
+     */
+    @Query("SELECT n.id, n.createdAt FROM Notification n WHERE n.id > :afterId ORDER BY n.id")
+    List<Object[]> findIdsAndCreatedAtAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Delete read notifications read before the cutoff, within the id range (afterId, toId]
+     */
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.id > :afterId AND n.id <= :toId AND n.isRead = true AND n.readAt < :cutoff")
+    int deleteReadBetweenIds(@Param("afterId") Long afterId,
+                             @Param("toId") Long toId,
+                             @Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Delete notifications (read or not) created before the cutoff, within the id range (afterId, toId]
      */
     @Modifying
-    @Query("DELETE FROM Notification n WHERE n.isRead = true AND n.readAt < :cutoffDate")
-    int deleteOldReadNotifications(@Param("cutoffDate") java.time.LocalDateTime cutoffDate);
+    @Query("DELETE FROM Notification n WHERE n.id > :afterId AND n.id <= :toId AND n.createdAt < :cutoff")
+    int deleteCreatedBeforeBetweenIds(@Param("afterId") Long afterId,
+                                      @Param("toId") Long toId,
+                                      @Param("cutoff") LocalDateTime cutoff);
     
     /**
      * Delete all notifications for a group (used when permanently deleting group)
@@ -1,9 +1,15 @@
 package com.organiser.platform.repository;
 
+import com.organiser.platform.dto.GroupMemberRow;
 import com.organiser.platform.model.Subscription;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,10 +23,74 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, Long
     Optional<Subscription> findByMemberIdAndGroupId(Long memberId, Long groupId);
     
     boolean existsByMemberIdAndGroupId(Long memberId, Long groupId);
+
+    boolean existsByMemberIdAndGroupIdAndStatus(Long memberId, Long groupId, Subscription.SubscriptionStatus status);
     
     long countByGroupIdAndStatus(Long groupId, Subscription.SubscriptionStatus status);
+
+    /**
+     * Active member count per group in one query (group list endpoints); groups without members are absent
+     */
+    @Query("SELECT s.group.id, COUNT(s) FROM Subscription s WHERE s.group.id IN :groupIds " +
+           "AND s.status = 'ACTIVE' GROUP BY s.group.id")
+    List<Object[]> countActiveByGroupIds(@Param("groupIds") Collection<Long> groupIds);
+
+    /**
+     * Active subscriptions of a member with their group, organiser and activity loaded
+     */
+    @Query("SELECT s FROM Subscription s JOIN FETCH s.group g LEFT JOIN FETCH g.primaryOrganiser " +
+           "LEFT JOIN FETCH g.activity WHERE s.member.id = :memberId AND s.status = 'ACTIVE'")
+    List<Subscription> findActiveWithGroupByMemberId(@Param("memberId") Long memberId);
     
     List<Subscription> findByGroupIdAndStatus(Long groupId, Subscription.SubscriptionStatus status);
+
+    // Group member lists: projections of active subscriptions in (subscribedAt, id) order, served by
+    // idx_subscriptions_group_active (V62). The keyset variants skip the primary organiser, who is
+    // always listed first and looked up on its own.
+
+    @Query("SELECT new com.organiser.platform.dto.GroupMemberRow(s.id, m.id, m.displayName, m.profilePhotoUrl, s.subscribedAt) " +
+           "FROM Subscription s JOIN s.member m " +
+           "WHERE s.group.id = :groupId AND s.status = 'ACTIVE' " +
+           "ORDER BY s.subscribedAt ASC, s.id ASC")
+    List<GroupMemberRow> findActiveMemberRows(@Param("groupId") Long groupId);
+
+    /**
+     * Active member count with the status as a literal, so the partial index answers it index-only
+     */
+    @Query("SELECT COUNT(s) FROM Subscription s WHERE s.group.id = :groupId AND s.status = 'ACTIVE'")
+    long countActiveByGroupId(@Param("groupId") Long groupId);
+
+    @Query("SELECT new com.organiser.platform.dto.GroupMemberRow(s.id, m.id, m.displayName, m.profilePhotoUrl, s.subscribedAt) " +
+           "FROM Subscription s JOIN s.member m " +
+           "WHERE s.group.id = :groupId AND s.status = 'ACTIVE' AND m.id = :memberId")
+    Optional<GroupMemberRow> findActiveMemberRow(@Param("groupId") Long groupId, @Param("memberId") Long memberId);
+
+    @Query("SELECT new com.organiser.platform.dto.GroupMemberRow(s.id, m.id, m.displayName, m.profilePhotoUrl, s.subscribedAt) " +
+           "FROM Subscription s JOIN s.member m " +
+           "WHERE s.group.id = :groupId AND s.status = 'ACTIVE' AND m.id <> :organiserId " +
+           "ORDER BY s.subscribedAt ASC, s.id ASC")
+    List<GroupMemberRow> findActiveMemberRowsFirstPage(@Param("groupId") Long groupId,
+                                                       @Param("organiserId") Long organiserId,
+                                                       Pageable pageable);
+
+    @Query("SELECT new com.organiser.platform.dto.GroupMemberRow(s.id, m.id, m.displayName, m.profilePhotoUrl, s.subscribedAt) " +
+           "FROM Subscription s JOIN s.member m " +
+           "WHERE s.group.id = :groupId AND s.status = 'ACTIVE' AND m.id <> :organiserId " +
+           "AND s.subscribedAt >= :afterDate " +
+           "AND (s.subscribedAt > :afterDate OR s.id > :afterId) " +
+           "ORDER BY s.subscribedAt ASC, s.id ASC")
+    List<GroupMemberRow> findActiveMemberRowsAfter(@Param("groupId") Long groupId,
+                                                   @Param("organiserId") Long organiserId,
+                                                   @Param("afterDate") LocalDateTime afterDate,
+                                                   @Param("afterId") Long afterId,
+                                                   Pageable pageable);
+
+    /**
+     * Ids of active subscribers who have notifications enabled (notification fan-out)
+     */
+    @Query("SELECT s.member.id FROM Subscription s WHERE s.group.id = :groupId " +
+           "AND s.status = 'ACTIVE' AND s.notificationEnabled = true")
+    List<Long> findNotifiableMemberIdsByGroupId(@Param("groupId") Long groupId);
     
     // Admin dashboard queries
     Long countByMemberId(Long memberId);
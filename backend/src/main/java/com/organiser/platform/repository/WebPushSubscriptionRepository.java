@@ -2,8 +2,13 @@ package com.organiser.platform.repository;
 
 import com.organiser.platform.model.WebPushSubscription;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,7 +17,18 @@ public interface WebPushSubscriptionRepository extends JpaRepository<WebPushSubs
 
     List<WebPushSubscription> findByMemberIdAndActiveTrue(Long memberId);
 
+    List<WebPushSubscription> findByMemberIdInAndActiveTrue(Collection<Long> memberIds);
+
     Optional<WebPushSubscription> findByEndpoint(String endpoint);
 
     Optional<WebPushSubscription> findByMemberIdAndEndpoint(Long memberId, String endpoint);
+
+    // Bulk updates written by WebPushDispatcher
+    @Modifying
+    @Query("UPDATE WebPushSubscription s SET s.active = false WHERE s.id IN :ids")
+    int deactivateByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE WebPushSubscription s SET s.lastNotifiedAt = :now WHERE s.id IN :ids")
+    int updateLastNotifiedAtByIdIn(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
 }
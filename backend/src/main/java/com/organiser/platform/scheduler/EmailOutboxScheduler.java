@@ -0,0 +1,45 @@
+package com.organiser.platform.scheduler;
+
+import com.organiser.platform.service.EmailOutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled job to drain the email outbox
+ * Emails are normally sent right after the enqueuing transaction commits; this picks up
+ * retries whose backoff has elapsed and anything left behind by a restart.
+ * Finished rows are purged daily at 2:30 AM
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxScheduler {
+
+    private final EmailOutboxService emailOutboxService;
+
+    @Scheduled(fixedDelayString = "${app.email.outbox.poll-interval-ms:5000}")
+    public void drainOutbox() {
+        try {
+            int sent = emailOutboxService.drain();
+            if (sent > 0) {
+                log.info("Email outbox: sent {} emails", sent);
+            }
+        } catch (Exception e) {
+            log.error("Error draining email outbox", e);
+        }
+    }
+
+    @Scheduled(cron = "0 30 2 * * *")
+    public void purgeFinished() {
+        try {
+            int purged = emailOutboxService.purgeFinished();
+            if (purged > 0) {
+                log.info("Email outbox: purged {} finished emails", purged);
+            }
+        } catch (Exception e) {
+            log.error("Error purging email outbox", e);
+        }
+    }
+}
@@ -1,17 +1,16 @@
 package com.organiser.platform.scheduler;
 
-import com.organiser.platform.repository.NotificationRepository;
+import com.organiser.platform.service.NotificationCleanupService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.time.LocalDateTime;
 
 /**
- * Scheduled job to clean up old read notifications
- * Runs daily at 2 AM to delete notifications older than 30 days
+ * Scheduled job to clean up old notifications
+ * Runs daily at 2 AM: read notifications go after 30 days, unread ones after 180 days
+ * (app.notifications.cleanup.*), finished fan-out outbox rows after 7 days.
+ * Deletes run in small chunks, see NotificationCleanupService
  * This keeps the database lean and reduces storage costs
  */
 @Component
@@ -19,27 +18,31 @@ import java.time.LocalDateTime;
 @Slf4j
 public class NotificationCleanupScheduler {
 
-    private final NotificationRepository notificationRepository;
+    private final NotificationCleanupService notificationCleanupService;
 
     /**
-     * Delete read notifications older than 30 days
+     * Delete expired notifications, resuming a run cut short by a restart
      * Runs daily at 2:00 AM server time
      * Cron format: second minute hour day month weekday
      */
     @Scheduled(cron = "0 0 2 * * *")
-    @Transactional
     public void cleanupOldNotifications() {
         log.info("Starting notification cleanup job...");
         
         try {
-            LocalDateTime cutoffDate = LocalDateTime.now().minusDays(30);
-            int deletedCount = notificationRepository.deleteOldReadNotifications(cutoffDate);
+            NotificationCleanupService.CleanupResult result = notificationCleanupService.purgeExpired();
             
-            if (deletedCount > 0) {
-                log.info("Deleted {} old read notifications (older than 30 days)", deletedCount);
+            if (result.deleted() > 0) {
+                log.info("Deleted {} old notifications ({} read, {} past retention) in {} chunks",
+                        result.deleted(), result.deletedRead(), result.deletedExpired(), result.chunks());
             } else {
                 log.debug("No old notifications to delete");
             }
+
+            int outbox = notificationCleanupService.purgeFinishedOutbox();
+            if (outbox > 0) {
+                log.info("Deleted {} finished notification outbox rows", outbox);
+            }
         } catch (Exception e) {
             log.error("Error during notification cleanup", e);
         }
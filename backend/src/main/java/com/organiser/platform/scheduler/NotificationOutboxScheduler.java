@@ -0,0 +1,32 @@
+package com.organiser.platform.scheduler;
+
+import com.organiser.platform.service.NotificationFanoutService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled job to retry notification fan-outs
+ * Picks up outbox rows that were never processed (queue full, node restarted)
+ * or whose worker died mid-claim. Runs every minute
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationOutboxScheduler {
+
+    private final NotificationFanoutService notificationFanoutService;
+
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void retryUnfinishedFanouts() {
+        try {
+            int retried = notificationFanoutService.retryUnfinished();
+            if (retried > 0) {
+                log.info("Retried {} notification fan-outs", retried);
+            }
+        } catch (Exception e) {
+            log.error("Error retrying notification fan-outs", e);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.organiser.platform.scheduler;
+
+import com.organiser.platform.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Scheduled job to repair drift in the denormalized event participant counters
+ * (confirmed_headcount / waitlist_count). The counters are maintained incrementally
+ * on every join/leave/promotion; this recomputes them from event_participants and
+ * only rewrites events whose stored values disagree.
+ *
+ * Events are walked in id order, {@value #BATCH_SIZE} per short transaction: the batch's rows
+ * are locked first and recounted in a second statement, so a join that commits mid-run is
+ * either already counted or waits for the batch, and is never overwritten by a stale count.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ParticipantCounterReconciliationScheduler {
+
+    static final int BATCH_SIZE = 500;
+
+    private record ReconciledBatch(int repaired, int size, long lastId) {
+    }
+
+    private final EventRepository eventRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Reconcile participant counters for all events
+     * Runs daily at 3:00 AM server time
+     * Cron format: second minute hour day month weekday
+     */
+    @Scheduled(cron = "0 0 3 * * *")
+    public void reconcileParticipantCounters() {
+        log.info("Starting participant counter reconciliation job...");
+
+        try {
+            int repairedCount = 0;
+            long afterId = 0;
+            ReconciledBatch batch;
+            do {
+                batch = reconcileBatch(afterId);
+                repairedCount += batch.repaired();
+                afterId = batch.lastId();
+            } while (batch.size() == BATCH_SIZE);
+
+            if (repairedCount > 0) {
+                log.warn("Repaired participant counters on {} events", repairedCount);
+            } else {
+                log.debug("Participant counters are consistent");
+            }
+        } catch (Exception e) {
+            log.error("Error during participant counter reconciliation", e);
+        }
+    }
+
+    /**
+     * Lock the next batch of events, then recount them in a second statement that sees every
+     * participant committed before the locks were granted
+     */
+    private ReconciledBatch reconcileBatch(long afterId) {
+        return transactionTemplate.execute(status -> {
+            List<Long> eventIds = eventRepository.lockIdsAfter(afterId, BATCH_SIZE);
+            if (eventIds.isEmpty()) {
+                return new ReconciledBatch(0, 0, afterId);
+            }
+            int repaired = eventRepository.reconcileParticipantCounters(eventIds);
+            return new ReconciledBatch(repaired, eventIds.size(), eventIds.get(eventIds.size() - 1));
+        });
+    }
+}
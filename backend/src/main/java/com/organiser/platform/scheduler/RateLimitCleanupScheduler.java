@@ -0,0 +1,36 @@
+package com.organiser.platform.scheduler;
+
+import com.organiser.platform.ratelimit.BucketStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Scheduled job to drop shared rate-limit buckets nobody has used for a while
+ * Runs hourly; the longest limit refills within an hour, so an idle bucket is full
+ * and recreating it on the next request changes nothing
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitCleanupScheduler {
+
+    private static final Duration IDLE_FOR = Duration.ofHours(2);
+
+    private final BucketStore bucketStore;
+
+    @Scheduled(cron = "0 15 * * * *")
+    public void purgeIdleBuckets() {
+        try {
+            int purged = bucketStore.purgeIdle(IDLE_FOR);
+            if (purged > 0) {
+                log.info("Purged {} idle rate limit buckets", purged);
+            }
+        } catch (Exception e) {
+            log.error("Error purging idle rate limit buckets", e);
+        }
+    }
+}
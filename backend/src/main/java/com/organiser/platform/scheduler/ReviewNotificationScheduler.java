@@ -1,19 +1,30 @@
 package com.organiser.platform.scheduler;
 
-import com.organiser.platform.model.EventParticipant;
+import com.organiser.platform.model.Event;
+import com.organiser.platform.model.Member;
 import com.organiser.platform.repository.EventParticipantRepository;
+import com.organiser.platform.repository.EventRepository;
+import com.organiser.platform.repository.MemberRepository;
 import com.organiser.platform.service.EmailService;
 import com.organiser.platform.service.WebPushService;
-import com.organiser.platform.util.EventTimingUtils;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Sends a "How was your event?" push notification to attendees once per event,
@@ -21,83 +32,172 @@ import java.util.List;
  *
  * Runs daily at 10:00 AM UTC.
  * Exclusions: group organiser and event host are never prompted.
+ *
+ * Due prompts are selected in SQL on events.effective_end and claimed in chunks
+ * of {@value #CHUNK_SIZE}. Each chunk is marked sent and its emails are queued in the email
+ * outbox in the same short transaction, so a crash can neither lose nor repeat them; only
+ * the pushes are handed to background workers, one task per event.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class ReviewNotificationScheduler {
 
+    static final int CHUNK_SIZE = 500;
+
+    private static final int DISPATCH_CONCURRENCY = 8;
+    private static final Duration PROMPT_AFTER = Duration.ofHours(24);
+    private static final Duration PROMPT_UNTIL = Duration.ofDays(30);
+
+    /**
+     * The attendees of one event claimed in a chunk
+     */
+    private record EventPrompts(Event event, List<Member> attendees) {
+    }
+
+    /**
+     * One claimed chunk: its prompts, row count and the last participant id (the next cursor)
+     */
+    private record ClaimedChunk(List<EventPrompts> prompts, int size, long lastId) {
+    }
+
     private final EventParticipantRepository eventParticipantRepository;
+    private final EventRepository eventRepository;
+    private final MemberRepository memberRepository;
     private final WebPushService webPushService;
     private final EmailService emailService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ExecutorService dispatchers = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore dispatchPermits = new Semaphore(DISPATCH_CONCURRENCY);
+
+    @PreDestroy
+    void shutdown() {
+        dispatchers.shutdown();
+    }
 
     @Scheduled(cron = "0 0 10 * * *") // 10:00 AM UTC daily
-    @Transactional
     public void sendReviewPrompts() {
         log.info("Review prompt scheduler started");
 
         Instant now = Instant.now();
 
-        // Broad DB window: events that started between 31 days ago and yesterday.
-        // Java-side filtering narrows this to the precise 24h–30d window using
-        // EventTimingUtils.effectiveEnd(), which accounts for endDate, duration, or midnight fallback.
-        Instant windowStart = now.minus(31, ChronoUnit.DAYS);
-        Instant windowEnd   = now.minus(1,  ChronoUnit.DAYS);
+        // Review window on the effective end: at least 24h and at most 30 days ago
+        Instant dueTo   = now.minus(PROMPT_AFTER);
+        Instant dueFrom = now.minus(PROMPT_UNTIL);
 
-        List<EventParticipant> candidates =
-                eventParticipantRepository.findEligibleForReviewPrompt(windowStart, windowEnd);
-
-        int sent = 0;
+        // Expired, organiser and host prompts are never sent — mark them so we don't revisit them
         int skipped = 0;
+        int retired;
+        do {
+            retired = transactionTemplate.execute(status -> eventParticipantRepository
+                    .retireUnsendableReviewPrompts(dueFrom, dueTo, CHUNK_SIZE));
+            skipped += retired;
+        } while (retired == CHUNK_SIZE);
 
-        for (EventParticipant ep : candidates) {
-            Instant eventEnd = EventTimingUtils.effectiveEnd(ep.getEvent());
-
-            // Precise time window: event must have ended at least 24h ago and no more than 30 days ago
-            long hoursElapsed = ChronoUnit.HOURS.between(eventEnd, now);
-            if (hoursElapsed > 30 * 24) {
-                ep.setReviewPromptSent(true); // expired — stop revisiting on future runs
-                skipped++;
-                continue;
+        int sent = 0;
+        long afterId = 0;
+        while (true) {
+            long cursor = afterId;
+            ClaimedChunk chunk = transactionTemplate.execute(status -> claim(dueFrom, dueTo, cursor));
+            if (chunk.size() == 0) {
+                break;
             }
-            if (hoursElapsed < 24) {
-                skipped++; // too soon — will re-check on a future run
-                continue;
+            dispatchPushes(chunk.prompts());
+            sent += chunk.size();
+            afterId = chunk.lastId();
+            if (chunk.size() < CHUNK_SIZE) {
+                break;
             }
+        }
 
-            // Exclude organiser and host — they ran the event, not attendees
-            Long memberId     = ep.getMember().getId();
-            Long organiserId  = ep.getEvent().getGroup().getPrimaryOrganiser().getId();
-            Long hostMemberId = ep.getEvent().getHostMember() != null
-                    ? ep.getEvent().getHostMember().getId() : null;
+        awaitDispatches();
+        log.info("Review prompt scheduler complete — sent: {}, skipped: {}", sent, skipped);
+    }
+
+    /**
+     * Claim a chunk, mark it sent and queue its emails (one batched outbox insert per event).
+     * Runs in the caller's transaction; the outbox dedupes on review-prompt:eventId:memberId.
+     */
+    private ClaimedChunk claim(Instant dueFrom, Instant dueTo, long afterId) {
+        List<Object[]> rows = eventParticipantRepository.claimDueReviewPrompts(dueFrom, dueTo, afterId, CHUNK_SIZE);
+        if (rows.isEmpty()) {
+            return new ClaimedChunk(List.of(), 0, afterId);
+        }
+        eventParticipantRepository.markReviewPromptSent(rows.stream().map(row -> toLong(row[0])).toList());
+
+        Map<Long, List<Long>> memberIdsByEvent = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            memberIdsByEvent.computeIfAbsent(toLong(row[1]), id -> new ArrayList<>()).add(toLong(row[2]));
+        }
+        Map<Long, Member> members = memberRepository.findAllById(
+                        memberIdsByEvent.values().stream().flatMap(List::stream).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+
+        List<EventPrompts> prompts = new ArrayList<>();
+        for (Event event : eventRepository.findAllWithGroupByIdIn(memberIdsByEvent.keySet())) {
+            List<Member> attendees = memberIdsByEvent.get(event.getId()).stream()
+                    .map(members::get)
+                    .toList();
+            emailService.sendReviewPromptEmails(event.getId(), event.getTitle(), event.getGroup().getName(), attendees);
+            prompts.add(new EventPrompts(event, attendees));
+        }
+        return new ClaimedChunk(prompts, rows.size(), toLong(rows.get(rows.size() - 1)[0]));
+    }
 
-            if (memberId.equals(organiserId) || memberId.equals(hostMemberId)) {
-                ep.setReviewPromptSent(true); // mark so we don't revisit on future runs
-                skipped++;
-                continue;
+    /**
+     * One push lookup per event instead of one per attendee, run on background workers;
+     * blocks only while {@value #DISPATCH_CONCURRENCY} events are in flight.
+     * Pushes are best-effort: the email for the same prompt is already in the outbox.
+     */
+    private void dispatchPushes(List<EventPrompts> prompts) {
+        for (EventPrompts prompt : prompts) {
+            Event event = prompt.event();
+            if (!acquirePermit()) {
+                log.warn("Review prompt dispatch interrupted; pushes for event {} not sent", event.getId());
+                return;
             }
+            dispatchers.execute(() -> {
+                try {
+                    webPushService.sendToMembers(
+                            prompt.attendees().stream().map(Member::getId).toList(),
+                            "How was " + event.getTitle() + "?",
+                            "Share your experience and help others discover great events.",
+                            "/events/" + event.getId() + "/review"
+                    );
+                } catch (Exception e) {
+                    log.error("Failed to send review prompt pushes for event {}", event.getId(), e);
+                } finally {
+                    dispatchPermits.release();
+                }
+            });
+        }
+    }
 
-            String eventTitle = ep.getEvent().getTitle();
-            String path = "/events/" + ep.getEvent().getId() + "/review";
-
-            webPushService.sendToMember(
-                    memberId,
-                    "How was " + eventTitle + "?",
-                    "Share your experience and help others discover great events.",
-                    path
-            );
-
-            emailService.sendReviewPromptEmail(
-                    ep.getMember(),
-                    eventTitle,
-                    ep.getEvent().getGroup().getName(),
-                    ep.getEvent().getId()
-            );
-
-            ep.setReviewPromptSent(true);
-            sent++;
+    private boolean acquirePermit() {
+        try {
+            dispatchPermits.acquire();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
         }
+    }
 
-        log.info("Review prompt scheduler complete — sent: {}, skipped: {}", sent, skipped);
+    /**
+     * Wait for every dispatched event so the run's log line means the pushes were handed over
+     */
+    private void awaitDispatches() {
+        try {
+            dispatchPermits.acquire(DISPATCH_CONCURRENCY);
+            dispatchPermits.release(DISPATCH_CONCURRENCY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static long toLong(Object value) {
+        return ((Number) value).longValue();
     }
 }
@@ -0,0 +1,90 @@
+package com.organiser.platform.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.organiser.platform.exception.ErrorResponse;
+import com.organiser.platform.ratelimit.ApiRateLimitTier;
+import com.organiser.platform.service.RateLimitService;
+import io.github.bucket4j.ConsumptionProbe;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Global API rate limit with tiered quotas (see ApiRateLimitTier), per member when the request
+ * is authenticated and per client IP otherwise. Runs after JwtAuthenticationFilter.
+ *
+ * The client IP is request.getRemoteAddr(): with server.forward-headers-strategy=native the
+ * container resolves it from X-Forwarded-For right to left, skipping only trusted proxy hops,
+ * so a client cannot pick a fresh bucket by sending its own X-Forwarded-For value.
+ *
+ * Every limited response carries RateLimit-Limit / RateLimit-Remaining / RateLimit-Reset
+ * (seconds until the bucket is full again); a rejected request gets 429 with Retry-After.
+ * The check is a lock-free compare-and-swap on an in-memory bucket, so it costs microseconds.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApiRateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitService rateLimitService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ApiRateLimitTier tier = ApiRateLimitTier.classify(request.getMethod(), request.getRequestURI());
+        if (tier == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = clientKey(request);
+        ConsumptionProbe probe = rateLimitService.resolveApiBucket(tier, key).tryConsumeAndReturnRemaining(1);
+
+        response.setHeader("RateLimit-Limit", String.valueOf(rateLimitService.getApiLimit(tier)));
+        response.setHeader("RateLimit-Remaining", String.valueOf(probe.getRemainingTokens()));
+        response.setHeader("RateLimit-Reset", String.valueOf(toSeconds(probe.getNanosToWaitForReset())));
+
+        if (!probe.isConsumed()) {
+            log.warn("API rate limit exceeded - tier: {}, client: {}, path: {}", tier, key, request.getRequestURI());
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader("Retry-After", String.valueOf(toSeconds(probe.getNanosToWaitForRefill())));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getWriter(), new ErrorResponse(
+                    HttpStatus.TOO_MANY_REQUESTS.value(),
+                    "Rate limit exceeded, please slow down",
+                    LocalDateTime.now()));
+            return; // Don't continue filter chain
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getDetails() instanceof Long memberId) {
+            return "member:" + memberId;
+        }
+        // Never the left-most X-Forwarded-For entry: the client writes that one itself
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private static long toSeconds(long nanos) {
+        // Round up so clients never retry a moment too early
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,24 @@
+package com.organiser.platform.security;
+
+import com.organiser.platform.model.Member;
+
+/**
+ * The slice of a member that authentication needs, cached per member id by MemberPrincipalService.
+ */
+public record AuthenticatedMember(Long memberId, String email, boolean active, String role) {
+
+    static AuthenticatedMember of(Member member) {
+        return new AuthenticatedMember(member.getId(), member.getEmail(),
+                Boolean.TRUE.equals(member.getActive()), roleOf(member));
+    }
+
+    /**
+     * Same role mapping as the tokens issued at login and refresh
+     */
+    static String roleOf(Member member) {
+        if (Boolean.TRUE.equals(member.getIsAdmin())) {
+            return "ADMIN";
+        }
+        return Boolean.TRUE.equals(member.getHasOrganiserRole()) ? "ORGANISER" : "MEMBER";
+    }
+}
@@ -1,7 +1,6 @@
 package com.organiser.platform.security;
 
-import com.organiser.platform.model.Member;
-import com.organiser.platform.repository.MemberRepository;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,7 +22,7 @@ import java.util.Collections;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtUtil jwtUtil;
-    private final MemberRepository memberRepository;
+    private final MemberPrincipalService memberPrincipalService;
     
     @Override
     protected void doFilterInternal(
@@ -43,38 +42,37 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         try {
             jwt = authHeader.substring(7);
-            email = jwtUtil.extractUsername(jwt); // Extract email from token
+            // Verifies signature and expiry once; every claim below comes from this parse
+            Claims claims = jwtUtil.parseClaims(jwt);
+            email = claims.getSubject(); // Extract email from token
             
             if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                // Extract userId and role from JWT token
-                Long userId = jwtUtil.extractClaim(jwt, claims -> claims.get("userId", Long.class));
-                String role = jwtUtil.extractClaim(jwt, claims -> claims.get("role", String.class));
+                Long userId = claims.get("userId", Long.class);
                 
-                // Load member by email
-                Member member = memberRepository.findByEmail(email).orElse(null);
+                // Active flag and current role come from the principal cache, not the database
+                AuthenticatedMember member = userId != null
+                        ? memberPrincipalService.getPrincipal(userId)
+                        : memberPrincipalService.getPrincipalByEmail(email);
                 
-                if (member != null && member.getActive()) {
-                    // Use role from JWT token, default to MEMBER if not present
-                    String authority = "ROLE_" + (role != null ? role : "MEMBER");
+                if (member != null && member.active() && email.equals(member.email())) {
+                    String authority = "ROLE_" + member.role();
                     
                     // Create simple UserDetails-like object
                     org.springframework.security.core.userdetails.User userDetails = 
                         new org.springframework.security.core.userdetails.User(
-                            member.getEmail(),
+                            member.email(),
                             "",  // No password needed
                             Collections.singletonList(new SimpleGrantedAuthority(authority))
                         );
                     
-                    if (jwtUtil.validateToken(jwt, userDetails)) {
-                        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                                userDetails,
-                                null,
-                                userDetails.getAuthorities()
-                        );
-                        // Store userId in the details so controllers can access it
-                        authToken.setDetails(userId != null ? userId : member.getId());
-                        SecurityContextHolder.getContext().setAuthentication(authToken);
-                    }
+                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                            userDetails,
+                            null,
+                            userDetails.getAuthorities()
+                    );
+                    // Store userId in the details so controllers can access it
+                    authToken.setDetails(member.memberId());
+                    SecurityContextHolder.getContext().setAuthentication(authToken);
                 }
             }
         } catch (io.jsonwebtoken.ExpiredJwtException e) {
@@ -1,10 +1,11 @@
 package com.organiser.platform.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.JwtParserBuilder;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
@@ -25,6 +26,16 @@ public class JwtUtil {
     @Value("${jwt.expiration}")
     private Long expiration;
     
+    // Thread-safe once built; parsing no longer rebuilds the key and parser per call
+    private JwtParser parser;
+    
+    @PostConstruct
+    void initParser() {
+        parser = Jwts.parserBuilder()
+                .setSigningKey(secret.getBytes(StandardCharsets.UTF_8))
+                .build();
+    }
+    
     private SecretKey getSigningKey() {
         return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
     }
@@ -42,12 +53,16 @@ public class JwtUtil {
         return claimsResolver.apply(claims);
     }
     
+    /**
+     * Verify the signature and expiry once and return every claim.
+     * Throws ExpiredJwtException for an expired token, JwtException for any other invalid one.
+     */
+    public Claims parseClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+    
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secret.getBytes(StandardCharsets.UTF_8))
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parseClaims(token);
     }
     
     private Boolean isTokenExpired(String token) {
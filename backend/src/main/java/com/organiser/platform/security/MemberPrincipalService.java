@@ -0,0 +1,41 @@
+package com.organiser.platform.security;
+
+import com.organiser.platform.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+/**
+ * Active flag and role of authenticated members, cached in "principals" so that authenticating a
+ * request does not hit the database.
+ *
+ * Entries are tagged with the member (CacheKeys.memberTag) and evicted on every node through
+ * CacheInvalidationService.memberChanged / memberAccessChanged whenever a member is deactivated,
+ * reactivated, deleted or changes role; the short TTL bounds anything missed.
+ */
+@Service
+@RequiredArgsConstructor
+public class MemberPrincipalService {
+
+    private final MemberRepository memberRepository;
+
+    /**
+     * @return the member's auth state, or null when no such member exists
+     */
+    @Cacheable(cacheNames = "principals",
+            key = "T(com.organiser.platform.cache.CacheKeys).principal(#memberId)", sync = true)
+    public AuthenticatedMember getPrincipal(Long memberId) {
+        return memberRepository.findById(memberId)
+                .map(AuthenticatedMember::of)
+                .orElse(null);
+    }
+
+    /**
+     * Uncached fallback for tokens issued without a userId claim
+     */
+    public AuthenticatedMember getPrincipalByEmail(String email) {
+        return memberRepository.findByEmail(email)
+                .map(AuthenticatedMember::of)
+                .orElse(null);
+    }
+}
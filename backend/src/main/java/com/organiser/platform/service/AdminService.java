@@ -1,5 +1,6 @@
 package com.organiser.platform.service;
 
+import com.organiser.platform.dto.NotificationDTO;
 import com.organiser.platform.dto.admin.DailySignupDTO;
 import com.organiser.platform.dto.admin.RecentUserDTO;
 import com.organiser.platform.dto.admin.UserStatsDTO;
@@ -37,6 +38,8 @@ public class AdminService {
     private final GroupRepository groupRepository;
     private final SubscriptionRepository subscriptionRepository;
     private final EventParticipantRepository eventParticipantRepository;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final NotificationStreamService notificationStreamService;
     
     /**
      * Get comprehensive user statistics for admin dashboard
@@ -157,6 +160,7 @@ public class AdminService {
             .build();
         
         notificationRepository.save(invitation);
+        notificationStreamService.notificationCreated(targetMemberId, NotificationDTO.fromEntity(invitation));
     }
     
     /**
@@ -176,6 +180,7 @@ public class AdminService {
         member.setHasAcceptedOrganiserAgreement(false);
         member.setOrganiserAgreementAcceptedAt(null);
         memberRepository.save(member);
+        cacheInvalidationService.memberAccessChanged(memberId);
     }
     
     /**
@@ -210,6 +215,7 @@ public class AdminService {
         oldOrganiser.setHasAcceptedOrganiserAgreement(false);
         oldOrganiser.setOrganiserAgreementAcceptedAt(null);
         memberRepository.save(oldOrganiser);
+        cacheInvalidationService.memberAccessChanged(oldOrganiserId);
     }
     
     /**
@@ -250,6 +256,7 @@ public class AdminService {
         
         // Delete member (cascading will handle related entities)
         memberRepository.delete(member);
+        cacheInvalidationService.memberChanged(memberId);
     }
     
     /**
@@ -57,6 +57,7 @@ public class AuthService {
     private final DisplayNameGenerator displayNameGenerator;
     private final OrganiserInviteService organiserInviteService;
     private final RefreshTokenService refreshTokenService;
+    private final CacheInvalidationService cacheInvalidationService;
     
     // ============================================================
     // CONSTANTS
@@ -373,6 +374,7 @@ public class AuthService {
         }
         
         log.info("✅ Member reactivated - agreements reset, will show user agreement modal");
+        cacheInvalidationService.memberAccessChanged(existingMember.getId());
         return memberRepository.save(existingMember);
     }
     
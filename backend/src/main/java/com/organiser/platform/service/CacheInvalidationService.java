@@ -0,0 +1,215 @@
+package com.organiser.platform.service;
+
+import com.organiser.platform.cache.CacheDependencyTracker;
+import com.organiser.platform.cache.CacheInvalidationBus;
+import com.organiser.platform.cache.CacheKeys;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Set;
+
+/**
+ * Keyed cache invalidation for the event and group caches.
+ *
+ * Each method describes a domain change and evicts only the entries that depend on it,
+ * using the tags recorded by CacheDependencyTracker. Inside a transaction the eviction is
+ * deferred until after commit, so a concurrent read cannot re-cache the pre-commit state.
+ * Every eviction is also published on the CacheInvalidationBus so the other backend
+ * instances drop their local copies.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidationService {
+
+    static final String EVENTS = "events";
+    static final String UPCOMING_EVENTS = "upcomingEvents";
+    static final String GROUPS = "groups";
+    static final String MEMBERS = "members";
+    static final String PRINCIPALS = "principals";
+
+    private final CacheManager cacheManager;
+    private final CacheDependencyTracker dependencyTracker;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final CacheInvalidationBus invalidationBus;
+
+    @PostConstruct
+    void subscribeToRemoteInvalidations() {
+        invalidationBus.subscribe(this::applyRemote);
+    }
+
+    // ============================================================
+    // PUBLIC METHODS - Domain changes
+    // ============================================================
+
+    /**
+     * An event's own data changed (details, headcount, waitlist).
+     * Evicts its shared detail body and each list page showing it.
+     */
+    public void eventChanged(Long eventId) {
+        afterCommit(() -> {
+            evictTag(EVENTS, CacheKeys.eventTag(eventId));
+            evictTag(UPCOMING_EVENTS, CacheKeys.eventTag(eventId));
+        });
+    }
+
+    /**
+     * An event was added to, removed from, or moved within the listings (create, publish,
+     * delete, date change). Evicts the group's event pages and the upcoming pages.
+     */
+    public void eventListingChanged(Long groupId) {
+        afterCommit(() -> {
+            evictTag(EVENTS, CacheKeys.groupEventsTag(groupId));
+            clear(UPCOMING_EVENTS);
+        });
+    }
+
+    /**
+     * Events of a group changed together (e.g. a member was removed from all of them).
+     */
+    public void groupEventsChanged(Long groupId) {
+        afterCommit(() -> {
+            evictTag(EVENTS, CacheKeys.groupTag(groupId));
+            evictTag(UPCOMING_EVENTS, CacheKeys.groupTag(groupId));
+        });
+    }
+
+    /**
+     * A group's own data changed (details, member count, organiser).
+     * Evicts its detail, every group list containing it and event entries showing its name.
+     */
+    public void groupChanged(Long groupId) {
+        afterCommit(() -> {
+            evictTag(GROUPS, CacheKeys.groupTag(groupId));
+            evictTag(EVENTS, CacheKeys.groupTag(groupId));
+            evictTag(UPCOMING_EVENTS, CacheKeys.groupTag(groupId));
+        });
+    }
+
+    /**
+     * A group was created, deleted or changed visibility.
+     */
+    public void groupListingChanged() {
+        afterCommit(() -> evictTag(GROUPS, CacheKeys.PUBLIC_GROUPS_TAG));
+    }
+
+    /**
+     * A member joined or left a group. Evicts the member's group lists and the group's
+     * member count.
+     */
+    public void membershipChanged(Long memberId, Long groupId) {
+        afterCommit(() -> {
+            evictTag(GROUPS, CacheKeys.memberTag(memberId));
+            evictTag(GROUPS, CacheKeys.groupTag(groupId));
+        });
+    }
+
+    /**
+     * A member's profile changed. Evicts their personal entries and every entry
+     * showing them as organiser or host.
+     */
+    public void memberChanged(Long memberId) {
+        afterCommit(() -> {
+            evictTag(MEMBERS, CacheKeys.memberTag(memberId));
+            evictTag(PRINCIPALS, CacheKeys.memberTag(memberId));
+            evictTag(GROUPS, CacheKeys.memberTag(memberId));
+            evictTag(EVENTS, CacheKeys.memberTag(memberId));
+            evictTag(UPCOMING_EVENTS, CacheKeys.memberTag(memberId));
+        });
+    }
+
+    /**
+     * A member's active flag or role changed. Evicts only their cached auth principal, so the
+     * next request is authorised against the new state.
+     */
+    public void memberAccessChanged(Long memberId) {
+        afterCommit(() -> evictTag(PRINCIPALS, CacheKeys.memberTag(memberId)));
+    }
+
+    /**
+     * Clear whole caches on every node (feature flags, manual flush).
+     */
+    public void clearCaches(String... cacheNames) {
+        afterCommit(() -> {
+            for (String cacheName : cacheNames) {
+                clear(cacheName);
+            }
+        });
+    }
+
+    // ============================================================
+    // PRIVATE HELPER METHODS
+    // ============================================================
+
+    private void evictTag(String cacheName, String tag) {
+        evictTagLocally(cacheName, tag, "local");
+        invalidationBus.publish(cacheName, tag);
+    }
+
+    private void clear(String cacheName) {
+        clearLocally(cacheName, "local");
+        invalidationBus.publish(cacheName, CacheInvalidationBus.ALL);
+    }
+
+    /**
+     * Apply an eviction published by another node. A null cache name means the bus may
+     * have missed messages, so every cache is cleared.
+     */
+    private void applyRemote(String cacheName, String tag) {
+        if (cacheName != null && !cacheManager.getCacheNames().contains(cacheName)) {
+            return;  // Not a Spring cache, e.g. NotificationStreamService's unread counters
+        }
+        if (cacheName == null) {
+            cacheManager.getCacheNames().forEach(name -> clearLocally(name, "remote"));
+        } else if (CacheInvalidationBus.ALL.equals(tag)) {
+            clearLocally(cacheName, "remote");
+        } else {
+            evictTagLocally(cacheName, tag, "remote");
+        }
+    }
+
+    private void evictTagLocally(String cacheName, String tag, String origin) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        Set<Object> keys = dependencyTracker.keysTagged(cacheName, tag);
+        keys.forEach(cache::evict);
+        countInvalidation(cacheName, tag.substring(0, tag.indexOf(':')), origin, keys.size());
+        log.debug("Evicted {} {} entries tagged {} ({})", keys.size(), cacheName, tag, origin);
+    }
+
+    private void clearLocally(String cacheName, String origin) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+            countInvalidation(cacheName, "all", origin, 1);
+        }
+    }
+
+    private void countInvalidation(String cacheName, String scope, String origin, int entries) {
+        meterRegistry.ifAvailable(registry -> registry.counter("cache.invalidations",
+                "cache", cacheName, "scope", scope, "origin", origin).increment(entries));
+    }
+
+    private void afterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+}
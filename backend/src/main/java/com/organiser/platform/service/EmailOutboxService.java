@@ -0,0 +1,384 @@
+package com.organiser.platform.service;
+
+import com.organiser.platform.model.EmailOutbox;
+import com.organiser.platform.repository.EmailOutboxRepository;
+import com.organiser.platform.util.ThreadUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Transactional email outbox.
+ *
+ * {@link #enqueue} writes the email in the caller's transaction; after commit (and every few
+ * seconds from EmailOutboxScheduler) {@link #drain} claims due rows with SKIP LOCKED, sends them
+ * in parallel, up to 100 per Resend batch request, paced to {@code app.email.outbox.rate-per-second}
+ * requests, and records the outcome:
+ * SENT, PENDING again with exponential backoff (429/5xx/network) or DEAD (rejected, or out of attempts).
+ * Finished rows lose their body straight away and are purged by {@link #purgeFinished} after
+ * {@code app.email.outbox.retention}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxService {
+
+    private static final Duration STALE_CLAIM = Duration.ofMinutes(10);
+    private static final String STALE_CLAIM_ERROR = "Worker died mid-send; no attempts left";
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    private static final String INSERT_IF_ABSENT_SQL =
+            "INSERT INTO email_outbox (idempotency_key, email_type, to_email, subject, html, status, attempts, " +
+            "next_attempt_at, created_at) VALUES (?, ?, ?, ?, ?, 'PENDING', 0, ?, ?) " +
+            "ON CONFLICT (idempotency_key) DO NOTHING";
+
+    /**
+     * One email to queue via {@link #enqueueAll}
+     */
+    public record QueuedEmail(String emailType, String idempotencyKey, String toEmail, String subject, String html) {
+    }
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final ResendClient resendClient;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.email.outbox.threads:4}")
+    private int threads;
+
+    @Value("${app.email.outbox.batch-size:400}")
+    private int batchSize;
+
+    @Value("${app.email.outbox.rate-per-second:2}")
+    private double ratePerSecond;
+
+    @Value("${app.email.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${app.email.outbox.initial-backoff:30s}")
+    private Duration initialBackoff;
+
+    @Value("${app.email.outbox.max-backoff:1h}")
+    private Duration maxBackoff;
+
+    @Value("${app.email.outbox.retention:14d}")
+    private Duration retention;
+
+    @Value("${app.email.outbox.purge-chunk-size:5000}")
+    private int purgeChunkSize;
+
+    @Value("${app.email.outbox.purge-pause:200ms}")
+    private Duration purgePause;
+
+    private ExecutorService senders;
+    private ExecutorService drainer;
+    private RatePacer pacer;
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
+
+    @PostConstruct
+    void init() {
+        senders = Executors.newFixedThreadPool(threads, ThreadUtils.daemonThreads("email-outbox"));
+        drainer = Executors.newSingleThreadExecutor(ThreadUtils.daemonThreads("email-outbox-drain"));
+        pacer = new RatePacer(ratePerSecond);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        drainer.shutdownNow();
+        senders.shutdown();
+    }
+
+    // ============================================================
+    // PUBLIC METHODS
+    // ============================================================
+
+    /**
+     * Queue an email in the current transaction; it is sent once the transaction commits.
+     * Enqueuing the same idempotency key twice sends the email once.
+     */
+    @Transactional
+    public void enqueue(String emailType, String idempotencyKey, String toEmail, String subject, String html) {
+        int inserted = emailOutboxRepository.insertIfAbsent(
+                idempotencyKey, emailType, toEmail, subject, html, LocalDateTime.now());
+        if (inserted == 0) {
+            log.debug("Email {} already queued, skipping", idempotencyKey);
+            return;
+        }
+        drainAfterCommit();
+    }
+
+    /**
+     * Queue many emails with one batched insert; keys that are already queued are skipped.
+     * @return number of emails newly queued
+     */
+    @Transactional
+    public int enqueueAll(List<QueuedEmail> emails) {
+        if (emails.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] results = jdbcTemplate.batchUpdate(INSERT_IF_ABSENT_SQL, emails, INSERT_BATCH_SIZE, (ps, email) -> {
+            ps.setString(1, email.idempotencyKey());
+            ps.setString(2, email.emailType());
+            ps.setString(3, email.toEmail());
+            ps.setString(4, email.subject());
+            ps.setString(5, email.html());
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+        });
+        drainAfterCommit();
+        // ON CONFLICT DO NOTHING reports 0 for skipped keys
+        return Arrays.stream(results).flatMapToInt(Arrays::stream).map(count -> Math.max(count, 0)).sum();
+    }
+
+    private void drainAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    requestDrain();
+                }
+            });
+        } else {
+            requestDrain();
+        }
+    }
+
+    /**
+     * Drain in the background; requests arriving while a drain is queued are coalesced.
+     */
+    public void requestDrain() {
+        if (drainRequested.compareAndSet(false, true)) {
+            drainer.execute(() -> {
+                drainRequested.set(false);
+                drain();
+            });
+        }
+    }
+
+    /**
+     * Send everything that is due, batch by batch, until nothing is left.
+     * @return number of emails sent
+     */
+    public int drain() {
+        if (!resendClient.isConfigured()) {
+            return 0;
+        }
+        int sent = 0;
+        List<EmailOutbox> batch;
+        while (!(batch = claimBatch()).isEmpty()) {
+            sent += sendBatch(batch);
+        }
+        return sent;
+    }
+
+    /**
+     * Delete SENT and DEAD rows older than the retention, one short transaction per chunk with a
+     * pause in between. Pending rows are never touched, however old.
+     * @return number of rows deleted
+     */
+    public int purgeFinished() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status ->
+                    emailOutboxRepository.deleteFinishedBefore(cutoff, purgeChunkSize));
+            purged += deleted;
+        } while (deleted == purgeChunkSize && ThreadUtils.pause(purgePause));
+        return purged;
+    }
+
+    // ============================================================
+    // PRIVATE HELPER METHODS
+    // ============================================================
+
+    private List<EmailOutbox> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = emailOutboxRepository.lockDueIds(now, now.minus(STALE_CLAIM), batchSize);
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            int dead = emailOutboxRepository.markStaleDead(ids, maxAttempts, STALE_CLAIM_ERROR);
+            if (dead > 0) {
+                log.error("Dead-lettered {} emails whose worker died mid-send on their last attempt", dead);
+            }
+            emailOutboxRepository.markSending(ids, now);
+            return emailOutboxRepository.findAllById(ids).stream()
+                    .filter(email -> email.getStatus() == EmailOutbox.Status.SENDING)
+                    .toList();
+        });
+    }
+
+    /**
+     * Send a claimed batch: groups of up to {@link ResendClient#MAX_BATCH_SIZE} go out as one
+     * batch request each, in parallel across the sender threads.
+     */
+    private int sendBatch(List<EmailOutbox> batch) {
+        AtomicInteger sent = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i += ResendClient.MAX_BATCH_SIZE) {
+            List<EmailOutbox> chunk = batch.subList(i, Math.min(batch.size(), i + ResendClient.MAX_BATCH_SIZE));
+            futures.add(senders.submit(() -> sent.addAndGet(sendChunk(chunk))));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("Email outbox sender failed", e);
+            }
+        }
+        return sent.get();
+    }
+
+    private int sendChunk(List<EmailOutbox> chunk) {
+        if (chunk.size() == 1) {
+            return send(chunk.get(0)) ? 1 : 0;
+        }
+        pacer.acquire();
+        try {
+            resendClient.sendBatch(
+                    chunk.stream()
+                            .map(email -> new ResendClient.OutgoingEmail(email.getToEmail(), email.getSubject(), email.getHtml()))
+                            .toList(),
+                    batchIdempotencyKey(chunk));
+            List<Long> ids = chunk.stream().map(EmailOutbox::getId).toList();
+            transactionTemplate.executeWithoutResult(status ->
+                    emailOutboxRepository.markSent(ids, LocalDateTime.now()));
+            log.info("Sent batch of {} emails", chunk.size());
+            return chunk.size();
+        } catch (ResendClient.ResendException e) {
+            if (e.isRetryable()) {
+                chunk.forEach(email -> recordFailure(email, e.getMessage(), true, e.getRetryAfter()));
+                return 0;
+            }
+            // Batches are validated all-or-nothing: send one by one so only the bad address is dead-lettered
+            log.warn("Batch of {} emails rejected ({}), falling back to single sends", chunk.size(), e.getMessage());
+            return (int) chunk.stream().filter(this::send).count();
+        } catch (RuntimeException e) {
+            chunk.forEach(email -> recordFailure(email, e.getMessage(), true, null));
+            return 0;
+        }
+    }
+
+    /**
+     * Same rows, same key: a retried batch is deduplicated by Resend
+     */
+    private static String batchIdempotencyKey(List<EmailOutbox> chunk) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            chunk.stream().map(EmailOutbox::getIdempotencyKey).sorted()
+                    .forEach(key -> digest.update((key + "\n").getBytes(StandardCharsets.UTF_8)));
+            return "batch:" + HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private boolean send(EmailOutbox email) {
+        pacer.acquire();
+        try {
+            resendClient.send(email.getToEmail(), email.getSubject(), email.getHtml(), email.getIdempotencyKey());
+            transactionTemplate.executeWithoutResult(status ->
+                    emailOutboxRepository.markSent(List.of(email.getId()), LocalDateTime.now()));
+            log.info("Sent {} email {} to {}", email.getEmailType(), email.getId(), email.getToEmail());
+            return true;
+        } catch (ResendClient.ResendException e) {
+            recordFailure(email, e.getMessage(), e.isRetryable(), e.getRetryAfter());
+        } catch (RuntimeException e) {
+            recordFailure(email, e.getMessage(), true, null);
+        }
+        return false;
+    }
+
+    private void recordFailure(EmailOutbox email, String error, boolean retryable, Duration retryAfter) {
+        String message = truncate(error);
+        int attempt = email.getAttempts() + 1;
+        if (!retryable || attempt >= maxAttempts) {
+            transactionTemplate.executeWithoutResult(status ->
+                    emailOutboxRepository.markDead(List.of(email.getId()), message));
+            log.error("Dead-lettered {} email {} to {} after {} attempts: {}",
+                    email.getEmailType(), email.getId(), email.getToEmail(), attempt, message);
+            return;
+        }
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(attempt, retryAfter));
+        transactionTemplate.executeWithoutResult(status ->
+                emailOutboxRepository.reschedule(List.of(email.getId()), nextAttemptAt, message));
+        log.warn("Email {} attempt {} failed, retrying at {}: {}", email.getId(), attempt, nextAttemptAt, message);
+    }
+
+    private Duration backoff(int attempt, Duration retryAfter) {
+        if (retryAfter != null) {
+            return retryAfter.compareTo(maxBackoff) > 0 ? maxBackoff : retryAfter;
+        }
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempt - 1, 20));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    /**
+     * Spaces sends evenly to stay under the provider's requests-per-second quota
+     */
+    static final class RatePacer {
+
+        private final long intervalNanos;
+        private long nextSlot = System.nanoTime();
+
+        RatePacer(double permitsPerSecond) {
+            this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        }
+
+        void acquire() {
+            long wait;
+            synchronized (this) {
+                long now = System.nanoTime();
+                long slot = Math.max(nextSlot, now);
+                nextSlot = slot + intervalNanos;
+                wait = slot - now;
+            }
+            if (wait > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(wait);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
@@ -3,23 +3,26 @@ package com.organiser.platform.service;
 // ============================================================
 // IMPORTS
 // ============================================================
+import com.organiser.platform.email.EmailTemplateEngine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 // ============================================================
 // SERVICE CLASS
 // ============================================================
 /**
  * Service for sending transactional emails via Resend API.
+ * Emails are written to the email outbox in the caller's transaction and delivered in the
+ * background by EmailOutboxService. HTML bodies come from the precompiled templates in
+ * resources/email-templates (see EmailTemplateEngine).
  * 
  * @author OutMeets Platform Team
  */
@@ -34,17 +37,20 @@ public class EmailService {
     @Value("${app.frontend-url:http://localhost:3000}")
     private String frontendUrl;
     
-    @Value("${app.email.from:onboarding@resend.dev}")
-    private String fromEmail;
-    
-    @Value("${resend.api-key:}")
-    private String resendApiKey;
+    // Outbox email types (also the idempotency key prefix)
+    static final String TYPE_MAGIC_LINK = "magic-link";
+    static final String TYPE_PASSCODE = "passcode";
+    static final String TYPE_REVIEW_PROMPT = "review-prompt";
+    static final String TYPE_WAITLIST_PROMOTION = "waitlist-promotion";
+    static final String TYPE_INVITATION = "invitation";
     
     // ============================================================
     // DEPENDENCIES
     // ============================================================
-    private final RestTemplate restTemplate = new RestTemplate();
     private final MemberSettingService memberSettingService;
+    private final EmailOutboxService emailOutboxService;
+    private final ResendClient resendClient;
+    private final EmailTemplateEngine templateEngine;
     
     // ============================================================
     // PUBLIC METHODS - Email Sending
@@ -71,25 +77,17 @@ public class EmailService {
         
         log.debug("Sending magic link to: {} (with redirect: {})", email, redirectUrl != null);
         
-        if (resendApiKey == null || resendApiKey.isEmpty()) {
+        if (!resendClient.isConfigured()) {
             // Development mode - just log the magic link
             log.debug("=".repeat(80));
             log.debug("Magic Link for: {}", email);
             log.debug("Link: {}", magicLink);
             log.debug("=".repeat(80));
         } else {
-            // Production mode - send via Resend
-            try {
-                sendEmailViaResend(email, magicLink);
-                log.debug("Email sent successfully to: {}", email);
-            } catch (Exception e) {
-                log.error("Failed to send email via Resend to: {}", email, e);
-                // Fallback: log the magic link
-                log.debug("=".repeat(80));
-                log.debug("FALLBACK - Magic Link for: {}", email);
-                log.debug("Link: {}", magicLink);
-                log.debug("=".repeat(80));
-            }
+            // Production mode - queue for Resend (sent after the login transaction commits)
+            emailOutboxService.enqueue(TYPE_MAGIC_LINK, TYPE_MAGIC_LINK + ":" + UUID.randomUUID(), email,
+                "Your Magic Link to Sign In - OutMeets", templateEngine.render("magic-link", Map.of("magicLink", magicLink)));
+            log.debug("Magic link email queued for: {}", email);
         }
     }
     
@@ -103,321 +101,20 @@ public class EmailService {
     public void sendPasscode(String email, String code) {
         log.info("Sending passcode to: {}", email);
 
-        if (resendApiKey == null || resendApiKey.isEmpty()) {
+        if (!resendClient.isConfigured()) {
             // Development mode only - log code for testing
             log.warn("=".repeat(80));
             log.warn("DEV MODE - Passcode for: {}", email);
             log.warn("Code: {}", code);
             log.warn("=".repeat(80));
         } else {
-            try {
-                sendPasscodeViaResend(email, code);
-                log.info("Passcode email sent successfully to: {}", email);
-            } catch (Exception e) {
-                log.error("Failed to send passcode email via Resend to: {} - Error: {}", email, e.getMessage());
-                // SECURITY: Do NOT log the code in production fallback
-                // User must retry or contact support
-                throw new RuntimeException("Failed to send passcode email. Please try again.", e);
-            }
+            // SECURITY: the code only lives in the outbox row, never in the logs
+            emailOutboxService.enqueue(TYPE_PASSCODE, TYPE_PASSCODE + ":" + UUID.randomUUID(), email,
+                "Your Sign-In Code - OutMeets", templateEngine.render("passcode", Map.of("code", code)));
+            log.info("Passcode email queued for: {}", email);
         }
     }
 
-    // ============================================================
-    // PRIVATE METHODS - API Integration
-    // ============================================================
-
-    /**
-     * Send passcode email via Resend API.
-     */
-    private void sendPasscodeViaResend(String toEmail, String code) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(resendApiKey);
-
-        Map<String, Object> emailData = new HashMap<>();
-        emailData.put("from", fromEmail);
-        emailData.put("to", new String[]{toEmail});
-        emailData.put("subject", "Your Sign-In Code - OutMeets");
-        emailData.put("html", buildPasscodeEmailContent(code));
-
-        HttpEntity<Map<String, Object>> request = new HttpEntity<>(emailData, headers);
-
-        restTemplate.postForObject(
-            "https://api.resend.com/emails",
-            request,
-            String.class
-        );
-    }
-
-    /**
-     * Send email via Resend API.
-     */
-    private void sendEmailViaResend(String toEmail, String magicLink) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(resendApiKey);
-        
-        Map<String, Object> emailData = new HashMap<>();
-        emailData.put("from", fromEmail);
-        emailData.put("to", new String[]{toEmail});
-        emailData.put("subject", "Your Magic Link to Sign In - OutMeets");
-        emailData.put("html", buildEmailContent(magicLink));
-        
-        HttpEntity<Map<String, Object>> request = new HttpEntity<>(emailData, headers);
-        
-        restTemplate.postForObject(
-            "https://api.resend.com/emails",
-            request,
-            String.class
-        );
-    }
-    
-    // ============================================================
-    // PRIVATE METHODS - Email Content
-    // ============================================================
-    
-    /**
-     * Build HTML email content for magic link.
-     */
-    private String buildEmailContent(String magicLink) {
-        return """
-            <!DOCTYPE html>
-            <html>
-            <head>
-                <style>
-                    body { 
-                        font-family: -apple-system, BlinkMacSystemFont, 'Segoe UI', 'Roboto', sans-serif;
-                        line-height: 1.6; 
-                        color: #333;
-                        margin: 0;
-                        padding: 0;
-                        background: linear-gradient(135deg, #fdf2f8 0%%, #fef3f2 50%%, #fff7ed 100%%);
-                    }
-                    .container { 
-                        max-width: 600px; 
-                        margin: 40px auto; 
-                        padding: 0;
-                        background-color: white;
-                        border-radius: 16px;
-                        box-shadow: 0 10px 25px rgba(0,0,0,0.1);
-                        overflow: hidden;
-                    }
-                    .header {
-                        background: linear-gradient(135deg, #9333ea 0%%, #ec4899 50%%, #f97316 100%%);
-                        padding: 40px 30px;
-                        text-align: center;
-                        position: relative;
-                    }
-                    .header::before {
-                        content: '';
-                        position: absolute;
-                        top: 0;
-                        left: 0;
-                        right: 0;
-                        bottom: 0;
-                        background: linear-gradient(135deg, rgba(147, 51, 234, 0.1), rgba(236, 72, 153, 0.1), rgba(249, 115, 22, 0.1));
-                        backdrop-filter: blur(10px);
-                    }
-                    .header-content {
-                        position: relative;
-                        z-index: 1;
-                    }
-                    .header h1 {
-                        color: white;
-                        margin: 0;
-                        font-size: 32px;
-                        font-weight: 700;
-                        text-shadow: 0 2px 4px rgba(0,0,0,0.2);
-                    }
-                    .content {
-                        padding: 40px 30px;
-                        background: linear-gradient(to bottom, white 0%%, #fafafa 100%%);
-                    }
-                    .button { 
-                        display: inline-block; 
-                        padding: 16px 40px; 
-                        background: linear-gradient(135deg, #9333ea 0%%, #ec4899 50%%, #f97316 100%%);
-                        color: white !important; 
-                        text-decoration: none; 
-                        border-radius: 12px;
-                        margin: 25px 0;
-                        font-weight: 700;
-                        font-size: 16px;
-                        box-shadow: 0 8px 25px rgba(147, 51, 234, 0.3);
-                        transition: all 0.3s ease;
-                    }
-                    .button:hover {
-                        transform: translateY(-2px);
-                        box-shadow: 0 12px 30px rgba(147, 51, 234, 0.4);
-                    }
-                    .link-text {
-                        word-break: break-all; 
-                        color: #666;
-                        font-size: 12px;
-                        background: linear-gradient(135deg, #f8fafc 0%%, #f1f5f9 100%%);
-                        padding: 16px;
-                        border-radius: 8px;
-                        margin: 15px 0;
-                        border: 1px solid #e2e8f0;
-                    }
-                    .footer { 
-                        margin-top: 30px;
-                        padding-top: 25px;
-                        border-top: 2px solid;
-                        border-image: linear-gradient(90deg, #9333ea, #ec4899, #f97316) 1;
-                        font-size: 13px;
-                        color: #666;
-                    }
-                    .emoji {
-                        font-size: 40px;
-                        margin-bottom: 15px;
-                        filter: drop-shadow(0 2px 4px rgba(0,0,0,0.1));
-                    }
-                    .title-gradient {
-                        background: linear-gradient(135deg, #9333ea 0%%, #ec4899 50%%, #f97316 100%%);
-                        -webkit-background-clip: text;
-                        -webkit-text-fill-color: transparent;
-                        background-clip: text;
-                    }
-                </style>
-            </head>
-            <body>
-                <div class="container">
-                    <div class="header">
-                        <div class="header-content">
-                            <div class="emoji">🏔️</div>
-                            <h1>OutMeets</h1>
-                        </div>
-                    </div>
-                    <div class="content">
-                        <h2 class="title-gradient" style="margin-top: 0; font-size: 24px; font-weight: 700;">Your Sign-In Link is Ready!</h2>
-                        <p style="font-size: 16px; color: #4b5563;">Click the button below to sign in to your OutMeets account. This link will expire in <strong>15 minutes</strong> for security.</p>
-                        <div style="text-align: center; margin: 35px 0;">
-                            <a href="%s" class="button">Sign In to OutMeets</a>
-                        </div>
-                        <p style="color: #6b7280; font-size: 14px; font-weight: 500;">Or copy and paste this link into your browser:</p>
-                        <div class="link-text">%s</div>
-                        <div class="footer">
-                            <p style="margin: 8px 0; font-weight: 500;">🔒 This link is unique to you and can only be used once.</p>
-                            <p style="margin: 8px 0; font-weight: 500;">⏰ It will expire in 15 minutes for security reasons.</p>
-                            <p style="margin: 8px 0; font-weight: 500;">❓ If you didn't request this email, you can safely ignore it.</p>
-                            <p style="margin-top: 25px; color: #9ca3af; font-style: italic; font-weight: 600;"> Discover day hikes from London! �</p>
-                        </div>
-                    </div>
-                </div>
-            </body>
-            </html>
-            """.formatted(magicLink, magicLink);
-    }
-
-    /**
-     * Build HTML email content for passcode (OTP).
-     */
-    private String buildPasscodeEmailContent(String code) {
-        return """
-            <!DOCTYPE html>
-            <html>
-            <head>
-                <style>
-                    body {
-                        font-family: -apple-system, BlinkMacSystemFont, 'Segoe UI', 'Roboto', sans-serif;
-                        line-height: 1.6;
-                        color: #333;
-                        margin: 0;
-                        padding: 0;
-                        background: linear-gradient(135deg, #fdf2f8 0%%, #fef3f2 50%%, #fff7ed 100%%);
-                    }
-                    .container {
-                        max-width: 600px;
-                        margin: 40px auto;
-                        padding: 0;
-                        background-color: white;
-                        border-radius: 16px;
-                        box-shadow: 0 10px 25px rgba(0,0,0,0.1);
-                        overflow: hidden;
-                    }
-                    .header {
-                        background: linear-gradient(135deg, #9333ea 0%%, #ec4899 50%%, #f97316 100%%);
-                        padding: 40px 30px;
-                        text-align: center;
-                    }
-                    .header h1 {
-                        color: white;
-                        margin: 0;
-                        font-size: 32px;
-                        font-weight: 700;
-                        text-shadow: 0 2px 4px rgba(0,0,0,0.2);
-                    }
-                    .content {
-                        padding: 40px 30px;
-                        background: linear-gradient(to bottom, white 0%%, #fafafa 100%%);
-                    }
-                    .code-box {
-                        background: linear-gradient(135deg, #f3e8ff 0%%, #fce7f3 100%%);
-                        border: 2px solid #e9d5ff;
-                        border-radius: 16px;
-                        padding: 30px;
-                        text-align: center;
-                        margin: 30px 0;
-                    }
-                    .code {
-                        font-size: 48px;
-                        font-weight: 800;
-                        letter-spacing: 12px;
-                        background: linear-gradient(135deg, #9333ea 0%%, #ec4899 50%%, #f97316 100%%);
-                        -webkit-background-clip: text;
-                        -webkit-text-fill-color: transparent;
-                        background-clip: text;
-                        display: block;
-                        margin: 10px 0;
-                    }
-                    .footer {
-                        margin-top: 30px;
-                        padding-top: 25px;
-                        border-top: 2px solid;
-                        border-image: linear-gradient(90deg, #9333ea, #ec4899, #f97316) 1;
-                        font-size: 13px;
-                        color: #666;
-                    }
-                    .emoji {
-                        font-size: 40px;
-                        margin-bottom: 15px;
-                    }
-                    .title-gradient {
-                        background: linear-gradient(135deg, #9333ea 0%%, #ec4899 50%%, #f97316 100%%);
-                        -webkit-background-clip: text;
-                        -webkit-text-fill-color: transparent;
-                        background-clip: text;
-                    }
-                </style>
-            </head>
-            <body>
-                <div class="container">
-                    <div class="header">
-                        <div class="emoji">🏔️</div>
-                        <h1>OutMeets</h1>
-                    </div>
-                    <div class="content">
-                        <h2 class="title-gradient" style="margin-top: 0; font-size: 24px; font-weight: 700;">Your Sign-In Code</h2>
-                        <p style="font-size: 16px; color: #4b5563;">Enter this code in the app to sign in to your OutMeets account. It expires in <strong>10 minutes</strong>.</p>
-                        <div class="code-box">
-                            <p style="margin: 0; font-size: 14px; color: #6b7280; font-weight: 600;">YOUR PASSCODE</p>
-                            <span class="code">%s</span>
-                            <p style="margin: 0; font-size: 13px; color: #9ca3af;">Valid for 10 minutes</p>
-                        </div>
-                        <div class="footer">
-                            <p style="margin: 8px 0; font-weight: 500;">🔒 This code is unique to you and can only be used once.</p>
-                            <p style="margin: 8px 0; font-weight: 500;">⏰ It will expire in 10 minutes for security reasons.</p>
-                            <p style="margin: 8px 0; font-weight: 500;">❓ If you didn't request this code, you can safely ignore it.</p>
-                            <p style="margin-top: 25px; color: #9ca3af; font-style: italic; font-weight: 600;"> Discover day hikes from London! </p>
-                        </div>
-                    </div>
-                </div>
-            </body>
-            </html>
-            """.formatted(code);
-    }
-    
     /**
      * Send a "How was your event?" review prompt email to an attendee.
      * Respects the member's emailNotificationsEnabled preference.
@@ -427,84 +124,52 @@ public class EmailService {
             String eventTitle,
             String groupName,
             Long eventId) {
+        sendReviewPromptEmails(eventId, eventTitle, groupName, List.of(member));
+    }
 
-        if (!Boolean.TRUE.equals(member.getEmailNotificationsEnabled())) {
-            log.info("Email notifications disabled for {}, skipping review prompt", member.getEmail());
-            return;
-        }
-        if (!memberSettingService.getSetting(member.getId(), MemberSettingService.EMAIL_REVIEWS)) {
-            log.info("Review prompt emails disabled for {}, skipping", member.getEmail());
-            return;
+    /**
+     * Send the review prompt to many attendees of one event.
+     * The body is rendered once and shared by every recipient; the emails are queued with one
+     * batched insert and leave in Resend batch requests (see EmailOutboxService).
+     * @return number of emails queued
+     */
+    public int sendReviewPromptEmails(
+            Long eventId,
+            String eventTitle,
+            String groupName,
+            List<com.organiser.platform.model.Member> attendees) {
+
+        List<com.organiser.platform.model.Member> recipients =
+            emailRecipients(attendees, MemberSettingService.EMAIL_REVIEWS, "review prompt");
+        if (recipients.isEmpty()) {
+            return 0;
         }
 
         String reviewUrl = frontendUrl + "/events/" + eventId + "/review";
         String subject = "How was " + eventTitle + "? Share your experience";
-        String html = buildReviewPromptEmailHtml(eventTitle, groupName, reviewUrl);
+        String html = templateEngine.render("review-prompt", Map.of(
+            "eventTitle", eventTitle,
+            "groupName", groupName,
+            "reviewUrl", reviewUrl,
+            "settingsUrl", frontendUrl + "/settings"));
 
-        if (resendApiKey == null || resendApiKey.isEmpty()) {
+        if (!resendClient.isConfigured()) {
             log.info("=".repeat(80));
-            log.info("Review Prompt Email for: {}", member.getEmail());
+            log.info("Review Prompt Email for {} attendees: {}", recipients.size(),
+                recipients.stream().map(com.organiser.platform.model.Member::getEmail).toList());
             log.info("Event: {} ({})", eventTitle, groupName);
             log.info("URL: {}", reviewUrl);
             log.info("=".repeat(80));
-            return;
-        }
-
-        try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBearerAuth(resendApiKey);
-
-            Map<String, Object> emailData = new HashMap<>();
-            emailData.put("from", fromEmail);
-            emailData.put("to", new String[]{member.getEmail()});
-            emailData.put("subject", subject);
-            emailData.put("html", html);
-
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(emailData, headers);
-            restTemplate.postForObject("https://api.resend.com/emails", request, String.class);
-            log.info("Review prompt email sent to {}", member.getEmail());
-        } catch (Exception e) {
-            log.error("Failed to send review prompt email to {}: {}", member.getEmail(), e.getMessage());
+            return 0;
         }
-    }
 
-    private String buildReviewPromptEmailHtml(String eventTitle, String groupName, String reviewUrl) {
-        String escapedTitle = escapeHtml(eventTitle);
-        String escapedGroup = escapeHtml(groupName);
-        String settingsUrl = frontendUrl + "/settings";
-        return """
-            <!DOCTYPE html>
-            <html>
-            <head>
-                <meta charset="UTF-8">
-                <meta name="viewport" content="width=device-width, initial-scale=1.0">
-            </head>
-            <body style="margin:0;padding:0;font-family:-apple-system,BlinkMacSystemFont,'Segoe UI',Roboto,'Helvetica Neue',Arial,sans-serif;background:#fdf2f8;">
-                <div style="max-width:600px;margin:0 auto;padding:40px 20px;">
-                    <div style="text-align:center;margin-bottom:24px;">
-                        <div style="font-size:40px;margin-bottom:12px;">🏔️</div>
-                        <h1 style="margin:0;background:linear-gradient(135deg,#9333ea 0%%,#ec4899 50%%,#f97316 100%%);-webkit-background-clip:text;-webkit-text-fill-color:transparent;background-clip:text;font-size:28px;font-weight:700;">OutMeets</h1>
-                    </div>
-                    <div style="background:white;border-radius:16px;padding:32px;box-shadow:0 4px 6px rgba(0,0,0,0.08);">
-                        <h2 style="margin-top:0;font-size:22px;color:#1f2937;">How was <span style="color:#9333ea;">%s</span>?</h2>
-                        <p style="font-size:15px;color:#4b5563;line-height:1.6;">
-                            You attended an event with <strong>%s</strong>. Your review helps others discover great events and gives organisers valuable feedback.
-                        </p>
-                        <div style="text-align:center;margin:32px 0;">
-                            <a href="%s" style="display:inline-block;padding:14px 32px;background:linear-gradient(135deg,#9333ea,#ec4899);color:white;text-decoration:none;border-radius:12px;font-weight:700;font-size:16px;">
-                                ⭐ Write a Review
-                            </a>
-                        </div>
-                        <p style="color:#9ca3af;font-size:12px;margin-bottom:0;padding-top:20px;border-top:1px solid #f3f4f6;">
-                            The review window is open for 30 days after the event.
-                            Don't want these emails? <a href="%s" style="color:#9333ea;text-decoration:underline;">Manage your notification settings</a>.
-                        </p>
-                    </div>
-                </div>
-            </body>
-            </html>
-            """.formatted(escapedTitle, escapedGroup, reviewUrl, settingsUrl);
+        // One review prompt per attendee per event, however often the scheduler retries
+        int queued = emailOutboxService.enqueueAll(recipients.stream()
+            .map(member -> new EmailOutboxService.QueuedEmail(TYPE_REVIEW_PROMPT,
+                TYPE_REVIEW_PROMPT + ":" + eventId + ":" + member.getId(), member.getEmail(), subject, html))
+            .toList());
+        log.info("Queued {} review prompt emails for event {}", queued, eventId);
+        return queued;
     }
 
     /**
@@ -522,63 +187,21 @@ public class EmailService {
 
         String eventUrl = frontendUrl + "/events/" + eventId;
         String subject = "You're in! A spot opened up for " + eventTitle;
-        String escapedTitle = escapeHtml(eventTitle);
-        String escapedGroup = escapeHtml(groupName);
-        String settingsUrl = frontendUrl + "/settings";
-        String html = """
-            <!DOCTYPE html>
-            <html>
-            <head>
-                <meta charset="UTF-8">
-                <meta name="viewport" content="width=device-width, initial-scale=1.0">
-            </head>
-            <body style="margin:0;padding:0;font-family:-apple-system,BlinkMacSystemFont,'Segoe UI',Roboto,'Helvetica Neue',Arial,sans-serif;background:#fdf2f8;">
-                <div style="max-width:600px;margin:0 auto;padding:40px 20px;">
-                    <div style="text-align:center;margin-bottom:24px;">
-                        <div style="font-size:40px;margin-bottom:12px;">🏔️</div>
-                        <h1 style="margin:0;background:linear-gradient(135deg,#9333ea 0%%,#ec4899 50%%,#f97316 100%%);-webkit-background-clip:text;-webkit-text-fill-color:transparent;background-clip:text;font-size:28px;font-weight:700;">OutMeets</h1>
-                    </div>
-                    <div style="background:white;border-radius:16px;padding:32px;box-shadow:0 4px 6px rgba(0,0,0,0.08);">
-                        <h2 style="margin-top:0;font-size:22px;color:#1f2937;">You're in! 🎉</h2>
-                        <p style="font-size:15px;color:#4b5563;line-height:1.6;">
-                            Great news — a spot opened up for <strong style="color:#9333ea;">%s</strong> with <strong>%s</strong>. You've been moved off the waitlist and are now registered.
-                        </p>
-                        <div style="text-align:center;margin:32px 0;">
-                            <a href="%s" style="display:inline-block;padding:14px 32px;background:linear-gradient(135deg,#9333ea,#ec4899);color:white;text-decoration:none;border-radius:12px;font-weight:700;font-size:16px;">
-                                View Event
-                            </a>
-                        </div>
-                        <p style="color:#9ca3af;font-size:12px;margin-bottom:0;padding-top:20px;border-top:1px solid #f3f4f6;">
-                            Don't want these emails? <a href="%s" style="color:#9333ea;text-decoration:underline;">Manage your notification settings</a>.
-                        </p>
-                    </div>
-                </div>
-            </body>
-            </html>
-            """.formatted(escapedTitle, escapedGroup, eventUrl, settingsUrl);
+        String html = templateEngine.render("waitlist-promotion", Map.of(
+            "eventTitle", eventTitle,
+            "groupName", groupName,
+            "eventUrl", eventUrl,
+            "settingsUrl", frontendUrl + "/settings"));
 
-        if (resendApiKey == null || resendApiKey.isEmpty()) {
+        if (!resendClient.isConfigured()) {
             log.info("Waitlist promotion email for: {} — Event: {}", member.getEmail(), eventTitle);
             return;
         }
 
-        try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBearerAuth(resendApiKey);
-
-            Map<String, Object> emailData = new HashMap<>();
-            emailData.put("from", fromEmail);
-            emailData.put("to", new String[]{member.getEmail()});
-            emailData.put("subject", subject);
-            emailData.put("html", html);
-
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(emailData, headers);
-            restTemplate.postForObject("https://api.resend.com/emails", request, String.class);
-            log.info("Waitlist promotion email sent to {}", member.getEmail());
-        } catch (Exception e) {
-            log.error("Failed to send waitlist promotion email to {}: {}", member.getEmail(), e.getMessage());
-        }
+        emailOutboxService.enqueue(TYPE_WAITLIST_PROMOTION,
+            TYPE_WAITLIST_PROMOTION + ":" + eventId + ":" + member.getId() + ":" + UUID.randomUUID(),
+            member.getEmail(), subject, html);
+        log.info("Waitlist promotion email queued for {}", member.getEmail());
     }
 
     /**
@@ -592,106 +215,72 @@ public class EmailService {
             String itemName,
             String personalMessage,
             String url) {
-        
-        if (!recipient.getEmailNotificationsEnabled()) {
-            log.info("Email notifications disabled for {}, skipping invitation email", recipient.getEmail());
-            return;
-        }
-        if (!memberSettingService.getSetting(recipient.getId(), MemberSettingService.EMAIL_INVITATIONS)) {
-            log.info("Invitation emails disabled for {}, skipping", recipient.getEmail());
-            return;
+        sendInvitationEmails(List.of(recipient), sender, itemType, itemName, personalMessage, url);
+    }
+
+    /**
+     * Send the same invitation to many members; rendered once, queued with one batched insert.
+     * @return number of emails queued
+     */
+    public int sendInvitationEmails(
+            List<com.organiser.platform.model.Member> invitees,
+            com.organiser.platform.model.Member sender,
+            String itemType,
+            String itemName,
+            String personalMessage,
+            String url) {
+
+        List<com.organiser.platform.model.Member> recipients =
+            emailRecipients(invitees, MemberSettingService.EMAIL_INVITATIONS, "invitation");
+        if (recipients.isEmpty()) {
+            return 0;
         }
         
         String senderName = sender.getDisplayName() != null ? sender.getDisplayName() : sender.getEmail().split("@")[0];
         String subject = senderName + " invited you to " + itemName;
         
-        String htmlBody = buildInvitationEmailHtml(senderName, itemType, itemName, personalMessage, url);
+        Map<String, Object> model = new HashMap<>();
+        model.put("senderName", senderName);
+        model.put("itemName", itemName);
+        model.put("personalMessage", personalMessage);
+        model.put("itemUrl", url);
+        model.put("itemTypeLabel", itemType.substring(0, 1).toUpperCase() + itemType.substring(1));
+        String htmlBody = templateEngine.render("invitation", model);
         
-        if (resendApiKey == null || resendApiKey.isEmpty()) {
+        if (!resendClient.isConfigured()) {
             log.info("=".repeat(80));
-            log.info("Invitation Email for: {}", recipient.getEmail());
+            log.info("Invitation Email for {} members: {}", recipients.size(),
+                recipients.stream().map(com.organiser.platform.model.Member::getEmail).toList());
             log.info("From: {}", senderName);
             log.info("Item: {} ({})", itemName, itemType);
             log.info("URL: {}", url);
             log.info("=".repeat(80));
-        } else {
-            try {
-                // Send invitation email using Resend API
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentType(MediaType.APPLICATION_JSON);
-                headers.setBearerAuth(resendApiKey);
-                
-                Map<String, Object> emailData = new HashMap<>();
-                emailData.put("from", fromEmail);
-                emailData.put("to", new String[]{recipient.getEmail()});
-                emailData.put("subject", subject);
-                emailData.put("html", htmlBody);
-                
-                HttpEntity<Map<String, Object>> request = new HttpEntity<>(emailData, headers);
-                restTemplate.postForObject("https://api.resend.com/emails", request, String.class);
-                
-                log.info("Invitation email sent to {}", recipient.getEmail());
-            } catch (Exception e) {
-                log.error("Failed to send invitation email to {}: {}", recipient.getEmail(), e.getMessage());
-            }
-        }
-    }
-    
-    private String buildInvitationEmailHtml(String senderName, String itemType, String itemName, String personalMessage, String itemUrl) {
-        // HTML-escape all user-supplied content to prevent HTML injection
-        String escapedSenderName = escapeHtml(senderName);
-        String escapedItemName = escapeHtml(itemName);
-        
-        String messageSection = "";
-        if (personalMessage != null && !personalMessage.isEmpty()) {
-            String escapedMessage = escapeHtml(personalMessage);
-            messageSection = String.format(
-                "<div style=\"background: #f3f4f6; padding: 20px; border-radius: 12px; margin: 20px 0;\">" +
-                "<p style=\"margin: 0; font-style: italic; color: #4b5563;\">\"" + escapedMessage + "\"</p>" +
-                "</div>"
-            );
+            return 0;
         }
-        
-        return """
-            <!DOCTYPE html>
-            <html>
-            <head>
-                <meta charset="UTF-8">
-                <meta name="viewport" content="width=device-width, initial-scale=1.0">
-            </head>
-            <body style="margin: 0; padding: 0; font-family: -apple-system, BlinkMacSystemFont, 'Segoe UI', Roboto, 'Helvetica Neue', Arial, sans-serif;">
-                <div style="max-width: 600px; margin: 0 auto; padding: 40px 20px;">
-                    <div style="text-align: center; margin-bottom: 30px;">
-                        <div style="font-size: 40px; margin-bottom: 15px;">🏔️</div>
-                        <h1 style="margin: 0; background: linear-gradient(135deg, #9333ea 0%%, #ec4899 50%%, #f97316 100%%); -webkit-background-clip: text; -webkit-text-fill-color: transparent; background-clip: text; font-size: 28px; font-weight: 700;">OutMeets</h1>
-                    </div>
-                    <div style="background: white; border-radius: 16px; padding: 30px; box-shadow: 0 4px 6px rgba(0, 0, 0, 0.1);">
-                        <h2 style="margin-top: 0; font-size: 24px; color: #1f2937;">You've been invited!</h2>
-                        <p style="font-size: 16px; color: #4b5563; line-height: 1.6;"><strong>%s</strong> has invited you to join:</p>
-                        <h3 style="font-size: 20px; color: #9333ea; margin: 20px 0;">%s</h3>
-                        %s
-                        <a href="%s" style="display: inline-block; padding: 14px 28px; background: linear-gradient(to right, #9333ea, #ec4899); color: white; text-decoration: none; border-radius: 10px; font-weight: 600; font-size: 16px; margin: 20px 0;">View %s</a>
-                        <p style="color: #6b7280; font-size: 13px; margin-top: 30px; padding-top: 20px; border-top: 1px solid #e5e7eb;">If you don't want to receive these emails, you can disable email notifications in your settings.</p>
-                    </div>
-                </div>
-            </body>
-            </html>
-            """.formatted(escapedSenderName, escapedItemName, messageSection, itemUrl, itemType.substring(0, 1).toUpperCase() + itemType.substring(1));
+
+        int queued = emailOutboxService.enqueueAll(recipients.stream()
+            .map(recipient -> new EmailOutboxService.QueuedEmail(TYPE_INVITATION,
+                TYPE_INVITATION + ":" + recipient.getId() + ":" + UUID.randomUUID(), recipient.getEmail(), subject, htmlBody))
+            .toList());
+        log.info("Queued {} invitation emails for {}", queued, itemName);
+        return queued;
     }
-    
+
     /**
-     * Escape HTML special characters to prevent HTML injection
+     * Members who want this kind of email: global email toggle plus the per-type setting,
+     * looked up for all members in one query
      */
-    private String escapeHtml(String input) {
-        if (input == null) {
-            return "";
+    private List<com.organiser.platform.model.Member> emailRecipients(
+            List<com.organiser.platform.model.Member> members, String settingKey, String emailKind) {
+        Set<Long> optedOut = memberSettingService.getMembersWithSettingDisabled(
+            members.stream().map(com.organiser.platform.model.Member::getId).toList(), settingKey);
+        List<com.organiser.platform.model.Member> recipients = members.stream()
+            .filter(member -> Boolean.TRUE.equals(member.getEmailNotificationsEnabled()))
+            .filter(member -> !optedOut.contains(member.getId()))
+            .toList();
+        if (recipients.size() < members.size()) {
+            log.info("Skipping {} {} emails (notifications disabled)", members.size() - recipients.size(), emailKind);
         }
-        return input
-            .replace("&", "&amp;")
-            .replace("<", "&lt;")
-            .replace(">", "&gt;")
-            .replace("\"", "&quot;")
-            .replace("'", "&#x27;")
-            .replace("/", "&#x2F;");
+        return recipients;
     }
 }
@@ -38,6 +38,7 @@ public class EnhancedLegalService {
     private final LegalAgreementRepository legalAgreementRepository;
     private final AgreementVersionRepository agreementVersionRepository;
     private final MemberRepository memberRepository;
+    private final CacheInvalidationService cacheInvalidationService;
 
     /**
      * Accept organiser agreement with full audit trail compliance
@@ -56,6 +57,7 @@ public class EnhancedLegalService {
         member.setOrganiserAgreementAcceptedAt(LocalDateTime.now());
         member.setHasOrganiserRole(true);
         memberRepository.save(member);
+        cacheInvalidationService.memberAccessChanged(memberId);
         
         return agreement;
     }
@@ -114,6 +116,7 @@ public class EnhancedLegalService {
         }
         
         memberRepository.save(member);
+        cacheInvalidationService.memberAccessChanged(memberId);
         
         // Create audit record for withdrawal
         LegalAgreement withdrawalRecord = LegalAgreement.builder()
@@ -193,6 +196,7 @@ public class EnhancedLegalService {
                         member.setHasOrganiserRole(true);
                         needsUpdate = true;
                         log.info("🔧 Fixed missing hasOrganiserRole flag for member {}", memberId);
+                        cacheInvalidationService.memberAccessChanged(memberId);
                     }
                 }
                 
@@ -255,6 +259,7 @@ public class EnhancedLegalService {
             member.setHasAcceptedOrganiserAgreement(true);
             member.setOrganiserAgreementAcceptedAt(LocalDateTime.now());
             member.setHasOrganiserRole(true); // Grant organiser role when agreement is accepted
+            cacheInvalidationService.memberAccessChanged(memberId);
             log.info("✅ Updated member {} hasAcceptedOrganiserAgreement=true, hasOrganiserRole=true, organiserAgreementAcceptedAt=now", memberId);
         }
         memberRepository.save(member);
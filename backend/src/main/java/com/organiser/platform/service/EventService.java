@@ -6,18 +6,19 @@ package com.organiser.platform.service;
 import com.organiser.platform.dto.CalendarEventDTO;
 import com.organiser.platform.dto.ContactInfoDTO;
 import com.organiser.platform.dto.CreateEventRequest;
+import com.organiser.platform.dto.EventCursorPage;
 import com.organiser.platform.dto.EventDTO;
 import com.organiser.platform.dto.OfflineBundleDTO;
 import com.organiser.platform.dto.OfflineContactDTO;
 import com.organiser.platform.dto.TransportLegDTO;
+import com.organiser.platform.cache.CacheKeys;
 import com.organiser.platform.exception.AlreadyRegisteredException;
 import com.organiser.platform.model.*;
 import java.math.BigDecimal;
 import com.organiser.platform.repository.*;
-import com.organiser.platform.util.EventTimingUtils;
+import com.organiser.platform.util.EventCursor;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -26,13 +27,13 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -56,6 +57,11 @@ import java.time.ZoneOffset;
 @RequiredArgsConstructor
 public class EventService {
     
+    // ============================================================
+    // CONSTANTS
+    // ============================================================
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     // ============================================================
     // DEPENDENCIES
     // ============================================================
@@ -67,10 +73,12 @@ public class EventService {
     private final NotificationService notificationService;
     private final BannedMemberRepository bannedMemberRepository;
     private final EventTransportLegRepository eventTransportLegRepository;
-    private final WebPushService webPushService;
-    private final EmailService emailService;
+    private final WaitlistService waitlistService;
     private final GroupRatingSummaryRepository groupRatingSummaryRepository;
     private final ContactInfoService contactInfoService;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final SubscriptionRepository subscriptionRepository;
+    private final CacheManager cacheManager;
     
     // ============================================================
     // PUBLIC METHODS - Event CRUD Operations
@@ -81,7 +89,6 @@ public class EventService {
      * Automatically adds the organiser as a confirmed participant.
      */
     @Transactional
-    @CacheEvict(value = "upcomingEvents", allEntries = true)
     public EventDTO createEvent(CreateEventRequest request, Long organiserId) {
         // Find the member (organiser)
         Member organiser = memberRepository.findById(organiserId)
@@ -167,12 +174,14 @@ public class EventService {
                     .build();
             // Save the participant explicitly to the repository
             eventParticipantRepository.save(hostParticipant);
+            applyCounterDelta(event, 0, 0, hostParticipant);
             
             // Refresh the event to load the updated participants collection
             event = eventRepository.findById(event.getId())
                     .orElseThrow(() -> new RuntimeException("Event not found after save"));
         }
 
+        cacheInvalidationService.eventListingChanged(group.getId());
         return convertToDTO(event);
     }
 
@@ -181,7 +190,6 @@ public class EventService {
      * Only the group organiser can update events.
      */
     @Transactional
-    @CacheEvict(value = "events", allEntries = true)
     public EventDTO updateEvent(Long eventId, CreateEventRequest request, Long organiserId) {
         // Find the existing event
         Event event = eventRepository.findById(eventId)
@@ -264,10 +272,13 @@ public class EventService {
                         .guestCount(0)
                         .build();
                 eventParticipantRepository.save(hostParticipant);
+                applyCounterDelta(event, 0, 0, hostParticipant);
             }
             // If participant record exists, keep it as-is (preserves guest count)
         }
-        
+
+        cacheInvalidationService.eventChanged(eventId);
+        cacheInvalidationService.eventListingChanged(event.getGroup().getId());
         return convertToDTO(event);
     }
     
@@ -275,31 +286,28 @@ public class EventService {
      * Get event by ID with privacy controls.
      * Public groups: full data visible to everyone.
      * Private groups: full data only visible to group members.
+     *
+     * The event body is cached once per event and shared by every viewer; only the small
+     * per-viewer overlay (membership, review eligibility) is computed per request, from two
+     * indexed lookups.
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = "events", key = "#id + '_' + #memberId")
     public EventDTO getEventById(Long id, Long memberId) {
-        Event event = eventRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Event not found"));
-        
-        boolean isPublicGroup = Boolean.TRUE.equals(event.getGroup().getIsPublic());
-        
-        // Public groups: everyone can see full event details
-        if (isPublicGroup) {
-            boolean isMember = memberId != null && groupService.isMemberOfGroup(memberId, event.getGroup().getId());
-            EventDTO dto = convertToDTO(event, isMember);
-            dto.setUserHasAttended(computeUserHasAttended(event, memberId));
-            return dto;
-        }
+        EventDTO shared = getSharedEventDetail(id);
+
+        boolean isMember = memberId != null && isMemberOfEventGroup(memberId, shared);
 
         // Private groups: only members see full details
-        if (memberId == null || !groupService.isMemberOfGroup(memberId, event.getGroup().getId())) {
-            return convertToPartialDTO(event);
+        if (!Boolean.TRUE.equals(shared.getGroupIsPublic()) && !isMember) {
+            return toPartialDTO(shared);
         }
 
-        EventDTO dto = convertToDTO(event, true);
-        dto.setUserHasAttended(computeUserHasAttended(event, memberId));
-        return dto;
+        // Public groups: everyone can see full event details
+        return shared.toBuilder()
+                .userIsGroupMember(isMember)
+                .userHasAttended(memberId != null && eventParticipantRepository
+                        .existsByEventIdAndMemberIdAndStatusIn(id, memberId, REVIEW_ELIGIBLE_STATUSES))
+                .build();
     }
     
     /**
@@ -312,14 +320,42 @@ public class EventService {
     
     /**
      * Get all upcoming published events.
-     * Cached for 5 minutes to improve performance.
+     * Cached and refreshed in the background (see CacheConfig), so the cache's own loader
+     * normally serves this and the body only runs when caching is disabled.
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = "upcomingEvents", key = "#pageable.pageNumber + '-' + #pageable.pageSize")
+    @Cacheable(value = "upcomingEvents", key = "T(com.organiser.platform.cache.CacheKeys).upcomingPage(#pageable)")
     public Page<EventDTO> getUpcomingEvents(Pageable pageable) {
-        Page<Event> page = eventRepository.findUpcomingEvents(Instant.now(), EventTimingUtils.startOfToday(), pageable);
-        Map<Long, GroupRatingSummary> ratingsMap = buildRatingsMap(page.getContent());
-        return page.map(event -> convertToDTO(event, ratingsMap.get(event.getGroup().getId())));
+        return loadUpcomingEvents(pageable);
+    }
+
+    /**
+     * Load a page of upcoming published events, bypassing the cache.
+     * Used by the upcomingEvents cache loader for initial loads and refresh-ahead reloads.
+     */
+    @Transactional(readOnly = true)
+    public Page<EventDTO> loadUpcomingEvents(Pageable pageable) {
+        Page<Event> page = eventRepository.findUpcomingEvents(Instant.now(), pageable);
+        return convertToDTOs(page);
+    }
+
+    /**
+     * Get upcoming published events with keyset pagination (infinite scroll).
+     * Each page seeks from the previous page's last (eventDate, id), so deep pages
+     * cost the same as the first. A blank cursor starts from the beginning.
+     */
+    @Transactional(readOnly = true)
+    public EventCursorPage getUpcomingEvents(String cursor, int size) {
+        EventCursor after = EventCursor.decode(cursor);
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        Instant now = Instant.now();
+        // Fetch one extra row to learn whether another page exists
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Event> events = after == null
+                ? eventRepository.findUpcomingEventsFirstPage(now, limit)
+                : eventRepository.findUpcomingEventsAfter(now, after.getEventDate(), after.getId(), limit);
+        return toCursorPage(events, pageSize);
     }
     
     // ============================================================
@@ -332,19 +368,22 @@ public class EventService {
     @Transactional(readOnly = true)
     public Page<EventDTO> getEventsByActivity(Long activityId, Pageable pageable) {
         Page<Event> page = eventRepository.findUpcomingEventsByActivityId(
-                Instant.now(), EventTimingUtils.startOfToday(), activityId, pageable);
-        Map<Long, GroupRatingSummary> ratingsMap = buildRatingsMap(page.getContent());
-        return page.map(event -> convertToDTO(event, ratingsMap.get(event.getGroup().getId())));
+                Instant.now(), activityId, pageable);
+        return convertToDTOs(page);
     }
     
     /**
-     * Search events by keyword (title, description, location, difficulty, group, organiser).
+     * Search upcoming published events by keyword (title, description, location, difficulty, group, organiser).
+     * Served by the full-text index; results are ranked by relevance.
      */
     @Transactional(readOnly = true)
     public Page<EventDTO> searchEvents(String keyword, Pageable pageable) {
-        Page<Event> page = eventRepository.searchEvents(keyword, Instant.now(), EventTimingUtils.startOfToday(), pageable);
-        Map<Long, GroupRatingSummary> ratingsMap = buildRatingsMap(page.getContent());
-        return page.map(event -> convertToDTO(event, ratingsMap.get(event.getGroup().getId())));
+        SearchTokens tokens = new SearchTokens();
+        tokens.future = true;
+        tokens.text = keyword != null ? keyword.trim() : "";
+        Page<Event> page = search(true, tokens, null,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+        return convertToDTOs(page);
     }
 
     /**
@@ -353,22 +392,63 @@ public class EventService {
     @Transactional(readOnly = true)
     public Page<EventDTO> searchEventsAdvanced(String query, int page, int size, Long userId) {
         SearchTokens tokens = parseTokens(query);
-        Pageable pageable = PageRequest.of(page, size, Sort.by("eventDate").ascending());
-
-        Page<Event> results = eventRepository.searchAdvanced(
-                tokens.groupId,
-                tokens.hostingOnly ? userId : null,
-                tokens.memberId != null ? tokens.memberId : (tokens.me ? userId : null),
-                tokens.past,
-                tokens.future,
-                tokens.text,
-                Instant.now(),
-                EventTimingUtils.startOfToday(),
-                pageable
-        );
-
-        Map<Long, GroupRatingSummary> ratingsMap = buildRatingsMap(results.getContent());
-        return results.map(event -> convertToDTO(event, ratingsMap.get(event.getGroup().getId())));
+        // Ordering (relevance, then date) is part of the native query
+        Pageable pageable = PageRequest.of(page, size);
+
+        return convertToDTOs(search(false, tokens, userId, pageable));
+    }
+
+    /**
+     * Advanced search with tokens, keyset-paginated in (eventDate, id) order.
+     * Free text filters by relevance but does not reorder, so the cursor stays stable.
+     */
+    @Transactional(readOnly = true)
+    public EventCursorPage searchEventsAdvanced(String query, String cursor, int size, Long userId) {
+        SearchTokens tokens = parseTokens(query);
+        EventCursor after = EventCursor.decode(cursor);
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+
+        Long hostingId = tokens.hostingOnly ? userId : null;
+        Long participantId = tokens.memberId != null ? tokens.memberId : (tokens.me ? userId : null);
+        String tsQuery = toPrefixTsQuery(tokens.text);
+        Instant afterDate = after != null ? after.getEventDate() : null;
+        Long afterId = after != null ? after.getId() : null;
+
+        List<Event> events = tsQuery == null
+                ? eventRepository.searchFilteredAfter(false, tokens.groupId, hostingId, participantId,
+                        tokens.past, tokens.future, Instant.now(), afterDate, afterId, pageSize + 1)
+                : eventRepository.searchFullTextAfter(false, tokens.groupId, hostingId, participantId,
+                        tokens.past, tokens.future, tsQuery, tokens.text, Instant.now(), afterDate, afterId, pageSize + 1);
+        return toCursorPage(events, pageSize);
+    }
+
+    /**
+     * Run a search, choosing the text-free query when there is nothing to match so the
+     * text predicate never has to be short-circuited in SQL (which would defeat its indexes).
+     */
+    private Page<Event> search(boolean publishedOnly, SearchTokens tokens, Long userId, Pageable pageable) {
+        Long hostingId = tokens.hostingOnly ? userId : null;
+        Long participantId = tokens.memberId != null ? tokens.memberId : (tokens.me ? userId : null);
+        String tsQuery = toPrefixTsQuery(tokens.text);
+        return tsQuery == null
+                ? eventRepository.searchFiltered(publishedOnly, tokens.groupId, hostingId, participantId,
+                        tokens.past, tokens.future, Instant.now(), pageable)
+                : eventRepository.searchFullText(publishedOnly, tokens.groupId, hostingId, participantId,
+                        tokens.past, tokens.future, tsQuery, tokens.text, Instant.now(), pageable);
+    }
+
+    /**
+     * Trim the look-ahead row off a keyset query result and build the next cursor from the last event kept.
+     */
+    private EventCursorPage toCursorPage(List<Event> events, int size) {
+        boolean hasNext = events.size() > size;
+        List<Event> pageEvents = hasNext ? events.subList(0, size) : events;
+        return EventCursorPage.builder()
+                .content(convertToDTOs(pageEvents))
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? EventCursor.encode(pageEvents.get(pageEvents.size() - 1)) : null)
+                .build();
     }
 
     private SearchTokens parseTokens(String query) {
@@ -432,6 +512,22 @@ public class EventService {
         return tokens;
     }
 
+    /**
+     * Turn free text into a prefix tsquery ("box hil" -> "box:* & hil:*") so partially typed
+     * words match. Only letters and digits survive, which keeps to_tsquery from ever seeing
+     * operator syntax from user input. Returns null when there is nothing to search for.
+     */
+    private String toPrefixTsQuery(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        String tsQuery = java.util.Arrays.stream(text.toLowerCase().split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+        return tsQuery.isEmpty() ? null : tsQuery;
+    }
+
     private static class SearchTokens {
         boolean past;
         boolean future;
@@ -444,82 +540,39 @@ public class EventService {
 
     /**
      * Get all events organised by a specific member.
+     * Past events run newest first, upcoming ones soonest first.
      */
     @Transactional(readOnly = true)
     public Page<EventDTO> getEventsByOrganiser(Long organiserId, Pageable pageable, boolean past) {
-        Page<Event> page = eventRepository.findByOrganiserId(organiserId, pageable);
+        // Order is part of the query
+        Pageable page = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
         Instant now = Instant.now();
-        List<Event> filteredEvents = page.getContent().stream()
-                .filter(e -> past ? EventTimingUtils.effectiveEnd(e).isBefore(now) : !EventTimingUtils.effectiveEnd(e).isBefore(now))
-                .sorted(past ? Comparator.comparing(Event::getEventDate).reversed() : Comparator.comparing(Event::getEventDate))
-                .collect(Collectors.toList());
-        Map<Long, GroupRatingSummary> ratingsMap = buildRatingsMap(filteredEvents);
-        List<EventDTO> filtered = filteredEvents.stream()
-                .map(event -> convertToDTO(event, ratingsMap.get(event.getGroup().getId())))
-                .collect(Collectors.toList());
-        return new PageImpl<>(filtered, pageable, filtered.size());
+        return convertToDTOs(past
+                ? eventRepository.findPastByOrganiserId(organiserId, now, page)
+                : eventRepository.findUpcomingByOrganiserId(organiserId, now, page));
     }
     
     /**
-     * Get all events a member is participating in.
+     * Get all events a member is participating in (cancelled and waitlisted places excluded).
+     * Past events run newest first, upcoming ones soonest first.
      */
     @Transactional(readOnly = true)
     public Page<EventDTO> getEventsByParticipant(Long memberId, Pageable pageable, boolean past) {
-        // Get active event participations for this member (exclude cancelled and waitlisted)
-        List<EventParticipant> participations = eventParticipantRepository.findByMemberId(memberId)
-                .stream()
-                .filter(ep -> ep.getStatus() != EventParticipant.ParticipationStatus.CANCELLED
-                        && ep.getStatus() != EventParticipant.ParticipationStatus.WAITLISTED)
-                .collect(Collectors.toList());
-
-        // Extract event IDs
-        List<Long> eventIds = participations.stream()
-                .map(ep -> ep.getEvent().getId())
-                .collect(Collectors.toList());
-        
-        if (eventIds.isEmpty()) {
-            return Page.empty(pageable);
-        }
-        
-        // Get events by IDs
-        List<Event> events = eventRepository.findAllById(eventIds);
-
+        Pageable page = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
         Instant now = Instant.now();
-        // Filter by past/upcoming
-        events = events.stream()
-                .filter(e -> past ? EventTimingUtils.effectiveEnd(e).isBefore(now) : !EventTimingUtils.effectiveEnd(e).isBefore(now))
-                .collect(Collectors.toList());
-        
-        // Sort: past desc, upcoming asc
-        Comparator<Event> comparator = Comparator.comparing(Event::getEventDate);
-        if (past) {
-            comparator = comparator.reversed();
-        }
-        events.sort(comparator);
-        
-        // Convert to DTOs
-        Map<Long, GroupRatingSummary> ratingsMap = buildRatingsMap(events);
-        List<EventDTO> eventDTOs = events.stream()
-                .map(event -> convertToDTO(event, ratingsMap.get(event.getGroup().getId())))
-                .collect(Collectors.toList());
-        
-        // Create pageable response
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), eventDTOs.size());
-        List<EventDTO> pageContent = eventDTOs.subList(start, end);
-        
-        return new PageImpl<>(pageContent, pageable, eventDTOs.size());
+        return convertToDTOs(past
+                ? eventRepository.findPastByParticipantId(memberId, now, page)
+                : eventRepository.findUpcomingByParticipantId(memberId, now, page));
     }
 
     /**
      * Get all events for a specific group.
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = "events", key = "'group_' + #groupId + '_' + #pageable.pageNumber + '_' + #pageable.pageSize")
+    @Cacheable(value = "events", key = "T(com.organiser.platform.cache.CacheKeys).groupEventsPage(#groupId, #pageable)")
     public Page<EventDTO> getEventsByGroup(Long groupId, Pageable pageable) {
         Page<Event> page = eventRepository.findByGroupId(groupId, pageable);
-        Map<Long, GroupRatingSummary> ratingsMap = buildRatingsMap(page.getContent());
-        return page.map(event -> convertToDTO(event, ratingsMap.get(event.getGroup().getId())));
+        return convertToDTOs(page);
     }
     
     // ============================================================
@@ -531,7 +584,6 @@ public class EventService {
      * Only the group organiser can publish events.
      */
     @Transactional
-    @CacheEvict(value = "events", allEntries = true)
     public EventDTO publishEvent(Long eventId, Long organiserId) {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new RuntimeException("Event not found"));
@@ -549,16 +601,18 @@ public class EventService {
         
         // Create notifications for all group subscribers
         notificationService.createNewEventNotifications(event, organiser);
-        
+
+        cacheInvalidationService.eventChanged(eventId);
+        cacheInvalidationService.eventListingChanged(event.getGroup().getId());
         return convertToDTO(event);
     }
     
     /**
      * Register a member for an event.
-     * Checks if event is full and updates status accordingly.
+     * Seats are claimed with a conditional UPDATE on the event's headcount counter, so concurrent
+     * joins can never overbook; when the event is full the member falls back to the waitlist.
      */
     @Transactional
-    @CacheEvict(value = "events", allEntries = true)
     public EventDTO joinEvent(Long eventId, Long memberId, Integer guestCount, List<String> guestNames, String joinQuestionAnswer) {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new RuntimeException("Event not found"));
@@ -569,6 +623,8 @@ public class EventService {
         EventParticipant existing = eventParticipantRepository.findByEventIdAndMemberId(eventId, memberId).orElse(null);
         
         int guests = guestCount != null && guestCount > 0 ? guestCount : 0;
+        String notes = guestNames != null && !guestNames.isEmpty() ? String.join(", ", guestNames) : null;
+        boolean hasAnswer = joinQuestionAnswer != null && !joinQuestionAnswer.isBlank();
 
         // A CANCELLED record means the member previously left — treat them as not currently registered
         boolean existingIsActive = existing != null && existing.getStatus() != EventParticipant.ParticipationStatus.CANCELLED;
@@ -577,30 +633,9 @@ public class EventService {
             throw new RuntimeException(String.format("Event is not open for registration - %s", event.getStatus()));
         }
 
-        // Determine fullness before capacity check so waitlist path can bypass the slot limit
-        int currentHeadcount = getTotalHeadcount(event);
-        boolean eventIsFull = event.getMaxParticipants() != null && currentHeadcount >= event.getMaxParticipants();
-
-        if (eventIsFull && event.getMaxWaitlist() == null) {
-            throw new RuntimeException("Event is full");
-        }
-
-        // Check capacity only when the user will take a real participant slot (not going to waitlist)
-        if (!eventIsFull) {
-            int currentSlotsForUser = existingIsActive ? 1 + (existing.getGuestCount() != null ? existing.getGuestCount() : 0) : 0;
-            int requestedSlots = 1 + guests;
-            int newTotal = currentHeadcount - currentSlotsForUser + requestedSlots;
-            if (event.getMaxParticipants() != null && newTotal > event.getMaxParticipants()) {
-                int remaining = Math.max(0, event.getMaxParticipants() - (currentHeadcount - currentSlotsForUser));
-                throw new RuntimeException(remaining <= 0
-                        ? "Event is full"
-                        : String.format("Only %d spot%s left", remaining, remaining == 1 ? "" : "s"));
-            }
-        }
-
-
         // AUTOMATIC GROUP SUBSCRIPTION (Meetup.com pattern)
-        // When joining an event, automatically subscribe to the group if not already a member
+        // When joining an event, automatically subscribe to the group if not already a member.
+        // Done before claiming a seat so the event row lock taken by the reservation is held briefly.
         if (event.getGroup() != null) {
             try {
                 boolean isMember = groupService.isMemberOfGroup(memberId, event.getGroup().getId());
@@ -613,72 +648,71 @@ public class EventService {
         }
 
         boolean willBeRegistered = false;
+        EventParticipant participation = existing;
 
         if (existing != null && existingIsActive) {
             // Active record — update guest count / notes (not waitlisted, not cancelled)
-            if (existing.getStatus() == EventParticipant.ParticipationStatus.WAITLISTED) {
-                // Already on waitlist — just update their guest count
-                existing.setGuestCount(guests);
-                existing.setNotes(guestNames != null && !guestNames.isEmpty() ? String.join(", ", guestNames) : null);
-            } else {
-                existing.setGuestCount(guests);
-                existing.setNotes(guestNames != null && !guestNames.isEmpty() ? String.join(", ", guestNames) : null);
-                if (joinQuestionAnswer != null && !joinQuestionAnswer.isBlank()) {
+            if (existing.getStatus() != EventParticipant.ParticipationStatus.WAITLISTED) {
+                // Claim or release only the difference in seats
+                int heldSlots = existing.headcountSlots();
+                int slotDelta = (1 + guests) - heldSlots;
+                if (slotDelta > 0 && !tryReserveSeats(event, slotDelta)) {
+                    throw capacityExceeded(event, heldSlots);
+                }
+                if (slotDelta < 0) {
+                    eventRepository.adjustParticipantCounters(eventId, slotDelta, 0);
+                    event.setConfirmedHeadcount(event.getConfirmedHeadcount() + slotDelta);
+                }
+                if (hasAnswer) {
                     existing.setJoinQuestionAnswer(joinQuestionAnswer);
                 }
             }
-        } else if (existing != null) {
-            // CANCELLED record — reactivate (or add to waitlist if full)
-            if (eventIsFull) {
-                long waitlistSize = event.getParticipants().stream()
-                        .filter(p -> p.getStatus() == EventParticipant.ParticipationStatus.WAITLISTED)
-                        .count();
-                if (event.getMaxWaitlist() != null && waitlistSize >= event.getMaxWaitlist()) {
+            // Waitlisted records just take the new guest count
+            existing.setGuestCount(guests);
+            existing.setNotes(notes);
+        } else {
+            // New or CANCELLED record — take a seat, or a waitlist place if the event is full
+            boolean seated = tryReserveSeats(event, 1 + guests);
+            if (!seated) {
+                int headcount = eventRepository.findConfirmedHeadcountById(eventId);
+                boolean eventIsFull = headcount >= event.getMaxParticipants();
+                if (!eventIsFull || event.getMaxWaitlist() == null) {
+                    throw capacityExceeded(event, 0);
+                }
+                if (!tryReserveWaitlistPlace(event)) {
                     throw new RuntimeException("The waitlist is full");
                 }
-                existing.setStatus(EventParticipant.ParticipationStatus.WAITLISTED);
-                existing.setWaitlistJoinedAt(LocalDateTime.now());
-            } else {
-                existing.setStatus(EventParticipant.ParticipationStatus.REGISTERED);
-                willBeRegistered = true;
             }
-            existing.setCancelledAt(null);
-            existing.setGuestCount(guests);
-            existing.setNotes(guestNames != null && !guestNames.isEmpty() ? String.join(", ", guestNames) : null);
-            if (joinQuestionAnswer != null && !joinQuestionAnswer.isBlank()) {
-                existing.setJoinQuestionAnswer(joinQuestionAnswer);
-            }
-        } else if (eventIsFull) {
-            // New participant — add to waitlist
-            long waitlistSize = event.getParticipants().stream()
-                    .filter(p -> p.getStatus() == EventParticipant.ParticipationStatus.WAITLISTED)
-                    .count();
-            if (event.getMaxWaitlist() != null && waitlistSize >= event.getMaxWaitlist()) {
-                throw new RuntimeException("The waitlist is full");
+            EventParticipant.ParticipationStatus status = seated
+                    ? EventParticipant.ParticipationStatus.REGISTERED
+                    : EventParticipant.ParticipationStatus.WAITLISTED;
+
+            if (existing != null) {
+                // CANCELLED record — reactivate
+                existing.setStatus(status);
+                if (!seated) {
+                    existing.setWaitlistJoinedAt(LocalDateTime.now());
+                }
+                existing.setCancelledAt(null);
+                existing.setGuestCount(guests);
+                existing.setNotes(notes);
+                if (hasAnswer) {
+                    existing.setJoinQuestionAnswer(joinQuestionAnswer);
+                }
+            } else {
+                participation = EventParticipant.builder()
+                        .event(event)
+                        .member(member)
+                        .status(status)
+                        .registeredAt(LocalDateTime.now())
+                        .waitlistJoinedAt(seated ? null : LocalDateTime.now())
+                        .guestCount(guests)
+                        .notes(notes)
+                        .joinQuestionAnswer(hasAnswer ? joinQuestionAnswer : null)
+                        .build();
+                event.getParticipants().add(participation);
             }
-            EventParticipant participant = EventParticipant.builder()
-                    .event(event)
-                    .member(member)
-                    .status(EventParticipant.ParticipationStatus.WAITLISTED)
-                    .registeredAt(LocalDateTime.now())
-                    .waitlistJoinedAt(LocalDateTime.now())
-                    .guestCount(guests)
-                    .notes(guestNames != null && !guestNames.isEmpty() ? String.join(", ", guestNames) : null)
-                    .joinQuestionAnswer(joinQuestionAnswer != null && !joinQuestionAnswer.isBlank() ? joinQuestionAnswer : null)
-                    .build();
-            event.getParticipants().add(participant);
-        } else {
-            EventParticipant participant = EventParticipant.builder()
-                    .event(event)
-                    .member(member)
-                    .status(EventParticipant.ParticipationStatus.REGISTERED)
-                    .registeredAt(LocalDateTime.now())
-                    .guestCount(guests)
-                    .notes(guestNames != null && !guestNames.isEmpty() ? String.join(", ", guestNames) : null)
-                    .joinQuestionAnswer(joinQuestionAnswer != null && !joinQuestionAnswer.isBlank() ? joinQuestionAnswer : null)
-                    .build();
-            event.getParticipants().add(participant);
-            willBeRegistered = true;
+            willBeRegistered = seated;
         }
 
         event = eventRepository.save(event);
@@ -691,6 +725,7 @@ public class EventService {
             }
         }
 
+        cacheInvalidationService.eventChanged(eventId);
         return convertToDTO(event);
     }
     
@@ -699,7 +734,6 @@ public class EventService {
      * Updates event status if it was previously full.
      */
     @Transactional
-    @CacheEvict(value = "events", allEntries = true)
     public EventDTO leaveEvent(Long eventId, Long memberId) {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new RuntimeException("Event not found"));
@@ -712,14 +746,17 @@ public class EventService {
                 .orElseThrow(() -> new RuntimeException("Member is not registered for this event"));
 
         // Soft-delete: keep the record so hosts can see who left and when
+        int headcountBefore = participant.headcountSlots();
+        int waitlistBefore = participant.waitlistSlots();
         participant.setStatus(EventParticipant.ParticipationStatus.CANCELLED);
         participant.setCancelledAt(LocalDateTime.now());
         eventParticipantRepository.save(participant);
+        applyCounterDelta(event, headcountBefore, waitlistBefore, participant);
 
         // Promote from waitlist only if event hasn't started yet
         boolean eventNotStarted = Instant.now().isBefore(event.getEventDate());
         if (eventNotStarted) {
-            promoteFromWaitlist(event);
+            waitlistService.promoteFromWaitlist(event);
         }
 
         event = eventRepository.save(event);
@@ -730,6 +767,7 @@ public class EventService {
             log.warn("Failed to send leave notification for event {} member {}: {}", eventId, memberId, e.getMessage());
         }
 
+        cacheInvalidationService.eventChanged(eventId);
         return convertToDTO(event);
     }
     
@@ -738,7 +776,6 @@ public class EventService {
      * Only the group organiser can delete events.
      */
     @Transactional
-    @CacheEvict(value = "events", allEntries = true)
     public void deleteEvent(Long eventId, Long organiserId) {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new RuntimeException("Event not found"));
@@ -750,6 +787,9 @@ public class EventService {
         }
         
         eventRepository.delete(event);
+
+        cacheInvalidationService.eventChanged(eventId);
+        cacheInvalidationService.eventListingChanged(group.getId());
     }
     
     // ============================================================
@@ -762,11 +802,36 @@ public class EventService {
             EventParticipant.ParticipationStatus.ATTENDED
     );
 
-    private boolean computeUserHasAttended(Event event, Long memberId) {
-        if (memberId == null || event.getParticipants() == null) return false;
-        return event.getParticipants().stream()
-                .anyMatch(p -> memberId.equals(p.getMember().getId())
-                        && REVIEW_ELIGIBLE_STATUSES.contains(p.getStatus()));
+    /**
+     * Viewer-independent event detail, cached once per event in the "events" cache.
+     * Callers must copy it (toBuilder) before adding per-viewer fields.
+     */
+    private EventDTO getSharedEventDetail(Long id) {
+        try {
+            return cacheManager.getCache("events").get(CacheKeys.eventDetail(id), () -> {
+                Event event = eventRepository.findById(id)
+                        .orElseThrow(() -> new RuntimeException("Event not found"));
+                EventDTO dto = convertToDTO(event);
+                dto.setUserIsGroupMember(false);
+                dto.setUserHasAttended(false);
+                return dto;
+            });
+        } catch (Cache.ValueRetrievalException e) {
+            // The cache wraps loader failures; surface ours unchanged ("Event not found", ...)
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Same rule as GroupService.isMemberOfGroup, reusing the organiser id already in the DTO.
+     */
+    private boolean isMemberOfEventGroup(Long memberId, EventDTO event) {
+        return memberId.equals(event.getOrganiserId())
+                || subscriptionRepository.existsByMemberIdAndGroupIdAndStatus(
+                        memberId, event.getGroupId(), Subscription.SubscriptionStatus.ACTIVE);
     }
     
     /**
@@ -799,22 +864,36 @@ public class EventService {
         }
     }
 
-    private List<TransportLegDTO> toTransportLegDTOs(Event event) {
-        return eventTransportLegRepository.findByEventIdOrderBySortOrderAsc(event.getId())
+    private TransportLegDTO toTransportLegDTO(EventTransportLeg leg) {
+        return TransportLegDTO.builder()
+                .id(leg.getId())
+                .direction(leg.getDirection())
+                .mode(leg.getMode())
+                .departureLocation(leg.getDepartureLocation())
+                .arrivalLocation(leg.getArrivalLocation())
+                .departureTime(leg.getDepartureTime())
+                .arrivalTime(leg.getArrivalTime())
+                .openReturn(leg.getOpenReturn())
+                .notes(leg.getNotes())
+                .sortOrder(leg.getSortOrder())
+                .build();
+    }
+
+    /**
+     * Load transport legs for a batch of events with a single IN query, keyed by event ID.
+     * Legs keep their sort order within each event.
+     */
+    private Map<Long, List<TransportLegDTO>> buildTransportLegsMap(List<Event> events) {
+        Set<Long> eventIds = events.stream()
+                .map(Event::getId)
+                .collect(Collectors.toSet());
+        if (eventIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        return eventTransportLegRepository.findByEventIdInOrderBySortOrderAsc(eventIds)
                 .stream()
-                .map(leg -> TransportLegDTO.builder()
-                        .id(leg.getId())
-                        .direction(leg.getDirection())
-                        .mode(leg.getMode())
-                        .departureLocation(leg.getDepartureLocation())
-                        .arrivalLocation(leg.getArrivalLocation())
-                        .departureTime(leg.getDepartureTime())
-                        .arrivalTime(leg.getArrivalTime())
-                        .openReturn(leg.getOpenReturn())
-                        .notes(leg.getNotes())
-                        .sortOrder(leg.getSortOrder())
-                        .build())
-                .collect(Collectors.toList());
+                .collect(Collectors.groupingBy(leg -> leg.getEvent().getId(),
+                        Collectors.mapping(this::toTransportLegDTO, Collectors.toList())));
     }
 
     private Map<Long, GroupRatingSummary> buildRatingsMap(List<Event> events) {
@@ -827,18 +906,53 @@ public class EventService {
         return map;
     }
 
+    /**
+     * Bulk conversion for list endpoints.
+     * Group ratings and transport legs are loaded once for the whole batch,
+     * so the number of queries does not grow with the page size.
+     */
+    private List<EventDTO> convertToDTOs(List<Event> events) {
+        Map<Long, GroupRatingSummary> ratingsMap = buildRatingsMap(events);
+        Map<Long, List<TransportLegDTO>> legsMap = buildTransportLegsMap(events);
+        return events.stream()
+                .map(event -> convertToDTO(event,
+                        ratingsMap.get(event.getGroup().getId()),
+                        legsMap.getOrDefault(event.getId(), new ArrayList<>())))
+                .collect(Collectors.toList());
+    }
+
+    private Page<EventDTO> convertToDTOs(Page<Event> page) {
+        return new PageImpl<>(convertToDTOs(page.getContent()), page.getPageable(), page.getTotalElements());
+    }
+
+    /**
+     * Single-event conversion goes through the same batched path as list endpoints.
+     */
     private EventDTO convertToDTO(Event event) {
         if (event == null) {
             return null;
         }
-        Group group = event.getGroup();
-        GroupRatingSummary groupRating = group != null
-                ? groupRatingSummaryRepository.findByGroupId(group.getId()).orElse(null)
-                : null;
-        return convertToDTO(event, groupRating);
+        EventDTO dto = convertToDTOs(List.of(event)).get(0);
+        dto.setParticipantIds(getParticipantIds(event));
+        return dto;
+    }
+
+    /**
+     * Ids of members holding a confirmed place. Only built for single-event views —
+     * list endpoints rely on the counters and never load event_participants.
+     */
+    private Set<Long> getParticipantIds(Event event) {
+        if (event.getParticipants() == null) {
+            return new HashSet<>();
+        }
+        return event.getParticipants().stream()
+                .filter(p -> p.getStatus() != EventParticipant.ParticipationStatus.CANCELLED
+                          && p.getStatus() != EventParticipant.ParticipationStatus.WAITLISTED)
+                .map(p -> p.getMember().getId())
+                .collect(Collectors.toSet());
     }
 
-    private EventDTO convertToDTO(Event event, GroupRatingSummary groupRating) {
+    private EventDTO convertToDTO(Event event, GroupRatingSummary groupRating, List<TransportLegDTO> transportLegs) {
         if (event == null) {
             return null;
         }
@@ -864,15 +978,6 @@ public class EventService {
         // Get participants count (including guests)
         int participantCount = getTotalHeadcount(event);
 
-        // Get participant IDs for the DTO
-        Set<Long> participantIds = event.getParticipants() != null ?
-                event.getParticipants().stream()
-                        .filter(p -> p.getStatus() != EventParticipant.ParticipationStatus.CANCELLED
-                                  && p.getStatus() != EventParticipant.ParticipationStatus.WAITLISTED)
-                        .map(p -> p.getMember().getId())
-                        .collect(Collectors.toSet()) :
-                new HashSet<>();
-
         // Get host member info if present
         Long hostMemberId = null;
         String hostMemberName = null;
@@ -911,10 +1016,7 @@ public class EventService {
                 .maxWaitlist(event.getMaxWaitlist())
                 .minParticipants(event.getMinParticipants())
                 .currentParticipants(participantCount)
-                .waitlistCount((int) (event.getParticipants() != null ? event.getParticipants().stream()
-                        .filter(p -> p.getStatus() == EventParticipant.ParticipationStatus.WAITLISTED)
-                        .count() : 0))
-                .participantIds(participantIds)
+                .waitlistCount(event.getWaitlistCount() != null ? event.getWaitlistCount() : 0)
                 .price(event.getPrice())
                 .status(event.getStatus())
                 .difficultyLevel(event.getDifficultyLevel())
@@ -939,193 +1041,43 @@ public class EventService {
                 .groupGuidelines(group.getGroupGuidelines())
                 .transportDetailMode(event.getTransportDetailMode())
                 .transportNotes(event.getTransportNotes())
-                .transportLegs(toTransportLegDTOs(event))
-                .build();
-    }
-
-    /**
-     * Convert Event entity to EventDTO with group membership status.
-     */
-    private EventDTO convertToDTO(Event event, boolean isGroupMember) {
-        if (event == null) {
-            return null;
-        }
-        
-        // Get the group
-        Group group = event.getGroup();
-        if (group == null) {
-            throw new IllegalStateException("Event must belong to a group");
-        }
-        
-        // Get the primary organiser from the group
-        Member primaryOrganiser = group.getPrimaryOrganiser();
-        if (primaryOrganiser == null) {
-            throw new IllegalStateException("Group must have a primary organiser");
-        }
-        
-        // Get the activity from the group
-        Activity activity = group.getActivity();
-        if (activity == null) {
-            throw new IllegalStateException("Group must be associated with an activity");
-        }
-        
-        // Get participants count (including guests)
-        int participantCount = getTotalHeadcount(event);
-        
-        // Get participant IDs for the DTO
-        Set<Long> participantIds = event.getParticipants() != null ?
-                event.getParticipants().stream()
-                        .filter(p -> p.getStatus() != EventParticipant.ParticipationStatus.CANCELLED
-                                  && p.getStatus() != EventParticipant.ParticipationStatus.WAITLISTED)
-                        .map(p -> p.getMember().getId())
-                        .collect(Collectors.toSet()) :
-                new HashSet<>();
-        
-        // Get host member info if present
-        Long hostMemberId = null;
-        String hostMemberName = null;
-        if (event.getHostMember() != null) {
-            boolean hostDeleted = Boolean.FALSE.equals(event.getHostMember().getActive());
-            hostMemberId = hostDeleted ? null : event.getHostMember().getId();
-            hostMemberName = hostDeleted
-                    ? "Deleted user"
-                    : (event.getHostMember().getDisplayName() != null && !event.getHostMember().getDisplayName().isEmpty()
-                        ? event.getHostMember().getDisplayName()
-                        : event.getHostMember().getEmail());
-        }
-
-        GroupRatingSummary groupRating = groupRatingSummaryRepository.findByGroupId(group.getId()).orElse(null);
-
-        return EventDTO.builder()
-                .id(event.getId())
-                .title(event.getTitle())
-                .description(event.getDescription())
-                .organiserId(primaryOrganiser.getId())
-                .organiserName(primaryOrganiser.getDisplayName() != null && !primaryOrganiser.getDisplayName().isEmpty()
-                        ? primaryOrganiser.getDisplayName()
-                        : primaryOrganiser.getEmail())
-                .activityTypeId(activity.getId())
-                .activityTypeName(activity.getName())
-                .groupId(group.getId())
-                .groupName(group.getName())
-                .groupImageUrl(group.getImageUrl())
-                .hostMemberId(hostMemberId)
-                .hostMemberName(hostMemberName)
-                .eventDate(event.getEventDate())
-                .endDate(event.getEndDate())
-                .registrationDeadline(event.getRegistrationDeadline())
-                .location(event.getLocation())
-                .latitude(event.getLatitude())
-                .longitude(event.getLongitude())
-                .maxParticipants(event.getMaxParticipants())
-                .maxWaitlist(event.getMaxWaitlist())
-                .minParticipants(event.getMinParticipants())
-                .currentParticipants(participantCount)
-                .waitlistCount((int) (event.getParticipants() != null ? event.getParticipants().stream()
-                        .filter(p -> p.getStatus() == EventParticipant.ParticipationStatus.WAITLISTED)
-                        .count() : 0))
-                .participantIds(participantIds)
-                .price(event.getPrice())
-                .status(event.getStatus())
-                .difficultyLevel(event.getDifficultyLevel())
-                .paceLevel(event.getPaceLevel())
-                .distanceKm(event.getDistanceKm())
-                .elevationGainM(event.getElevationGainM())
-                .estimatedDurationHours(event.getEstimatedDurationHours())
-                .imageUrl(event.getImageUrl())
-                .additionalImages(event.getAdditionalImages() != null ? new HashSet<>(event.getAdditionalImages()) : new HashSet<>())
-                .requirements(event.getRequirements() != null ? new HashSet<>(event.getRequirements()) : new HashSet<>())
-                .includedItems(event.getIncludedItems() != null ? new HashSet<>(event.getIncludedItems()) : new HashSet<>())
-                .cancellationPolicy(event.getCancellationPolicy())
-                .averageRating(event.getAverageRating() != null ? BigDecimal.valueOf(event.getAverageRating()) : BigDecimal.ZERO)
-                .totalReviews(event.getTotalReviews() != null ? event.getTotalReviews() : 0)
-                .groupAverageRating(groupRating != null && groupRating.getAverageRating() != null ? BigDecimal.valueOf(groupRating.getAverageRating()) : null)
-                .groupTotalReviews(groupRating != null ? groupRating.getTotalReviews() : 0)
-                .createdAt(event.getCreatedAt())
-                .updatedAt(event.getUpdatedAt())
-                .userIsGroupMember(isGroupMember)
-                .groupIsPublic(group.getIsPublic())
-                .joinQuestion(event.getJoinQuestion())
-                .groupGuidelines(group.getGroupGuidelines())
-                .transportDetailMode(event.getTransportDetailMode())
-                .transportNotes(event.getTransportNotes())
-                .transportLegs(toTransportLegDTOs(event))
+                .transportLegs(transportLegs)
                 .build();
     }
 
     /**
-     * Convert Event entity to partial EventDTO (for non-members of private groups).
-     * Only includes basic information: title, date, organiser, activity type, group info, image.
+     * Partial event view for non-members of private groups.
+     * Only includes basic information: title, date, organiser, activity type, group info.
      */
-    private EventDTO convertToPartialDTO(Event event) {
-        if (event == null) {
-            return null;
-        }
-        
-        Group group = event.getGroup();
-        if (group == null) {
-            throw new IllegalStateException("Event must belong to a group");
-        }
-        
-        Member primaryOrganiser = group.getPrimaryOrganiser();
-        if (primaryOrganiser == null) {
-            throw new IllegalStateException("Group must have a primary organiser");
-        }
-        
-        Activity activity = group.getActivity();
-        if (activity == null) {
-            throw new IllegalStateException("Group must be associated with an activity");
-        }
-        
-        GroupRatingSummary groupRating = groupRatingSummaryRepository.findByGroupId(group.getId()).orElse(null);
-
+    private EventDTO toPartialDTO(EventDTO full) {
         // Return DTO with only basic information - no sensitive details
         return EventDTO.builder()
-                .id(event.getId())
-                .title(event.getTitle())
-                .organiserId(primaryOrganiser.getId())
-                .organiserName(primaryOrganiser.getDisplayName() != null && !primaryOrganiser.getDisplayName().isEmpty()
-                        ? primaryOrganiser.getDisplayName()
-                        : primaryOrganiser.getEmail())
-                .activityTypeId(activity.getId())
-                .activityTypeName(activity.getName())
-                .groupId(group.getId())
-                .groupName(group.getName())
-                .groupImageUrl(group.getImageUrl())
-                .eventDate(event.getEventDate())
+                .id(full.getId())
+                .title(full.getTitle())
+                .organiserId(full.getOrganiserId())
+                .organiserName(full.getOrganiserName())
+                .activityTypeId(full.getActivityTypeId())
+                .activityTypeName(full.getActivityTypeName())
+                .groupId(full.getGroupId())
+                .groupName(full.getGroupName())
+                .groupImageUrl(full.getGroupImageUrl())
+                .eventDate(full.getEventDate())
                 .imageUrl(null) // Hide image from non-members
-                .status(event.getStatus())
-                .createdAt(event.getCreatedAt())
+                .status(full.getStatus())
+                .createdAt(full.getCreatedAt())
                 // All other fields are null/empty for non-members
-                .description(null)
-                .endDate(null)
-                .registrationDeadline(null)
-                .location(null)
-                .latitude(null)
-                .longitude(null)
-                .maxParticipants(null)
-                .minParticipants(null)
                 .currentParticipants(0)
                 .participantIds(new HashSet<>())
-                .price(null)
-                .difficultyLevel(null)
-                .paceLevel(null)
-                .distanceKm(null)
-                .elevationGainM(null)
-                .estimatedDurationHours(null)
                 .additionalImages(new HashSet<>())
                 .requirements(new HashSet<>())
                 .includedItems(new HashSet<>())
-                .cancellationPolicy(null)
                 .averageRating(BigDecimal.ZERO)
                 .totalReviews(0)
-                .groupAverageRating(groupRating != null && groupRating.getAverageRating() != null ? BigDecimal.valueOf(groupRating.getAverageRating()) : null)
-                .groupTotalReviews(groupRating != null ? groupRating.getTotalReviews() : 0)
-                .updatedAt(null)
+                .groupAverageRating(full.getGroupAverageRating())
+                .groupTotalReviews(full.getGroupTotalReviews())
                 .userIsGroupMember(false)
-                .groupIsPublic(group.getIsPublic())
-                .joinQuestion(null)
-                .groupGuidelines(group.getGroupGuidelines()) // Include guidelines for joining flow
+                .groupIsPublic(full.getGroupIsPublic())
+                .groupGuidelines(full.getGroupGuidelines()) // Include guidelines for joining flow
                 .build();
     }
     
@@ -1237,8 +1189,11 @@ public class EventService {
         EventParticipant participant = eventParticipantRepository.findByEventIdAndMemberId(eventId, targetMemberId)
                 .orElseThrow(() -> new RuntimeException("Participant not found"));
 
+        int headcountBefore = participant.headcountSlots();
+        int waitlistBefore = participant.waitlistSlots();
         participant.setStatus(EventParticipant.ParticipationStatus.NO_SHOW);
         eventParticipantRepository.save(participant);
+        applyCounterDelta(event, headcountBefore, waitlistBefore, participant);
     }
 
     /**
@@ -1260,8 +1215,11 @@ public class EventService {
             throw new RuntimeException("Participant is not marked as no-show");
         }
 
+        int headcountBefore = participant.headcountSlots();
+        int waitlistBefore = participant.waitlistSlots();
         participant.setStatus(EventParticipant.ParticipationStatus.REGISTERED);
         eventParticipantRepository.save(participant);
+        applyCounterDelta(event, headcountBefore, waitlistBefore, participant);
     }
 
     /**
@@ -1337,54 +1295,63 @@ public class EventService {
     }
 
     /**
-     * Promotes the earliest waitlisted participant to REGISTERED and notifies them.
-     * Called after a cancellation, only when the event hasn't started.
+     * Total headcount including guests (participant + guestCount), read from the
+     * denormalized counter so the participants collection is never loaded for it.
      */
-    private void promoteFromWaitlist(Event event) {
-        if (event.getParticipants() == null) return;
-
-        event.getParticipants().stream()
-                .filter(p -> p.getStatus() == EventParticipant.ParticipationStatus.WAITLISTED)
-                .min(Comparator.comparing(EventParticipant::getWaitlistJoinedAt,
-                        Comparator.nullsLast(Comparator.naturalOrder())))
-                .ifPresent(next -> {
-                    next.setStatus(EventParticipant.ParticipationStatus.REGISTERED);
-                    eventParticipantRepository.save(next);
-
-                    // Send push notification
-                    try {
-                        webPushService.sendToMember(
-                                next.getMember().getId(),
-                                "You're in! 🎉",
-                                "A spot opened up — you've been moved off the waitlist for " + event.getTitle(),
-                                "/events/" + event.getId()
-                        );
-                    } catch (Exception e) {
-                        System.err.println("Warning: Failed to send waitlist promotion push: " + e.getMessage());
-                    }
+    private int getTotalHeadcount(Event event) {
+        return event.getConfirmedHeadcount() != null ? event.getConfirmedHeadcount() : 0;
+    }
 
-                    // Send email notification
-                    try {
-                        emailService.sendWaitlistPromotionEmail(next.getMember(), event.getTitle(),
-                                event.getGroup().getName(), event.getId());
-                    } catch (Exception e) {
-                        System.err.println("Warning: Failed to send waitlist promotion email: " + e.getMessage());
-                    }
-                });
+    /**
+     * Atomically claim seats on the event. The UPDATE only matches while the new headcount
+     * stays within maxParticipants, so concurrent joins cannot overbook.
+     * Returns false when the seats are not available.
+     */
+    private boolean tryReserveSeats(Event event, int slots) {
+        if (eventRepository.reserveSeats(event.getId(), slots) == 0) {
+            return false;
+        }
+        event.setConfirmedHeadcount(eventRepository.findConfirmedHeadcountById(event.getId()));
+        return true;
     }
 
     /**
-     * Calculates total headcount including guests (participant + guestCount).
+     * Atomically claim a waitlist place. Returns false when the event has no waitlist or it is full.
      */
-    private int getTotalHeadcount(Event event) {
-        if (event.getParticipants() == null) {
-            return 0;
+    private boolean tryReserveWaitlistPlace(Event event) {
+        if (eventRepository.reserveWaitlistPlace(event.getId()) == 0) {
+            return false;
         }
-        return event.getParticipants().stream()
-                .filter(p -> p.getStatus() != EventParticipant.ParticipationStatus.CANCELLED
-                          && p.getStatus() != EventParticipant.ParticipationStatus.WAITLISTED)
-                .mapToInt(p -> 1 + (p.getGuestCount() != null ? p.getGuestCount() : 0))
-                .sum();
+        event.setWaitlistCount(eventRepository.findWaitlistCountById(event.getId()));
+        return true;
+    }
+
+    /**
+     * Error for a seat reservation that did not fit, reporting how many spots are left.
+     * heldSlots are seats the member already occupies and would give back.
+     */
+    private RuntimeException capacityExceeded(Event event, int heldSlots) {
+        int headcount = eventRepository.findConfirmedHeadcountById(event.getId());
+        int remaining = Math.max(0, event.getMaxParticipants() - (headcount - heldSlots));
+        return new RuntimeException(remaining <= 0
+                ? "Event is full"
+                : String.format("Only %d spot%s left", remaining, remaining == 1 ? "" : "s"));
+    }
+
+    /**
+     * Shift the event's denormalized counters by the change in one participation's footprint.
+     * The counters are updated in SQL; the managed entity is kept in step so a DTO built
+     * later in the same transaction reflects the change.
+     */
+    private void applyCounterDelta(Event event, int headcountBefore, int waitlistBefore, EventParticipant participant) {
+        int headcountDelta = participant.headcountSlots() - headcountBefore;
+        int waitlistDelta = participant.waitlistSlots() - waitlistBefore;
+        if (headcountDelta == 0 && waitlistDelta == 0) {
+            return;
+        }
+        eventRepository.adjustParticipantCounters(event.getId(), headcountDelta, waitlistDelta);
+        event.setConfirmedHeadcount(event.getConfirmedHeadcount() + headcountDelta);
+        event.setWaitlistCount(event.getWaitlistCount() + waitlistDelta);
     }
 
     // ============================================================
@@ -1471,7 +1438,14 @@ public class EventService {
 
     @Transactional
     public void removeFutureParticipationsForMember(Long memberId) {
-        eventParticipantRepository.deleteFutureParticipations(memberId, Instant.now());
+        Instant cutoff = Instant.now();
+        List<Long> affectedEventIds = eventParticipantRepository.findFutureEventIdsByMemberId(memberId, cutoff);
+        eventParticipantRepository.deleteFutureParticipations(memberId, cutoff);
+        if (!affectedEventIds.isEmpty()) {
+            eventRepository.lockByIdIn(affectedEventIds);
+            eventRepository.recalculateParticipantCounters(affectedEventIds);
+            affectedEventIds.forEach(cacheInvalidationService::eventChanged);
+        }
     }
 
 }
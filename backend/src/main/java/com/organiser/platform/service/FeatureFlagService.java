@@ -5,7 +5,6 @@ import com.organiser.platform.model.FeatureFlag;
 import com.organiser.platform.repository.FeatureFlagRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +24,7 @@ import java.util.stream.Collectors;
 public class FeatureFlagService {
     
     private final FeatureFlagRepository featureFlagRepository;
+    private final CacheInvalidationService cacheInvalidationService;
     
     // Predefined feature flag keys
     public static final String GOOGLE_MAPS_ENABLED = "GOOGLE_MAPS_ENABLED";
@@ -76,10 +76,9 @@ public class FeatureFlagService {
     
     /**
      * Update a feature flag (admin only)
-     * Clears cache after update
+     * Clears cache on every node after commit
      */
     @Transactional
-    @CacheEvict(value = {"featureFlags", "featureFlagsMap"}, allEntries = true)
     public FeatureFlagDTO updateFeatureFlag(String flagKey, boolean isEnabled, String adminEmail) {
         log.info("Admin {} updating feature flag {} to {}", adminEmail, flagKey, isEnabled);
         
@@ -90,6 +89,7 @@ public class FeatureFlagService {
         flag.setUpdatedBy(adminEmail);
         
         FeatureFlag savedFlag = featureFlagRepository.save(flag);
+        cacheInvalidationService.clearCaches("featureFlags", "featureFlagsMap");
         
         log.info("Successfully updated feature flag {} to {}", flagKey, isEnabled);
         return convertToDTO(savedFlag);
@@ -34,6 +34,7 @@ public class GoogleOAuth2Service {
     private final JwtUtil jwtUtil;
     private final OrganiserInviteService organiserInviteService;
     private final RefreshTokenService refreshTokenService;
+    private final CacheInvalidationService cacheInvalidationService;
     
     @Value("${spring.security.oauth2.client.registration.google.client-id}")
     private String googleClientId;
@@ -103,6 +104,7 @@ public class GoogleOAuth2Service {
                     member.setProfilePhotoUrl(pictureUrl);
                 }
                 memberRepository.save(member);
+                cacheInvalidationService.memberAccessChanged(member.getId());
                 log.info("Google OAuth: Member reactivated - agreements reset, will show agreement modals");
             }
 
@@ -7,7 +7,10 @@ import com.organiser.platform.dto.CreateEventRequest;
 import com.organiser.platform.dto.CreateGroupRequest;
 import com.organiser.platform.dto.EventDTO;
 import com.organiser.platform.dto.GroupDTO;
+import com.organiser.platform.dto.GroupMemberPage;
+import com.organiser.platform.dto.GroupMemberRow;
 import com.organiser.platform.dto.GroupRatingDTO;
+import com.organiser.platform.dto.MemberDTO;
 import com.organiser.platform.model.Activity;
 import com.organiser.platform.model.Event;
 import com.organiser.platform.model.EventParticipant;
@@ -22,18 +25,23 @@ import com.organiser.platform.repository.SubscriptionRepository;
 import com.organiser.platform.repository.BannedMemberRepository;
 import com.organiser.platform.model.Subscription;
 import com.organiser.platform.model.BannedMember;
+import com.organiser.platform.util.GroupMemberCursor;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -65,6 +73,13 @@ public class GroupService {
     private final BannedMemberRepository bannedMemberRepository;
     private final NotificationService notificationService;
     private final com.organiser.platform.repository.GroupRatingSummaryRepository groupRatingSummaryRepository;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final WaitlistService waitlistService;
+    
+    // ============================================================
+    // CONSTANTS
+    // ============================================================
+    private static final int MAX_MEMBER_PAGE_SIZE = 100;
     
     // ============================================================
     // PUBLIC METHODS - Group CRUD Operations
@@ -75,7 +90,6 @@ public class GroupService {
      * Automatically subscribes the organiser to the group.
      */
     @Transactional
-    @CacheEvict(value = "groups", allEntries = true)
     public GroupDTO createGroup(CreateGroupRequest request, Long organiserId) {
         // Find the member (organiser)
         Member organiser = memberRepository.findById(organiserId)
@@ -111,6 +125,8 @@ public class GroupService {
         subscriptionRepository.save(subscription);
         
         long memberCount = subscriptionRepository.countByGroupIdAndStatus(group.getId(), Subscription.SubscriptionStatus.ACTIVE);
+        cacheInvalidationService.membershipChanged(organiserId, group.getId());
+        cacheInvalidationService.groupListingChanged();
         return GroupDTO.fromEntity(group, (int) memberCount);
     }
     
@@ -119,7 +135,6 @@ public class GroupService {
      * Only the group organiser can update the group.
      */
     @Transactional
-    @CacheEvict(value = "groups", allEntries = true)
     public GroupDTO updateGroup(Long groupId, CreateGroupRequest request, Long userId) {
         // Find the group
         Group group = groupRepository.findById(groupId)
@@ -168,6 +183,8 @@ public class GroupService {
                 Subscription.SubscriptionStatus.ACTIVE
         );
         
+        cacheInvalidationService.groupChanged(groupId);
+        cacheInvalidationService.groupListingChanged();
         return GroupDTO.fromEntity(group, memberCount);
     }
     
@@ -179,20 +196,15 @@ public class GroupService {
      * Get all groups a user is subscribed to.
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = "groups", key = "'user_' + #memberId")
+    @Cacheable(value = "groups", key = "T(com.organiser.platform.cache.CacheKeys).subscribedGroups(#memberId)")
     public List<GroupDTO> getUserSubscribedGroups(Long memberId) {
-        List<Subscription> subscriptions = subscriptionRepository.findByMemberId(memberId);
-        
-        return subscriptions.stream()
-                .filter(sub -> sub.getStatus() == Subscription.SubscriptionStatus.ACTIVE)
-                .map(sub -> {
-                    Group group = sub.getGroup();
-                    int memberCount = (int) subscriptionRepository.countByGroupIdAndStatus(
-                            group.getId(), 
-                            Subscription.SubscriptionStatus.ACTIVE
-                    );
-                    return GroupDTO.fromEntity(group, memberCount);
-                })
+        List<Group> groups = subscriptionRepository.findActiveWithGroupByMemberId(memberId).stream()
+                .map(Subscription::getGroup)
+                .collect(Collectors.toList());
+        Map<Long, Integer> memberCounts = buildMemberCountsMap(groups);
+        
+        return groups.stream()
+                .map(group -> GroupDTO.fromEntity(group, memberCounts.getOrDefault(group.getId(), 0)))
                 .collect(Collectors.toList());
     }
     
@@ -200,40 +212,32 @@ public class GroupService {
      * Get all groups organised by a specific user.
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = "groups", key = "'organiser_' + #memberId")
+    @Cacheable(value = "groups", key = "T(com.organiser.platform.cache.CacheKeys).organisedGroups(#memberId)")
     public List<GroupDTO> getUserOrganisedGroups(Long memberId) {
-        List<Group> groups = groupRepository.findByPrimaryOrganiserId(memberId);
+        List<Group> groups = groupRepository.findWithActivityByPrimaryOrganiserId(memberId);
+        Map<Long, Integer> memberCounts = buildMemberCountsMap(groups);
         
         return groups.stream()
-                .map(group -> {
-                    int memberCount = (int) subscriptionRepository.countByGroupIdAndStatus(
-                            group.getId(), 
-                            Subscription.SubscriptionStatus.ACTIVE
-                    );
-                    return GroupDTO.fromEntity(group, memberCount);
-                })
+                .map(group -> GroupDTO.fromEntity(group, memberCounts.getOrDefault(group.getId(), 0)))
                 .collect(Collectors.toList());
     }
     
     /**
      * Get all public and active groups.
+     * Three queries whatever the number of groups: groups (with organiser and activity),
+     * member counts and ratings.
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = "groups", key = "'public'")
+    @Cacheable(value = "groups", key = "T(com.organiser.platform.cache.CacheKeys).publicGroups()")
     public List<GroupDTO> getAllPublicGroups() {
-        List<Group> groups = groupRepository.findByIsPublicTrueAndActiveTrue();
+        List<Group> groups = groupRepository.findPublicActiveWithOrganiserAndActivity();
+        Map<Long, Integer> memberCounts = buildMemberCountsMap(groups);
+        Map<Long, GroupRatingDTO> ratings = buildRatingsMap(groups);
         
         return groups.stream()
-                .map(group -> {
-                    int memberCount = (int) subscriptionRepository.countByGroupIdAndStatus(
-                            group.getId(), 
-                            Subscription.SubscriptionStatus.ACTIVE
-                    );
-                    GroupRatingDTO rating = groupRatingSummaryRepository.findByGroupId(group.getId())
-                            .map(GroupRatingDTO::fromEntity)
-                            .orElse(null);
-                    return GroupDTO.fromEntity(group, memberCount, rating);
-                })
+                .map(group -> GroupDTO.fromEntity(group,
+                        memberCounts.getOrDefault(group.getId(), 0),
+                        ratings.get(group.getId())))
                 .collect(Collectors.toList());
     }
     
@@ -241,7 +245,7 @@ public class GroupService {
      * Get group by ID with member count.
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = "groups", key = "'group_' + #groupId")
+    @Cacheable(value = "groups", key = "T(com.organiser.platform.cache.CacheKeys).groupDetail(#groupId)")
     public GroupDTO getGroupById(Long groupId) {
         Group group = groupRepository.findById(groupId)
                 .orElseThrow(() -> new RuntimeException("Group not found"));
@@ -267,7 +271,6 @@ public class GroupService {
      * Creates new subscription or reactivates existing one.
      */
     @Transactional
-    @CacheEvict(value = {"groups", "events"}, allEntries = true)
     public void subscribeToGroup(Long groupId, Long memberId) {
         Group group = groupRepository.findById(groupId)
                 .orElseThrow(() -> new RuntimeException("Group not found"));
@@ -297,6 +300,7 @@ public class GroupService {
                     .build();
             subscriptionRepository.save(subscription);
         }
+        cacheInvalidationService.membershipChanged(memberId, groupId);
     }
     
     /**
@@ -305,7 +309,6 @@ public class GroupService {
      * MEETUP.COM PATTERN: Also removes member from all group events.
      */
     @Transactional
-    @CacheEvict(value = {"groups", "events"}, allEntries = true)
     public void unsubscribeFromGroup(Long groupId, Long memberId) {
         Subscription subscription = subscriptionRepository.findByMemberIdAndGroupId(memberId, groupId)
                 .orElseThrow(() -> new RuntimeException("Subscription not found"));
@@ -332,10 +335,13 @@ public class GroupService {
                 // Remove participant from event
                 event.getParticipants().remove(participant.get());
                 eventParticipantRepository.delete(participant.get());
+                releaseParticipantCounters(participant.get());
                 
                 eventRepository.save(event);
             }
         }
+        cacheInvalidationService.membershipChanged(memberId, groupId);
+        cacheInvalidationService.groupEventsChanged(groupId);
     }
     
     // ============================================================
@@ -369,7 +375,11 @@ public class GroupService {
 
     @Transactional
     public void removeAllSubscriptionsForMember(Long memberId) {
+        List<Long> groupIds = subscriptionRepository.findByMemberId(memberId).stream()
+                .map(subscription -> subscription.getGroup().getId())
+                .toList();
         subscriptionRepository.deleteByMemberId(memberId);
+        groupIds.forEach(cacheInvalidationService::groupChanged);
     }
     
     // ============================================================
@@ -387,36 +397,71 @@ public class GroupService {
      * @return List of member DTOs without email addresses
      */
     @Transactional(readOnly = true)
-    public java.util.List<com.organiser.platform.dto.MemberDTO> getGroupMembers(Long groupId, Long requesterId) {
+    public List<MemberDTO> getGroupMembers(Long groupId, Long requesterId) {
         Group group = groupRepository.findById(groupId)
                 .orElseThrow(() -> new RuntimeException("Group not found"));
         
         Long primaryOrganiserId = group.getPrimaryOrganiser().getId();
         
-        // Query subscriptions directly from repository (avoids lazy loading issues)
-        List<Subscription> subscriptions = subscriptionRepository.findByGroupId(groupId);
+        // Projection of active subscriptions already in join order; only the organiser moves to the front
+        List<MemberDTO> members = new ArrayList<>();
+        for (GroupMemberRow row : subscriptionRepository.findActiveMemberRows(groupId)) {
+            MemberDTO member = toMemberDTO(row, primaryOrganiserId);
+            if (Boolean.TRUE.equals(member.getIsOrganiser())) {
+                members.add(0, member);
+            } else {
+                members.add(member);
+            }
+        }
+        return members;
+    }
+    
+    /**
+     * Get active members of a group with keyset pagination.
+     * The organiser comes first, then members in join order; each page seeks from the previous
+     * page's last (subscribedAt, id), so deep pages cost the same as the first. A blank cursor
+     * starts from the beginning. Same privacy rules as {@link #getGroupMembers(Long, Long)}.
+     */
+    @Transactional(readOnly = true)
+    public GroupMemberPage getGroupMembers(Long groupId, String cursor, int size) {
+        GroupMemberCursor after = GroupMemberCursor.decode(cursor);
+        int pageSize = Math.max(1, Math.min(size, MAX_MEMBER_PAGE_SIZE));
+        Group group = groupRepository.findById(groupId)
+                .orElseThrow(() -> new RuntimeException("Group not found"));
+        Long primaryOrganiserId = group.getPrimaryOrganiser().getId();
         
-        // Get all active subscriptions (including the organiser who should also have a subscription)
-        // Mark the primary organiser and sort them to appear first
-        return subscriptions.stream()
-                .filter(sub -> sub.getStatus() == Subscription.SubscriptionStatus.ACTIVE)
-                .map(subscription -> com.organiser.platform.dto.MemberDTO.builder()
-                        .id(subscription.getMember().getId())
-                        // PRIVACY: Never expose email in member lists (Meetup.com approach)
-                        // Users see their own email only via /api/v1/members/me
-                        .displayName(subscription.getMember().getDisplayName())
-                        .profilePhotoUrl(subscription.getMember().getProfilePhotoUrl())
-                        // Mark if this member is the primary organiser
-                        .isOrganiser(subscription.getMember().getId().equals(primaryOrganiserId))
-                        .joinedAt(subscription.getSubscribedAt())
-                        .build())
-                // Sort so organiser appears first, then by join date
-                .sorted((a, b) -> {
-                    if (Boolean.TRUE.equals(a.getIsOrganiser()) && !Boolean.TRUE.equals(b.getIsOrganiser())) return -1;
-                    if (!Boolean.TRUE.equals(a.getIsOrganiser()) && Boolean.TRUE.equals(b.getIsOrganiser())) return 1;
-                    return a.getJoinedAt().compareTo(b.getJoinedAt());
-                })
-                .collect(java.util.stream.Collectors.toList());
+        List<MemberDTO> content = new ArrayList<>();
+        if (after == null) {
+            subscriptionRepository.findActiveMemberRow(groupId, primaryOrganiserId)
+                    .ifPresent(row -> content.add(toMemberDTO(row, primaryOrganiserId)));
+        }
+        
+        // Fetch one extra row to learn whether another page exists
+        int remaining = pageSize - content.size();
+        Pageable limit = PageRequest.of(0, remaining + 1);
+        List<GroupMemberRow> rows = after == null || after.isAfterOrganiser()
+                ? subscriptionRepository.findActiveMemberRowsFirstPage(groupId, primaryOrganiserId, limit)
+                : subscriptionRepository.findActiveMemberRowsAfter(
+                        groupId, primaryOrganiserId, after.getSubscribedAt(), after.getId(), limit);
+        
+        boolean hasNext = rows.size() > remaining;
+        List<GroupMemberRow> pageRows = hasNext ? rows.subList(0, remaining) : rows;
+        pageRows.forEach(row -> content.add(toMemberDTO(row, primaryOrganiserId)));
+        
+        String nextCursor = null;
+        if (hasNext) {
+            nextCursor = pageRows.isEmpty()
+                    ? GroupMemberCursor.afterOrganiser()
+                    : GroupMemberCursor.encode(pageRows.get(pageRows.size() - 1));
+        }
+        
+        return GroupMemberPage.builder()
+                .content(content)
+                .size(pageSize)
+                .totalMembers(subscriptionRepository.countActiveByGroupId(groupId))
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
     }
     
     // ============================================================
@@ -428,7 +473,6 @@ public class GroupService {
      * Removes their subscription and all future event participations.
      */
     @Transactional
-    @CacheEvict(value = {"groups", "events"}, allEntries = true)
     public void banMemberFromGroup(Long groupId, Long memberIdToBan, Long organiserId, String reason) {
         // Verify group exists
         Group group = groupRepository.findById(groupId)
@@ -468,17 +512,11 @@ public class GroupService {
                 .ifPresent(subscriptionRepository::delete);
         
         // Remove from all future events in this group
-        List<Event> futureEvents = eventRepository.findByGroupId(groupId, Pageable.unpaged())
-                .getContent()
-                .stream()
-                .filter(event -> event.getEventDate().isAfter(java.time.Instant.now()))
-                .collect(Collectors.toList());
-        
-        for (Event event : futureEvents) {
-            eventParticipantRepository.findByEventIdAndMemberId(event.getId(), memberIdToBan)
-                    .ifPresent(eventParticipantRepository::delete);
-        }
+        cancelFutureParticipations(groupId, memberIdToBan);
         
+        cacheInvalidationService.membershipChanged(memberIdToBan, groupId);
+        cacheInvalidationService.groupEventsChanged(groupId);
+
         // Send notification to banned member
         notificationService.createBanNotification(memberToBan, group, reason);
     }
@@ -487,7 +525,6 @@ public class GroupService {
      * Unban a member from a group (organiser only).
      */
     @Transactional
-    @CacheEvict(value = {"groups", "events"}, allEntries = true)
     public void unbanMemberFromGroup(Long groupId, Long memberIdToUnban, Long organiserId) {
         // Verify group exists
         Group group = groupRepository.findById(groupId)
@@ -503,6 +540,7 @@ public class GroupService {
                 .orElseThrow(() -> new RuntimeException("Member is not banned from this group"));
         
         bannedMemberRepository.delete(ban);
+        cacheInvalidationService.groupChanged(groupId);
     }
     
     /**
@@ -556,7 +594,6 @@ public class GroupService {
      * Member can rejoin the group later.
      */
     @Transactional
-    @CacheEvict(value = {"groups", "events"}, allEntries = true)
     public void removeMemberFromGroup(Long groupId, Long memberIdToRemove, Long organiserId) {
         // Verify group exists
         Group group = groupRepository.findById(groupId)
@@ -581,15 +618,48 @@ public class GroupService {
                 .ifPresent(subscriptionRepository::delete);
         
         // Remove from all future events in this group
-        List<Event> futureEvents = eventRepository.findByGroupId(groupId, Pageable.unpaged())
-                .getContent()
-                .stream()
-                .filter(event -> event.getEventDate().isAfter(java.time.Instant.now()))
-                .collect(Collectors.toList());
+        cancelFutureParticipations(groupId, memberIdToRemove);
+        cacheInvalidationService.membershipChanged(memberIdToRemove, groupId);
+        cacheInvalidationService.groupEventsChanged(groupId);
+    }
+    
+    /**
+     * Cancel a member's participations in the group's upcoming events with set-based statements,
+     * so the cost does not depend on how many events the group has ever run: one lookup, one
+     * bulk UPDATE and one counter recalculation. The waitlist is only consulted for events
+     * where the member actually held a seat and someone is waiting.
+     */
+    private void cancelFutureParticipations(Long groupId, Long memberId) {
+        Instant now = Instant.now();
+        Set<Long> affectedEventIds = new HashSet<>();
+        Set<Long> promotableEventIds = new HashSet<>();
+        for (Object[] row : eventParticipantRepository.findLiveParticipationsInGroupAfter(memberId, groupId, now)) {
+            Long eventId = (Long) row[0];
+            EventParticipant.ParticipationStatus status = (EventParticipant.ParticipationStatus) row[1];
+            int waitlistCount = (Integer) row[2];
+            affectedEventIds.add(eventId);
+            if (status != EventParticipant.ParticipationStatus.WAITLISTED && waitlistCount > 0) {
+                promotableEventIds.add(eventId);
+            }
+        }
+        if (affectedEventIds.isEmpty()) {
+            return;
+        }
         
-        for (Event event : futureEvents) {
-            eventParticipantRepository.findByEventIdAndMemberId(event.getId(), memberIdToRemove)
-                    .ifPresent(eventParticipantRepository::delete);
+        eventParticipantRepository.cancelParticipationsInGroupAfter(memberId, groupId, now, LocalDateTime.now());
+        eventRepository.lockByIdIn(affectedEventIds);
+        eventRepository.recalculateParticipantCounters(affectedEventIds);
+        promotableEventIds.forEach(waitlistService::promoteFromWaitlist);
+    }
+    
+    /**
+     * Give back the seats a deleted participation held in the event's denormalized counters.
+     */
+    private void releaseParticipantCounters(EventParticipant participant) {
+        int headcount = participant.headcountSlots();
+        int waitlisted = participant.waitlistSlots();
+        if (headcount > 0 || waitlisted > 0) {
+            eventRepository.adjustParticipantCounters(participant.getEvent().getId(), -headcount, -waitlisted);
         }
     }
     
@@ -633,7 +703,6 @@ public class GroupService {
      * All existing events will remain unchanged with the same organiser.
      */
     @Transactional
-    @CacheEvict(value = {"groups", "events"}, allEntries = true)
     public GroupDTO transferOwnership(Long groupId, Long newOrganiserId, Long currentOrganiserId) {
         // Verify group exists
         Group group = groupRepository.findById(groupId)
@@ -690,6 +759,9 @@ public class GroupService {
                 Subscription.SubscriptionStatus.ACTIVE
         );
         
+        cacheInvalidationService.groupChanged(groupId);
+        cacheInvalidationService.membershipChanged(currentOrganiserId, groupId);
+        cacheInvalidationService.membershipChanged(newOrganiserId, groupId);
         return GroupDTO.fromEntity(group, memberCount);
     }
     
@@ -699,7 +771,6 @@ public class GroupService {
      * Only allowed for groups with no events, no additional members, and no banned members.
      */
     @Transactional
-    @CacheEvict(value = {"groups", "events"}, allEntries = true)
     public void permanentlyDeleteGroup(Long groupId, Long organiserId) {
         // Verify group exists
         Group group = groupRepository.findById(groupId)
@@ -745,5 +816,56 @@ public class GroupService {
         // Step 5: Finally delete the group itself (now safe, no cascading)
         groupRepository.deleteById(groupId);
         log.info("Successfully deleted group {}", groupId);
+
+        cacheInvalidationService.groupChanged(groupId);
+        cacheInvalidationService.membershipChanged(organiserId, groupId);
+        cacheInvalidationService.groupListingChanged();
+    }
+    
+    // ============================================================
+    // PRIVATE HELPER METHODS - Bulk lookups for group lists
+    // ============================================================
+    
+    /**
+     * Active member count per group, in one grouped query for the whole list.
+     */
+    private Map<Long, Integer> buildMemberCountsMap(List<Group> groups) {
+        Map<Long, Integer> map = new HashMap<>();
+        if (groups.isEmpty()) {
+            return map;
+        }
+        Set<Long> groupIds = groups.stream().map(Group::getId).collect(Collectors.toSet());
+        subscriptionRepository.countActiveByGroupIds(groupIds)
+                .forEach(row -> map.put((Long) row[0], Math.toIntExact((Long) row[1])));
+        return map;
+    }
+    
+    /**
+     * Rating summary per group, in one query for the whole list; unrated groups are absent.
+     */
+    private Map<Long, GroupRatingDTO> buildRatingsMap(List<Group> groups) {
+        Map<Long, GroupRatingDTO> map = new HashMap<>();
+        if (groups.isEmpty()) {
+            return map;
+        }
+        Set<Long> groupIds = groups.stream().map(Group::getId).collect(Collectors.toSet());
+        groupRatingSummaryRepository.findByGroupIdIn(groupIds)
+                .forEach(summary -> map.put(summary.getGroupId(), GroupRatingDTO.fromEntity(summary)));
+        return map;
+    }
+    
+    /**
+     * Member list entry from a subscription projection.
+     * PRIVACY: Never expose email in member lists (Meetup.com approach);
+     * users see their own email only via /api/v1/members/me.
+     */
+    private MemberDTO toMemberDTO(GroupMemberRow row, Long primaryOrganiserId) {
+        return MemberDTO.builder()
+                .id(row.getMemberId())
+                .displayName(row.getDisplayName())
+                .profilePhotoUrl(row.getProfilePhotoUrl())
+                .isOrganiser(row.getMemberId().equals(primaryOrganiserId))
+                .joinedAt(row.getSubscribedAt())
+                .build();
     }
 }
@@ -85,6 +85,8 @@ public class InvitationService {
         // Send invitation to each member
         List<Long> successfulInvitations = new ArrayList<>();
         List<Long> failedInvitations = new ArrayList<>();
+        List<Member> emailRecipients = new ArrayList<>();
+        boolean emailsGloballyEnabled = featureFlagService.isEmailNotificationsEnabled();
         
         for (Long recipientId : request.getMemberIds()) {
             try {
@@ -108,18 +110,10 @@ public class InvitationService {
                 
                 log.info("Created notification {} for member {}", notification.getId(), recipientId);
                 
-                // Send email notification (if globally enabled by admin AND user has email notifications enabled)
-                boolean emailsGloballyEnabled = featureFlagService.isEmailNotificationsEnabled();
+                // Email notification (if globally enabled by admin AND user has email notifications enabled),
+                // queued for all recipients at once below
                 if (emailsGloballyEnabled && recipient.getEmailNotificationsEnabled()) {
-                    emailService.sendInvitationEmail(
-                        recipient,
-                        sender,
-                        itemType,
-                        itemName,
-                        request.getMessage(),
-                        request.getUrl()
-                    );
-                    log.info("Sent invitation email to {}", recipient.getEmail());
+                    emailRecipients.add(recipient);
                 } else {
                     if (!emailsGloballyEnabled) {
                         log.info("Email notifications globally disabled by admin, skipping email for member {}", recipientId);
@@ -136,6 +130,17 @@ public class InvitationService {
             }
         }
         
+        if (!emailRecipients.isEmpty()) {
+            emailService.sendInvitationEmails(
+                emailRecipients,
+                sender,
+                itemType,
+                itemName,
+                request.getMessage(),
+                request.getUrl()
+            );
+        }
+        
         log.info("Invitation summary: {} successful, {} failed", 
             successfulInvitations.size(), failedInvitations.size());
     }
@@ -16,6 +16,7 @@ public class LegalService {
     
     private final LegalAgreementRepository legalAgreementRepository;
     private final MemberRepository memberRepository;
+    private final CacheInvalidationService cacheInvalidationService;
     
     private static final String CURRENT_ORGANISER_AGREEMENT_VERSION = "2025-12-09";
     
@@ -45,6 +46,7 @@ public class LegalService {
         member.setOrganiserAgreementAcceptedAt(LocalDateTime.now());
         member.setHasOrganiserRole(true); // THIS IS CRITICAL - Makes user an actual organiser!
         memberRepository.save(member);
+        cacheInvalidationService.memberAccessChanged(memberId);
         
         System.out.println("✅ Member " + memberId + " is now an ORGANISER!");
     }
@@ -11,7 +11,6 @@ import com.organiser.platform.service.GroupService;
 import com.organiser.platform.service.EventService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.http.HttpStatus;
@@ -34,6 +33,7 @@ public class MemberService {
     private final EnhancedLegalService enhancedLegalService;
     private final GroupService groupService;
     private final EventService eventService;
+    private final CacheInvalidationService cacheInvalidationService;
     
     // ============================================================
     // PUBLIC MEMBER OPERATIONS
@@ -56,6 +56,7 @@ public class MemberService {
         }
         
         member.setHasOrganiserRole(true);
+        cacheInvalidationService.memberAccessChanged(memberId);
         return memberRepository.save(member);
     }
     
@@ -108,7 +109,6 @@ public class MemberService {
      * @throws RuntimeException if member not found
      */
     @Transactional
-    @CacheEvict(value = {"members", "groups", "events"}, allEntries = true)
     public MemberDTO updateMemberProfile(Long memberId, UpdateMemberProfileRequest request) {
         log.info("Updating profile for member: {}", memberId);
         
@@ -134,6 +134,7 @@ public class MemberService {
         
         Member updatedMember = memberRepository.save(member);
         log.info("Profile updated successfully for member: {}", memberId);
+        cacheInvalidationService.memberChanged(memberId);
         
         return convertToDTO(updatedMember);
     }
@@ -147,7 +148,6 @@ public class MemberService {
      * @throws RuntimeException if member not found
      */
     @Transactional
-    @CacheEvict(value = {"members", "groups", "events"}, allEntries = true)
     public MemberDTO updateProfilePhoto(Long memberId, String photoUrl) {
         log.info("Updating profile photo for member: {}", memberId);
         
@@ -156,6 +156,7 @@ public class MemberService {
         
         Member updatedMember = memberRepository.save(member);
         log.info("Profile photo updated successfully for member: {}", memberId);
+        cacheInvalidationService.memberChanged(memberId);
         
         return convertToDTO(updatedMember);
     }
@@ -196,7 +197,6 @@ public class MemberService {
      * Delete current member profile with organiser/host safeguards.
      */
     @Transactional
-    @CacheEvict(value = {"members", "groups", "events"}, allEntries = true)
     public void deleteCurrentMember(Long memberId) {
         Member member = getMemberById(memberId);
 
@@ -229,6 +229,7 @@ public class MemberService {
         member.setHasAcceptedOrganiserAgreement(false);
         member.setOrganiserAgreementAcceptedAt(null);
         memberRepository.save(member);
+        cacheInvalidationService.memberChanged(memberId);
     }
     
     // ============================================================
@@ -11,8 +11,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -54,6 +56,20 @@ public class MemberSettingService {
                 .orElse(true);
     }
 
+    /**
+     * Returns the ids of the given members who have switched a setting off, in one query
+     * (bulk sends). Members without a row use the default (true).
+     */
+    public Set<Long> getMembersWithSettingDisabled(Collection<Long> memberIds, String key) {
+        if (memberIds.isEmpty()) {
+            return Set.of();
+        }
+        return memberSettingRepository.findByMemberIdsAndKey(memberIds, key).stream()
+                .filter(s -> !Boolean.parseBoolean(s.getValue()))
+                .map(s -> s.getId().getMemberId())
+                .collect(Collectors.toSet());
+    }
+
     /**
      * Upserts one or more settings for a member.
      * Accepts a map of key → boolean.
@@ -0,0 +1,197 @@
+package com.organiser.platform.service;
+
+import com.organiser.platform.repository.NotificationOutboxRepository;
+import com.organiser.platform.repository.NotificationRepository;
+import com.organiser.platform.util.ThreadUtils;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Chunked purge of old notifications.
+ *
+ * Walks the table in primary-key order, deleting at most {@code chunk-size} ids per short
+ * transaction with a pause in between, so the purge never holds long row locks or writes one
+ * huge WAL burst. Two rules apply per chunk:
+ * read notifications read more than {@code read-retention} ago, and any notification (read or
+ * not) created more than {@code unread-retention} ago.
+ *
+ * Ids grow with created_at, so the walk stops at the first row too young for either rule.
+ * The last finished id is stored in job_checkpoints with each chunk; a run interrupted by a
+ * restart resumes from there and clears the checkpoint when it completes.
+ *
+ * {@link #purgeFinishedOutbox} does the same for notification_outbox rows left DONE by the
+ * fan-out, after {@code outbox-retention}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationCleanupService {
+
+    static final String JOB_NAME = "notification-cleanup";
+
+    private static final int PROGRESS_LOG_EVERY = 100;
+
+    /**
+     * Outcome of one run
+     */
+    public record CleanupResult(long deletedRead, long deletedExpired, int chunks, boolean completed) {
+        public long deleted() {
+            return deletedRead + deletedExpired;
+        }
+    }
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationStreamService notificationStreamService;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Value("${app.notifications.cleanup.read-retention:30d}")
+    private Duration readRetention;
+
+    @Value("${app.notifications.cleanup.unread-retention:180d}")
+    private Duration unreadRetention;
+
+    @Value("${app.notifications.cleanup.outbox-retention:7d}")
+    private Duration outboxRetention;
+
+    @Value("${app.notifications.cleanup.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${app.notifications.cleanup.pause:200ms}")
+    private Duration pause;
+
+    private final AtomicLong lastPurgedId = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        meterRegistry.ifAvailable(registry -> Gauge.builder("notifications.cleanup.last.id", lastPurgedId, AtomicLong::get)
+                .description("Last notification id covered by the running (or last) cleanup")
+                .register(registry));
+    }
+
+    // ============================================================
+    // PUBLIC METHODS
+    // ============================================================
+
+    /**
+     * Purge expired notifications chunk by chunk, resuming an interrupted run if there is one.
+     */
+    public CleanupResult purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime readCutoff = now.minus(readRetention);
+        LocalDateTime expiryCutoff = now.minus(unreadRetention);
+        LocalDateTime stopAt = readCutoff.isAfter(expiryCutoff) ? readCutoff : expiryCutoff;
+
+        long cursor = loadCheckpoint();
+        if (cursor > 0) {
+            log.info("Resuming notification cleanup after id {}", cursor);
+        }
+
+        long deletedRead = 0;
+        long deletedExpired = 0;
+        int chunks = 0;
+        while (true) {
+            List<Object[]> next = notificationRepository.findIdsAndCreatedAtAfter(cursor, PageRequest.of(0, 1));
+            if (next.isEmpty() || !((LocalDateTime) next.get(0)[1]).isBefore(stopAt)) {
+                break;
+            }
+            // Start at the next surviving row so gaps left by earlier runs cost nothing
+            long afterId = (Long) next.get(0)[0] - 1;
+            long toId = afterId + chunkSize;
+
+            long started = System.nanoTime();
+            int[] deleted = transactionTemplate.execute(status -> {
+                int read = notificationRepository.deleteReadBetweenIds(afterId, toId, readCutoff);
+                int expired = notificationRepository.deleteCreatedBeforeBetweenIds(afterId, toId, expiryCutoff);
+                saveCheckpoint(toId);
+                return new int[]{read, expired};
+            });
+            recordChunk(Duration.ofNanos(System.nanoTime() - started), deleted[0], deleted[1]);
+
+            deletedRead += deleted[0];
+            deletedExpired += deleted[1];
+            cursor = toId;
+            lastPurgedId.set(toId);
+            if (++chunks % PROGRESS_LOG_EVERY == 0) {
+                log.info("Notification cleanup: {} chunks, {} deleted so far, at id {}",
+                        chunks, deletedRead + deletedExpired, cursor);
+            }
+
+            if (!ThreadUtils.pause(pause)) {
+                log.info("Notification cleanup interrupted at id {}; it resumes on the next run", cursor);
+                return new CleanupResult(deletedRead, deletedExpired, chunks, false);
+            }
+        }
+
+        clearCheckpoint();
+        if (deletedExpired > 0) {
+            // Unread notifications went too: in-memory unread counters must be re-counted
+            notificationStreamService.resync();
+        }
+        return new CleanupResult(deletedRead, deletedExpired, chunks, true);
+    }
+
+    /**
+     * Delete DONE fan-out outbox rows older than the outbox retention, one chunk per short
+     * transaction with the same pause. Pending, in-flight and FAILED rows are never touched.
+     * @return number of rows deleted
+     */
+    public int purgeFinishedOutbox() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(outboxRetention);
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status ->
+                    notificationOutboxRepository.deleteDoneBefore(cutoff, chunkSize));
+            purged += deleted;
+        } while (deleted == chunkSize && ThreadUtils.pause(pause));
+        int total = purged;
+        meterRegistry.ifAvailable(registry -> registry.counter("notifications.cleanup.deleted", "reason", "outbox")
+                .increment(total));
+        return total;
+    }
+
+    // ============================================================
+    // PRIVATE HELPER METHODS
+    // ============================================================
+
+    private long loadCheckpoint() {
+        List<Long> lastId = jdbcTemplate.queryForList(
+                "SELECT last_id FROM job_checkpoints WHERE job_name = ?", Long.class, JOB_NAME);
+        return lastId.isEmpty() ? 0L : lastId.get(0);
+    }
+
+    private void saveCheckpoint(long lastId) {
+        jdbcTemplate.update("INSERT INTO job_checkpoints (job_name, last_id, updated_at) VALUES (?, ?, CURRENT_TIMESTAMP) " +
+                "ON CONFLICT (job_name) DO UPDATE SET last_id = EXCLUDED.last_id, updated_at = EXCLUDED.updated_at",
+                JOB_NAME, lastId);
+    }
+
+    private void clearCheckpoint() {
+        jdbcTemplate.update("DELETE FROM job_checkpoints WHERE job_name = ?", JOB_NAME);
+    }
+
+    private void recordChunk(Duration took, int read, int expired) {
+        meterRegistry.ifAvailable(registry -> {
+            registry.timer("notifications.cleanup.chunk").record(took);
+            registry.counter("notifications.cleanup.deleted", "reason", "read").increment(read);
+            registry.counter("notifications.cleanup.deleted", "reason", "expired").increment(expired);
+        });
+    }
+}
@@ -0,0 +1,304 @@
+package com.organiser.platform.service;
+
+import com.organiser.platform.dto.NotificationDTO;
+import com.organiser.platform.model.Event;
+import com.organiser.platform.model.EventComment;
+import com.organiser.platform.model.Member;
+import com.organiser.platform.model.Notification;
+import com.organiser.platform.model.NotificationOutbox;
+import com.organiser.platform.repository.EventCommentRepository;
+import com.organiser.platform.repository.EventParticipantRepository;
+import com.organiser.platform.repository.EventRepository;
+import com.organiser.platform.repository.MemberRepository;
+import com.organiser.platform.repository.NotificationOutboxRepository;
+import com.organiser.platform.repository.SubscriptionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Asynchronous fan-out of NEW_EVENT / NEW_COMMENT notifications.
+ *
+ * The request transaction only writes one notification_outbox row. After it commits, a small
+ * worker pool claims the row, bulk-inserts one notification per recipient with JDBC batching
+ * and marks the row done in a single transaction, then hands the web pushes to the non-blocking
+ * WebPushService dispatcher. Request latency therefore no longer depends on group or event size.
+ * Rows the workers never got to are retried by NotificationOutboxScheduler.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationFanoutService {
+
+    static final int INSERT_BATCH_SIZE = 500;
+    static final int MAX_ATTEMPTS = 5;
+    private static final long STALE_CLAIM_MINUTES = 10;
+    private static final long RETRY_AFTER_MINUTES = 1;
+    private static final int RETRY_BATCH_SIZE = 50;
+    private static final int PUSH_LOOKUP_BATCH_SIZE = 1000;
+
+    private static final String INSERT_NOTIFICATION_SQL =
+            "INSERT INTO notifications (member_id, notification_type, title, message, related_event_id, " +
+            "related_group_id, related_comment_id, is_read, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, false, ?)";
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final SubscriptionRepository subscriptionRepository;
+    private final EventParticipantRepository eventParticipantRepository;
+    private final EventRepository eventRepository;
+    private final EventCommentRepository eventCommentRepository;
+    private final MemberRepository memberRepository;
+    private final WebPushService webPushService;
+    private final NotificationStreamService notificationStreamService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // Fan-out jobs: overflow stays PENDING in the outbox and is picked up by the scheduler
+    private final ThreadPoolExecutor fanoutExecutor = boundedPool("notification-fanout", 2, 100);
+
+    // ============================================================
+    // PUBLIC METHODS - Enqueue (request transaction)
+    // ============================================================
+
+    /**
+     * Queue NEW_EVENT notifications for all active subscribers of the event's group.
+     */
+    @Transactional
+    public void enqueueNewEvent(Event event, Member eventCreator) {
+        enqueue(NotificationOutbox.builder()
+                .fanoutType(NotificationOutbox.FanoutType.NEW_EVENT)
+                .eventId(event.getId())
+                .actorMemberId(eventCreator.getId())
+                .build());
+    }
+
+    /**
+     * Queue NEW_COMMENT notifications for all participants of the commented event.
+     */
+    @Transactional
+    public void enqueueNewComment(EventComment comment, Member commenter) {
+        enqueue(NotificationOutbox.builder()
+                .fanoutType(NotificationOutbox.FanoutType.NEW_COMMENT)
+                .eventId(comment.getEvent().getId())
+                .commentId(comment.getId())
+                .actorMemberId(commenter.getId())
+                .build());
+    }
+
+    // ============================================================
+    // PUBLIC METHODS - Processing (worker threads / scheduler)
+    // ============================================================
+
+    /**
+     * Expand one outbox row into notifications and pushes. Safe to call concurrently from
+     * several nodes: only the worker that claims the row does the work.
+     */
+    public void process(Long outboxId) {
+        Fanout fanout;
+        try {
+            fanout = transactionTemplate.execute(status -> claimAndInsert(outboxId));
+        } catch (RuntimeException e) {
+            log.error("Notification fan-out {} failed", outboxId, e);
+            transactionTemplate.executeWithoutResult(status ->
+                    outboxRepository.recordFailure(outboxId, String.valueOf(e.getMessage()), MAX_ATTEMPTS));
+            return;
+        }
+        if (fanout != null) {
+            notificationStreamService.notificationsCreated(fanout.memberIds(), fanout.toDTO());
+            dispatchPushes(fanout);
+        }
+    }
+
+    /**
+     * Re-run fan-outs that were never picked up or whose worker died.
+     * @return number of outbox rows retried
+     */
+    public int retryUnfinished() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = outboxRepository.findIdsToRetry(
+                now.minusMinutes(RETRY_AFTER_MINUTES),
+                now.minusMinutes(STALE_CLAIM_MINUTES),
+                PageRequest.of(0, RETRY_BATCH_SIZE));
+        ids.forEach(this::process);
+        return ids.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        fanoutExecutor.shutdown();
+    }
+
+    // ============================================================
+    // PRIVATE HELPER METHODS
+    // ============================================================
+
+    private void enqueue(NotificationOutbox outbox) {
+        Long outboxId = outboxRepository.save(outbox).getId();
+        Runnable submit = () -> submit(outboxId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit.run();
+                }
+            });
+        } else {
+            submit.run();
+        }
+    }
+
+    private void submit(Long outboxId) {
+        try {
+            fanoutExecutor.execute(() -> process(outboxId));
+        } catch (RejectedExecutionException e) {
+            log.warn("Notification fan-out queue full, outbox {} left for the retry sweep", outboxId);
+        }
+    }
+
+    private Fanout claimAndInsert(Long outboxId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (outboxRepository.claim(outboxId, now, now.minusMinutes(STALE_CLAIM_MINUTES)) == 0) {
+            return null;  // Finished, or being handled by another worker
+        }
+        NotificationOutbox outbox = outboxRepository.findById(outboxId).orElseThrow();
+
+        Fanout fanout = switch (outbox.getFanoutType()) {
+            case NEW_EVENT -> newEventFanout(outbox);
+            case NEW_COMMENT -> newCommentFanout(outbox);
+        };
+        if (fanout != null) {
+            insertNotifications(fanout, now);
+            log.info("Created {} {} notifications for event {}",
+                    fanout.memberIds().size(), fanout.type(), fanout.eventId());
+        }
+        outboxRepository.markDone(outboxId, LocalDateTime.now());
+        return fanout;
+    }
+
+    private Fanout newEventFanout(NotificationOutbox outbox) {
+        Event event = eventRepository.findById(outbox.getEventId()).orElse(null);
+        if (event == null) {
+            return null;  // Deleted before the fan-out ran
+        }
+        String groupName = event.getGroup().getName();
+        List<Long> recipients = subscriptionRepository.findNotifiableMemberIdsByGroupId(event.getGroup().getId())
+                .stream()
+                .filter(memberId -> !memberId.equals(outbox.getActorMemberId()))  // Don't notify the event creator
+                .toList();
+        return new Fanout(
+                Notification.NotificationType.NEW_EVENT,
+                recipients,
+                "New Event in " + groupName,
+                "A new event \"" + event.getTitle() + "\" has been created in " + groupName,
+                event.getId(),
+                event.getGroup().getId(),
+                null);
+    }
+
+    private Fanout newCommentFanout(NotificationOutbox outbox) {
+        EventComment comment = eventCommentRepository.findById(outbox.getCommentId()).orElse(null);
+        Member commenter = memberRepository.findById(outbox.getActorMemberId()).orElse(null);
+        if (comment == null || commenter == null) {
+            return null;
+        }
+        Event event = comment.getEvent();
+        String commenterName = commenter.getDisplayName() == null
+                ? commenter.getEmail().split("@")[0]
+                : commenter.getDisplayName();
+        String content = comment.getContent().length() > 100
+                ? comment.getContent().substring(0, 100) + "..."
+                : comment.getContent();
+        List<Long> recipients = eventParticipantRepository.findMemberIdsByEventId(event.getId())
+                .stream()
+                .filter(memberId -> !memberId.equals(commenter.getId()))  // Don't notify the commenter
+                .toList();
+        return new Fanout(
+                Notification.NotificationType.NEW_COMMENT,
+                recipients,
+                "New Comment on " + event.getTitle(),
+                commenterName + " commented: \"" + content + "\"",
+                event.getId(),
+                null,
+                comment.getId());
+    }
+
+    private void insertNotifications(Fanout fanout, LocalDateTime createdAt) {
+        Timestamp created = Timestamp.valueOf(createdAt);
+        jdbcTemplate.batchUpdate(INSERT_NOTIFICATION_SQL, fanout.memberIds(), INSERT_BATCH_SIZE, (ps, memberId) -> {
+            ps.setLong(1, memberId);
+            ps.setString(2, fanout.type().name());
+            ps.setString(3, fanout.title());
+            ps.setString(4, fanout.message());
+            ps.setObject(5, fanout.eventId(), Types.BIGINT);
+            ps.setObject(6, fanout.groupId(), Types.BIGINT);
+            ps.setObject(7, fanout.commentId(), Types.BIGINT);
+            ps.setTimestamp(8, created);
+        });
+    }
+
+    private void dispatchPushes(Fanout fanout) {
+        String path = "/events/" + fanout.eventId();
+        List<Long> memberIds = fanout.memberIds();
+        for (int i = 0; i < memberIds.size(); i += PUSH_LOOKUP_BATCH_SIZE) {
+            webPushService.sendToMembers(memberIds.subList(i, Math.min(memberIds.size(), i + PUSH_LOOKUP_BATCH_SIZE)),
+                    fanout.title(), fanout.message(), path);
+        }
+    }
+
+    private static ThreadPoolExecutor boundedPool(String name, int threads, int queueCapacity) {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * One notification (same title/message) for many recipients.
+     */
+    private record Fanout(
+            Notification.NotificationType type,
+            List<Long> memberIds,
+            String title,
+            String message,
+            Long eventId,
+            Long groupId,
+            Long commentId) {
+
+        /**
+         * Stream payload; batch-inserted rows have no id, clients refetch the list for it
+         */
+        NotificationDTO toDTO() {
+            return NotificationDTO.builder()
+                    .notificationType(type.name())
+                    .title(title)
+                    .message(message)
+                    .relatedEventId(eventId)
+                    .relatedGroupId(groupId)
+                    .relatedCommentId(commentId)
+                    .isRead(false)
+                    .createdAt(LocalDateTime.now())
+                    .build();
+        }
+    }
+}
@@ -3,8 +3,6 @@ package com.organiser.platform.service;
 import com.organiser.platform.dto.NotificationDTO;
 import com.organiser.platform.model.*;
 import com.organiser.platform.repository.NotificationRepository;
-import com.organiser.platform.repository.SubscriptionRepository;
-import com.organiser.platform.repository.EventParticipantRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -13,18 +11,15 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationService {
     
     private final NotificationRepository notificationRepository;
-    private final SubscriptionRepository subscriptionRepository;
-    private final EventParticipantRepository eventParticipantRepository;
     private final WebPushService webPushService;
+    private final NotificationFanoutService notificationFanoutService;
+    private final NotificationStreamService notificationStreamService;
     
     /**
      * Get all notifications for a member with pagination
@@ -37,11 +32,10 @@ public class NotificationService {
     }
     
     /**
-     * Get unread notification count for a member
+     * Get unread notification count for a member (served from the in-memory counter once seeded)
      */
-    @Transactional(readOnly = true)
     public long getUnreadCount(Long memberId) {
-        return notificationRepository.countByMemberIdAndIsReadFalse(memberId);
+        return notificationStreamService.getUnreadCount(memberId);
     }
     
     /**
@@ -56,8 +50,12 @@ public class NotificationService {
             throw new RuntimeException("Unauthorized to mark this notification as read");
         }
         
+        boolean wasUnread = !Boolean.TRUE.equals(notification.getIsRead());
         notification.markAsRead();
         notificationRepository.save(notification);
+        if (wasUnread) {
+            notificationStreamService.unreadChanged(memberId, -1);
+        }
     }
     
     /**
@@ -65,94 +63,29 @@ public class NotificationService {
      */
     @Transactional
     public int markAllAsRead(Long memberId) {
-        return notificationRepository.markAllAsReadForMember(memberId);
+        int marked = notificationRepository.markAllAsReadForMember(memberId);
+        notificationStreamService.allRead(memberId);
+        return marked;
     }
     
     /**
      * Create notification when a new event is created in a group
-     * Notifies all active subscribers of the group (except the event creator)
+     * Notifies all active subscribers of the group (except the event creator).
+     * Fan-out runs asynchronously after the caller's transaction commits
      */
     @Transactional
     public void createNewEventNotifications(Event event, Member eventCreator) {
-        Group group = event.getGroup();
-        
-        // Find all active subscribers of the group
-        List<Subscription> activeSubscriptions = subscriptionRepository
-            .findByGroupIdAndStatus(group.getId(), Subscription.SubscriptionStatus.ACTIVE);
-        
-        for (Subscription subscription : activeSubscriptions) {
-            Member subscriber = subscription.getMember();
-            
-            // Don't notify the event creator
-            if (subscriber.getId().equals(eventCreator.getId())) {
-                continue;
-            }
-            
-            // Check if notifications are enabled for this subscription
-            if (!subscription.getNotificationEnabled()) {
-                continue;
-            }
-            
-            Notification notification = Notification.builder()
-                .member(subscriber)
-                .notificationType(Notification.NotificationType.NEW_EVENT)
-                .title("New Event in " + group.getName())
-                .message("A new event \"" + event.getTitle() + "\" has been created in " + group.getName())
-                .relatedEvent(event)
-                .relatedGroup(group)
-                .build();
-            
-            notificationRepository.save(notification);
-            webPushService.sendToMember(
-                subscriber.getId(),
-                notification.getTitle(),
-                notification.getMessage(),
-                "/events/" + event.getId()
-            );
-            log.info("Created NEW_EVENT notification for member {} for event {}", subscriber.getId(), event.getId());
-        }
+        notificationFanoutService.enqueueNewEvent(event, eventCreator);
     }
     
     /**
      * Create notification when a new comment is posted on an event
-     * Notifies all participants of the event (except the commenter)
+     * Notifies all participants of the event (except the commenter).
+     * Fan-out runs asynchronously after the caller's transaction commits
      */
     @Transactional
     public void createNewCommentNotifications(EventComment comment, Member commenter) {
-        Event event = comment.getEvent();
-        
-        // Find all participants of the event
-        List<EventParticipant> participants = eventParticipantRepository.findByEventId(event.getId());
-        
-        for (EventParticipant participant : participants) {
-            Member member = participant.getMember();
-            
-            // Don't notify the commenter
-            if (member.getId().equals(commenter.getId())) {
-                continue;
-            }
-            var commenterName = commenter.getDisplayName() == null ?commenter.getEmail().split("@")[0] : commenter.getDisplayName();
-            Notification notification = Notification.builder()
-                .member(member)
-                .notificationType(Notification.NotificationType.NEW_COMMENT)
-                .title("New Comment on " + event.getTitle())
-                .message( commenterName + " commented: \"" +
-                        (comment.getContent().length() > 100 ? 
-                            comment.getContent().substring(0, 100) + "..." : 
-                            comment.getContent()) + "\"")
-                .relatedEvent(event)
-                .relatedComment(comment)
-                .build();
-            
-            notificationRepository.save(notification);
-            webPushService.sendToMember(
-                member.getId(),
-                notification.getTitle(),
-                notification.getMessage(),
-                "/events/" + event.getId()
-            );
-            log.info("Created NEW_COMMENT notification for member {} for event {}", member.getId(), event.getId());
-        }
+        notificationFanoutService.enqueueNewComment(comment, commenter);
     }
     
     /**
@@ -168,6 +101,9 @@ public class NotificationService {
         }
         
         notificationRepository.delete(notification);
+        if (!Boolean.TRUE.equals(notification.getIsRead())) {
+            notificationStreamService.unreadChanged(memberId, -1);
+        }
     }
     
     /**
@@ -189,6 +125,7 @@ public class NotificationService {
             .build();
         
         notificationRepository.save(notification);
+        notificationStreamService.notificationCreated(bannedMember.getId(), NotificationDTO.fromEntity(notification));
         
         // Send web push notification
         webPushService.sendToMember(
@@ -225,6 +162,7 @@ public class NotificationService {
             .relatedEvent(event)
             .build();
         notificationRepository.save(notification);
+        notificationStreamService.notificationCreated(host.getId(), NotificationDTO.fromEntity(notification));
         webPushService.sendToMember(host.getId(), title, message, "/events/" + event.getId());
         log.info("Created MEMBER_JOINED notification for host {} for event {}", host.getId(), event.getId());
     }
@@ -252,6 +190,7 @@ public class NotificationService {
             .relatedEvent(event)
             .build();
         notificationRepository.save(notification);
+        notificationStreamService.notificationCreated(host.getId(), NotificationDTO.fromEntity(notification));
         webPushService.sendToMember(host.getId(), title, message, "/events/" + event.getId());
         log.info("Created MEMBER_LEFT notification for host {} for event {}", host.getId(), event.getId());
     }
@@ -262,6 +201,7 @@ public class NotificationService {
     @Transactional
     public void deleteNotificationsByGroup(Long groupId) {
         notificationRepository.deleteByGroupId(groupId);
+        notificationStreamService.resync();
         log.info("Deleted all notifications for group {}", groupId);
     }
     
@@ -297,6 +237,7 @@ public class NotificationService {
         
         Notification notification = builder.build();
         notification = notificationRepository.save(notification);
+        notificationStreamService.notificationCreated(recipient.getId(), NotificationDTO.fromEntity(notification));
         
         // Send web push notification
         webPushService.sendToMember(
@@ -0,0 +1,387 @@
+package com.organiser.platform.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.organiser.platform.cache.CacheInvalidationBus;
+import com.organiser.platform.cache.CacheKeys;
+import com.organiser.platform.dto.NotificationDTO;
+import com.organiser.platform.repository.NotificationRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Live notification stream (Server-Sent Events) and in-memory unread counters.
+ *
+ * Each member's unread count is seeded once from the database and then kept up to date with
+ * deltas as notifications are created, read and deleted, so neither the stream nor the
+ * /unread-count endpoint has to run a COUNT per request. Open streams receive an
+ * {@code unread-count} event on every change and a {@code notification} event for new ones.
+ *
+ * Streams are async servlet responses, so an idle connection holds no thread; sends run on
+ * virtual threads so a slow client never blocks a request or fan-out worker. Each stream drains
+ * its own queue one send at a time, so its events arrive in order, and an {@code unread-count}
+ * event always carries the counter as it is when sent: a newer count is never overtaken by an
+ * older one.
+ *
+ * Counters are node-local. Changes are announced to other nodes over the
+ * {@link CacheInvalidationBus} as {@value #UNREAD_COUNTS} invalidations: a node drops its
+ * counters for the members and, for members with a stream open there, re-counts and pushes.
+ * Fan-outs name their members in batches of {@value #TAG_BATCH_SIZE}
+ * ({@code members:1,2,3}); {@link CacheInvalidationBus#ALL} (bulk deletes) re-counts all local
+ * streams. Every reconnect re-seeds from the database, so any drift is short-lived.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationStreamService {
+
+    public static final String UNREAD_COUNTS = "unreadCounts";
+
+    static final String EVENT_UNREAD_COUNT = "unread-count";
+    static final String EVENT_NOTIFICATION = "notification";
+
+    // Clients reconnect after the timeout and re-seed their count from the database
+    private static final long EMITTER_TIMEOUT_MILLIS = Duration.ofMinutes(30).toMillis();
+    private static final long HEARTBEAT_SECONDS = 25;
+    private static final int MAX_STREAMS_PER_MEMBER = 5;
+    private static final int RECOUNT_BATCH_SIZE = 1000;
+    // Keeps a batched tag well inside the 8000-byte NOTIFY payload limit
+    static final int TAG_BATCH_SIZE = 500;
+
+    private final NotificationRepository notificationRepository;
+    private final CacheInvalidationBus invalidationBus;
+
+    private final Cache<Long, AtomicLong> unreadCounts = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build();
+    private final Map<Long, Set<MemberStream>> streams = new ConcurrentHashMap<>();
+
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "notification-stream-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PostConstruct
+    void init() {
+        invalidationBus.subscribe(this::applyRemote);
+        heartbeat.scheduleWithFixedDelay(this::sendHeartbeats, HEARTBEAT_SECONDS, HEARTBEAT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeat.shutdownNow();
+        streams.values().forEach(memberStreams -> memberStreams.forEach(stream -> stream.emitter.complete()));
+        senders.shutdown();
+    }
+
+    // ============================================================
+    // PUBLIC METHODS - Streams and counts
+    // ============================================================
+
+    /**
+     * Open a stream for a member. The current unread count is sent straight away.
+     */
+    public SseEmitter open(Long memberId) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        MemberStream stream = new MemberStream(memberId, emitter);
+        Set<MemberStream> memberStreams = streams.computeIfAbsent(memberId, id -> new CopyOnWriteArraySet<>());
+        if (memberStreams.size() >= MAX_STREAMS_PER_MEMBER) {
+            // Oldest tab loses its stream; the client falls back to polling until it reconnects
+            memberStreams.stream().findFirst().ifPresent(oldest -> {
+                memberStreams.remove(oldest);
+                oldest.emitter.complete();
+            });
+        }
+        memberStreams.add(stream);
+        emitter.onCompletion(() -> remove(stream));
+        emitter.onTimeout(() -> remove(stream));
+        emitter.onError(error -> remove(stream));
+
+        // A new stream always starts from the database so reconnects heal any drift; the count
+        // is read when it is sent, so it can never overwrite a newer delta
+        unreadCounts.invalidate(memberId);
+        getUnreadCount(memberId);
+        stream.countChanged();
+        return emitter;
+    }
+
+    /**
+     * Unread count for a member, counted in the database only when not already held in memory.
+     */
+    public long getUnreadCount(Long memberId) {
+        return unreadCounts.get(memberId, id -> new AtomicLong(notificationRepository.countByMemberIdAndIsReadFalse(id))).get();
+    }
+
+    /**
+     * Open streams on this node (metrics and tests)
+     */
+    public int openStreamCount() {
+        return streams.values().stream().mapToInt(Set::size).sum();
+    }
+
+    // ============================================================
+    // PUBLIC METHODS - Changes (applied after the caller's transaction commits)
+    // ============================================================
+
+    /**
+     * One notification was created for a member.
+     */
+    public void notificationCreated(Long memberId, NotificationDTO notification) {
+        afterCommit(() -> {
+            applyDelta(memberId, 1);
+            push(memberId, EVENT_NOTIFICATION, notification);
+            invalidationBus.publish(UNREAD_COUNTS, CacheKeys.memberTag(memberId));
+        });
+    }
+
+    /**
+     * The same notification was created for many members (group / event fan-out).
+     */
+    public void notificationsCreated(Collection<Long> memberIds, NotificationDTO notification) {
+        afterCommit(() -> {
+            for (Long memberId : memberIds) {
+                applyDelta(memberId, 1);
+                push(memberId, EVENT_NOTIFICATION, notification);
+            }
+            // Name the members so other nodes re-count only them, not every open stream
+            List<Long> ids = List.copyOf(memberIds);
+            for (int i = 0; i < ids.size(); i += TAG_BATCH_SIZE) {
+                invalidationBus.publish(UNREAD_COUNTS, membersTag(ids.subList(i, Math.min(ids.size(), i + TAG_BATCH_SIZE))));
+            }
+        });
+    }
+
+    /**
+     * A member's unread count moved by {@code delta} (read or deleted an unread notification).
+     */
+    public void unreadChanged(Long memberId, long delta) {
+        afterCommit(() -> {
+            applyDelta(memberId, delta);
+            invalidationBus.publish(UNREAD_COUNTS, CacheKeys.memberTag(memberId));
+        });
+    }
+
+    /**
+     * All of a member's notifications were marked read.
+     */
+    public void allRead(Long memberId) {
+        afterCommit(() -> {
+            AtomicLong counter = unreadCounts.getIfPresent(memberId);
+            if (counter != null) {
+                counter.set(0);
+            }
+            pushCount(memberId);
+            invalidationBus.publish(UNREAD_COUNTS, CacheKeys.memberTag(memberId));
+        });
+    }
+
+    /**
+     * Unread counts changed for members we cannot name (bulk delete): re-count everywhere.
+     */
+    public void resync() {
+        afterCommit(() -> {
+            unreadCounts.invalidateAll();
+            recount(streams.keySet());
+            invalidationBus.publish(UNREAD_COUNTS, CacheInvalidationBus.ALL);
+        });
+    }
+
+    // ============================================================
+    // PRIVATE HELPER METHODS
+    // ============================================================
+
+    private void applyDelta(Long memberId, long delta) {
+        AtomicLong counter = unreadCounts.getIfPresent(memberId);
+        if (counter != null) {
+            counter.addAndGet(delta);
+        }
+        pushCount(memberId);
+    }
+
+    /**
+     * Another node changed unread counts: drop ours and re-count for members streaming here.
+     */
+    private void applyRemote(String cacheName, String tag) {
+        if (cacheName != null && !UNREAD_COUNTS.equals(cacheName)) {
+            return;
+        }
+        if (cacheName == null || CacheInvalidationBus.ALL.equals(tag)) {
+            unreadCounts.invalidateAll();
+            recount(streams.keySet());
+            return;
+        }
+        // member:5 or members:1,2,3
+        List<Long> memberIds = Arrays.stream(tag.substring(tag.indexOf(':') + 1).split(","))
+                .map(Long::valueOf)
+                .toList();
+        unreadCounts.invalidateAll(memberIds);
+        recount(memberIds.stream().filter(streams::containsKey).toList());
+    }
+
+    static String membersTag(Collection<Long> memberIds) {
+        return "members:" + memberIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    /**
+     * Re-count members in grouped queries and push the new counts to their streams
+     */
+    private void recount(Collection<Long> memberIds) {
+        List<Long> ids = new ArrayList<>(memberIds);
+        for (int i = 0; i < ids.size(); i += RECOUNT_BATCH_SIZE) {
+            List<Long> batch = ids.subList(i, Math.min(ids.size(), i + RECOUNT_BATCH_SIZE));
+            Map<Long, Long> counts = new HashMap<>();
+            notificationRepository.countUnreadByMemberIds(batch)
+                    .forEach(row -> counts.put((Long) row[0], (Long) row[1]));
+            for (Long memberId : batch) {
+                unreadCounts.put(memberId, new AtomicLong(counts.getOrDefault(memberId, 0L)));
+                pushCount(memberId);
+            }
+        }
+    }
+
+    private void pushCount(Long memberId) {
+        Set<MemberStream> memberStreams = streams.get(memberId);
+        if (memberStreams != null) {
+            memberStreams.forEach(MemberStream::countChanged);
+        }
+    }
+
+    private void push(Long memberId, String eventName, Object data) {
+        Set<MemberStream> memberStreams = streams.get(memberId);
+        if (memberStreams == null) {
+            return;
+        }
+        for (MemberStream stream : memberStreams) {
+            stream.enqueue(SseEmitter.event().name(eventName).data(data, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    private void sendHeartbeats() {
+        streams.forEach((memberId, memberStreams) -> {
+            unreadCounts.getIfPresent(memberId);  // Keep counters of connected members warm
+            memberStreams.forEach(stream -> stream.enqueue(SseEmitter.event().comment("keep-alive")));
+        });
+    }
+
+    private void remove(MemberStream stream) {
+        streams.computeIfPresent(stream.memberId, (id, memberStreams) -> {
+            memberStreams.remove(stream);
+            return memberStreams.isEmpty() ? null : memberStreams;
+        });
+    }
+
+    private void afterCommit(Runnable change) {
+        Runnable safe = () -> {
+            try {
+                change.run();
+            } catch (RuntimeException e) {
+                // Counters heal on the next reconnect; never fail the caller for a live update
+                log.warn("Failed to apply notification stream update: {}", e.getMessage());
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safe.run();
+                }
+            });
+        } else {
+            safe.run();
+        }
+    }
+
+    /**
+     * One open stream. Events are queued and sent by at most one sender at a time, in order.
+     * Count changes are coalesced into a flag and the count is read when it is sent, so the
+     * last count a client sees is always the current one.
+     */
+    private final class MemberStream {
+
+        private final Long memberId;
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> queued = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean countChanged = new AtomicBoolean();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private MemberStream(Long memberId, SseEmitter emitter) {
+            this.memberId = memberId;
+            this.emitter = emitter;
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            queued.add(event);
+            schedule();
+        }
+
+        void countChanged() {
+            countChanged.set(true);
+            schedule();
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while ((event = queued.poll()) != null) {
+                    emitter.send(event);
+                }
+                if (countChanged.getAndSet(false)) {
+                    emitter.send(SseEmitter.event().name(EVENT_UNREAD_COUNT)
+                            .data(Map.of("count", currentCount()), MediaType.APPLICATION_JSON));
+                }
+            } catch (IOException | RuntimeException e) {
+                // Client went away; the container reports it through onError/onCompletion as well
+                remove(this);
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // Anything queued after the last poll but before the flag was released
+            if (!queued.isEmpty() || countChanged.get()) {
+                schedule();
+            }
+        }
+
+        private long currentCount() {
+            AtomicLong counter = unreadCounts.getIfPresent(memberId);
+            return counter != null ? Math.max(0, counter.get()) : getUnreadCount(memberId);
+        }
+    }
+}
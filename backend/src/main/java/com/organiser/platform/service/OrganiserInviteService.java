@@ -24,6 +24,7 @@ public class OrganiserInviteService {
     private final OrganiserInviteRepository inviteRepository;
     private final MemberRepository memberRepository;
     private final LegalService legalService;
+    private final CacheInvalidationService cacheInvalidationService;
 
     @Value("${app.frontend-url:http://localhost:5173}")
     private String frontendUrl;
@@ -101,6 +102,7 @@ public class OrganiserInviteService {
         // member.setHasAcceptedOrganiserAgreement(true);  // REMOVED - must show modal
         // member.setOrganiserAgreementAcceptedAt(LocalDateTime.now());  // REMOVED
         memberRepository.save(member);
+        cacheInvalidationService.memberAccessChanged(member.getId());
 
         log.info("Organiser invite {} consumed by member {} — role granted", token, member.getEmail());
         return true;
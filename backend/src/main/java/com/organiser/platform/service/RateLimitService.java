@@ -1,33 +1,64 @@
 package com.organiser.platform.service;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
+import com.organiser.platform.ratelimit.ApiRateLimitTier;
+import com.organiser.platform.ratelimit.BucketStore;
+import com.organiser.platform.ratelimit.InMemoryBucketStore;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
 import io.github.bucket4j.Refill;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
-import java.util.concurrent.TimeUnit;
+import java.util.EnumMap;
+import java.util.Map;
 
 /**
  * Service for rate limiting using Bucket4j
  * Implements token bucket algorithm for different API endpoints
+ *
+ * Buckets live in a BucketStore: per JVM, or shared across nodes through Postgres
+ * (app.rate-limit.store). Keys are namespaced per limit so, e.g., the OAuth and general
+ * API buckets of one IP never collide. The global API quotas always use local buckets:
+ * they are coarse anti-abuse limits and must not add a round trip to every request.
  */
 @Slf4j
 @Service
 public class RateLimitService {
     
-    private final Cache<String, Bucket> cache;
+    static final String API_PROPERTY_PREFIX = "app.rate-limit.api.";
     
-    public RateLimitService() {
-        this.cache = Caffeine.newBuilder()
-            .expireAfterWrite(1, TimeUnit.HOURS)
-            .maximumSize(100_000)
-            .build();
-        
-        log.info("RateLimitService initialized with cache size: 100,000");
+    private static final BucketConfiguration MAGIC_LINK = configuration(
+            // 5 tokens, refill 15 tokens every 1 hour
+            Bandwidth.classic(5, Refill.intervally(15, Duration.ofHours(1))));
+    private static final BucketConfiguration OAUTH = configuration(
+            // 10 tokens, refill 10 tokens every 1 minute
+            Bandwidth.classic(10, Refill.intervally(10, Duration.ofMinutes(1))));
+    private static final BucketConfiguration FILE_UPLOAD = configuration(
+            // 20 tokens, refill 20 tokens every 1 hour
+            Bandwidth.classic(20, Refill.intervally(20, Duration.ofHours(1))));
+    private static final BucketConfiguration PASSCODE_VERIFY = configuration(
+            // 10 tokens, refill 10 tokens every 15 minutes
+            Bandwidth.classic(10, Refill.intervally(10, Duration.ofMinutes(15))));
+    
+    private final BucketStore bucketStore;
+    // Global API quotas are checked on every request: always local, lock-free buckets
+    private final BucketStore apiBuckets = new InMemoryBucketStore();
+    private final Map<ApiRateLimitTier, BucketConfiguration> apiLimits = new EnumMap<>(ApiRateLimitTier.class);
+    
+    public RateLimitService(BucketStore bucketStore, Environment environment) {
+        this.bucketStore = bucketStore;
+        for (ApiRateLimitTier tier : ApiRateLimitTier.values()) {
+            long perMinute = environment.getProperty(API_PROPERTY_PREFIX + tier.property(), Long.class,
+                    tier.defaultPerMinute());
+            // Greedy refill: tokens trickle back continuously rather than all at once each minute
+            apiLimits.put(tier, configuration(Bandwidth.classic(perMinute, Refill.greedy(perMinute, Duration.ofMinutes(1)))));
+        }
+        log.info("RateLimitService initialized, API requests per minute: {}", apiLimits.keySet().stream()
+                .map(tier -> tier + "=" + getApiLimit(tier))
+                .toList());
     }
     
     /**
@@ -35,18 +66,7 @@ public class RateLimitService {
      * Prevents email bombing and brute force attacks
      */
     public Bucket resolveMagicLinkBucket(String key) {
-        return cache.get(key, k -> {
-            log.debug("Creating new magic link bucket for key: {}", k);
-            return createMagicLinkBucket();
-        });
-    }
-    
-    private Bucket createMagicLinkBucket() {
-        // 5 tokens, refill 5 tokens every 1 hour
-        Bandwidth limit = Bandwidth.classic(5, Refill.intervally(15, Duration.ofHours(1)));
-        return Bucket.builder()
-            .addLimit(limit)
-            .build();
+        return bucketStore.resolve("magic-link:" + key, MAGIC_LINK, true);
     }
     
     /**
@@ -54,18 +74,7 @@ public class RateLimitService {
      * Prevents OAuth abuse
      */
     public Bucket resolveOAuthBucket(String key) {
-        return cache.get(key, k -> {
-            log.debug("Creating new OAuth bucket for key: {}", k);
-            return createOAuthBucket();
-        });
-    }
-    
-    private Bucket createOAuthBucket() {
-        // 10 tokens, refill 10 tokens every 1 minute
-        Bandwidth limit = Bandwidth.classic(10, Refill.intervally(10, Duration.ofMinutes(1)));
-        return Bucket.builder()
-            .addLimit(limit)
-            .build();
+        return bucketStore.resolve("oauth:" + key, OAUTH, true);
     }
     
     /**
@@ -73,18 +82,7 @@ public class RateLimitService {
      * Prevents storage abuse
      */
     public Bucket resolveFileUploadBucket(String key) {
-        return cache.get(key, k -> {
-            log.debug("Creating new file upload bucket for key: {}", k);
-            return createFileUploadBucket();
-        });
-    }
-    
-    private Bucket createFileUploadBucket() {
-        // 20 tokens, refill 20 tokens every 1 hour
-        Bandwidth limit = Bandwidth.classic(20, Refill.intervally(20, Duration.ofHours(1)));
-        return Bucket.builder()
-            .addLimit(limit)
-            .build();
+        return bucketStore.resolve("file-upload:" + key, FILE_UPLOAD, false);
     }
     
     /**
@@ -92,37 +90,22 @@ public class RateLimitService {
      * Prevents brute-force attacks on 6-digit OTP codes
      */
     public Bucket resolvePasscodeVerifyBucket(String key) {
-        return cache.get(key, k -> {
-            log.debug("Creating new passcode verify bucket for key: {}", k);
-            return createPasscodeVerifyBucket();
-        });
-    }
-    
-    private Bucket createPasscodeVerifyBucket() {
-        // 10 tokens, refill 10 tokens every 15 minutes
-        Bandwidth limit = Bandwidth.classic(10, Refill.intervally(10, Duration.ofMinutes(15)));
-        return Bucket.builder()
-            .addLimit(limit)
-            .build();
+        return bucketStore.resolve("passcode-verify:" + key, PASSCODE_VERIFY, true);
     }
     
     /**
-     * General API rate limit: 100 requests per minute per IP
-     * Global protection against API abuse
+     * Global API rate limit, per tier (see ApiRateLimitTier) and per member or IP
+     * Protection against scraping and general API abuse, applied by ApiRateLimitFilter
      */
-    public Bucket resolveGeneralApiBucket(String key) {
-        return cache.get(key, k -> {
-            log.debug("Creating new general API bucket for key: {}", k);
-            return createGeneralApiBucket();
-        });
+    public Bucket resolveApiBucket(ApiRateLimitTier tier, String key) {
+        return apiBuckets.resolve(tier.property() + ":" + key, apiLimits.get(tier), false);
     }
     
-    private Bucket createGeneralApiBucket() {
-        // 100 tokens, refill 100 tokens every 1 minute
-        Bandwidth limit = Bandwidth.classic(100, Refill.intervally(100, Duration.ofMinutes(1)));
-        return Bucket.builder()
-            .addLimit(limit)
-            .build();
+    /**
+     * Configured requests per minute for a tier
+     */
+    public long getApiLimit(ApiRateLimitTier tier) {
+        return apiLimits.get(tier).getBandwidths()[0].getCapacity();
     }
     
     /**
@@ -147,7 +130,14 @@ public class RateLimitService {
      * Clear cache for testing purposes
      */
     public void clearCache() {
-        cache.invalidateAll();
+        bucketStore.clear();
+        apiBuckets.clear();
         log.info("Rate limit cache cleared");
     }
+    
+    private static BucketConfiguration configuration(Bandwidth limit) {
+        return BucketConfiguration.builder()
+            .addLimit(limit)
+            .build();
+    }
 }
@@ -0,0 +1,152 @@
+package com.organiser.platform.service;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Thin client for the Resend HTTP API.
+ * Failures are reported as {@link ResendException} so callers can tell transient errors
+ * (429, 5xx, I/O) from permanent rejections.
+ */
+@Service
+@Slf4j
+public class ResendClient {
+
+    /** Resend's limit for POST /emails/batch */
+    public static final int MAX_BATCH_SIZE = 100;
+
+    /**
+     * One message of a batch send
+     */
+    public record OutgoingEmail(String toEmail, String subject, String html) {
+    }
+
+    @Value("${resend.api-key:}")
+    private String apiKey;
+
+    @Value("${resend.base-url:https://api.resend.com}")
+    private String baseUrl;
+
+    @Value("${app.email.from:onboarding@resend.dev}")
+    private String fromEmail;
+
+    private final RestTemplate restTemplate;
+
+    public ResendClient() {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout((int) Duration.ofSeconds(5).toMillis());
+        requestFactory.setReadTimeout((int) Duration.ofSeconds(15).toMillis());
+        this.restTemplate = new RestTemplate(requestFactory);
+    }
+
+    /**
+     * False in local development: emails are logged instead of sent
+     */
+    public boolean isConfigured() {
+        return apiKey != null && !apiKey.isEmpty();
+    }
+
+    /**
+     * Send one email. Resend dedupes requests carrying the same idempotency key for 24h,
+     * so a retry after a lost response does not deliver twice.
+     */
+    public void send(String toEmail, String subject, String html, String idempotencyKey) {
+        Map<String, Object> emailData = new HashMap<>();
+        emailData.put("from", fromEmail);
+        emailData.put("to", new String[]{toEmail});
+        emailData.put("subject", subject);
+        emailData.put("html", html);
+
+        post("/emails", emailData, idempotencyKey);
+    }
+
+    /**
+     * Send up to {@link #MAX_BATCH_SIZE} emails in one request. Resend validates a batch as a whole:
+     * one invalid email rejects all of them.
+     */
+    public void sendBatch(List<OutgoingEmail> emails, String idempotencyKey) {
+        if (emails.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Resend batches are limited to " + MAX_BATCH_SIZE + " emails");
+        }
+        List<Map<String, Object>> batch = emails.stream()
+            .map(email -> {
+                Map<String, Object> emailData = new HashMap<>();
+                emailData.put("from", fromEmail);
+                emailData.put("to", new String[]{email.toEmail()});
+                emailData.put("subject", email.subject());
+                emailData.put("html", email.html());
+                return emailData;
+            })
+            .toList();
+
+        post("/emails/batch", batch, idempotencyKey);
+    }
+
+    private void post(String path, Object body, String idempotencyKey) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(apiKey);
+        if (idempotencyKey != null) {
+            headers.set("Idempotency-Key", idempotencyKey);
+        }
+
+        try {
+            restTemplate.postForObject(baseUrl + path, new HttpEntity<>(body, headers), String.class);
+        } catch (RestClientResponseException e) {
+            int status = e.getStatusCode().value();
+            String retryAfter = e.getResponseHeaders() != null ? e.getResponseHeaders().getFirst("Retry-After") : null;
+            throw new ResendException("Resend returned " + status + ": " + e.getResponseBodyAsString(),
+                    status, parseRetryAfter(retryAfter), e);
+        } catch (ResourceAccessException e) {
+            throw new ResendException("Resend unreachable: " + e.getMessage(), 0, null, e);
+        }
+    }
+
+    private Duration parseRetryAfter(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A failed Resend call. Status 0 means the request never got a response.
+     */
+    @Getter
+    public static class ResendException extends RuntimeException {
+
+        private final int status;
+        private final Duration retryAfter;
+
+        public ResendException(String message, int status, Duration retryAfter, Throwable cause) {
+            super(message, cause);
+            this.status = status;
+            this.retryAfter = retryAfter;
+        }
+
+        /**
+         * Rate limited, provider error or network failure: worth another attempt
+         */
+        public boolean isRetryable() {
+            return status == 0 || status == 429 || status >= 500;
+        }
+    }
+}
@@ -57,36 +57,22 @@ public class ReviewService {
         Member member = memberRepository.findByEmail(email)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Member not found"));
 
+        // Review window on the effective end (events.effective_end): 24 hours to 30 days ago
         Instant now = Instant.now();
-        Instant windowStart = now.minus(31, ChronoUnit.DAYS);
-        Instant windowEnd   = now.minus(1,  ChronoUnit.DAYS);
+        Instant dueFrom = now.minus(30, ChronoUnit.DAYS);
+        Instant dueTo   = now.minus(24, ChronoUnit.HOURS);
 
         return eventParticipantRepository
-                .findEligibleForReviewPrompt(windowStart, windowEnd)
+                .findPendingReviewsForMember(member.getId(), dueFrom, dueTo)
                 .stream()
-                .filter(ep -> ep.getMember().getId().equals(member.getId()))
-                .filter(ep -> {
-                    Instant eventEnd = EventTimingUtils.effectiveEnd(ep.getEvent());
-                    long hours = ChronoUnit.HOURS.between(eventEnd, now);
-                    return hours >= 24 && hours <= 30 * 24;
-                })
-                .filter(ep -> {
-                    Long organiserId = ep.getEvent().getGroup().getPrimaryOrganiser().getId();
-                    Long hostId = ep.getEvent().getHostMember() != null
-                            ? ep.getEvent().getHostMember().getId() : null;
-                    return !member.getId().equals(organiserId) && !member.getId().equals(hostId);
-                })
-                .map(ep -> {
-                    Instant eventEnd = EventTimingUtils.effectiveEnd(ep.getEvent());
-                    return PendingReviewDTO.builder()
-                            .eventId(ep.getEvent().getId())
-                            .eventTitle(ep.getEvent().getTitle())
-                            .groupName(ep.getEvent().getGroup().getName())
-                            .imageUrl(ep.getEvent().getImageUrl())
-                            .eventDate(ep.getEvent().getEventDate())
-                            .reviewWindowClosesAt(eventEnd.plus(30, ChronoUnit.DAYS))
-                            .build();
-                })
+                .map(ep -> PendingReviewDTO.builder()
+                        .eventId(ep.getEvent().getId())
+                        .eventTitle(ep.getEvent().getTitle())
+                        .groupName(ep.getEvent().getGroup().getName())
+                        .imageUrl(ep.getEvent().getImageUrl())
+                        .eventDate(ep.getEvent().getEventDate())
+                        .reviewWindowClosesAt(ep.getEvent().getEffectiveEnd().plus(30, ChronoUnit.DAYS))
+                        .build())
                 .collect(Collectors.toList());
     }
 
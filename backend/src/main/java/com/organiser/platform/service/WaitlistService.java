@@ -0,0 +1,94 @@
+package com.organiser.platform.service;
+
+import com.organiser.platform.model.Event;
+import com.organiser.platform.model.EventParticipant;
+import com.organiser.platform.repository.EventParticipantRepository;
+import com.organiser.platform.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Moves waitlisted participants onto an event when seats free up.
+ * Shared by EventService (a member leaves) and GroupService (an organiser removes or bans a member),
+ * which cannot depend on each other.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class WaitlistService {
+
+    private final EventRepository eventRepository;
+    private final EventParticipantRepository eventParticipantRepository;
+    private final WebPushService webPushService;
+    private final EmailService emailService;
+
+    /**
+     * Promote from the waitlist of an event whose seats were released in bulk.
+     */
+    @Transactional
+    public void promoteFromWaitlist(Long eventId) {
+        eventRepository.findById(eventId).ifPresent(this::promoteFromWaitlist);
+    }
+
+    /**
+     * Promotes waitlisted participants to REGISTERED, in waitlist order, while seats are free,
+     * and notifies each of them. A party that doesn't fit is skipped (it keeps its place) so a
+     * smaller party behind it can take the seats. Called after cancellations, only when the
+     * event hasn't started. Seats are claimed through the same conditional reservation as joinEvent.
+     */
+    @Transactional
+    public void promoteFromWaitlist(Event event) {
+        if (event.getParticipants() == null) return;
+
+        List<EventParticipant> waitlist = event.getParticipants().stream()
+                .filter(p -> p.getStatus() == EventParticipant.ParticipationStatus.WAITLISTED)
+                .sorted(Comparator.comparing(EventParticipant::getWaitlistJoinedAt,
+                        Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+
+        for (EventParticipant next : waitlist) {
+            // Only promote when the whole party fits in the freed seats
+            int seats = 1 + (next.getGuestCount() != null ? next.getGuestCount() : 0);
+            if (eventRepository.reserveSeats(event.getId(), seats) == 0) {
+                event.setConfirmedHeadcount(eventRepository.findConfirmedHeadcountById(event.getId()));
+                if (event.getMaxParticipants() != null && event.getConfirmedHeadcount() >= event.getMaxParticipants()) {
+                    return;  // Full: nobody further back fits either
+                }
+                continue;
+            }
+            event.setConfirmedHeadcount(eventRepository.findConfirmedHeadcountById(event.getId()));
+            eventRepository.adjustParticipantCounters(event.getId(), 0, -1);
+            event.setWaitlistCount(event.getWaitlistCount() - 1);
+            next.setStatus(EventParticipant.ParticipationStatus.REGISTERED);
+            eventParticipantRepository.save(next);
+            notifyPromoted(event, next);
+        }
+    }
+
+    private void notifyPromoted(Event event, EventParticipant promoted) {
+        // Send push notification
+        try {
+            webPushService.sendToMember(
+                    promoted.getMember().getId(),
+                    "You're in! 🎉",
+                    "A spot opened up — you've been moved off the waitlist for " + event.getTitle(),
+                    "/events/" + event.getId()
+            );
+        } catch (Exception e) {
+            log.warn("Failed to send waitlist promotion push: {}", e.getMessage());
+        }
+
+        // Send email notification
+        try {
+            emailService.sendWaitlistPromotionEmail(promoted.getMember(), event.getTitle(),
+                    event.getGroup().getName(), event.getId());
+        } catch (Exception e) {
+            log.warn("Failed to send waitlist promotion email: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package com.organiser.platform.service;
+
+import com.organiser.platform.repository.WebPushSubscriptionRepository;
+import com.organiser.platform.util.ThreadUtils;
+import lombok.extern.slf4j.Slf4j;
+import nl.martijndwars.webpush.Encoding;
+import nl.martijndwars.webpush.Notification;
+import nl.martijndwars.webpush.PushService;
+import org.apache.http.Header;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.util.EntityUtils;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Non-blocking Web Push delivery.
+ *
+ * Pushes are queued per push-service host (fcm.googleapis.com, updates.push.services.mozilla.com, ...)
+ * and sent over one shared async HTTP/2 client with at most {@code maxConcurrentPerHost} requests in
+ * flight per host, so a slow push service only backs up its own lane. 429/5xx and I/O errors are
+ * retried with exponential backoff (honouring Retry-After); 404/410 endpoints are collected and
+ * disabled in bulk, as are lastNotifiedAt updates, on a short flush interval.
+ */
+@Slf4j
+public class WebPushDispatcher {
+
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("content-length", "host", "connection", "expect", "upgrade");
+    private static final int UPDATE_CHUNK_SIZE = 1000;
+
+    /**
+     * Tuning knobs, see app.push.* in application.properties
+     */
+    public record Settings(
+            int maxConcurrentPerHost,
+            int maxQueued,
+            int maxAttempts,
+            Duration initialBackoff,
+            Duration maxBackoff,
+            Duration requestTimeout,
+            Duration flushInterval) {
+    }
+
+    private record PushJob(Long subscriptionId, Notification notification, int attempt) {
+    }
+
+    private static final class HostLane {
+        private final Queue<PushJob> queue = new ConcurrentLinkedQueue<>();
+        private final Semaphore permits;
+
+        private HostLane(int permits) {
+            this.permits = new Semaphore(permits);
+        }
+    }
+
+    private final PushService pushService;
+    private final WebPushSubscriptionRepository subscriptionRepository;
+    private final TransactionOperations transactionOperations;
+    private final Settings settings;
+
+    private final Map<String, HostLane> lanes = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Queue<Long> delivered = new ConcurrentLinkedQueue<>();
+    private final Queue<Long> gone = new ConcurrentLinkedQueue<>();
+
+    private final ExecutorService workers;
+    private final ScheduledExecutorService scheduler;
+    private final HttpClient httpClient;
+
+    public WebPushDispatcher(PushService pushService,
+                             WebPushSubscriptionRepository subscriptionRepository,
+                             TransactionOperations transactionOperations,
+                             Settings settings) {
+        this.pushService = pushService;
+        this.subscriptionRepository = subscriptionRepository;
+        this.transactionOperations = transactionOperations;
+        this.settings = settings;
+        // Payload encryption (ECDH + AES-GCM) is CPU bound: one worker per core
+        this.workers = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+                ThreadUtils.daemonThreads("web-push"));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(ThreadUtils.daemonThreads("web-push-scheduler"));
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(workers)
+                .build();
+        long flushMillis = settings.flushInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::flushSafely, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // ============================================================
+    // PUBLIC METHODS
+    // ============================================================
+
+    /**
+     * Queue one push; never blocks. Dropped (and logged) when the backlog is full.
+     * @return false when the push was dropped
+     */
+    public boolean dispatch(Long subscriptionId, Notification notification) {
+        if (pending.incrementAndGet() > settings.maxQueued()) {
+            pending.decrementAndGet();
+            log.warn("Web push backlog full ({}), dropping push for subscription {}", settings.maxQueued(), subscriptionId);
+            return false;
+        }
+        enqueue(new PushJob(subscriptionId, notification, 0));
+        return true;
+    }
+
+    /**
+     * Pushes queued, in flight or waiting for a retry
+     */
+    public int pendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * Write collected lastNotifiedAt / deactivation updates
+     */
+    public void flush() {
+        List<Long> goneIds = drain(gone);
+        List<Long> deliveredIds = drain(delivered);
+        if (goneIds.isEmpty() && deliveredIds.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        transactionOperations.executeWithoutResult(status -> {
+            chunks(goneIds).forEach(subscriptionRepository::deactivateByIdIn);
+            chunks(deliveredIds).forEach(ids -> subscriptionRepository.updateLastNotifiedAtByIdIn(ids, now));
+        });
+        if (!goneIds.isEmpty()) {
+            log.info("Disabled {} stale push subscriptions", goneIds.size());
+        }
+    }
+
+    public void shutdown() {
+        scheduler.shutdownNow();
+        workers.shutdownNow();
+        flushSafely();
+    }
+
+    // ============================================================
+    // PRIVATE HELPER METHODS
+    // ============================================================
+
+    private void enqueue(PushJob job) {
+        HostLane lane = lanes.computeIfAbsent(hostOf(job.notification().getEndpoint()),
+                host -> new HostLane(settings.maxConcurrentPerHost()));
+        lane.queue.offer(job);
+        drainLane(lane);
+    }
+
+    /**
+     * Start as many queued sends as the lane has permits. Called on enqueue and whenever a send
+     * completes, so a job offered while all permits are taken is picked up by the next completion.
+     */
+    private void drainLane(HostLane lane) {
+        while (!lane.queue.isEmpty() && lane.permits.tryAcquire()) {
+            PushJob job = lane.queue.poll();
+            if (job == null) {
+                lane.permits.release();
+                continue;
+            }
+            send(job).whenComplete((result, error) -> {
+                lane.permits.release();
+                drainLane(lane);
+            });
+        }
+    }
+
+    private CompletableFuture<Void> send(PushJob job) {
+        return CompletableFuture
+                .supplyAsync(() -> toRequest(job.notification()), workers)
+                .thenCompose(request -> httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()))
+                .handle((response, error) -> {
+                    onResult(job, response, error);
+                    return null;
+                });
+    }
+
+    private HttpRequest toRequest(Notification notification) {
+        try {
+            HttpPost post = pushService.preparePost(notification, Encoding.AES128GCM);
+            HttpRequest.Builder request = HttpRequest.newBuilder(post.getURI())
+                    .timeout(settings.requestTimeout())
+                    .POST(post.getEntity() == null
+                            ? HttpRequest.BodyPublishers.noBody()
+                            : HttpRequest.BodyPublishers.ofByteArray(EntityUtils.toByteArray(post.getEntity())));
+            for (Header header : post.getAllHeaders()) {
+                if (!RESTRICTED_HEADERS.contains(header.getName().toLowerCase(Locale.ROOT))) {
+                    request.header(header.getName(), header.getValue());
+                }
+            }
+            return request.build();
+        } catch (Exception ex) {
+            throw new IllegalStateException("Failed to encrypt push payload", ex);
+        }
+    }
+
+    private void onResult(PushJob job, HttpResponse<Void> response, Throwable error) {
+        if (error != null) {
+            if (error.getCause() instanceof IllegalStateException) {
+                finish();
+                log.error("Dropping push for subscription {}", job.subscriptionId(), error.getCause());
+            } else {
+                retryOrGiveUp(job, null, error);
+            }
+            return;
+        }
+
+        int status = response.statusCode();
+        if (status >= 200 && status < 300) {
+            delivered.offer(job.subscriptionId());
+            finish();
+        } else if (status == 404 || status == 410) {
+            gone.offer(job.subscriptionId());
+            finish();
+        } else if (status == 429 || status >= 500) {
+            retryOrGiveUp(job, response, null);
+        } else {
+            finish();
+            log.warn("Push service rejected subscription {} with status {}", job.subscriptionId(), status);
+        }
+    }
+
+    private void retryOrGiveUp(PushJob job, HttpResponse<Void> response, Throwable error) {
+        int nextAttempt = job.attempt() + 1;
+        if (nextAttempt >= settings.maxAttempts()) {
+            finish();
+            log.warn("Giving up on push for subscription {} after {} attempts (status {})",
+                    job.subscriptionId(), nextAttempt, response != null ? response.statusCode() : error);
+            return;
+        }
+        long delay = backoffMillis(nextAttempt, response);
+        scheduler.schedule(() -> enqueue(new PushJob(job.subscriptionId(), job.notification(), nextAttempt)),
+                delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Retry-After (seconds) when the push service sends one, else exponential backoff with jitter
+     */
+    private long backoffMillis(int attempt, HttpResponse<Void> response) {
+        long max = settings.maxBackoff().toMillis();
+        if (response != null) {
+            String retryAfter = response.headers().firstValue("Retry-After").orElse(null);
+            if (retryAfter != null) {
+                try {
+                    return Math.min(max, TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim())));
+                } catch (NumberFormatException ignored) {
+                    // HTTP-date form: fall back to our own backoff
+                }
+            }
+        }
+        long base = Math.min(max, settings.initialBackoff().toMillis() << Math.min(attempt - 1, 20));
+        return base / 2 + ThreadLocalRandom.current().nextLong(base / 2 + 1);
+    }
+
+    private void finish() {
+        pending.decrementAndGet();
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception ex) {
+            log.error("Failed to write web push subscription updates", ex);
+        }
+    }
+
+    private static List<Long> drain(Queue<Long> queue) {
+        List<Long> ids = new ArrayList<>();
+        Long id;
+        while ((id = queue.poll()) != null) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += UPDATE_CHUNK_SIZE) {
+            chunks.add(ids.subList(i, Math.min(ids.size(), i + UPDATE_CHUNK_SIZE)));
+        }
+        return chunks;
+    }
+
+    private static String hostOf(String endpoint) {
+        try {
+            String host = URI.create(endpoint).getHost();
+            return host != null ? host.toLowerCase(Locale.ROOT) : endpoint;
+        } catch (IllegalArgumentException ex) {
+            return endpoint;  // Fails again (and is logged) when the request is built
+        }
+    }
+}
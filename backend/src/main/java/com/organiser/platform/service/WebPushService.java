@@ -10,15 +10,17 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import nl.martijndwars.webpush.Notification;
 import nl.martijndwars.webpush.PushService;
-import org.apache.http.HttpResponse;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import java.security.Security;
-import java.time.LocalDateTime;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,6 +34,7 @@ public class WebPushService {
     private final WebPushSubscriptionRepository subscriptionRepository;
     private final MemberRepository memberRepository;
     private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${push-vapid.public:}")
     private String vapidPublicKey;
@@ -45,7 +48,28 @@ public class WebPushService {
     @Value("${app.frontend-url:http://localhost:3000}")
     private String frontendUrl;
 
-    private PushService pushService;
+    @Value("${app.push.max-concurrent-per-host:64}")
+    private int maxConcurrentPerHost;
+
+    @Value("${app.push.max-queued:50000}")
+    private int maxQueued;
+
+    @Value("${app.push.max-attempts:4}")
+    private int maxAttempts;
+
+    @Value("${app.push.initial-backoff:1s}")
+    private Duration initialBackoff;
+
+    @Value("${app.push.max-backoff:60s}")
+    private Duration maxBackoff;
+
+    @Value("${app.push.request-timeout:10s}")
+    private Duration requestTimeout;
+
+    @Value("${app.push.flush-interval:1s}")
+    private Duration flushInterval;
+
+    private WebPushDispatcher dispatcher;
 
     @PostConstruct
     void init() {
@@ -58,10 +82,13 @@ public class WebPushService {
             if (Security.getProvider(BouncyCastleProvider.PROVIDER_NAME) == null) {
                 Security.addProvider(new BouncyCastleProvider());
             }
-            this.pushService = new PushService(vapidPublicKey, vapidPrivateKey, vapidSubject);
+            PushService pushService = new PushService(vapidPublicKey, vapidPrivateKey, vapidSubject);
+            this.dispatcher = new WebPushDispatcher(pushService, subscriptionRepository, transactionTemplate,
+                new WebPushDispatcher.Settings(maxConcurrentPerHost, maxQueued, maxAttempts,
+                    initialBackoff, maxBackoff, requestTimeout, flushInterval));
             log.info("Web push configured with subject {}", vapidSubject);
         } catch (Exception ex) {
-            this.pushService = null;
+            this.dispatcher = null;
             log.error("Failed to initialize web push service", ex);
         }
     }
@@ -106,13 +133,37 @@ public class WebPushService {
         });
     }
 
-    @Transactional
+    /**
+     * Queue a push to every active device of the member. Returns immediately; delivery,
+     * retries and subscription bookkeeping happen in WebPushDispatcher.
+     */
+    @Transactional(readOnly = true)
     public void sendToMember(Long memberId, String title, String body, String pathOrUrl) {
-        if (pushService == null) {
+        if (dispatcher == null) {
             return;
         }
+        dispatch(subscriptionRepository.findByMemberIdAndActiveTrue(memberId), title, body, pathOrUrl);
+    }
 
-        List<WebPushSubscription> subscriptions = subscriptionRepository.findByMemberIdAndActiveTrue(memberId);
+    /**
+     * Queue the same push to many members, loading their devices with one query
+     */
+    @Transactional(readOnly = true)
+    public void sendToMembers(Collection<Long> memberIds, String title, String body, String pathOrUrl) {
+        if (dispatcher == null || memberIds.isEmpty()) {
+            return;
+        }
+        dispatch(subscriptionRepository.findByMemberIdInAndActiveTrue(memberIds), title, body, pathOrUrl);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    private void dispatch(List<WebPushSubscription> subscriptions, String title, String body, String pathOrUrl) {
         if (subscriptions.isEmpty()) {
             return;
         }
@@ -125,39 +176,21 @@ public class WebPushService {
             payloadBody.put("url", buildTargetUrl(pathOrUrl));
             payload = objectMapper.writeValueAsString(payloadBody);
         } catch (Exception ex) {
-            log.error("Failed to build push payload for member {}", memberId, ex);
+            log.error("Failed to build push payload", ex);
             return;
         }
 
         for (WebPushSubscription subscription : subscriptions) {
             try {
-                Notification notification = new Notification(
+                dispatcher.dispatch(subscription.getId(), new Notification(
                     subscription.getEndpoint(),
                     subscription.getP256dhKey(),
                     subscription.getAuthKey(),
                     payload
-                );
-                HttpResponse response = pushService.send(notification);
-                Integer statusCode = response != null && response.getStatusLine() != null
-                    ? response.getStatusLine().getStatusCode()
-                    : null;
-
-                if (statusCode != null && (statusCode == 404 || statusCode == 410)) {
-                    subscription.setActive(false);
-                    subscriptionRepository.save(subscription);
-                    continue;
-                }
-
-                subscription.setLastNotifiedAt(LocalDateTime.now());
-                subscriptionRepository.save(subscription);
+                ));
             } catch (Exception ex) {
-                if (isSubscriptionGone(ex)) {
-                    subscription.setActive(false);
-                    subscriptionRepository.save(subscription);
-                    log.info("Disabled stale push subscription {}", subscription.getId());
-                } else {
-                    log.warn("Failed push send for subscription {}", subscription.getId(), ex);
-                }
+                // Malformed keys stored for this device
+                log.warn("Failed to queue push for subscription {}", subscription.getId(), ex);
             }
         }
     }
@@ -177,15 +210,6 @@ public class WebPushService {
         return normalizedBase + normalizedPath;
     }
 
-    private boolean isSubscriptionGone(Exception ex) {
-        String message = ex.getMessage();
-        if (message == null) {
-            return false;
-        }
-        String lower = message.toLowerCase();
-        return lower.contains("410") || lower.contains("404") || lower.contains("gone");
-    }
-
     private boolean isBlank(String value) {
         return value == null || value.trim().isEmpty();
     }
@@ -0,0 +1,61 @@
+package com.organiser.platform.util;
+
+import com.organiser.platform.model.Event;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor for chronological event lists.
+ *
+ * Encodes the (eventDate, id) of the last event on a page; the next page starts strictly
+ * after that position, so it costs the same index seek however deep the client scrolls.
+ * Clients must treat the value as opaque.
+ */
+public final class EventCursor {
+
+    private final Instant eventDate;
+    private final Long id;
+
+    private EventCursor(Instant eventDate, Long id) {
+        this.eventDate = eventDate;
+        this.id = id;
+    }
+
+    public Instant getEventDate() {
+        return eventDate;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Cursor positioned after the given event.
+     */
+    public static String encode(Event event) {
+        String raw = event.getEventDate().toString() + "|" + event.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor from a request. Returns null for a blank cursor (first page).
+     *
+     * @throws IllegalArgumentException when the cursor was not produced by {@link #encode(Event)}
+     */
+    public static EventCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new EventCursor(Instant.parse(raw.substring(0, Math.max(separator, 0))),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -15,6 +15,9 @@ import java.time.ZoneOffset;
  *  1. endDate — explicit end set by organiser
  *  2. eventDate + estimatedDurationHours — duration set by organiser
  *  3. 23:59:59 UTC on the event's start day — fallback (keeps event visible all day)
+ *
+ * The same rule is stored in the events.effective_end generated column (V65), which all
+ * repository queries filter on; keep the two in step.
  */
 public final class EventTimingUtils {
 
@@ -39,13 +42,6 @@ public final class EventTimingUtils {
                 .toInstant(ZoneOffset.UTC);
     }
 
-    /**
-     * Midnight UTC today — lower bound used in JPQL queries for events with no end time.
-     */
-    public static Instant startOfToday() {
-        return LocalDate.now(ZoneOffset.UTC).atStartOfDay().toInstant(ZoneOffset.UTC);
-    }
-
     /**
      * Whether an event is currently ongoing (started but not yet ended).
      */
@@ -0,0 +1,83 @@
+package com.organiser.platform.util;
+
+import com.organiser.platform.dto.GroupMemberRow;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor for group member lists.
+ *
+ * The primary organiser is always listed first; everyone else follows in (subscribedAt, id) order.
+ * A cursor either points just past the organiser (the rest of the list starts from the beginning)
+ * or encodes the (subscribedAt, id) of the last member on a page. Clients must treat the value as opaque.
+ */
+public final class GroupMemberCursor {
+
+    private static final String AFTER_ORGANISER = "organiser";
+
+    private final LocalDateTime subscribedAt;
+    private final Long id;
+
+    private GroupMemberCursor(LocalDateTime subscribedAt, Long id) {
+        this.subscribedAt = subscribedAt;
+        this.id = id;
+    }
+
+    /**
+     * Join date of the last member on the previous page; null when only the organiser has been listed
+     */
+    public LocalDateTime getSubscribedAt() {
+        return subscribedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public boolean isAfterOrganiser() {
+        return subscribedAt == null;
+    }
+
+    /**
+     * Cursor positioned after the given member.
+     */
+    public static String encode(GroupMemberRow row) {
+        return encodeRaw(row.getSubscribedAt().toString() + "|" + row.getSubscriptionId());
+    }
+
+    /**
+     * Cursor for a page that ended with the organiser.
+     */
+    public static String afterOrganiser() {
+        return encodeRaw(AFTER_ORGANISER);
+    }
+
+    /**
+     * Decode a cursor from a request. Returns null for a blank cursor (first page).
+     *
+     * @throws IllegalArgumentException when the cursor was not produced by this class
+     */
+    public static GroupMemberCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (AFTER_ORGANISER.equals(raw)) {
+                return new GroupMemberCursor(null, null);
+            }
+            int separator = raw.lastIndexOf('|');
+            return new GroupMemberCursor(LocalDateTime.parse(raw.substring(0, Math.max(separator, 0))),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,42 @@
+package com.organiser.platform.util;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Threading helpers shared by the background workers (email outbox, web push, chunked purges).
+ */
+public final class ThreadUtils {
+
+    private ThreadUtils() {}
+
+    /**
+     * Daemon threads named {@code name-1}, {@code name-2}, ... so they never hold up JVM shutdown
+     */
+    public static ThreadFactory daemonThreads(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Sleep between chunks of a long-running job. A zero or negative pause returns straight away.
+     * @return false when interrupted (shutdown); the interrupt flag is kept for the caller
+     */
+    public static boolean pause(Duration pause) {
+        if (pause.isZero() || pause.isNegative()) {
+            return !Thread.currentThread().isInterrupted();
+        }
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+-- Denormalized participant counters so list endpoints never have to read event_participants.
+-- confirmed_headcount: participants (plus their guests) not CANCELLED or WAITLISTED
+-- waitlist_count:      participants currently WAITLISTED
+ALTER TABLE events
+    ADD COLUMN confirmed_headcount INT NOT NULL DEFAULT 0,
+    ADD COLUMN waitlist_count      INT NOT NULL DEFAULT 0;
+
+UPDATE events e
+SET confirmed_headcount = c.headcount,
+    waitlist_count      = c.waitlisted
+FROM (
+    SELECT event_id,
+           COALESCE(SUM(1 + guest_count) FILTER (WHERE status NOT IN ('CANCELLED', 'WAITLISTED')), 0) AS headcount,
+           COUNT(*) FILTER (WHERE status = 'WAITLISTED') AS waitlisted
+    FROM event_participants
+    GROUP BY event_id
+) c
+WHERE c.event_id = e.id;
@@ -0,0 +1,90 @@
+-- ============================================================
+-- V57: Full-text search for events
+-- Weighted tsvector kept current by triggers and served by a GIN index,
+-- plus a trigram index on location for typo-tolerant place matching.
+-- Weights: A = title, B = location / group name, C = difficulty / organiser name, D = description
+-- ============================================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE events ADD COLUMN IF NOT EXISTS search_vector tsvector;
+
+-- Builds the search document for one event. Prose is stemmed ('english');
+-- places and names are indexed verbatim ('simple') so they match as typed.
+CREATE OR REPLACE FUNCTION events_search_vector(p_title TEXT, p_description TEXT, p_location TEXT,
+                                                p_difficulty TEXT, p_group_id BIGINT)
+RETURNS tsvector
+LANGUAGE sql STABLE
+AS $$
+    SELECT setweight(to_tsvector('english', coalesce(p_title, '')), 'A')
+        || setweight(to_tsvector('simple', coalesce(p_location, '')), 'B')
+        || setweight(to_tsvector('english', coalesce(g.name, '')), 'B')
+        || setweight(to_tsvector('simple', coalesce(p_difficulty, '')), 'C')
+        || setweight(to_tsvector('simple', coalesce(m.display_name, '')), 'C')
+        || setweight(to_tsvector('english', coalesce(p_description, '')), 'D')
+    FROM (SELECT p_group_id AS id) src
+    LEFT JOIN groups g ON g.id = src.id
+    LEFT JOIN members m ON m.id = g.primary_organiser_id
+$$;
+
+-- Events: refresh on insert and whenever a searchable column is written
+CREATE OR REPLACE FUNCTION events_search_vector_refresh() RETURNS trigger
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    NEW.search_vector := events_search_vector(NEW.title, NEW.description, NEW.location,
+                                              NEW.difficulty_level, NEW.group_id);
+    RETURN NEW;
+END
+$$;
+
+DROP TRIGGER IF EXISTS trg_events_search_vector ON events;
+CREATE TRIGGER trg_events_search_vector
+    BEFORE INSERT OR UPDATE OF title, description, location, difficulty_level, group_id ON events
+    FOR EACH ROW EXECUTE FUNCTION events_search_vector_refresh();
+
+-- Groups: a rename or ownership transfer changes the document of every event in the group
+CREATE OR REPLACE FUNCTION groups_search_vector_cascade() RETURNS trigger
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    UPDATE events e
+    SET search_vector = events_search_vector(e.title, e.description, e.location, e.difficulty_level, e.group_id)
+    WHERE e.group_id = NEW.id;
+    RETURN NULL;
+END
+$$;
+
+DROP TRIGGER IF EXISTS trg_groups_search_vector ON groups;
+CREATE TRIGGER trg_groups_search_vector
+    AFTER UPDATE OF name, primary_organiser_id ON groups
+    FOR EACH ROW
+    WHEN (OLD.name IS DISTINCT FROM NEW.name OR OLD.primary_organiser_id IS DISTINCT FROM NEW.primary_organiser_id)
+    EXECUTE FUNCTION groups_search_vector_cascade();
+
+-- Members: an organiser renaming themselves changes the events of the groups they run
+CREATE OR REPLACE FUNCTION members_search_vector_cascade() RETURNS trigger
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    UPDATE events e
+    SET search_vector = events_search_vector(e.title, e.description, e.location, e.difficulty_level, e.group_id)
+    FROM groups g
+    WHERE g.id = e.group_id AND g.primary_organiser_id = NEW.id;
+    RETURN NULL;
+END
+$$;
+
+DROP TRIGGER IF EXISTS trg_members_search_vector ON members;
+CREATE TRIGGER trg_members_search_vector
+    AFTER UPDATE OF display_name ON members
+    FOR EACH ROW
+    WHEN (OLD.display_name IS DISTINCT FROM NEW.display_name)
+    EXECUTE FUNCTION members_search_vector_cascade();
+
+-- Backfill existing rows
+UPDATE events e
+SET search_vector = events_search_vector(e.title, e.description, e.location, e.difficulty_level, e.group_id);
+
+CREATE INDEX IF NOT EXISTS idx_events_search_vector ON events USING GIN (search_vector);
+CREATE INDEX IF NOT EXISTS idx_events_location_trgm ON events USING GIN (location gin_trgm_ops);
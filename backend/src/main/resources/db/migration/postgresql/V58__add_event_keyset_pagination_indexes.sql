@@ -0,0 +1,12 @@
+-- ============================================================
+-- V58: Composite indexes for keyset (eventDate, id) pagination
+-- Lets "ORDER BY event_date, id" with a (event_date, id) > cursor seek be served
+-- straight from the index, so deep pages cost the same as the first.
+-- ============================================================
+
+-- Discover page / public search: only published events are listed
+CREATE INDEX IF NOT EXISTS idx_events_published_date_id ON events(event_date, id) WHERE status = 'PUBLISHED';
+
+-- Group event lists; supersedes idx_events_group_date (group_id, event_date)
+CREATE INDEX IF NOT EXISTS idx_events_group_date_id ON events(group_id, event_date, id);
+DROP INDEX IF EXISTS idx_events_group_date;
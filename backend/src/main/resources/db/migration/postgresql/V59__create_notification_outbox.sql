@@ -0,0 +1,21 @@
+-- Outbox for notification fan-out (new event / new comment).
+-- The request transaction only writes one row here; notifications are bulk-inserted and
+-- pushes dispatched after commit by NotificationFanoutService. Rows left PENDING (worker
+-- queue full, node restart) or stuck PROCESSING are picked up by NotificationOutboxScheduler.
+CREATE TABLE notification_outbox (
+    id               BIGSERIAL PRIMARY KEY,
+    fanout_type      VARCHAR(30) NOT NULL,   -- NEW_EVENT | NEW_COMMENT
+    event_id         BIGINT REFERENCES events(id) ON DELETE CASCADE,
+    comment_id       BIGINT REFERENCES event_comments(id) ON DELETE CASCADE,
+    actor_member_id  BIGINT NOT NULL,
+    status           VARCHAR(20) NOT NULL DEFAULT 'PENDING',   -- PENDING | PROCESSING | DONE | FAILED
+    attempts         INT NOT NULL DEFAULT 0,
+    last_error       TEXT,
+    created_at       TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    claimed_at       TIMESTAMP,
+    processed_at     TIMESTAMP
+);
+
+-- The sweeper only ever looks at unfinished rows
+CREATE INDEX idx_notification_outbox_unfinished ON notification_outbox(status, created_at)
+    WHERE status IN ('PENDING', 'PROCESSING');
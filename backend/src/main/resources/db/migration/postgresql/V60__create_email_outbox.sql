@@ -0,0 +1,24 @@
+-- Outbox for transactional email (magic links, passcodes, review prompts, invitations, ...).
+-- EmailService inserts a row inside the business transaction; EmailOutboxService drains the
+-- table in the background, paced to the Resend quota, retrying with backoff and dead-lettering
+-- rows that keep failing. idempotency_key dedupes enqueues and is sent to Resend as the
+-- Idempotency-Key header so a retried request never delivers twice.
+CREATE TABLE email_outbox (
+    id               BIGSERIAL PRIMARY KEY,
+    idempotency_key  VARCHAR(255) NOT NULL UNIQUE,
+    email_type       VARCHAR(50) NOT NULL,
+    to_email         VARCHAR(255) NOT NULL,
+    subject          VARCHAR(500) NOT NULL,
+    html             TEXT NOT NULL,
+    status           VARCHAR(20) NOT NULL DEFAULT 'PENDING',   -- PENDING | SENDING | SENT | DEAD
+    attempts         INT NOT NULL DEFAULT 0,
+    next_attempt_at  TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error       TEXT,
+    created_at       TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    claimed_at       TIMESTAMP,
+    sent_at          TIMESTAMP
+);
+
+-- The worker only ever looks at unfinished rows
+CREATE INDEX idx_email_outbox_due ON email_outbox(next_attempt_at)
+    WHERE status IN ('PENDING', 'SENDING');
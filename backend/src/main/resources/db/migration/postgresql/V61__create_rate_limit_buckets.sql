@@ -0,0 +1,13 @@
+-- Token buckets shared by every backend node (app.rate-limit.store=jdbc), so a rate limit such as
+-- the passcode-verification budget holds cluster-wide instead of once per instance.
+-- state is a serialized Bucket4j bucket; JdbcBucketStore updates it with compare-and-swap
+-- (UPDATE ... WHERE state = <bytes read>) rather than row locks. Rows idle longer than the
+-- longest refill window are purged by RateLimitCleanupScheduler.
+-- IF NOT EXISTS: the test profile also runs this script against a Hibernate-created schema.
+CREATE TABLE IF NOT EXISTS rate_limit_buckets (
+    id          VARCHAR(512) PRIMARY KEY,
+    state       BYTEA NOT NULL,
+    updated_at  TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_rate_limit_buckets_updated_at ON rate_limit_buckets(updated_at);
@@ -0,0 +1,10 @@
+-- ============================================================
+-- V62: Partial index for paginated group member lists
+-- Serves "WHERE group_id = ? AND status = 'ACTIVE' ORDER BY subscribed_at, id" keyset pages
+-- and the active member count straight from the index (index-only scan for the count;
+-- member_id is included so the page query can join members without visiting the heap).
+-- ============================================================
+
+CREATE INDEX IF NOT EXISTS idx_subscriptions_group_active
+    ON subscriptions(group_id, subscribed_at, id) INCLUDE (member_id)
+    WHERE status = 'ACTIVE';
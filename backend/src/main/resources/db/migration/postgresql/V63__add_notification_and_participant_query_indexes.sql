@@ -0,0 +1,58 @@
+-- ============================================================
+-- V63: Composite / partial indexes matched to the hot notification and participant queries
+-- Replaces the single-column indexes from V1.1, V7 and V16; every dropped index is either
+-- covered by a leading column below or too unselective (is_read, status, type) to be used.
+-- ============================================================
+
+-- ------------------------------------------------------------
+-- notifications
+-- ------------------------------------------------------------
+
+-- findByMemberIdOrderByCreatedAtDesc (paged list) and its count query
+CREATE INDEX IF NOT EXISTS idx_notifications_member_created
+    ON notifications(member_id, created_at DESC);
+
+-- countByMemberIdAndIsReadFalse, countUnreadByMemberIds, markAllAsReadForMember and the
+-- unread list: only unread rows are indexed, so the index stays small as members read
+CREATE INDEX IF NOT EXISTS idx_notifications_member_unread
+    ON notifications(member_id, created_at DESC)
+    WHERE is_read = FALSE;
+
+-- deleteOldReadNotifications (cleanup scheduler)
+CREATE INDEX IF NOT EXISTS idx_notifications_read_at
+    ON notifications(read_at)
+    WHERE is_read = TRUE;
+
+-- deleteByGroupId; most notifications have no group
+CREATE INDEX IF NOT EXISTS idx_notifications_related_group
+    ON notifications(related_group_id)
+    WHERE related_group_id IS NOT NULL;
+
+DROP INDEX IF EXISTS idx_notification_member;
+DROP INDEX IF EXISTS idx_notification_type;
+DROP INDEX IF EXISTS idx_notification_is_read;
+DROP INDEX IF EXISTS idx_notification_created_at;
+DROP INDEX IF EXISTS idx_notification_member_unread;
+
+-- ------------------------------------------------------------
+-- event_participants
+-- ------------------------------------------------------------
+
+-- countByEventIdAndStatus and recalculateParticipantCounters (index-only with guest_count)
+CREATE INDEX IF NOT EXISTS idx_event_participants_event_status
+    ON event_participants(event_id, status) INCLUDE (guest_count);
+
+-- countJoinedByMemberIds, countNoShowsByMemberIds, participation lookups by member
+CREATE INDEX IF NOT EXISTS idx_event_participants_member_status
+    ON event_participants(member_id, status);
+
+-- claimDueReviewPrompts: pending prompts of each event in the due window
+-- (findPendingReviewsForMember starts from the member, via idx_event_participants_member_status)
+CREATE INDEX IF NOT EXISTS idx_event_participants_review_pending
+    ON event_participants(event_id)
+    WHERE review_prompt_sent = FALSE AND review_prompt_dismissed_at IS NULL;
+
+-- event_id lookups are served by unique_event_member (event_id, member_id)
+DROP INDEX IF EXISTS idx_event_participants_event_id;
+DROP INDEX IF EXISTS idx_event_participants_member_id;
+DROP INDEX IF EXISTS idx_event_participants_status;
@@ -0,0 +1,17 @@
+-- ============================================================
+-- V64: Resume points for long-running batch jobs
+-- A job walking a table in id order (NotificationCleanupService) records the last id it
+-- finished in the same transaction as each chunk, so a restart continues where it stopped.
+-- The row is removed when a run completes.
+-- IF NOT EXISTS: the test profile also runs this script against a Hibernate-created schema.
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS job_checkpoints (
+    job_name    VARCHAR(100) PRIMARY KEY,
+    last_id     BIGINT NOT NULL,
+    updated_at  TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- The notification purge now deletes by primary-key range, so the read_at index added
+-- for the old single DELETE ... WHERE read_at < cutoff is no longer used
+DROP INDEX IF EXISTS idx_notifications_read_at;
@@ -0,0 +1,24 @@
+-- ============================================================
+-- V65: events.effective_end — EventTimingUtils.effectiveEnd as a stored generated column
+-- endDate, else eventDate + estimatedDurationHours, else the end of the start day (UTC).
+-- Lets upcoming / past splits, organiser and participant lists and the review window
+-- filter and paginate in SQL instead of loading broad sets and filtering in Java.
+-- Timestamps are stored as UTC wall-clock TIMESTAMP, so every function here is immutable.
+-- Adding a stored column rewrites events once.
+-- ============================================================
+
+ALTER TABLE events
+    ADD COLUMN IF NOT EXISTS effective_end TIMESTAMP GENERATED ALWAYS AS (
+        COALESCE(
+            end_date,
+            event_date + CAST(estimated_duration_hours AS DOUBLE PRECISION) * INTERVAL '1 hour',
+            date_trunc('day', event_date) + INTERVAL '1 day' - INTERVAL '1 microsecond'
+        )
+    ) STORED;
+
+-- Discover page and public search: published events still running or upcoming
+CREATE INDEX IF NOT EXISTS idx_events_published_effective_end ON events(effective_end) WHERE status = 'PUBLISHED';
+
+-- Organiser event lists (past / upcoming per group) and the review prompt window
+CREATE INDEX IF NOT EXISTS idx_events_group_effective_end ON events(group_id, effective_end);
+CREATE INDEX IF NOT EXISTS idx_events_effective_end ON events(effective_end);
@@ -0,0 +1,10 @@
+-- ============================================================
+-- V66: Email outbox retention
+-- The body of a finished email (magic links, sign-in passcodes) is dropped as soon as the row
+-- is SENT or DEAD, and finished rows are purged after app.email.outbox.retention
+-- (EmailOutboxService.purgeFinished).
+-- ============================================================
+
+ALTER TABLE email_outbox ALTER COLUMN html DROP NOT NULL;
+
+UPDATE email_outbox SET html = NULL WHERE status IN ('SENT', 'DEAD') AND html IS NOT NULL;
@@ -0,0 +1,136 @@
+package com.organiser.platform.cache;
+
+import com.organiser.platform.OrganiserPlatformApplication;
+import com.organiser.platform.config.TestConfig;
+import com.organiser.platform.config.TestFixtures;
+import com.organiser.platform.config.TestJwtConfig;
+import com.organiser.platform.dto.CreateEventRequest;
+import com.organiser.platform.model.Event;
+import com.organiser.platform.model.Group;
+import com.organiser.platform.service.CacheInvalidationService;
+import com.organiser.platform.service.EventService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs two backend nodes (application contexts) against one Postgres and checks that an
+ * update on one node evicts the other node's local Caffeine entries via LISTEN/NOTIFY.
+ */
+@Testcontainers
+class CacheInvalidationBusIntegrationTest {
+
+    private static final long PROPAGATION_TIMEOUT_MILLIS = 10_000;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+
+    @BeforeEach
+    void startNodes() {
+        // Node A creates the schema; node B reuses it as a second instance would in production
+        nodeA = startNode();
+        nodeB = startNode("--spring.jpa.hibernate.ddl-auto=none", "--spring.sql.init.mode=never");
+    }
+
+    @AfterEach
+    void stopNodes() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    @Test
+    void updateEvent_OnOneNodeEvictsEventDetailOnTheOther() throws InterruptedException {
+        TestFixtures fixtures = nodeA.getBean(TestFixtures.class);
+        Group group = fixtures.group("Bus Walkers");
+        Event event = fixtures.event(group, details -> details.title("Before"));
+
+        EventService serviceA = nodeA.getBean(EventService.class);
+        EventService serviceB = nodeB.getBean(EventService.class);
+        assertEquals("Before", serviceB.getEventById(event.getId(), null).getTitle());
+
+        // A write that bypasses both nodes is invisible to node B's cache...
+        nodeA.getBean(JdbcTemplate.class).update("UPDATE events SET title = 'Sneaky' WHERE id = ?", event.getId());
+        assertEquals("Before", serviceB.getEventById(event.getId(), null).getTitle(),
+                "Node B should be serving the event from its local cache");
+
+        // ...but an update through node A is propagated
+        serviceA.updateEvent(event.getId(), updateRequest(event, group, "After"), group.getPrimaryOrganiser().getId());
+
+        assertEquals("After", awaitTitle(serviceB, event.getId(), "After"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void eventListingChange_OnOneNodeClearsUpcomingEventsOnTheOther() throws InterruptedException {
+        Cache upcomingB = nodeB.getBean(CacheManager.class).getCache("upcomingEvents");
+        // Read the native cache directly: a Spring get() on this loading cache would reload the page
+        var nativeUpcomingB = (com.github.benmanes.caffeine.cache.Cache<Object, Object>) upcomingB.getNativeCache();
+        CacheKeys.UpcomingPage firstPage = CacheKeys.upcomingPage(PageRequest.of(0, 10));
+        upcomingB.put(firstPage, List.of());
+
+        nodeA.getBean(CacheInvalidationService.class).eventListingChanged(1L);
+
+        long deadline = System.currentTimeMillis() + PROPAGATION_TIMEOUT_MILLIS;
+        while (nativeUpcomingB.getIfPresent(firstPage) != null) {
+            assertTrue(System.currentTimeMillis() < deadline, "Node B never cleared upcomingEvents");
+            Thread.sleep(50);
+        }
+    }
+
+    private ConfigurableApplicationContext startNode(String... extraArgs) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.profiles.active=test",
+                "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword(),
+                "--server.port=0",
+                "--spring.jmx.enabled=false",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"));
+        args.addAll(List.of(extraArgs));
+        return new SpringApplicationBuilder(OrganiserPlatformApplication.class, TestConfig.class, TestJwtConfig.class,
+                TestFixtures.class)
+                .run(args.toArray(String[]::new));
+    }
+
+    private CreateEventRequest updateRequest(Event event, Group group, String title) {
+        CreateEventRequest request = new CreateEventRequest();
+        request.setTitle(title);
+        request.setGroupId(group.getId());
+        request.setEventDate(event.getEventDate());
+        request.setLocation(event.getLocation());
+        return request;
+    }
+
+    private String awaitTitle(EventService service, Long eventId, String expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + PROPAGATION_TIMEOUT_MILLIS;
+        String title = service.getEventById(eventId, null).getTitle();
+        while (!expected.equals(title) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            title = service.getEventById(eventId, null).getTitle();
+        }
+        return title;
+    }
+}
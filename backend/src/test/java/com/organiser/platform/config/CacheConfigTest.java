@@ -0,0 +1,87 @@
+package com.organiser.platform.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.organiser.platform.cache.CacheDependencyTracker;
+import com.organiser.platform.cache.CacheKeys;
+import com.organiser.platform.dto.EventDTO;
+import com.organiser.platform.service.EventService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the per-cache Caffeine policies built by CacheConfig.
+ */
+class CacheConfigTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void upcomingEvents_RefreshesAheadOfExpiry() {
+        Cache<Object, Object> upcoming = nativeCache(build(new MockEnvironment()), "upcomingEvents");
+
+        assertInstanceOf(LoadingCache.class, upcoming);
+        Duration refresh = upcoming.policy().refreshAfterWrite().orElseThrow().getRefreshesAfter();
+        Duration expiry = upcoming.policy().expireAfterWrite().orElseThrow().getExpiresAfter();
+        assertTrue(refresh.compareTo(expiry) < 0, "Entries must be refreshed before they expire");
+    }
+
+    @Test
+    void events_IsSizedByWeight() {
+        Cache<Object, Object> events = nativeCache(build(new MockEnvironment()), "events");
+
+        assertTrue(events.policy().eviction().orElseThrow().isWeighted());
+        events.put(CacheKeys.groupEventsPage(1L, PageRequest.of(0, 50)), new PageImpl<>(
+                IntStream.range(0, 50).mapToObj(i -> EventDTO.builder().id((long) i).build()).toList()));
+        events.put(CacheKeys.eventDetail(1L), EventDTO.builder().id(1L).build());
+        events.cleanUp();
+        assertEquals(51, events.policy().eviction().orElseThrow().weightedSize().orElseThrow());
+    }
+
+    @Test
+    void specsCanBeOverriddenPerCache() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty(CacheConfig.SPEC_PROPERTY_PREFIX + "featureFlags", "maximumSize=5,expireAfterWrite=30d");
+
+        Cache<Object, Object> flags = nativeCache(build(environment), "featureFlags");
+
+        assertEquals(5, flags.policy().eviction().orElseThrow().getMaximum());
+        assertEquals(Duration.ofDays(30), flags.policy().expireAfterWrite().orElseThrow().getExpiresAfter());
+    }
+
+    @Test
+    void everyCacheExportsStatsToMicrometer() {
+        CacheManager cacheManager = build(new MockEnvironment());
+        cacheManager.getCache("groups").get(CacheKeys.publicGroups());
+
+        assertTrue(nativeCache(cacheManager, "featureFlags").policy().isRecordingStats());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tags("cache", "groups", "result", "miss")
+                .functionCounter().count());
+    }
+
+    private CacheManager build(MockEnvironment environment) {
+        return new CacheConfig().cacheManager(
+                new CacheDependencyTracker(),
+                new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry)).getBeanProvider(MeterRegistry.class),
+                new StaticListableBeanFactory().getBeanProvider(EventService.class),
+                environment);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cache<Object, Object> nativeCache(CacheManager cacheManager, String name) {
+        return (Cache<Object, Object>) cacheManager.getCache(name).getNativeCache();
+    }
+}
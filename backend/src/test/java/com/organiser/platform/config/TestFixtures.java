@@ -0,0 +1,107 @@
+package com.organiser.platform.config;
+
+import com.organiser.platform.model.Activity;
+import com.organiser.platform.model.Event;
+import com.organiser.platform.model.EventParticipant;
+import com.organiser.platform.model.Group;
+import com.organiser.platform.model.Member;
+import com.organiser.platform.repository.ActivityRepository;
+import com.organiser.platform.repository.EventParticipantRepository;
+import com.organiser.platform.repository.EventRepository;
+import com.organiser.platform.repository.GroupRepository;
+import com.organiser.platform.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.function.Consumer;
+
+/**
+ * Saved test data with sensible defaults: members, groups, events and participations.
+ * Add to a test with {@code @Import(TestFixtures.class)}; callers override only the fields
+ * their test is about.
+ */
+@TestComponent
+@RequiredArgsConstructor
+public class TestFixtures {
+
+    private final MemberRepository memberRepository;
+    private final ActivityRepository activityRepository;
+    private final GroupRepository groupRepository;
+    private final EventRepository eventRepository;
+    private final EventParticipantRepository eventParticipantRepository;
+
+    /**
+     * A member named {@code name}, with an email derived from it ("Plan Member 3" -> plan-member-3@example.com)
+     */
+    public Member member(String name) {
+        return memberRepository.save(Member.builder()
+                .email(name.toLowerCase().replaceAll("[^a-z0-9]+", "-") + "@example.com")
+                .displayName(name)
+                .build());
+    }
+
+    public Activity activity(String name) {
+        return activityRepository.save(Activity.builder()
+                .name(name)
+                .build());
+    }
+
+    /**
+     * A public group with its own organiser ("{name} Organiser") and activity ("{name} Hiking")
+     */
+    public Group group(String name) {
+        return group(name, member(name + " Organiser"), activity(name + " Hiking"));
+    }
+
+    public Group group(String name, Member organiser, Activity activity) {
+        return groupRepository.save(Group.builder()
+                .name(name)
+                .primaryOrganiser(organiser)
+                .activity(activity)
+                .build());
+    }
+
+    /**
+     * A published event of the group, hosted by its organiser, a week from now
+     */
+    public Event event(Group group) {
+        return event(group, details -> { });
+    }
+
+    /**
+     * Like {@link #event(Group)}, with {@code details} applied over the defaults
+     */
+    public Event event(Group group, Consumer<Event.EventBuilder> details) {
+        Event.EventBuilder builder = Event.builder()
+                .title("Ridge walk")
+                .group(group)
+                .hostMember(group.getPrimaryOrganiser())
+                .eventDate(Instant.now().plus(7, ChronoUnit.DAYS))
+                .location("Box Hill")
+                .status(Event.EventStatus.PUBLISHED);
+        details.accept(builder);
+        return eventRepository.save(builder.build());
+    }
+
+    /**
+     * A participation row as written by joinEvent; waitlisted ones are stamped with the current time.
+     * Counters on the event are not touched.
+     */
+    public EventParticipant participant(Event event, Member member, EventParticipant.ParticipationStatus status) {
+        return participant(event, member, status, details -> { });
+    }
+
+    public EventParticipant participant(Event event, Member member, EventParticipant.ParticipationStatus status,
+                                        Consumer<EventParticipant.EventParticipantBuilder> details) {
+        EventParticipant.EventParticipantBuilder builder = EventParticipant.builder()
+                .event(event)
+                .member(member)
+                .status(status)
+                .waitlistJoinedAt(status == EventParticipant.ParticipationStatus.WAITLISTED ? LocalDateTime.now() : null);
+        details.accept(builder);
+        return eventParticipantRepository.save(builder.build());
+    }
+}
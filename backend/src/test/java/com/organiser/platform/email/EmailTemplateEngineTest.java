@@ -0,0 +1,99 @@
+package com.organiser.platform.email;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Preview rendering and escaping for the precompiled email templates.
+ */
+class EmailTemplateEngineTest {
+
+    private EmailTemplateEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new EmailTemplateEngine();
+        engine.loadTemplates();
+    }
+
+    @Test
+    void loadTemplates_CompilesEveryEmail() {
+        for (String name : new String[]{"magic-link", "passcode", "review-prompt", "waitlist-promotion", "invitation"}) {
+            assertFalse(engine.getTemplate(name).getVariableNames().isEmpty(), name + " should have variables");
+        }
+    }
+
+    @Test
+    void preview_ShowsEveryVariableAndSection() {
+        String html = engine.preview("invitation");
+
+        assertTrue(html.contains("<strong>[senderName]</strong> has invited you to join"));
+        assertTrue(html.contains("&quot;[personalMessage]&quot;") || html.contains("\"[personalMessage]\""));
+        assertTrue(html.contains("View [itemTypeLabel]"));
+        assertFalse(html.contains("{{"), "No tag may survive rendering");
+    }
+
+    @Test
+    void render_EscapesValues() {
+        String html = engine.render("invitation", invitationModel("<script>alert('x')</script>"));
+
+        assertTrue(html.contains("&lt;script&gt;alert(&#x27;x&#x27;)&lt;&#x2F;script&gt;"));
+        assertFalse(html.contains("<script>"));
+    }
+
+    @Test
+    void render_SkipsEmptySections() {
+        String withMessage = engine.render("invitation", invitationModel("See you there"));
+        String withoutMessage = engine.render("invitation", invitationModel(null));
+
+        assertTrue(withMessage.contains("See you there"));
+        assertFalse(withoutMessage.contains("font-style: italic"));
+    }
+
+    @Test
+    void render_ReusesBufferWithoutLeakingPreviousOutput() {
+        String first = engine.render("passcode", Map.of("code", "123456"));
+        String second = engine.render("passcode", Map.of("code", "654321"));
+
+        assertEquals(first.length(), second.length());
+        assertFalse(second.contains("123456"));
+    }
+
+    @Test
+    void render_FailsOnMissingVariable() {
+        assertThrows(IllegalArgumentException.class, () -> engine.render("passcode", Map.of()));
+        assertThrows(IllegalArgumentException.class, () -> engine.render("no-such-template", Map.of()));
+    }
+
+    @Test
+    void compile_RejectsUnbalancedSections() {
+        assertThrows(IllegalArgumentException.class, () -> EmailTemplate.compile("broken", "{{#a}}never closed"));
+        assertThrows(IllegalArgumentException.class, () -> EmailTemplate.compile("broken", "{{/a}}"));
+        assertThrows(IllegalArgumentException.class, () -> EmailTemplate.compile("broken", "{{unclosed"));
+    }
+
+    @Test
+    void compile_SupportsRawValues() {
+        EmailTemplate template = EmailTemplate.compile("raw", "<p>{{{html}}}</p><p>{{html}}</p>");
+        StringBuilder out = new StringBuilder();
+
+        template.renderTo(Map.of("html", "<b>hi</b>"), out);
+
+        assertEquals("<p><b>hi</b></p><p>&lt;b&gt;hi&lt;&#x2F;b&gt;</p>", out.toString());
+    }
+
+    private Map<String, Object> invitationModel(String personalMessage) {
+        Map<String, Object> model = new HashMap<>();
+        model.put("senderName", "Alex");
+        model.put("itemName", "Ridge walk");
+        model.put("personalMessage", personalMessage);
+        model.put("itemUrl", "https://example.com/events/1");
+        model.put("itemTypeLabel", "Event");
+        return model;
+    }
+}
@@ -0,0 +1,168 @@
+package com.organiser.platform.ratelimit;
+
+import com.organiser.platform.OrganiserPlatformApplication;
+import com.organiser.platform.config.TestConfig;
+import com.organiser.platform.config.TestJwtConfig;
+import com.organiser.platform.service.RateLimitService;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.Refill;
+import io.github.bucket4j.distributed.AsyncBucketProxy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs two backend nodes (application contexts) sharing the jdbc bucket store and checks that a
+ * limit is enforced once for the cluster, not once per node.
+ */
+@Testcontainers
+class RateLimitClusterTest {
+
+    private static final int THREADS_PER_NODE = 8;
+    private static final int ATTEMPTS_PER_THREAD = 5;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+
+    @BeforeEach
+    void startNodes() {
+        // Node A creates the schema; node B reuses it as a second instance would in production
+        nodeA = startNode();
+        nodeB = startNode("--spring.jpa.hibernate.ddl-auto=none", "--spring.sql.init.mode=never");
+    }
+
+    @AfterEach
+    void stopNodes() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    @Test
+    void passcodeVerifyLimit_HoldsAcrossNodes() throws Exception {
+        String key = "203.0.113.7:passcode-verify:brute@example.com";
+
+        int allowed = hammer(service -> service.resolvePasscodeVerifyBucket(key));
+
+        assertEquals(10, allowed, "Both nodes together must allow exactly the 10-attempt budget");
+        RateLimitService serviceB = nodeB.getBean(RateLimitService.class);
+        assertEquals(0, serviceB.getAvailableTokens(serviceB.resolvePasscodeVerifyBucket(key)));
+        assertEquals(1, nodeA.getBean(JdbcTemplate.class).queryForObject(
+                "SELECT COUNT(*) FROM rate_limit_buckets WHERE id = ?", Integer.class, "passcode-verify:" + key),
+                "One shared row backs the bucket on both nodes");
+    }
+
+    @Test
+    void bucketsOfDifferentKeysAndLimitsAreIndependent() throws Exception {
+        RateLimitService serviceA = nodeA.getBean(RateLimitService.class);
+        RateLimitService serviceB = nodeB.getBean(RateLimitService.class);
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(serviceA.tryConsume(serviceA.resolveMagicLinkBucket("198.51.100.1:a@example.com")));
+        }
+        assertFalse(serviceB.tryConsume(serviceB.resolveMagicLinkBucket("198.51.100.1:a@example.com")));
+        assertTrue(serviceB.tryConsume(serviceB.resolveMagicLinkBucket("198.51.100.1:b@example.com")));
+        assertTrue(serviceB.tryConsume(serviceB.resolveOAuthBucket("198.51.100.1")));
+    }
+
+    @Test
+    void asyncBuckets_ShareStateWithSyncBucketsAndCanBeRemoved() throws Exception {
+        String key = "async:198.51.100.2";
+        BucketConfiguration configuration = BucketConfiguration.builder()
+                .addLimit(Bandwidth.classic(3, Refill.intervally(3, Duration.ofMinutes(1))))
+                .build();
+        PostgresCompareAndSwapProxyManager managerA = new PostgresCompareAndSwapProxyManager(nodeA.getBean(JdbcTemplate.class));
+        PostgresCompareAndSwapProxyManager managerB = new PostgresCompareAndSwapProxyManager(nodeB.getBean(JdbcTemplate.class));
+
+        AsyncBucketProxy asyncBucket = managerA.asAsync().builder()
+                .build(key, () -> CompletableFuture.completedFuture(configuration));
+        assertTrue(asyncBucket.tryConsume(2).get(10, TimeUnit.SECONDS));
+        Bucket syncBucket = managerB.builder().build(key, () -> configuration);
+        assertEquals(1, syncBucket.getAvailableTokens(), "The sync bucket sees the async consume");
+        assertTrue(syncBucket.tryConsume(1));
+        assertFalse(asyncBucket.tryConsume(1).get(10, TimeUnit.SECONDS));
+
+        managerA.asAsync().removeProxy(key).get(10, TimeUnit.SECONDS);
+        assertEquals(0, nodeA.getBean(JdbcTemplate.class).queryForObject(
+                "SELECT COUNT(*) FROM rate_limit_buckets WHERE id = ?", Integer.class, key));
+    }
+
+    /**
+     * Consume from both nodes concurrently until every thread has used its attempts
+     * @return number of consumes that were allowed
+     */
+    private int hammer(Function<RateLimitService, Bucket> bucket) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS_PER_NODE * 2);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        try {
+            for (ConfigurableApplicationContext node : List.of(nodeA, nodeB)) {
+                RateLimitService service = node.getBean(RateLimitService.class);
+                for (int t = 0; t < THREADS_PER_NODE; t++) {
+                    results.add(pool.submit(() -> {
+                        start.await();
+                        int allowed = 0;
+                        for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                            if (service.tryConsume(bucket.apply(service))) {
+                                allowed++;
+                            }
+                        }
+                        return allowed;
+                    }));
+                }
+            }
+            start.countDown();
+            int allowed = 0;
+            for (Future<Integer> result : results) {
+                allowed += result.get();
+            }
+            return allowed;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private ConfigurableApplicationContext startNode(String... extraArgs) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.profiles.active=test",
+                "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword(),
+                "--app.rate-limit.store=jdbc",
+                "--server.port=0",
+                "--spring.jmx.enabled=false",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"));
+        args.addAll(List.of(extraArgs));
+        return new SpringApplicationBuilder(OrganiserPlatformApplication.class, TestConfig.class, TestJwtConfig.class)
+                .run(args.toArray(String[]::new));
+    }
+}
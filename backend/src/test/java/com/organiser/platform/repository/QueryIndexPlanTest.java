@@ -0,0 +1,188 @@
+package com.organiser.platform.repository;
+
+import com.organiser.platform.config.TestConfig;
+import com.organiser.platform.config.TestFixtures;
+import com.organiser.platform.config.TestJwtConfig;
+import com.organiser.platform.model.Group;
+import com.organiser.platform.model.Member;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * EXPLAIN checks that the hot notification, participant and review prompt queries use the
+ * V63 indexes, and that event text search uses both V57 GIN indexes.
+ *
+ * Sequential scans are disabled for the transaction so the planner has to pick between
+ * indexes; on a table this small it would otherwise (rightly) scan the heap.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import({TestConfig.class, TestJwtConfig.class, TestFixtures.class})
+@Transactional
+class QueryIndexPlanTest {
+
+    private static final int MEMBERS = 30;
+    private static final int NOTIFICATIONS_PER_MEMBER = 400;
+    private static final int EVENTS = 40;
+    private static final int SEARCH_EVENTS = 2000;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final List<Long> memberIds = new ArrayList<>();
+    private Long eventId;
+
+    @BeforeEach
+    void setUp() {
+        Member organiser = fixtures.member("Plan Member 0");
+        memberIds.add(organiser.getId());
+        for (int i = 1; i < MEMBERS; i++) {
+            memberIds.add(fixtures.member("Plan Member " + i).getId());
+        }
+        Group group = fixtures.group("Plan Ramblers", organiser, fixtures.activity("Plan Hiking"));
+        for (int i = 0; i < EVENTS; i++) {
+            int index = i;
+            eventId = fixtures.event(group, event -> event
+                    .title("Plan walk " + index)
+                    .eventDate(Instant.now().plus(index + 1, ChronoUnit.DAYS))).getId();
+        }
+        entityManager.flush();
+
+        // Most notifications are read, as in production
+        for (Long memberId : memberIds) {
+            jdbcTemplate.update("""
+                    INSERT INTO notifications (member_id, notification_type, title, message, is_read, created_at, read_at)
+                    SELECT ?, 'NEW_EVENT', 'New event', 'A new event was posted', n % 10 <> 0,
+                           now() - n * INTERVAL '1 hour',
+                           CASE WHEN n % 10 <> 0 THEN now() - n * INTERVAL '30 minutes' END
+                    FROM generate_series(1, ?) AS n
+                    """, memberId, NOTIFICATIONS_PER_MEMBER);
+        }
+        jdbcTemplate.update("""
+                INSERT INTO event_participants (event_id, member_id, status, registration_date, registered_at,
+                                                guest_count, review_prompt_sent)
+                SELECT e.id, m.id,
+                       CASE WHEN m.id % 5 = 0 THEN 'WAITLISTED' WHEN m.id % 7 = 0 THEN 'CANCELLED' ELSE 'REGISTERED' END,
+                       now(), now(), 0, e.id % 2 = 0
+                FROM events e CROSS JOIN members m
+                WHERE e.group_id = ? AND m.email LIKE 'plan-member-%'
+                """, group.getId());
+
+        // A realistic spread for the search indexes: a few summit walks among many local ones
+        jdbcTemplate.update("""
+                INSERT INTO events (title, description, location, status, group_id, host_member_id, event_date,
+                                    confirmed_headcount, waitlist_count, created_at)
+                SELECT CASE WHEN n % 400 = 0 THEN 'Snowdon summit ' || n ELSE 'Park walk ' || n END,
+                       'A day out', CASE WHEN n % 400 = 0 THEN 'Llanberis' ELSE 'Meadow ' || n END,
+                       'PUBLISHED', ?, ?, now() + n * INTERVAL '1 hour', 0, 0, now()
+                FROM generate_series(1, ?) AS n
+                """, group.getId(), organiser.getId(), SEARCH_EVENTS);
+
+        jdbcTemplate.execute("ANALYZE events");
+        jdbcTemplate.execute("ANALYZE notifications");
+        jdbcTemplate.execute("ANALYZE event_participants");
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+    }
+
+    @Test
+    void notificationList_UsesMemberCreatedIndex() {
+        String plan = explain("SELECT * FROM notifications WHERE member_id = " + memberIds.get(1) +
+                " ORDER BY created_at DESC LIMIT 20");
+
+        assertTrue(plan.contains("idx_notifications_member_created"), plan);
+        assertFalse(plan.contains("Sort"), "The index order should serve ORDER BY created_at DESC\n" + plan);
+    }
+
+    @Test
+    void unreadCountAndMarkAllRead_UsePartialUnreadIndex() {
+        Long memberId = memberIds.get(2);
+
+        assertTrue(explain("SELECT COUNT(*) FROM notifications WHERE member_id = " + memberId + " AND is_read = false")
+                .contains("idx_notifications_member_unread"));
+        assertTrue(explain("SELECT member_id, COUNT(*) FROM notifications WHERE member_id IN (" + ids() + ")" +
+                " AND is_read = false GROUP BY member_id")
+                .contains("idx_notifications_member_unread"));
+        assertTrue(explain("UPDATE notifications SET is_read = true, read_at = now() WHERE member_id = " + memberId +
+                " AND is_read = false")
+                .contains("idx_notifications_member_unread"));
+    }
+
+    @Test
+    void participantCounts_UseEventAndMemberStatusIndexes() {
+        assertTrue(explain("SELECT COUNT(*) FROM event_participants WHERE event_id = " + eventId +
+                " AND status = 'WAITLISTED'")
+                .contains("idx_event_participants_event_status"));
+        assertTrue(explain("SELECT member_id, COUNT(*) FROM event_participants WHERE member_id IN (" + ids() + ")" +
+                " AND status IN ('REGISTERED', 'CONFIRMED', 'ATTENDED') GROUP BY member_id")
+                .contains("idx_event_participants_member_status"));
+    }
+
+    @Test
+    void reviewPromptClaim_ProbesDueEventsThroughPartialPendingIndex() {
+        // Events ending tomorrow: one of the group's walks among a day's worth of search events
+        String plan = explain(EventParticipantRepository.CLAIM_DUE_REVIEW_PROMPTS_SQL
+                .replace(":dueFrom", "LOCALTIMESTAMP + INTERVAL '1 day'")
+                .replace(":dueTo", "LOCALTIMESTAMP + INTERVAL '2 days'")
+                .replace(":afterId", "0")
+                .replace(":limit", "500"));
+
+        assertTrue(plan.contains("idx_event_participants_review_pending"), plan);
+    }
+
+    @Test
+    void eventTextSearch_BitmapOrsBothGinIndexes() {
+        String textMatch = EventRepository.TEXT_MATCH_SQL
+                .replace(":tsQuery", "'snowdon:*'")
+                .replace(":text", "'snowdon'");
+
+        for (String sql : List.of(
+                "SELECT e.* FROM events e WHERE e.status = 'PUBLISHED' AND " + textMatch,
+                "SELECT COUNT(*) FROM events e WHERE e.status = 'PUBLISHED' AND " + textMatch)) {
+            String plan = explain(sql);
+            assertTrue(plan.contains("BitmapOr"), plan);
+            assertTrue(plan.contains("idx_events_search_vector"), plan);
+            assertTrue(plan.contains("idx_events_location_trgm"), plan);
+        }
+    }
+
+    @Test
+    void replacedSingleColumnIndexes_AreGone() {
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT indexname FROM pg_indexes WHERE tablename IN ('notifications', 'event_participants')",
+                String.class);
+
+        assertFalse(indexes.contains("idx_notification_is_read"), indexes.toString());
+        assertFalse(indexes.contains("idx_notification_type"), indexes.toString());
+        assertFalse(indexes.contains("idx_event_participants_status"), indexes.toString());
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+
+    private String ids() {
+        return memberIds.stream().map(String::valueOf).collect(Collectors.joining(", "));
+    }
+}
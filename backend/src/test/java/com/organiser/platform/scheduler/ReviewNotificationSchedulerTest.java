@@ -0,0 +1,151 @@
+package com.organiser.platform.scheduler;
+
+import com.organiser.platform.config.TestConfig;
+import com.organiser.platform.config.TestFixtures;
+import com.organiser.platform.config.TestJwtConfig;
+import com.organiser.platform.model.Event;
+import com.organiser.platform.model.EventParticipant;
+import com.organiser.platform.model.Group;
+import com.organiser.platform.model.Member;
+import com.organiser.platform.repository.EventParticipantRepository;
+import com.organiser.platform.repository.EventRepository;
+import com.organiser.platform.repository.MemberRepository;
+import com.organiser.platform.service.EmailService;
+import com.organiser.platform.service.WebPushService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Review prompts: SQL-side review window, chunked claims and one dispatch per event.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import({TestConfig.class, TestJwtConfig.class, TestFixtures.class})
+@Transactional
+class ReviewNotificationSchedulerTest {
+
+    @Autowired
+    private EventParticipantRepository eventParticipantRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private WebPushService webPushService;
+    private EmailService emailService;
+    private ReviewNotificationScheduler scheduler;
+
+    private Member organiser;
+    private Group group;
+
+    @BeforeEach
+    void setUp() {
+        webPushService = mock(WebPushService.class);
+        emailService = mock(EmailService.class);
+        scheduler = new ReviewNotificationScheduler(eventParticipantRepository, eventRepository, memberRepository,
+                webPushService, emailService, transactionTemplate);
+
+        group = fixtures.group("Review Ramblers");
+        organiser = group.getPrimaryOrganiser();
+    }
+
+    @Test
+    void sendReviewPrompts_AppliesWindowAndExclusionsInSql() {
+        Instant now = Instant.now();
+        // Ended 5 days ago (3h walk): due
+        Event due = addEvent(now.minus(5, ChronoUnit.DAYS), null, new BigDecimal("3.00"));
+        // Ends in an hour: too soon, left for a later run
+        Event tooSoon = addEvent(now.minus(1, ChronoUnit.HOURS), null, new BigDecimal("2.00"));
+        // Started 30.5 days ago, ended 2h later: window closed
+        Instant expiredStart = now.minus(30 * 24 + 12, ChronoUnit.HOURS);
+        Event expired = addEvent(expiredStart, expiredStart.plus(2, ChronoUnit.HOURS), null);
+
+        Member attendee = fixtures.member("review-attendee");
+        Member dropout = fixtures.member("review-dropout");
+        Member early = fixtures.member("review-early");
+        Member late = fixtures.member("review-late");
+        EventParticipant prompted = fixtures.participant(due, attendee, EventParticipant.ParticipationStatus.ATTENDED);
+        EventParticipant organiserSeat = fixtures.participant(due, organiser, EventParticipant.ParticipationStatus.REGISTERED);
+        EventParticipant cancelled = fixtures.participant(due, dropout, EventParticipant.ParticipationStatus.CANCELLED);
+        EventParticipant notYet = fixtures.participant(tooSoon, early, EventParticipant.ParticipationStatus.REGISTERED);
+        EventParticipant closed = fixtures.participant(expired, late, EventParticipant.ParticipationStatus.REGISTERED);
+        entityManager.flush();
+
+        scheduler.sendReviewPrompts();
+        entityManager.clear();
+
+        assertTrue(promptSent(prompted));
+        assertTrue(promptSent(organiserSeat), "Organisers are marked so they are not revisited");
+        assertTrue(promptSent(closed), "Expired prompts are marked so they are not revisited");
+        assertFalse(promptSent(cancelled));
+        assertFalse(promptSent(notYet), "Too soon: picked up by a later run");
+
+        verify(webPushService).sendToMembers(eq(List.of(attendee.getId())), anyString(), anyString(),
+                eq("/events/" + due.getId() + "/review"));
+        verify(emailService).sendReviewPromptEmails(eq(due.getId()), anyString(), eq("Review Ramblers"), anyList());
+        verifyNoMoreInteractions(webPushService, emailService);
+    }
+
+    @Test
+    void sendReviewPrompts_DispatchesOncePerEventAndNeverTwice() {
+        Instant now = Instant.now();
+        Event first = addEvent(now.minus(3, ChronoUnit.DAYS), null, new BigDecimal("4.00"));
+        Event second = addEvent(now.minus(10, ChronoUnit.DAYS), null, new BigDecimal("4.00"));
+        for (int i = 0; i < 3; i++) {
+            fixtures.participant(first, fixtures.member("review-first-" + i), EventParticipant.ParticipationStatus.REGISTERED);
+            fixtures.participant(second, fixtures.member("review-second-" + i), EventParticipant.ParticipationStatus.REGISTERED);
+        }
+        entityManager.flush();
+
+        scheduler.sendReviewPrompts();
+        scheduler.sendReviewPrompts();
+
+        verify(webPushService).sendToMembers(argThat(ids -> ids.size() == 3), anyString(), anyString(),
+                eq("/events/" + first.getId() + "/review"));
+        verify(webPushService).sendToMembers(argThat(ids -> ids.size() == 3), anyString(), anyString(),
+                eq("/events/" + second.getId() + "/review"));
+        verify(emailService, times(2)).sendReviewPromptEmails(
+                argThat(id -> Set.of(first.getId(), second.getId()).contains(id)), anyString(), anyString(), anyList());
+        verifyNoMoreInteractions(webPushService, emailService);
+    }
+
+    private Event addEvent(Instant eventDate, Instant endDate, BigDecimal durationHours) {
+        return fixtures.event(group, event -> event
+                .eventDate(eventDate)
+                .endDate(endDate)
+                .estimatedDurationHours(durationHours));
+    }
+
+    private boolean promptSent(EventParticipant participant) {
+        return eventParticipantRepository.findById(participant.getId()).orElseThrow().getReviewPromptSent();
+    }
+}
@@ -0,0 +1,131 @@
+package com.organiser.platform.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.organiser.platform.ratelimit.ApiRateLimitTier;
+import com.organiser.platform.ratelimit.InMemoryBucketStore;
+import com.organiser.platform.service.RateLimitService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tiered global API rate limit: quotas per route group, keys per member or IP, RateLimit headers.
+ */
+class ApiRateLimitFilterTest {
+
+    private static final int SEARCH_LIMIT = 3;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private ApiRateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.rate-limit.api.search", String.valueOf(SEARCH_LIMIT))
+                .withProperty("app.rate-limit.api.write", "2");
+        filter = new ApiRateLimitFilter(new RateLimitService(new InMemoryBucketStore(), environment), objectMapper);
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void search_RejectedWith429OnceQuotaIsSpent() throws Exception {
+        for (int i = 0; i < SEARCH_LIMIT; i++) {
+            MockHttpServletResponse response = call("GET", "/api/v1/events/public/search", "203.0.113.5");
+            assertEquals(200, response.getStatus());
+            assertEquals(String.valueOf(SEARCH_LIMIT), response.getHeader("RateLimit-Limit"));
+            assertEquals(String.valueOf(SEARCH_LIMIT - 1 - i), response.getHeader("RateLimit-Remaining"));
+        }
+
+        MockHttpServletResponse rejected = call("GET", "/api/v1/events/public/search", "203.0.113.5");
+
+        assertEquals(429, rejected.getStatus());
+        assertEquals("0", rejected.getHeader("RateLimit-Remaining"));
+        assertTrue(Long.parseLong(rejected.getHeader("Retry-After")) >= 1);
+        assertTrue(Long.parseLong(rejected.getHeader("RateLimit-Reset")) >= 1);
+
+        JsonNode body = objectMapper.readTree(rejected.getContentAsString());
+        assertEquals(429, body.get("status").asInt());
+        assertTrue(body.hasNonNull("message"));
+        assertTrue(body.hasNonNull("timestamp"));
+    }
+
+    @Test
+    void anonymous_SpoofedForwardedForDoesNotGetAFreshBucket() throws Exception {
+        for (int i = 0; i < SEARCH_LIMIT; i++) {
+            call("GET", "/api/v1/events/public/search", "203.0.113.8", "192.0.2." + i);
+        }
+
+        assertEquals(429, call("GET", "/api/v1/events/public/search", "203.0.113.8", "192.0.2.99").getStatus(),
+                "Keyed on the connection address, not a client-supplied header");
+    }
+
+    @Test
+    void tiersHaveSeparateBudgets() throws Exception {
+        for (int i = 0; i <= SEARCH_LIMIT; i++) {
+            call("GET", "/api/v1/events/public/search", "203.0.113.6");
+        }
+
+        assertEquals(200, call("GET", "/api/v1/events/public", "203.0.113.6").getStatus(),
+                "Scraping search must not lock the client out of ordinary reads");
+        assertEquals("300", call("GET", "/api/v1/groups/public", "203.0.113.6").getHeader("RateLimit-Limit"));
+    }
+
+    @Test
+    void authenticatedRequests_LimitedPerMemberNotPerIp() throws Exception {
+        authenticateAs(1L);
+        call("POST", "/api/v1/events/5/join", "198.51.100.9");
+        call("POST", "/api/v1/events/6/join", "198.51.100.9");
+        assertEquals(429, call("POST", "/api/v1/events/7/join", "198.51.100.9").getStatus());
+
+        authenticateAs(2L);
+        assertEquals(200, call("POST", "/api/v1/events/7/join", "198.51.100.9").getStatus(),
+                "Another member behind the same NAT keeps their own budget");
+    }
+
+    @Test
+    void authAndHealthEndpoints_AreExempt() throws Exception {
+        for (String path : List.of("/api/v1/auth/passcode/verify", "/api/v1/actuator/health")) {
+            MockHttpServletResponse response = call("POST", path, "203.0.113.7");
+            assertNull(response.getHeader("RateLimit-Limit"), path + " should not be limited here");
+        }
+        assertNull(ApiRateLimitTier.classify("OPTIONS", "/api/v1/events/public/search"), "CORS preflights are free");
+        assertEquals(ApiRateLimitTier.READ, ApiRateLimitTier.classify("GET", "/api/v1/admin/feature-flags/map"));
+        assertEquals(ApiRateLimitTier.ADMIN, ApiRateLimitTier.classify("PUT", "/api/v1/admin/feature-flags/x"));
+    }
+
+    private MockHttpServletResponse call(String method, String path, String clientIp) throws Exception {
+        return call(method, path, clientIp, clientIp);
+    }
+
+    private MockHttpServletResponse call(String method, String path, String clientIp, String forwardedFor) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        // The container has already resolved trusted X-Forwarded-For hops into the remote address
+        request.setRemoteAddr(clientIp);
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private void authenticateAs(Long memberId) {
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken("member-" + memberId, null, List.of());
+        authentication.setDetails(memberId);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+}
@@ -0,0 +1,182 @@
+package com.organiser.platform.service;
+
+import com.organiser.platform.cache.CacheDependencyTracker;
+import com.organiser.platform.cache.CacheInvalidationBus;
+import com.organiser.platform.cache.CacheKeys;
+import com.organiser.platform.cache.TrackingCacheManager;
+import com.organiser.platform.dto.EventDTO;
+import com.organiser.platform.dto.GroupDTO;
+import com.organiser.platform.security.AuthenticatedMember;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for keyed, tag-based cache invalidation.
+ * A write must evict only the entries depending on what changed.
+ */
+class CacheInvalidationServiceTest {
+
+    private CacheInvalidationService invalidationService;
+    private TrackingCacheManager cacheManager;
+    private SimpleMeterRegistry meterRegistry;
+    private CacheInvalidationBus invalidationBus;
+
+    @BeforeEach
+    void setUp() {
+        CacheDependencyTracker tracker = new CacheDependencyTracker();
+        cacheManager = new TrackingCacheManager(
+                new ConcurrentMapCacheManager("events", "upcomingEvents", "groups", "members", "principals"), tracker);
+        meterRegistry = new SimpleMeterRegistry();
+        invalidationBus = mock(CacheInvalidationBus.class);
+        invalidationService = new CacheInvalidationService(cacheManager, tracker,
+                new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry)).getBeanProvider(MeterRegistry.class),
+                invalidationBus);
+        invalidationService.subscribeToRemoteInvalidations();
+    }
+
+    @Test
+    void eventChanged_EvictsOnlyThatEventsDetailAndPages() {
+        Cache events = cacheManager.getCache("events");
+        Cache upcoming = cacheManager.getCache("upcomingEvents");
+        events.put(CacheKeys.eventDetail(1L), event(1L, 10L));
+        events.put(CacheKeys.eventDetail(2L), event(2L, 10L));
+        upcoming.put(CacheKeys.upcomingPage(PageRequest.of(0, 10)), new PageImpl<>(List.of(event(1L, 10L))));
+        upcoming.put(CacheKeys.upcomingPage(PageRequest.of(1, 10)), new PageImpl<>(List.of(event(2L, 10L))));
+
+        invalidationService.eventChanged(1L);
+
+        assertNull(events.get(CacheKeys.eventDetail(1L)));
+        assertNotNull(events.get(CacheKeys.eventDetail(2L)), "Other events must stay cached");
+        assertNull(upcoming.get(CacheKeys.upcomingPage(PageRequest.of(0, 10))));
+        assertNotNull(upcoming.get(CacheKeys.upcomingPage(PageRequest.of(1, 10))));
+        assertEquals(1.0, meterRegistry.counter("cache.invalidations",
+                "cache", "events", "scope", "event", "origin", "local").count());
+        verify(invalidationBus).publish("events", CacheKeys.eventTag(1L));
+        verify(invalidationBus).publish("upcomingEvents", CacheKeys.eventTag(1L));
+    }
+
+    @Test
+    void remoteInvalidation_EvictsLocallyWithoutRepublishing() {
+        Cache events = cacheManager.getCache("events");
+        events.put(CacheKeys.eventDetail(1L), event(1L, 10L));
+        events.put(CacheKeys.eventDetail(2L), event(2L, 10L));
+
+        remoteSubscriber().accept("events", CacheKeys.eventTag(1L));
+
+        assertNull(events.get(CacheKeys.eventDetail(1L)));
+        assertNotNull(events.get(CacheKeys.eventDetail(2L)));
+        verify(invalidationBus, never()).publish(anyString(), anyString());
+    }
+
+    @Test
+    void remoteInvalidation_ClearsEverythingAfterMissedMessages() {
+        cacheManager.getCache("events").put(CacheKeys.eventDetail(1L), event(1L, 10L));
+        cacheManager.getCache("groups").put(CacheKeys.groupDetail(10L), group(10L, 1L));
+
+        remoteSubscriber().accept(null, CacheInvalidationBus.ALL);
+
+        assertNull(cacheManager.getCache("events").get(CacheKeys.eventDetail(1L)));
+        assertNull(cacheManager.getCache("groups").get(CacheKeys.groupDetail(10L)));
+    }
+
+    @Test
+    void eventListingChanged_EvictsGroupPagesIncludingEmptyOnes() {
+        Cache events = cacheManager.getCache("events");
+        events.put(CacheKeys.groupEventsPage(10L, PageRequest.of(0, 10)), new PageImpl<EventDTO>(List.of()));
+        events.put(CacheKeys.groupEventsPage(11L, PageRequest.of(0, 10)), new PageImpl<EventDTO>(List.of()));
+
+        invalidationService.eventListingChanged(10L);
+
+        assertNull(events.get(CacheKeys.groupEventsPage(10L, PageRequest.of(0, 10))));
+        assertNotNull(events.get(CacheKeys.groupEventsPage(11L, PageRequest.of(0, 10))));
+    }
+
+    @Test
+    void membershipChanged_EvictsMemberListsAndGroupButNotOtherMembers() {
+        Cache groups = cacheManager.getCache("groups");
+        groups.put(CacheKeys.subscribedGroups(42L), List.of(group(10L, 1L)));
+        groups.put(CacheKeys.subscribedGroups(43L), List.of(group(11L, 1L)));
+        groups.put(CacheKeys.groupDetail(10L), group(10L, 1L));
+        groups.put(CacheKeys.publicGroups(), List.of(group(10L, 1L), group(11L, 1L)));
+
+        invalidationService.membershipChanged(42L, 10L);
+
+        assertNull(groups.get(CacheKeys.subscribedGroups(42L)));
+        assertNull(groups.get(CacheKeys.groupDetail(10L)), "Member count of the group changed");
+        assertNull(groups.get(CacheKeys.publicGroups()), "The directory shows the group's member count");
+        assertNotNull(groups.get(CacheKeys.subscribedGroups(43L)));
+    }
+
+    @Test
+    void memberChanged_EvictsEntriesShowingMemberAsHost() {
+        Cache events = cacheManager.getCache("events");
+        EventDTO hosted = event(1L, 10L);
+        hosted.setHostMemberId(42L);
+        events.put(CacheKeys.eventDetail(1L), hosted);
+        events.put(CacheKeys.eventDetail(2L), event(2L, 10L));
+
+        invalidationService.memberChanged(42L);
+
+        assertNull(events.get(CacheKeys.eventDetail(1L)));
+        assertNotNull(events.get(CacheKeys.eventDetail(2L)));
+    }
+
+    @Test
+    void memberAccessChanged_EvictsOnlyThatMembersPrincipal() {
+        Cache principals = cacheManager.getCache("principals");
+        Cache events = cacheManager.getCache("events");
+        principals.put(CacheKeys.principal(42L), new AuthenticatedMember(42L, "a@example.com", true, "ORGANISER"));
+        principals.put(CacheKeys.principal(43L), new AuthenticatedMember(43L, "b@example.com", true, "MEMBER"));
+        EventDTO hosted = event(1L, 10L);
+        hosted.setHostMemberId(42L);
+        events.put(CacheKeys.eventDetail(1L), hosted);
+
+        invalidationService.memberAccessChanged(42L);
+
+        assertNull(principals.get(CacheKeys.principal(42L)));
+        assertNotNull(principals.get(CacheKeys.principal(43L)));
+        assertNotNull(events.get(CacheKeys.eventDetail(1L)), "A role change does not alter what events display");
+        verify(invalidationBus).publish("principals", CacheKeys.memberTag(42L));
+    }
+
+    @Test
+    void memberChanged_AlsoEvictsPrincipal() {
+        Cache principals = cacheManager.getCache("principals");
+        principals.put(CacheKeys.principal(42L), new AuthenticatedMember(42L, "a@example.com", true, "MEMBER"));
+
+        invalidationService.memberChanged(42L);
+
+        assertNull(principals.get(CacheKeys.principal(42L)), "Deactivation must reach the auth cache");
+    }
+
+    @SuppressWarnings("unchecked")
+    private BiConsumer<String, String> remoteSubscriber() {
+        ArgumentCaptor<BiConsumer<String, String>> subscriber = ArgumentCaptor.forClass(BiConsumer.class);
+        verify(invalidationBus).subscribe(subscriber.capture());
+        return subscriber.getValue();
+    }
+
+    private EventDTO event(Long id, Long groupId) {
+        return EventDTO.builder().id(id).groupId(groupId).organiserId(1L).build();
+    }
+
+    private GroupDTO group(Long id, Long organiserId) {
+        return GroupDTO.builder().id(id).primaryOrganiserId(organiserId).build();
+    }
+}
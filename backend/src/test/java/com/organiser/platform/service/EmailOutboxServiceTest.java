@@ -0,0 +1,264 @@
+package com.organiser.platform.service;
+
+import com.organiser.platform.config.TestConfig;
+import com.organiser.platform.config.TestJwtConfig;
+import com.organiser.platform.model.EmailOutbox;
+import com.organiser.platform.model.Member;
+import com.organiser.platform.repository.EmailOutboxRepository;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Email outbox against a stub Resend API: delivery after commit, idempotency, retries,
+ * dead-lettering and batch sends.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import({TestConfig.class, TestJwtConfig.class})
+@Testcontainers
+class EmailOutboxServiceTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    static final HttpServer resend = startStubResend();
+    static final List<String> idempotencyKeys = new CopyOnWriteArrayList<>();
+    static final Map<String, AtomicInteger> callsByRecipient = new ConcurrentHashMap<>();
+    static final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("resend.api-key", () -> "test-key");
+        registry.add("resend.base-url", () -> "http://localhost:" + resend.getAddress().getPort());
+        registry.add("app.email.outbox.rate-per-second", () -> "100");
+        registry.add("app.email.outbox.initial-backoff", () -> "0s");
+        registry.add("app.email.outbox.poll-interval-ms", () -> "200");
+    }
+
+    @Autowired
+    private EmailOutboxService emailOutboxService;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void resetStub() {
+        idempotencyKeys.clear();
+        callsByRecipient.clear();
+        batchSizes.clear();
+    }
+
+    @AfterAll
+    static void stopStub() {
+        resend.stop(0);
+    }
+
+    @Test
+    void enqueue_SendsOnceAfterCommit() throws Exception {
+        transactionTemplate.executeWithoutResult(status -> {
+            emailOutboxService.enqueue("test", "test:ok", "ok@example.com", "Hello", "<p>Hi</p>");
+            emailOutboxService.enqueue("test", "test:ok", "ok@example.com", "Hello", "<p>Hi</p>");
+            assertTrue(callsByRecipient.isEmpty(), "Nothing may be sent before commit");
+        });
+
+        EmailOutbox email = awaitStatus("test:ok", EmailOutbox.Status.SENT);
+
+        assertEquals(1, email.getAttempts());
+        assertEquals(1, callsByRecipient.get("ok@example.com").get(), "A duplicate enqueue must not send twice");
+        assertEquals(List.of("test:ok"), idempotencyKeys);
+        assertNull(email.getHtml(), "A sent email's body (links, passcodes) must not be kept");
+    }
+
+    @Test
+    void drain_RetriesTransientFailuresWithTheSameIdempotencyKey() throws Exception {
+        emailOutboxService.enqueue("test", "test:flaky", "flaky@example.com", "Hello", "<p>Hi</p>");
+
+        EmailOutbox email = awaitStatus("test:flaky", EmailOutbox.Status.SENT);
+
+        assertEquals(2, email.getAttempts());
+        assertEquals(List.of("test:flaky", "test:flaky"), idempotencyKeys);
+    }
+
+    @Test
+    void drain_DeadLettersRejectedEmails() throws Exception {
+        emailOutboxService.enqueue("test", "test:rejected", "rejected@example.com", "Hello", "<p>Hi</p>");
+
+        EmailOutbox email = awaitStatus("test:rejected", EmailOutbox.Status.DEAD);
+
+        assertEquals(1, callsByRecipient.get("rejected@example.com").get(), "A 422 must not be retried");
+        assertTrue(email.getLastError().contains("422"));
+        assertNull(email.getHtml());
+    }
+
+    @Test
+    void drain_CountsAReclaimedStaleClaimAsAnAttempt() throws Exception {
+        insertStaleClaim("test:stale-retry", 0);
+        insertStaleClaim("test:stale-last", 7);
+
+        EmailOutbox retried = awaitStatus("test:stale-retry", EmailOutbox.Status.SENT);
+        EmailOutbox dead = awaitStatus("test:stale-last", EmailOutbox.Status.DEAD);
+
+        assertEquals(2, retried.getAttempts(), "The lost send and the retry both count");
+        assertEquals(8, dead.getAttempts());
+        assertFalse(idempotencyKeys.contains("test:stale-last"), "A claim with no attempts left must not be sent again");
+        assertNull(dead.getHtml());
+    }
+
+    private void insertStaleClaim(String idempotencyKey, int attempts) {
+        // Claimed an hour ago by a worker that never came back
+        jdbcTemplate.update("""
+                INSERT INTO email_outbox (idempotency_key, email_type, to_email, subject, html, status, attempts,
+                                          next_attempt_at, claimed_at, created_at)
+                VALUES (?, 'test', 'stale@example.com', 'Hello', '<p>Hi</p>', 'SENDING', ?,
+                        now() - INTERVAL '1 hour', now() - INTERVAL '1 hour', now() - INTERVAL '1 hour')
+                """, idempotencyKey, attempts);
+    }
+
+    @Test
+    void purgeFinished_DeletesOnlyOldFinishedRows() {
+        insertRow("purge:old-sent", "SENT", 30);
+        insertRow("purge:old-dead", "DEAD", 30);
+        insertRow("purge:old-pending", "PENDING", 30);
+        insertRow("purge:recent-sent", "SENT", 1);
+
+        assertTrue(emailOutboxService.purgeFinished() >= 2);
+
+        assertTrue(emailOutboxRepository.findByIdempotencyKey("purge:old-sent").isEmpty());
+        assertTrue(emailOutboxRepository.findByIdempotencyKey("purge:old-dead").isEmpty());
+        assertTrue(emailOutboxRepository.findByIdempotencyKey("purge:old-pending").isPresent(),
+                "Unsent emails are never purged");
+        assertTrue(emailOutboxRepository.findByIdempotencyKey("purge:recent-sent").isPresent());
+    }
+
+    private void insertRow(String idempotencyKey, String status, int ageDays) {
+        // Far-future next attempt so the background drain leaves the pending row alone
+        jdbcTemplate.update("""
+                INSERT INTO email_outbox (idempotency_key, email_type, to_email, subject, status, attempts,
+                                          next_attempt_at, created_at)
+                VALUES (?, 'test', 'purge@example.com', 'Hello', ?, 1,
+                        now() + INTERVAL '1 day', now() - ? * INTERVAL '1 day')
+                """, idempotencyKey, status, ageDays);
+    }
+
+    @Test
+    void sendReviewPromptEmails_GoesOutInResendBatches() throws Exception {
+        int attendees = 250;
+        List<Member> members = new ArrayList<>();
+        for (long i = 0; i < attendees; i++) {
+            members.add(Member.builder().id(10_000 + i).email("attendee-" + i + "@example.com").build());
+        }
+
+        int queued = emailService.sendReviewPromptEmails(42L, "Ridge walk", "Walkers", members);
+        assertEquals(attendees, queued);
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (sentReviewPrompts() < attendees && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+
+        assertEquals(attendees, sentReviewPrompts());
+        assertEquals(attendees, batchSizes.stream().mapToInt(Integer::intValue).sum());
+        assertEquals(3, batchSizes.size(), "250 emails should take three batch requests, not 250: " + batchSizes);
+        assertTrue(batchSizes.stream().allMatch(size -> size <= ResendClient.MAX_BATCH_SIZE));
+        assertTrue(callsByRecipient.isEmpty(), "No email should have been sent on its own");
+    }
+
+    private long sentReviewPrompts() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM email_outbox WHERE email_type = 'review-prompt' AND status = 'SENT'", Long.class);
+    }
+
+    private EmailOutbox awaitStatus(String idempotencyKey, EmailOutbox.Status expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        EmailOutbox email = null;
+        while (System.currentTimeMillis() < deadline) {
+            email = emailOutboxRepository.findByIdempotencyKey(idempotencyKey).orElse(null);
+            if (email != null && email.getStatus() == expected) {
+                return email;
+            }
+            Thread.sleep(50);
+        }
+        fail("Email " + idempotencyKey + " did not reach " + expected + ": " + (email != null ? email.getStatus() : null));
+        return email;
+    }
+
+    /**
+     * Batches are always accepted.
+     * Single sends: flaky@ fails once with 500, rejected@ is refused with 422, everything else is accepted
+     */
+    private static HttpServer startStubResend() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/emails", exchange -> {
+                String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+                idempotencyKeys.add(exchange.getRequestHeaders().getFirst("Idempotency-Key"));
+                String recipient = body.replaceAll("(?s).*\"to\":\\[\"([^\"]+)\"].*", "$1");
+                int call = callsByRecipient.computeIfAbsent(recipient, r -> new AtomicInteger()).incrementAndGet();
+
+                int status = 200;
+                if (recipient.startsWith("flaky") && call == 1) {
+                    status = 500;
+                } else if (recipient.startsWith("rejected")) {
+                    status = 422;
+                }
+                byte[] response = (status == 200 ? "{\"id\":\"stub\"}" : "{\"message\":\"stub error\"}")
+                        .getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(status, response.length);
+                exchange.getResponseBody().write(response);
+                exchange.close();
+            });
+            server.createContext("/emails/batch", exchange -> {
+                String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+                batchSizes.add(body.split("\"to\":").length - 1);
+                byte[] response = "{\"data\":[]}".getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, response.length);
+                exchange.getResponseBody().write(response);
+                exchange.close();
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
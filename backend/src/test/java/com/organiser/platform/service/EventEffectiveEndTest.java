@@ -0,0 +1,168 @@
+package com.organiser.platform.service;
+
+import com.organiser.platform.config.TestConfig;
+import com.organiser.platform.config.TestFixtures;
+import com.organiser.platform.config.TestJwtConfig;
+import com.organiser.platform.dto.EventDTO;
+import com.organiser.platform.model.Event;
+import com.organiser.platform.model.EventParticipant;
+import com.organiser.platform.model.Group;
+import com.organiser.platform.model.Member;
+import com.organiser.platform.repository.EventRepository;
+import com.organiser.platform.util.EventTimingUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * events.effective_end, the generated column from V65 (applied by the test profile as in production):
+ * matches EventTimingUtils and drives past / upcoming splits in SQL. Instants are bound with the
+ * production settings (UTC wall-clock TIMESTAMP), which the expression relies on.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import({TestConfig.class, TestJwtConfig.class, TestFixtures.class})
+@Transactional
+class EventEffectiveEndTest {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Member organiser;
+    private Member walker;
+    private Group group;
+    private Event endedByDuration;
+    private Event ongoingByDuration;
+    private Event earlierDay;
+    private Event today;
+    private Event multiDay;
+    private Event nextWeek;
+
+    @BeforeEach
+    void setUp() {
+        group = fixtures.group("Effective End Ramblers");
+        organiser = group.getPrimaryOrganiser();
+        walker = fixtures.member("Effective End Walker");
+
+        Instant now = Instant.now();
+        endedByDuration = saveEvent("Ended by duration", now.minus(3, ChronoUnit.HOURS), null, "2.00");
+        ongoingByDuration = saveEvent("Ongoing by duration", now.minus(3, ChronoUnit.HOURS), null, "5.00");
+        earlierDay = saveEvent("Earlier day", now.minus(2, ChronoUnit.DAYS), null, null);
+        today = saveEvent("Today", now, null, null);
+        multiDay = saveEvent("Multi-day", now.minus(5, ChronoUnit.DAYS), now.plus(1, ChronoUnit.DAYS), null);
+        nextWeek = saveEvent("Next week", now.plus(7, ChronoUnit.DAYS), null, "1.50");
+
+        join(endedByDuration, EventParticipant.ParticipationStatus.REGISTERED);
+        join(ongoingByDuration, EventParticipant.ParticipationStatus.ATTENDED);
+        join(multiDay, EventParticipant.ParticipationStatus.CANCELLED);
+        join(nextWeek, EventParticipant.ParticipationStatus.REGISTERED);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void effectiveEnd_MatchesEventTimingUtils() {
+        for (Event event : eventRepository.findAllById(List.of(endedByDuration.getId(), ongoingByDuration.getId(),
+                earlierDay.getId(), today.getId(), multiDay.getId(), nextWeek.getId()))) {
+            assertNotNull(event.getEffectiveEnd(), event.getTitle());
+            long drift = Duration.between(EventTimingUtils.effectiveEnd(event), event.getEffectiveEnd()).abs().toMillis();
+            assertTrue(drift < 1, event.getTitle() + " differs by " + drift + "ms");
+        }
+    }
+
+    @Test
+    void instants_AreStoredAsUtcWallClockWhateverTheJvmZone() {
+        TimeZone jvmZone = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("Pacific/Auckland"));
+            Event lateEvening = fixtures.event(group, event -> event
+                    .title("Late evening")
+                    .eventDate(Instant.parse("2030-01-01T23:30:00Z")));
+            entityManager.flush();
+
+            Map<String, Object> stored = jdbcTemplate.queryForMap(
+                    "SELECT CAST(event_date AS TEXT) AS event_date, CAST(effective_end AS TEXT) AS effective_end " +
+                    "FROM events WHERE id = ?", lateEvening.getId());
+            assertEquals("2030-01-01 23:30:00", stored.get("event_date"));
+            assertEquals("2030-01-01 23:59:59.999999", stored.get("effective_end"),
+                    "The end of the UTC start day, not the Auckland one");
+
+            entityManager.clear();
+            assertEquals(Instant.parse("2030-01-01T23:30:00Z"),
+                    eventRepository.findById(lateEvening.getId()).orElseThrow().getEventDate());
+        } finally {
+            TimeZone.setDefault(jvmZone);
+        }
+    }
+
+    @Test
+    void getEventsByOrganiser_SplitsAndPagesInSql() {
+        Page<EventDTO> upcoming = eventService.getEventsByOrganiser(organiser.getId(), PageRequest.of(0, 2), false);
+        assertEquals(4, upcoming.getTotalElements());
+        assertEquals(List.of("Multi-day", "Ongoing by duration"), titles(upcoming));
+
+        Page<EventDTO> secondPage = eventService.getEventsByOrganiser(organiser.getId(), PageRequest.of(1, 2), false);
+        assertEquals(List.of("Today", "Next week"), titles(secondPage));
+
+        Page<EventDTO> past = eventService.getEventsByOrganiser(organiser.getId(), PageRequest.of(0, 20), true);
+        assertEquals(List.of("Ended by duration", "Earlier day"), titles(past));
+    }
+
+    @Test
+    void getEventsByParticipant_SkipsCancelledPlaces() {
+        Page<EventDTO> upcoming = eventService.getEventsByParticipant(walker.getId(), PageRequest.of(0, 20), false);
+        assertEquals(List.of("Ongoing by duration", "Next week"), titles(upcoming));
+
+        Page<EventDTO> past = eventService.getEventsByParticipant(walker.getId(), PageRequest.of(0, 20), true);
+        assertEquals(List.of("Ended by duration"), titles(past));
+        assertEquals(1, past.getTotalElements());
+    }
+
+    private Event saveEvent(String title, Instant eventDate, Instant endDate, String durationHours) {
+        return fixtures.event(group, event -> event
+                .title(title)
+                .eventDate(eventDate)
+                .endDate(endDate)
+                .estimatedDurationHours(durationHours != null ? new BigDecimal(durationHours) : null));
+    }
+
+    private void join(Event event, EventParticipant.ParticipationStatus status) {
+        fixtures.participant(event, walker, status);
+    }
+
+    private List<String> titles(Page<EventDTO> page) {
+        return page.getContent().stream().map(EventDTO::getTitle).toList();
+    }
+}
@@ -0,0 +1,102 @@
+package com.organiser.platform.service;
+
+import com.organiser.platform.config.TestConfig;
+import com.organiser.platform.config.TestFixtures;
+import com.organiser.platform.config.TestJwtConfig;
+import com.organiser.platform.dto.EventDTO;
+import com.organiser.platform.model.Group;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the tsvector/pg_trgm backed event search (V57).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import({TestConfig.class, TestJwtConfig.class, TestFixtures.class})
+@Transactional
+class EventFullTextSearchTest {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Group group;
+
+    @BeforeEach
+    void setUp() {
+        // The organiser hosts every event and is indexed too: keep the group name out of theirs
+        group = fixtures.group("Chiltern Ramblers", fixtures.member("Search Organiser"), fixtures.activity("Search Hiking"));
+
+        saveEvent("Sunrise scramble on Snowdon", "An early start for the summit", "Llanberis", 1);
+        saveEvent("Riverside stroll", "Gentle walk ending with a view of Snowdon", "Bath", 2);
+        saveEvent("Seven Sisters cliff walk", "Coastal chalk cliffs", "Eastbourne", 3);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void searchEvents_MatchesPartiallyTypedWords() {
+        List<String> titles = titles(eventService.searchEvents("scram", PageRequest.of(0, 10)).getContent());
+
+        assertEquals(List.of("Sunrise scramble on Snowdon"), titles);
+    }
+
+    @Test
+    void searchEvents_RanksTitleMatchesAboveDescriptionMatches() {
+        List<String> titles = titles(eventService.searchEvents("snowdon", PageRequest.of(0, 10)).getContent());
+
+        assertEquals(List.of("Sunrise scramble on Snowdon", "Riverside stroll"), titles);
+    }
+
+    @Test
+    void searchEvents_ToleratesTyposInLocation() {
+        List<String> titles = titles(eventService.searchEvents("Eastborne", PageRequest.of(0, 10)).getContent());
+
+        assertEquals(List.of("Seven Sisters cliff walk"), titles);
+    }
+
+    @Test
+    void searchEvents_MatchesGroupName() {
+        List<String> titles = titles(eventService.searchEvents("chiltern", PageRequest.of(0, 10)).getContent());
+
+        assertEquals(3, titles.size());
+    }
+
+    @Test
+    void searchEvents_IgnoresTsQueryOperatorsInInput() {
+        assertDoesNotThrow(() -> eventService.searchEvents("cliff & | ! (:*", PageRequest.of(0, 10)));
+    }
+
+    private void saveEvent(String title, String description, String location, int daysAhead) {
+        fixtures.event(group, event -> event
+                .title(title)
+                .description(description)
+                .eventDate(Instant.now().plus(daysAhead, ChronoUnit.DAYS))
+                .location(location));
+    }
+
+    private List<String> titles(List<EventDTO> events) {
+        return events.stream().map(EventDTO::getTitle).toList();
+    }
+}
@@ -0,0 +1,190 @@
+package com.organiser.platform.service;
+
+import com.organiser.platform.config.TestConfig;
+import com.organiser.platform.config.TestFixtures;
+import com.organiser.platform.config.TestJwtConfig;
+import com.organiser.platform.model.Event;
+import com.organiser.platform.model.EventParticipant;
+import com.organiser.platform.model.Group;
+import com.organiser.platform.repository.EventParticipantRepository;
+import com.organiser.platform.repository.EventRepository;
+import com.organiser.platform.scheduler.ParticipantCounterReconciliationScheduler;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Flash-signup stress test for EventService.joinEvent.
+ * Fires hundreds of parallel joins at a small event on a real Postgres and checks that
+ * neither maxParticipants nor maxWaitlist is ever exceeded, also while the counters are
+ * being recounted from event_participants.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import({TestConfig.class, TestJwtConfig.class, TestFixtures.class})
+@Testcontainers
+class EventJoinConcurrencyTest {
+
+    private static final int JOINERS = 300;
+    private static final int THREADS = 32;
+    private static final int MAX_PARTICIPANTS = 25;
+    private static final int MAX_WAITLIST = 10;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        // One connection per joiner thread, plus the reconciler
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> THREADS + 2);
+        // Keep the log readable under hundreds of concurrent transactions
+        registry.add("spring.jpa.show-sql", () -> "false");
+        registry.add("logging.level.org.hibernate.SQL", () -> "WARN");
+        registry.add("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", () -> "WARN");
+    }
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventParticipantRepository eventParticipantRepository;
+
+    @Autowired
+    private ParticipantCounterReconciliationScheduler reconciliationScheduler;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void joinEvent_ParallelJoinsNeverOverbook() throws Exception {
+        Event event = soldOutEvent("Flash");
+
+        int rejected = joinInParallel(event, "Flash");
+
+        assertCountersHold(event, rejected);
+    }
+
+    @Test
+    void reconcileWhileJoining_NeverWritesBackAStaleCount() throws Exception {
+        Event event = soldOutEvent("Reconcile");
+        AtomicBoolean joining = new AtomicBoolean(true);
+        ExecutorService reconciler = Executors.newSingleThreadExecutor();
+        // Both recount paths, back to back for as long as the joins run: the nightly job and the
+        // targeted recalculation done after a member is removed from a group
+        Future<Integer> runs = reconciler.submit(() -> {
+            int count = 0;
+            while (joining.get()) {
+                reconciliationScheduler.reconcileParticipantCounters();
+                transactionTemplate.executeWithoutResult(status -> {
+                    eventRepository.lockByIdIn(List.of(event.getId()));
+                    eventRepository.recalculateParticipantCounters(List.of(event.getId()));
+                });
+                count++;
+            }
+            return count;
+        });
+
+        int rejected;
+        try {
+            rejected = joinInParallel(event, "Reconcile");
+        } finally {
+            joining.set(false);
+        }
+        assertTrue(runs.get(1, TimeUnit.MINUTES) > 0, "The reconciler should have run during the joins");
+        reconciler.shutdown();
+
+        assertCountersHold(event, rejected);
+    }
+
+    private Event soldOutEvent(String name) {
+        Group group = fixtures.group(name + " Walkers");
+        return fixtures.event(group, details -> details
+                .title("Sold-out ridge walk")
+                .maxParticipants(MAX_PARTICIPANTS)
+                .maxWaitlist(MAX_WAITLIST));
+    }
+
+    /**
+     * Fire {@value #JOINERS} joins (every third with a guest) at the event at once
+     * @return number of rejected joins
+     */
+    private int joinInParallel(Event event, String name) throws Exception {
+        List<Long> memberIds = new ArrayList<>();
+        for (int i = 0; i < JOINERS; i++) {
+            memberIds.add(fixtures.member(name + " Joiner " + i).getId());
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startGate = new CountDownLatch(1);
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < JOINERS; i++) {
+            Long memberId = memberIds.get(i);
+            int guests = i % 3 == 0 ? 1 : 0;
+            futures.add(pool.submit(() -> {
+                startGate.await();
+                try {
+                    eventService.joinEvent(event.getId(), memberId, guests, null, null);
+                } catch (RuntimeException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        startGate.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        pool.shutdown();
+        return rejected.get();
+    }
+
+    private void assertCountersHold(Event event, int rejected) {
+        List<EventParticipant> participants = eventParticipantRepository.findByEventId(event.getId());
+        int seatedHeadcount = participants.stream().mapToInt(EventParticipant::headcountSlots).sum();
+        int waitlisted = participants.stream().mapToInt(EventParticipant::waitlistSlots).sum();
+
+        assertTrue(seatedHeadcount <= MAX_PARTICIPANTS,
+                "Headcount " + seatedHeadcount + " exceeds maxParticipants " + MAX_PARTICIPANTS);
+        assertTrue(waitlisted <= MAX_WAITLIST,
+                "Waitlist " + waitlisted + " exceeds maxWaitlist " + MAX_WAITLIST);
+        assertEquals(MAX_WAITLIST, waitlisted, "Waitlist should fill once the seats are gone");
+        assertEquals(JOINERS, participants.size() + rejected, "Every join should either succeed or be rejected");
+
+        assertEquals(seatedHeadcount, eventRepository.findConfirmedHeadcountById(event.getId()),
+                "confirmed_headcount must match the participant rows");
+        assertEquals(waitlisted, eventRepository.findWaitlistCountById(event.getId()),
+                "waitlist_count must match the participant rows");
+    }
+}
@@ -0,0 +1,248 @@
+package com.organiser.platform.service;
+
+import com.organiser.platform.cache.CacheKeys;
+import com.organiser.platform.config.TestConfig;
+import com.organiser.platform.config.TestFixtures;
+import com.organiser.platform.config.TestJwtConfig;
+import com.organiser.platform.dto.EventCursorPage;
+import com.organiser.platform.dto.EventDTO;
+import com.organiser.platform.model.Event;
+import com.organiser.platform.model.EventTransportLeg;
+import com.organiser.platform.model.Group;
+import com.organiser.platform.repository.EventTransportLegRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Regression guard for N+1 queries in event list endpoints.
+ * The number of SQL statements must not grow with the page size.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import({TestConfig.class, TestJwtConfig.class, TestFixtures.class})
+@Transactional
+class EventServiceQueryCountTest {
+
+    private static final int EVENT_COUNT = 20;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private EventTransportLegRepository eventTransportLegRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private Long groupId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        Group group = fixtures.group("Query Count Walkers");
+        groupId = group.getId();
+
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            int index = i;
+            Event event = fixtures.event(group, details -> details
+                    .title("Ridge walk " + index)
+                    .eventDate(Instant.now().plus(index + 1, ChronoUnit.DAYS))
+                    .maxParticipants(12)
+                    .confirmedHeadcount(7)
+                    .waitlistCount(2));
+            eventTransportLegRepository.save(EventTransportLeg.builder()
+                    .event(event)
+                    .direction(EventTransportLeg.Direction.OUTBOUND)
+                    .mode(EventTransportLeg.TransportMode.TRAIN)
+                    .sortOrder(0)
+                    .build());
+            eventTransportLegRepository.save(EventTransportLeg.builder()
+                    .event(event)
+                    .direction(EventTransportLeg.Direction.RETURN)
+                    .mode(EventTransportLeg.TransportMode.TRAIN)
+                    .sortOrder(1)
+                    .build());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void getUpcomingEvents_StatementCountIndependentOfPageSize() {
+        long small = statementsFor(() -> eventService.getUpcomingEvents(PageRequest.of(0, 5)));
+        long large = statementsFor(() -> eventService.getUpcomingEvents(PageRequest.of(0, EVENT_COUNT)));
+
+        assertEquals(small, large, "getUpcomingEvents should issue the same number of statements for any page size");
+    }
+
+    @Test
+    void searchEvents_StatementCountIndependentOfPageSize() {
+        long small = statementsFor(() -> eventService.searchEvents("ridge", PageRequest.of(0, 5)));
+        long large = statementsFor(() -> eventService.searchEvents("ridge", PageRequest.of(0, EVENT_COUNT)));
+
+        assertEquals(small, large, "searchEvents should issue the same number of statements for any page size");
+    }
+
+    @Test
+    void getEventsByGroup_StatementCountIndependentOfPageSize() {
+        long small = statementsFor(() -> eventService.getEventsByGroup(groupId, PageRequest.of(0, 5)));
+        long large = statementsFor(() -> eventService.getEventsByGroup(groupId, PageRequest.of(0, EVENT_COUNT)));
+
+        assertEquals(small, large, "getEventsByGroup should issue the same number of statements for any page size");
+    }
+
+    @Test
+    void getUpcomingEvents_ReturnsTransportLegsInSortOrder() {
+        var page = eventService.getUpcomingEvents(PageRequest.of(0, EVENT_COUNT));
+
+        assertEquals(EVENT_COUNT, page.getContent().size());
+        page.getContent().forEach(dto -> {
+            assertEquals(2, dto.getTransportLegs().size(), "Each event should carry both legs");
+            assertEquals(EventTransportLeg.Direction.OUTBOUND, dto.getTransportLegs().get(0).getDirection());
+            assertEquals(EventTransportLeg.Direction.RETURN, dto.getTransportLegs().get(1).getDirection());
+        });
+    }
+
+    @Test
+    void getUpcomingEvents_ReadsCountersWithoutLoadingParticipants() {
+        entityManager.clear();
+        statistics.clear();
+
+        var page = eventService.getUpcomingEvents(PageRequest.of(0, EVENT_COUNT));
+
+        long participantFetches = statistics
+                .getCollectionStatistics(Event.class.getName() + ".participants")
+                .getFetchCount();
+        assertEquals(0, participantFetches, "List endpoints must not load event participants");
+        page.getContent().forEach(dto -> {
+            assertEquals(7, dto.getCurrentParticipants().intValue());
+            assertEquals(2, dto.getWaitlistCount().intValue());
+            assertNull(dto.getParticipantIds(), "Participant ids are only returned on the event detail view");
+        });
+    }
+
+    @Test
+    void getUpcomingEvents_CursorWalksEveryEventOnceInDateOrder() {
+        List<Long> seen = new ArrayList<>();
+        String cursor = "";
+        EventCursorPage page;
+        do {
+            page = eventService.getUpcomingEvents(cursor, 6);
+            page.getContent().forEach(dto -> seen.add(dto.getId()));
+            cursor = page.getNextCursor();
+        } while (page.isHasNext());
+
+        List<Long> expected = eventService.getUpcomingEvents(PageRequest.of(0, EVENT_COUNT)).getContent()
+                .stream().map(EventDTO::getId).toList();
+        assertEquals(expected, seen);
+        assertNull(page.getNextCursor(), "The last page must not hand out a cursor");
+    }
+
+    @Test
+    void getUpcomingEvents_DeepCursorPageCostsSameAsFirst() {
+        String deepCursor = eventService.getUpcomingEvents("", 15).getNextCursor();
+
+        long first = statementsFor(() -> eventService.getUpcomingEvents("", 5));
+        long deep = statementsFor(() -> eventService.getUpcomingEvents(deepCursor, 5));
+
+        assertEquals(first, deep, "A page deep in the cursor chain should issue the same statements as the first");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getEventById_SharesOneCachedBodyAcrossViewers() {
+        Long eventId = eventService.getUpcomingEvents(PageRequest.of(0, 1)).getContent().get(0).getId();
+        List<Long> viewerIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            viewerIds.add(fixtures.member("Query Count Viewer " + i).getId());
+        }
+
+        eventService.getEventById(eventId, null);
+        viewerIds.forEach(viewerId -> eventService.getEventById(eventId, viewerId));
+
+        var nativeEvents = (com.github.benmanes.caffeine.cache.Cache<Object, Object>)
+                cacheManager.getCache("events").getNativeCache();
+        long detailEntries = nativeEvents.asMap().keySet().stream()
+                .filter(key -> key instanceof CacheKeys.EventDetail)
+                .count();
+        assertEquals(1, detailEntries, "Every viewer should share one cached event body");
+
+        long overlay = statementsFor(() -> eventService.getEventById(eventId, viewerIds.get(0)));
+        assertEquals(2, overlay, "A cached event should only cost the membership and attendance lookups");
+    }
+
+    @Test
+    void getEventById_MissingEventKeepsNotFoundMessage() {
+        RuntimeException error = assertThrows(RuntimeException.class,
+                () -> eventService.getEventById(Long.MAX_VALUE, null));
+
+        assertEquals("Event not found", error.getMessage());
+        assertNull(cacheManager.getCache("events").get(CacheKeys.eventDetail(Long.MAX_VALUE)),
+                "A miss must not be cached");
+    }
+
+    @Test
+    void cursorPages_ClampOutOfRangeSizes() {
+        for (int size : new int[]{0, -5}) {
+            EventCursorPage upcoming = eventService.getUpcomingEvents("", size);
+            assertEquals(1, upcoming.getContent().size());
+            assertTrue(upcoming.isHasNext());
+            assertNotNull(upcoming.getNextCursor());
+
+            EventCursorPage search = eventService.searchEventsAdvanced("ridge", "", size, null);
+            assertEquals(1, search.getContent().size());
+            assertNotNull(search.getNextCursor());
+        }
+
+        EventCursorPage huge = eventService.getUpcomingEvents("", Integer.MAX_VALUE);
+        assertEquals(EVENT_COUNT, huge.getContent().size());
+        assertEquals(100, huge.getSize(), "Oversized pages are capped");
+        assertFalse(huge.isHasNext());
+        assertEquals(100, eventService.searchEventsAdvanced("ridge", "", Integer.MAX_VALUE, null).getSize());
+    }
+
+    @Test
+    void getUpcomingEvents_RejectsTamperedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> eventService.getUpcomingEvents("not-a-cursor", 5));
+    }
+
+    private long statementsFor(Runnable call) {
+        entityManager.clear();
+        statistics.clear();
+        call.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,314 @@
+package com.organiser.platform.service;
+
+import com.organiser.platform.config.TestConfig;
+import com.organiser.platform.config.TestFixtures;
+import com.organiser.platform.config.TestJwtConfig;
+import com.organiser.platform.dto.GroupDTO;
+import com.organiser.platform.dto.GroupMemberPage;
+import com.organiser.platform.dto.MemberDTO;
+import com.organiser.platform.model.Activity;
+import com.organiser.platform.model.Event;
+import com.organiser.platform.model.EventParticipant;
+import com.organiser.platform.model.Group;
+import com.organiser.platform.model.GroupRatingSummary;
+import com.organiser.platform.model.Member;
+import com.organiser.platform.model.Subscription;
+import com.organiser.platform.repository.EventParticipantRepository;
+import com.organiser.platform.repository.EventRepository;
+import com.organiser.platform.repository.GroupRatingSummaryRepository;
+import com.organiser.platform.repository.SubscriptionRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Regression guard for N+1 queries in group list endpoints.
+ * The number of SQL statements must not grow with the number of groups, members or events.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import({TestConfig.class, TestJwtConfig.class, TestFixtures.class})
+@Transactional
+class GroupServiceQueryCountTest {
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private GroupRatingSummaryRepository groupRatingSummaryRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventParticipantRepository eventParticipantRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private Member organiser;
+    private Member member;
+    private Activity activity;
+    private int groupCount;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        organiser = fixtures.member("Group Count Organiser");
+        member = fixtures.member("Group Count Member");
+        activity = fixtures.activity("Group Count Hiking");
+    }
+
+    @Test
+    void getAllPublicGroups_StatementCountIndependentOfGroupCount() {
+        addGroups(3);
+        long few = statementsFor(() -> groupService.getAllPublicGroups());
+        addGroups(12);
+        long many = statementsFor(() -> groupService.getAllPublicGroups());
+
+        assertEquals(few, many, "getAllPublicGroups should issue the same number of statements for any number of groups");
+    }
+
+    @Test
+    void getUserSubscribedGroups_StatementCountIndependentOfGroupCount() {
+        addGroups(3);
+        long few = statementsFor(() -> groupService.getUserSubscribedGroups(member.getId()));
+        addGroups(12);
+        long many = statementsFor(() -> groupService.getUserSubscribedGroups(member.getId()));
+
+        assertEquals(few, many, "getUserSubscribedGroups should issue the same number of statements for any number of groups");
+    }
+
+    @Test
+    void getUserOrganisedGroups_StatementCountIndependentOfGroupCount() {
+        addGroups(3);
+        long few = statementsFor(() -> groupService.getUserOrganisedGroups(organiser.getId()));
+        addGroups(12);
+        long many = statementsFor(() -> groupService.getUserOrganisedGroups(organiser.getId()));
+
+        assertEquals(few, many, "getUserOrganisedGroups should issue the same number of statements for any number of groups");
+    }
+
+    @Test
+    void getAllPublicGroups_ReturnsActiveMemberCountsAndRatings() {
+        List<Group> groups = addGroups(4);
+        Subscription left = subscriptionRepository.findByMemberIdAndGroupId(member.getId(), groups.get(0).getId()).orElseThrow();
+        left.setStatus(Subscription.SubscriptionStatus.INACTIVE);
+        subscriptionRepository.save(left);
+        entityManager.flush();
+        clearCaches();
+
+        Map<Long, GroupDTO> byId = groupService.getAllPublicGroups().stream()
+                .collect(Collectors.toMap(GroupDTO::getId, Function.identity()));
+
+        assertEquals(1, byId.get(groups.get(0).getId()).getCurrentMembers(), "Inactive subscriptions are not counted");
+        assertEquals(2, byId.get(groups.get(1).getId()).getCurrentMembers());
+        assertEquals(4.5, byId.get(groups.get(1).getId()).getRating().getAverageRating());
+        assertNull(byId.get(groups.get(2).getId()).getRating(), "Unreviewed groups carry no rating");
+        assertEquals("Group Count Organiser", byId.get(groups.get(3).getId()).getPrimaryOrganiserName());
+        assertEquals("Group Count Hiking", byId.get(groups.get(3).getId()).getActivityName());
+    }
+
+    @Test
+    void getGroupMembers_CursorWalksOrganiserFirstThenJoinOrder() {
+        Group group = addGroups(1).get(0);
+        addMembers(group, 9);
+        entityManager.flush();
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = "";
+        GroupMemberPage page;
+        do {
+            page = groupService.getGroupMembers(group.getId(), cursor, 4);
+            page.getContent().forEach(dto -> seen.add(dto.getId()));
+            assertEquals(11, page.getTotalMembers());
+            cursor = page.getNextCursor();
+        } while (page.isHasNext());
+
+        List<Long> expected = groupService.getGroupMembers(group.getId(), null).stream()
+                .map(MemberDTO::getId).toList();
+        assertEquals(11, seen.size());
+        assertEquals(expected, seen);
+        assertEquals(organiser.getId(), seen.get(0), "The organiser is always listed first");
+        assertNull(page.getNextCursor(), "The last page must not hand out a cursor");
+    }
+
+    @Test
+    void getGroupMembers_PageOfOneStepsPastOrganiser() {
+        Group group = addGroups(1).get(0);
+        entityManager.flush();
+
+        GroupMemberPage first = groupService.getGroupMembers(group.getId(), "", 1);
+        GroupMemberPage second = groupService.getGroupMembers(group.getId(), first.getNextCursor(), 1);
+
+        assertEquals(organiser.getId(), first.getContent().get(0).getId());
+        assertTrue(first.isHasNext());
+        assertEquals(member.getId(), second.getContent().get(0).getId());
+        assertFalse(second.isHasNext());
+    }
+
+    @Test
+    void getGroupMembers_DeepCursorPageCostsSameAsFirst() {
+        Group group = addGroups(1).get(0);
+        addMembers(group, 30);
+        entityManager.flush();
+        String deepCursor = groupService.getGroupMembers(group.getId(), "", 20).getNextCursor();
+
+        long first = statementsFor(() -> groupService.getGroupMembers(group.getId(), "", 5));
+        long deep = statementsFor(() -> groupService.getGroupMembers(group.getId(), deepCursor, 5));
+
+        assertEquals(first, deep, "A page deep in the cursor chain should issue the same statements as the first");
+        assertEquals(0, statistics.getEntityStatistics(Member.class.getName()).getLoadCount(),
+                "Member pages are projections and must not load Member entities");
+    }
+
+    @Test
+    void getGroupMembers_RejectsTamperedCursor() {
+        Group group = addGroups(1).get(0);
+
+        assertThrows(IllegalArgumentException.class, () -> groupService.getGroupMembers(group.getId(), "not-a-cursor", 5));
+    }
+
+    @Test
+    void removeMemberFromGroup_StatementCountIndependentOfEventHistory() {
+        Group shortHistory = addGroups(1).get(0);
+        Group longHistory = addGroups(1).get(0);
+        addEventsWithMember(shortHistory, 2);
+        addEventsWithMember(longHistory, 25);
+        entityManager.flush();
+
+        long few = statementsFor(() -> groupService.removeMemberFromGroup(shortHistory.getId(), member.getId(), organiser.getId()));
+        long many = statementsFor(() -> groupService.removeMemberFromGroup(longHistory.getId(), member.getId(), organiser.getId()));
+
+        assertEquals(few, many, "Removing a member should not cost more in a group with a longer event history");
+    }
+
+    @Test
+    void banMemberFromGroup_CancelsUpcomingSeatsAndPromotesWaitlist() {
+        Group group = addGroups(1).get(0);
+        Event past = addEvent(group, Instant.now().minus(7, ChronoUnit.DAYS), 2, 1, 0);
+        fixtures.participant(past, member, EventParticipant.ParticipationStatus.ATTENDED);
+        Event upcoming = addEvent(group, Instant.now().plus(7, ChronoUnit.DAYS), 2, 2, 1);
+        fixtures.participant(upcoming, organiser, EventParticipant.ParticipationStatus.REGISTERED);
+        fixtures.participant(upcoming, member, EventParticipant.ParticipationStatus.REGISTERED);
+        Member waiting = fixtures.member("Waiting Walker");
+        fixtures.participant(upcoming, waiting, EventParticipant.ParticipationStatus.WAITLISTED);
+        entityManager.flush();
+        entityManager.clear();
+
+        groupService.banMemberFromGroup(group.getId(), member.getId(), organiser.getId(), "Spam");
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(EventParticipant.ParticipationStatus.CANCELLED,
+                eventParticipantRepository.findByEventIdAndMemberId(upcoming.getId(), member.getId()).orElseThrow().getStatus());
+        assertEquals(EventParticipant.ParticipationStatus.ATTENDED,
+                eventParticipantRepository.findByEventIdAndMemberId(past.getId(), member.getId()).orElseThrow().getStatus(),
+                "Past participations are history and stay untouched");
+        assertEquals(EventParticipant.ParticipationStatus.REGISTERED,
+                eventParticipantRepository.findByEventIdAndMemberId(upcoming.getId(), waiting.getId()).orElseThrow().getStatus(),
+                "The freed seat goes to the waitlist");
+        Event reloaded = eventRepository.findById(upcoming.getId()).orElseThrow();
+        assertEquals(2, reloaded.getConfirmedHeadcount());
+        assertEquals(0, reloaded.getWaitlistCount());
+    }
+
+    /**
+     * Public groups organised by {@code organiser}, each with the organiser and {@code member}
+     * subscribed; every second group has a rating summary
+     */
+    private List<Group> addGroups(int count) {
+        List<Group> groups = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int index = groupCount++;
+            Group group = fixtures.group("Counted group " + index, organiser, activity);
+            subscriptionRepository.save(Subscription.builder().member(organiser).group(group).build());
+            subscriptionRepository.save(Subscription.builder().member(member).group(group).build());
+            if (index % 2 == 1) {
+                groupRatingSummaryRepository.save(GroupRatingSummary.builder()
+                        .group(group)
+                        .averageRating(4.5)
+                        .totalReviews(2)
+                        .build());
+            }
+            groups.add(group);
+        }
+        entityManager.flush();
+        return groups;
+    }
+
+    private void addMembers(Group group, int count) {
+        for (int i = 0; i < count; i++) {
+            Member joiner = fixtures.member("Group Count Joiner " + group.getId() + " " + i);
+            subscriptionRepository.save(Subscription.builder().member(joiner).group(group).build());
+        }
+    }
+
+    /**
+     * {@code pastCount} past events plus one upcoming event, each with {@code member} registered
+     */
+    private void addEventsWithMember(Group group, int pastCount) {
+        for (int i = 0; i < pastCount; i++) {
+            Event event = addEvent(group, Instant.now().minus(i + 1, ChronoUnit.DAYS), null, 1, 0);
+            fixtures.participant(event, member, EventParticipant.ParticipationStatus.ATTENDED);
+        }
+        Event upcoming = addEvent(group, Instant.now().plus(3, ChronoUnit.DAYS), null, 1, 0);
+        fixtures.participant(upcoming, member, EventParticipant.ParticipationStatus.REGISTERED);
+    }
+
+    private Event addEvent(Group group, Instant eventDate, Integer maxParticipants, int headcount, int waitlisted) {
+        return fixtures.event(group, event -> event
+                .eventDate(eventDate)
+                .maxParticipants(maxParticipants)
+                .maxWaitlist(maxParticipants != null ? 5 : null)
+                .confirmedHeadcount(headcount)
+                .waitlistCount(waitlisted));
+    }
+
+    private long statementsFor(Runnable call) {
+        clearCaches();
+        entityManager.clear();
+        statistics.clear();
+        call.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+}
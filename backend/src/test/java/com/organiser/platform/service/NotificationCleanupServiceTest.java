@@ -0,0 +1,130 @@
+package com.organiser.platform.service;
+
+import com.organiser.platform.config.TestConfig;
+import com.organiser.platform.config.TestJwtConfig;
+import com.organiser.platform.model.Member;
+import com.organiser.platform.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Chunked notification purge: retention rules, chunking and resuming from a checkpoint.
+ */
+@SpringBootTest(properties = {
+        "app.notifications.cleanup.chunk-size=10",
+        "app.notifications.cleanup.pause=0ms"
+})
+@ActiveProfiles("test")
+@Import({TestConfig.class, TestJwtConfig.class})
+@Transactional
+class NotificationCleanupServiceTest {
+
+    @Autowired
+    private NotificationCleanupService cleanupService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        memberId = memberRepository.save(Member.builder()
+                .email("cleanup-member@example.com")
+                .displayName("Cleanup Member")
+                .build()).getId();
+        // The walk relies on ids growing with created_at; start from an empty table
+        jdbcTemplate.update("DELETE FROM notifications");
+        jdbcTemplate.update("DELETE FROM job_checkpoints");
+
+        insert(5, 200, false, null);   // Unread past the hard retention: deleted
+        insert(25, 60, true, 40);      // Read long ago: deleted
+        insert(5, 60, true, 5);        // Read recently: kept
+        insert(5, 60, false, null);    // Unread within retention: kept
+        insert(5, 1, false, null);     // New: kept, and where the walk stops
+    }
+
+    @Test
+    void purgeExpired_DeletesReadAndExpiredInChunks() {
+        NotificationCleanupService.CleanupResult result = cleanupService.purgeExpired();
+
+        assertTrue(result.completed());
+        assertEquals(25, result.deletedRead());
+        assertEquals(5, result.deletedExpired());
+        assertTrue(result.chunks() >= 4, "45 rows in chunks of 10 ids, got " + result.chunks());
+        assertEquals(15, count());
+        assertTrue(checkpoint().isEmpty(), "A completed run clears its checkpoint");
+    }
+
+    @Test
+    void purgeExpired_ResumesAfterCheckpoint() {
+        Long firstId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM notifications", Long.class);
+        // A previous run finished the first 10 ids (the expired 5 and 5 of the old read ones)
+        // before the restart; pretend it deleted nothing so we can see it is not redone
+        jdbcTemplate.update("INSERT INTO job_checkpoints (job_name, last_id) VALUES (?, ?)",
+                NotificationCleanupService.JOB_NAME, firstId + 9);
+
+        NotificationCleanupService.CleanupResult result = cleanupService.purgeExpired();
+
+        assertEquals(20, result.deletedRead());
+        assertEquals(0, result.deletedExpired());
+        assertEquals(25, count());
+        assertTrue(checkpoint().isEmpty());
+    }
+
+    @Test
+    void purgeFinishedOutbox_DeletesOldDoneRowsOnly() {
+        jdbcTemplate.update("DELETE FROM notification_outbox");
+        insertOutbox(25, "DONE", 10);      // Done past the outbox retention: deleted
+        insertOutbox(5, "DONE", 1);        // Done recently: kept
+        insertOutbox(5, "FAILED", 10);     // Failed: kept for inspection
+        insertOutbox(5, "PENDING", null);  // Not processed yet: kept
+
+        assertEquals(25, cleanupService.purgeFinishedOutbox());
+        assertEquals(15, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notification_outbox", Long.class));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM notification_outbox WHERE status = 'DONE' AND processed_at < now() - INTERVAL '7 days'",
+                Long.class));
+    }
+
+    private void insertOutbox(int rows, String status, Integer processedDaysAgo) {
+        jdbcTemplate.update("""
+                INSERT INTO notification_outbox (fanout_type, actor_member_id, status, attempts, created_at, processed_at)
+                SELECT 'NEW_EVENT', ?, ?, 0, now() - INTERVAL '30 days',
+                       CASE WHEN ? THEN now() - ? * INTERVAL '1 day' END
+                FROM generate_series(1, ?) AS n
+                """, memberId, status, processedDaysAgo != null, processedDaysAgo != null ? processedDaysAgo : 0, rows);
+    }
+
+    private void insert(int rows, int createdDaysAgo, boolean read, Integer readDaysAgo) {
+        jdbcTemplate.update("""
+                INSERT INTO notifications (member_id, notification_type, title, message, is_read, created_at, read_at)
+                SELECT ?, 'NEW_EVENT', 'New event', 'A new event was posted', ?,
+                       now() - ? * INTERVAL '1 day' + n * INTERVAL '1 second',
+                       CASE WHEN ? THEN now() - ? * INTERVAL '1 day' END
+                FROM generate_series(1, ?) AS n
+                """, memberId, read, createdDaysAgo, read, readDaysAgo != null ? readDaysAgo : 0, rows);
+    }
+
+    private long count() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notifications", Long.class);
+    }
+
+    private List<Long> checkpoint() {
+        return jdbcTemplate.queryForList("SELECT last_id FROM job_checkpoints WHERE job_name = ?",
+                Long.class, NotificationCleanupService.JOB_NAME);
+    }
+}
@@ -0,0 +1,121 @@
+package com.organiser.platform.service;
+
+import com.organiser.platform.config.TestConfig;
+import com.organiser.platform.config.TestFixtures;
+import com.organiser.platform.config.TestJwtConfig;
+import com.organiser.platform.model.Event;
+import com.organiser.platform.model.Group;
+import com.organiser.platform.model.Member;
+import com.organiser.platform.model.Notification;
+import com.organiser.platform.model.NotificationOutbox;
+import com.organiser.platform.model.Subscription;
+import com.organiser.platform.repository.NotificationOutboxRepository;
+import com.organiser.platform.repository.SubscriptionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Outbox-backed notification fan-out: the request transaction only writes the outbox row,
+ * recipients are bulk-inserted after commit.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import({TestConfig.class, TestJwtConfig.class, TestFixtures.class})
+@Testcontainers
+class NotificationFanoutTest {
+
+    private static final int SUBSCRIBERS = 40;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void createNewEventNotifications_FansOutAfterCommit() throws Exception {
+        Group group = fixtures.group("Fanout Walkers");
+        Member organiser = group.getPrimaryOrganiser();
+        subscriptionRepository.save(Subscription.builder().member(organiser).group(group).build());
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            Member member = fixtures.member("Fanout Member " + i);
+            subscriptionRepository.save(Subscription.builder()
+                    .member(member)
+                    .group(group)
+                    .notificationEnabled(i != 0)  // One member has muted the group
+                    .build());
+        }
+        Event event = fixtures.event(group);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            notificationService.createNewEventNotifications(event, organiser);
+            assertEquals(0, countNotifications(event.getId()), "Nothing should be fanned out before commit");
+        });
+
+        List<NotificationOutbox> outbox = awaitFinishedOutbox();
+        assertEquals(1, outbox.size());
+        assertEquals(NotificationOutbox.FanoutType.NEW_EVENT, outbox.get(0).getFanoutType());
+
+        assertEquals(SUBSCRIBERS - 1, countNotifications(event.getId()),
+                "Every subscriber except the organiser and the muted member should be notified");
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM notifications WHERE member_id = ?", Long.class, organiser.getId()));
+        assertEquals(Notification.NotificationType.NEW_EVENT.name(), jdbcTemplate.queryForObject(
+                "SELECT DISTINCT notification_type FROM notifications WHERE related_event_id = ?",
+                String.class, event.getId()));
+    }
+
+    private List<NotificationOutbox> awaitFinishedOutbox() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            List<NotificationOutbox> outbox = outboxRepository.findAll();
+            if (!outbox.isEmpty() && outbox.stream().allMatch(o -> o.getStatus() == NotificationOutbox.Status.DONE)) {
+                return outbox;
+            }
+            Thread.sleep(100);
+        }
+        fail("Notification fan-out did not finish in time");
+        return List.of();
+    }
+
+    private long countNotifications(Long eventId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM notifications WHERE related_event_id = ?", Long.class, eventId);
+    }
+}
@@ -0,0 +1,137 @@
+package com.organiser.platform.service;
+
+import com.organiser.platform.cache.CacheInvalidationBus;
+import com.organiser.platform.cache.CacheKeys;
+import com.organiser.platform.dto.NotificationDTO;
+import com.organiser.platform.repository.NotificationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * In-memory unread counters behind the notification stream: seeded once, then moved by deltas.
+ */
+class NotificationStreamServiceTest {
+
+    private NotificationRepository notificationRepository;
+    private CacheInvalidationBus invalidationBus;
+    private NotificationStreamService streamService;
+
+    @BeforeEach
+    void setUp() {
+        notificationRepository = mock(NotificationRepository.class);
+        invalidationBus = mock(CacheInvalidationBus.class);
+        streamService = new NotificationStreamService(notificationRepository, invalidationBus);
+        streamService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        streamService.shutdown();
+    }
+
+    @Test
+    void getUnreadCount_CountsInDatabaseOnlyOnce() {
+        when(notificationRepository.countByMemberIdAndIsReadFalse(1L)).thenReturn(3L);
+
+        assertEquals(3, streamService.getUnreadCount(1L));
+        assertEquals(3, streamService.getUnreadCount(1L));
+
+        verify(notificationRepository, times(1)).countByMemberIdAndIsReadFalse(1L);
+    }
+
+    @Test
+    void changes_MoveTheCounterWithoutRecounting() {
+        when(notificationRepository.countByMemberIdAndIsReadFalse(1L)).thenReturn(3L);
+        streamService.getUnreadCount(1L);
+
+        streamService.notificationCreated(1L, NotificationDTO.builder().title("Hi").build());
+        streamService.notificationsCreated(List.of(1L, 2L), NotificationDTO.builder().title("New event").build());
+        assertEquals(5, streamService.getUnreadCount(1L));
+
+        streamService.unreadChanged(1L, -1);
+        assertEquals(4, streamService.getUnreadCount(1L));
+
+        streamService.allRead(1L);
+        assertEquals(0, streamService.getUnreadCount(1L));
+
+        verify(notificationRepository, times(1)).countByMemberIdAndIsReadFalse(1L);
+        verify(notificationRepository, never()).countByMemberIdAndIsReadFalse(2L);
+        verify(invalidationBus, times(3)).publish(NotificationStreamService.UNREAD_COUNTS, CacheKeys.memberTag(1L));
+        verify(invalidationBus).publish(NotificationStreamService.UNREAD_COUNTS, "members:1,2");
+        verify(invalidationBus, never()).publish(NotificationStreamService.UNREAD_COUNTS, CacheInvalidationBus.ALL);
+    }
+
+    @Test
+    void fanout_PublishesMemberTagsInBatches() {
+        List<Long> memberIds = java.util.stream.LongStream.rangeClosed(1, NotificationStreamService.TAG_BATCH_SIZE + 1)
+                .boxed()
+                .toList();
+
+        streamService.notificationsCreated(memberIds, NotificationDTO.builder().title("New event").build());
+
+        verify(invalidationBus).publish(NotificationStreamService.UNREAD_COUNTS,
+                NotificationStreamService.membersTag(memberIds.subList(0, NotificationStreamService.TAG_BATCH_SIZE)));
+        verify(invalidationBus).publish(NotificationStreamService.UNREAD_COUNTS,
+                "members:" + (NotificationStreamService.TAG_BATCH_SIZE + 1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void remoteBatch_RecountsOnlyNamedMembersStreamingHere() {
+        streamService.open(1L);
+        streamService.open(3L);
+
+        remoteSubscriber().accept(NotificationStreamService.UNREAD_COUNTS, "members:1,2");
+
+        ArgumentCaptor<Collection<Long>> recounted = ArgumentCaptor.forClass(Collection.class);
+        verify(notificationRepository).countUnreadByMemberIds(recounted.capture());
+        assertEquals(List.of(1L), List.copyOf(recounted.getValue()));
+    }
+
+    @Test
+    void remoteInvalidation_DropsOnlyThatMembersCounter() {
+        when(notificationRepository.countByMemberIdAndIsReadFalse(anyLong())).thenReturn(2L);
+        streamService.getUnreadCount(1L);
+        streamService.getUnreadCount(2L);
+
+        remoteSubscriber().accept(NotificationStreamService.UNREAD_COUNTS, CacheKeys.memberTag(1L));
+        remoteSubscriber().accept("events", CacheKeys.memberTag(2L));
+        streamService.getUnreadCount(1L);
+        streamService.getUnreadCount(2L);
+
+        verify(notificationRepository, times(2)).countByMemberIdAndIsReadFalse(1L);
+        verify(notificationRepository, times(1)).countByMemberIdAndIsReadFalse(2L);
+    }
+
+    @Test
+    void remoteFanout_RecountsOpenStreamsInOneQuery() {
+        when(notificationRepository.countUnreadByMemberIds(anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, 7L}));
+        streamService.open(1L);
+        streamService.open(2L);
+        assertEquals(2, streamService.openStreamCount());
+
+        remoteSubscriber().accept(NotificationStreamService.UNREAD_COUNTS, CacheInvalidationBus.ALL);
+
+        verify(notificationRepository, times(1)).countUnreadByMemberIds(anyCollection());
+        assertEquals(7, streamService.getUnreadCount(1L));
+        assertEquals(0, streamService.getUnreadCount(2L), "Members without unread notifications are absent from the grouped count");
+    }
+
+    @SuppressWarnings("unchecked")
+    private BiConsumer<String, String> remoteSubscriber() {
+        ArgumentCaptor<BiConsumer<String, String>> subscriber = ArgumentCaptor.forClass(BiConsumer.class);
+        verify(invalidationBus).subscribe(subscriber.capture());
+        return subscriber.getValue();
+    }
+}
@@ -0,0 +1,122 @@
+package com.organiser.platform.service;
+
+import com.organiser.platform.config.TestConfig;
+import com.organiser.platform.config.TestFixtures;
+import com.organiser.platform.config.TestJwtConfig;
+import com.organiser.platform.model.Event;
+import com.organiser.platform.model.EventParticipant;
+import com.organiser.platform.model.Group;
+import com.organiser.platform.repository.EventParticipantRepository;
+import com.organiser.platform.repository.EventRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Waitlist promotion: waitlist order, skipping parties that don't fit, and the seat counters.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import({TestConfig.class, TestJwtConfig.class, TestFixtures.class})
+@Transactional
+class WaitlistServiceTest {
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventParticipantRepository eventParticipantRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private WebPushService webPushService;
+    private EmailService emailService;
+    private WaitlistService waitlistService;
+    private Group group;
+
+    @BeforeEach
+    void setUp() {
+        webPushService = mock(WebPushService.class);
+        emailService = mock(EmailService.class);
+        waitlistService = new WaitlistService(eventRepository, eventParticipantRepository, webPushService, emailService);
+        group = fixtures.group("Waitlist Walkers");
+    }
+
+    @Test
+    void promoteFromWaitlist_SkipsPartyThatDoesNotFitAndSeatsSmallerOnesBehindIt() {
+        // Two seats free; the head of the queue is a party of three
+        Event event = event(10, 8, 3);
+        EventParticipant party = waitlist(event, "party", 2, 1);
+        EventParticipant first = waitlist(event, "first", 0, 2);
+        EventParticipant second = waitlist(event, "second", 0, 3);
+
+        waitlistService.promoteFromWaitlist(reload(event));
+
+        assertEquals(EventParticipant.ParticipationStatus.WAITLISTED, status(party), "The party keeps its place");
+        assertEquals(EventParticipant.ParticipationStatus.REGISTERED, status(first));
+        assertEquals(EventParticipant.ParticipationStatus.REGISTERED, status(second));
+        assertEquals(10, eventRepository.findConfirmedHeadcountById(event.getId()));
+        assertEquals(1, eventRepository.findWaitlistCountById(event.getId()));
+        verify(emailService, times(2)).sendWaitlistPromotionEmail(any(), any(), any(), eq(event.getId()));
+    }
+
+    @Test
+    void promoteFromWaitlist_StopsOnceTheEventIsFull() {
+        // One seat free for three singles: only the earliest gets it
+        Event event = event(10, 9, 3);
+        EventParticipant first = waitlist(event, "early", 0, 1);
+        EventParticipant second = waitlist(event, "middle", 0, 2);
+        EventParticipant third = waitlist(event, "late", 0, 3);
+
+        waitlistService.promoteFromWaitlist(reload(event));
+
+        assertEquals(EventParticipant.ParticipationStatus.REGISTERED, status(first));
+        assertEquals(EventParticipant.ParticipationStatus.WAITLISTED, status(second));
+        assertEquals(EventParticipant.ParticipationStatus.WAITLISTED, status(third));
+        assertEquals(10, eventRepository.findConfirmedHeadcountById(event.getId()));
+        assertEquals(2, eventRepository.findWaitlistCountById(event.getId()));
+        verify(emailService, times(1)).sendWaitlistPromotionEmail(any(), any(), any(), any());
+    }
+
+    private Event event(int maxParticipants, int confirmedHeadcount, int waitlistCount) {
+        return fixtures.event(group, event -> event
+                .maxParticipants(maxParticipants)
+                .maxWaitlist(10)
+                .confirmedHeadcount(confirmedHeadcount)
+                .waitlistCount(waitlistCount));
+    }
+
+    private EventParticipant waitlist(Event event, String name, int guests, int queuePosition) {
+        return fixtures.participant(event, fixtures.member("Waitlist " + name), EventParticipant.ParticipationStatus.WAITLISTED,
+                participant -> participant
+                        .guestCount(guests)
+                        .waitlistJoinedAt(LocalDateTime.now().minusMinutes(10 - queuePosition)));
+    }
+
+    private Event reload(Event event) {
+        entityManager.flush();
+        entityManager.clear();
+        return eventRepository.findById(event.getId()).orElseThrow();
+    }
+
+    private EventParticipant.ParticipationStatus status(EventParticipant participant) {
+        entityManager.flush();
+        return eventParticipantRepository.findById(participant.getId()).orElseThrow().getStatus();
+    }
+}
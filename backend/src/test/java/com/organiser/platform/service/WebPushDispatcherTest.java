@@ -0,0 +1,186 @@
+package com.organiser.platform.service;
+
+import com.organiser.platform.repository.WebPushSubscriptionRepository;
+import com.sun.net.httpserver.HttpServer;
+import nl.martijndwars.webpush.Notification;
+import nl.martijndwars.webpush.PushService;
+import org.bouncycastle.jce.interfaces.ECPublicKey;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.bouncycastle.jce.spec.ECNamedCurveGenParameterSpec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.net.InetSocketAddress;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.SecureRandom;
+import java.security.Security;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * WebPushDispatcher against a stub push service: status handling, retries and per-host concurrency.
+ */
+class WebPushDispatcherTest {
+
+    private static final int PER_HOST_LIMIT = 3;
+
+    private HttpServer server;
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private WebPushSubscriptionRepository repository;
+    private WebPushDispatcher dispatcher;
+    private String userPublicKey;
+    private String userAuth;
+
+    @BeforeAll
+    static void registerProvider() {
+        if (Security.getProvider(BouncyCastleProvider.PROVIDER_NAME) == null) {
+            Security.addProvider(new BouncyCastleProvider());
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(16));
+        server.createContext("/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            int hit = hits.computeIfAbsent(path, p -> new AtomicInteger()).incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                exchange.getRequestBody().readAllBytes();
+                int status = 201;
+                if (path.startsWith("/gone")) {
+                    status = 410;
+                } else if (path.startsWith("/flaky") && hit == 1) {
+                    status = 503;
+                } else if (path.startsWith("/down")) {
+                    status = 500;
+                } else if (path.startsWith("/slow")) {
+                    Thread.sleep(50);
+                }
+                exchange.sendResponseHeaders(status, -1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+                exchange.close();
+            }
+        });
+        server.start();
+
+        KeyPair vapid = generateKeyPair();
+        KeyPair user = generateKeyPair();
+        userPublicKey = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(((ECPublicKey) user.getPublic()).getQ().getEncoded(false));
+        byte[] auth = new byte[16];
+        new SecureRandom().nextBytes(auth);
+        userAuth = Base64.getUrlEncoder().withoutPadding().encodeToString(auth);
+
+        repository = mock(WebPushSubscriptionRepository.class);
+        dispatcher = new WebPushDispatcher(
+                new PushService(vapid, "mailto:test@example.com"),
+                repository,
+                TransactionOperations.withoutTransaction(),
+                new WebPushDispatcher.Settings(PER_HOST_LIMIT, 1000, 3,
+                        Duration.ofMillis(10), Duration.ofMillis(50), Duration.ofSeconds(5),
+                        Duration.ofHours(1)));  // Flushed explicitly by the tests
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void dispatch_StampsDeliveredAndDisablesGoneInBulk() throws Exception {
+        dispatcher.dispatch(1L, notification("/ok/1"));
+        dispatcher.dispatch(2L, notification("/gone/2"));
+        dispatcher.dispatch(3L, notification("/flaky/3"));
+        dispatcher.dispatch(4L, notification("/gone/4"));
+
+        awaitIdle();
+        dispatcher.flush();
+
+        assertEquals(Set.of(2L, 4L), captured(ids -> verify(repository).deactivateByIdIn(ids.capture())));
+        assertEquals(Set.of(1L, 3L), captured(ids -> verify(repository).updateLastNotifiedAtByIdIn(ids.capture(), any())));
+        assertEquals(2, hits.get("/flaky/3").get(), "A 503 should be retried once");
+    }
+
+    @Test
+    void dispatch_GivesUpAfterMaxAttempts() throws Exception {
+        dispatcher.dispatch(5L, notification("/down/5"));
+
+        awaitIdle();
+        dispatcher.flush();
+
+        assertEquals(3, hits.get("/down/5").get());
+        verify(repository, never()).deactivateByIdIn(anyCollection());
+        verify(repository, never()).updateLastNotifiedAtByIdIn(anyCollection(), any());
+    }
+
+    @Test
+    void dispatch_LimitsConcurrentRequestsPerHost() throws Exception {
+        int pushes = 40;
+        for (long id = 0; id < pushes; id++) {
+            assertTrue(dispatcher.dispatch(id, notification("/slow/" + id)));
+        }
+
+        awaitIdle();
+
+        assertEquals(pushes, hits.size());
+        assertTrue(maxInFlight.get() <= PER_HOST_LIMIT,
+                "At most " + PER_HOST_LIMIT + " requests in flight, saw " + maxInFlight.get());
+    }
+
+    private Notification notification(String path) throws Exception {
+        String endpoint = "http://localhost:" + server.getAddress().getPort() + path;
+        return new Notification(endpoint, userPublicKey, userAuth, "{\"title\":\"Hi\"}");
+    }
+
+    private void awaitIdle() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (dispatcher.pendingCount() > 0) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Pushes still pending: " + dispatcher.pendingCount());
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<Long> captured(Consumer<ArgumentCaptor<Collection<Long>>> verification) {
+        ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+        verification.accept(ids);
+        Set<Long> all = new HashSet<>();
+        ids.getAllValues().forEach(all::addAll);
+        return all;
+    }
+
+    private static KeyPair generateKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("ECDH", BouncyCastleProvider.PROVIDER_NAME);
+        generator.initialize(new ECNamedCurveGenParameterSpec("prime256v1"), new SecureRandom());
+        return generator.generateKeyPair();
+    }
+}
@@ -4,6 +4,7 @@ import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query'
 import { notificationsAPI } from '../lib/api'
 import { useAuthStore } from '../store/authStore'
 import { useNavigate } from 'react-router-dom'
+import { useNotificationStream } from '../hooks/useNotificationStream'
 import { formatDistanceToNow } from 'date-fns'
 
 export default function NotificationBell({
@@ -31,12 +32,15 @@ export default function NotificationBell({
     if (onOpenChange) onOpenChange(val)
   }
 
+  // Live unread count over SSE; polling is only a fallback while the stream is down
+  const streaming = useNotificationStream(isAuthenticated)
+
   // Fetch unread count
   const { data: unreadData } = useQuery({
     queryKey: ['notifications', 'unread-count'],
     queryFn: () => notificationsAPI.getUnreadCount(),
     enabled: isAuthenticated,
-    refetchInterval: 30000, // Refetch every 30 seconds
+    refetchInterval: streaming ? false : 30000, // Refetch every 30 seconds without a stream
     select: (response) => response.data,
   })
 
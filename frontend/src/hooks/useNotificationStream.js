@@ -0,0 +1,113 @@
+import { useEffect, useState } from 'react'
+import { useQueryClient } from '@tanstack/react-query'
+import { useAuthStore } from '../store/authStore'
+
+const API_BASE_URL = import.meta.env.VITE_API_URL || 'http://localhost:8080/api/v1'
+const MAX_RETRY_DELAY = 30000
+
+// One shared stream per tab, however many components listen to it
+const listeners = new Set()
+let controller = null
+let connected = false
+let retryTimer = null
+let retryDelay = 1000
+
+const setConnected = (value) => {
+  connected = value
+  listeners.forEach((listener) => listener({ type: 'connected', data: value }))
+}
+
+const dispatch = (block) => {
+  let type = 'message'
+  let data = ''
+  block.split('\n').forEach((line) => {
+    if (line.startsWith('event:')) type = line.slice(6).trim()
+    else if (line.startsWith('data:')) data += line.slice(5).trim()
+  })
+  if (!data) return // keep-alive comment
+  try {
+    const parsed = JSON.parse(data)
+    listeners.forEach((listener) => listener({ type, data: parsed }))
+  } catch {
+    // Ignore malformed events
+  }
+}
+
+/**
+ * Server-Sent Events over fetch, so the Authorization header can be sent (EventSource can't)
+ */
+const connect = async () => {
+  const { token } = useAuthStore.getState()
+  if (!token || controller) return
+  controller = new AbortController()
+  try {
+    const response = await fetch(`${API_BASE_URL}/notifications/stream`, {
+      headers: { Authorization: `Bearer ${token}`, Accept: 'text/event-stream' },
+      signal: controller.signal,
+    })
+    if (!response.ok || !response.body) throw new Error(`Stream failed: ${response.status}`)
+    setConnected(true)
+    retryDelay = 1000
+
+    const reader = response.body.pipeThrough(new TextDecoderStream()).getReader()
+    let buffer = ''
+    for (;;) {
+      const { value, done } = await reader.read()
+      if (done) break
+      buffer += value.replace(/\r\n/g, '\n')
+      let boundary
+      while ((boundary = buffer.indexOf('\n\n')) >= 0) {
+        dispatch(buffer.slice(0, boundary))
+        buffer = buffer.slice(boundary + 2)
+      }
+    }
+  } catch {
+    // Aborted or network error: reconnect below
+  }
+  const aborted = controller?.signal.aborted
+  controller = null
+  setConnected(false)
+  if (!aborted && listeners.size > 0) {
+    retryTimer = setTimeout(connect, retryDelay)
+    retryDelay = Math.min(retryDelay * 2, MAX_RETRY_DELAY)
+  }
+}
+
+const disconnect = () => {
+  clearTimeout(retryTimer)
+  controller?.abort()
+  controller = null
+}
+
+/**
+ * Live unread count and new-notification events. Keeps the ['notifications', 'unread-count']
+ * query up to date and refreshes the notification list when one arrives.
+ * Returns whether the stream is connected, so callers only poll as a fallback.
+ */
+export function useNotificationStream(enabled) {
+  const queryClient = useQueryClient()
+  const [isConnected, setIsConnected] = useState(connected)
+
+  useEffect(() => {
+    if (!enabled) return undefined
+
+    const listener = ({ type, data }) => {
+      if (type === 'connected') {
+        setIsConnected(data)
+      } else if (type === 'unread-count') {
+        queryClient.setQueryData(['notifications', 'unread-count'], (old) => ({ ...old, data }))
+      } else if (type === 'notification') {
+        queryClient.invalidateQueries({ queryKey: ['notifications'], exact: true })
+      }
+    }
+    listeners.add(listener)
+    connect()
+
+    return () => {
+      listeners.delete(listener)
+      if (listeners.size === 0) disconnect()
+    }
+  }, [enabled, queryClient])
+
+  return isConnected
+}
@@ -172,6 +172,12 @@ export const eventsAPI = {
     api.get(`/events/public?page=${page}&size=${size}`),
   searchAdvancedEvents: ({ q = '', page = 0, size = 20 }) =>
     api.get(`/events/search`, { params: { q, page, size } }),
+  // Cursor (keyset) pagination for infinite scroll: pass '' for the first page,
+  // then the previous response's nextCursor
+  getUpcomingEventsByCursor: (cursor = '', size = 20) =>
+    api.get(`/events/public/cursor`, { params: { cursor, size } }),
+  searchAdvancedEventsByCursor: ({ q = '', cursor = '', size = 20 }) =>
+    api.get(`/events/search/cursor`, { params: { q, cursor, size } }),
   
   getEventById: (id) => api.get(`/events/public/${id}`),
   
@@ -1,8 +1,8 @@
 // ============================================================
 // IMPORTS
 // ============================================================
-import { useState, useEffect, useMemo } from 'react'
-import { useQuery } from '@tanstack/react-query'
+import { useState, useEffect, useMemo, useRef } from 'react'
+import { useQuery, useInfiniteQuery } from '@tanstack/react-query'
 import { useSearchParams } from 'react-router-dom'
 import { Search } from 'lucide-react'
 import { eventsAPI } from '../lib/api'
@@ -56,6 +56,14 @@ export default function EventsPage() {
   const pastOnly = pastOnlyParam || tokenPast
   const myEventsOnly = tokenMe
   const hostingOnly = tokenHosting
+
+  // Browsing upcoming events and token searches scroll endlessly on keyset cursors (every page
+  // costs the same); plain keyword search stays relevance-ranked with numbered pages, and the
+  // simple ":me" view uses the my-events endpoint
+  const isMyEventsQuery = searchKeyword.includes(':me') && !searchKeyword.includes(':hosting') && !searchKeyword.includes(':group:')
+  const isTokenQuery = /:(me|hosting|group:|past)/.test(searchKeyword)
+  const cursorMode = !searchKeyword || (isTokenQuery && !isMyEventsQuery)
+  const loadMoreRef = useRef(null)  // Sentinel below the grid that triggers the next page
   
   // ============================================================
   // EFFECTS
@@ -73,41 +81,59 @@ export default function EventsPage() {
   // DATA FETCHING
   // ============================================================
   
-  // Fetch events - either search results or all upcoming events
-  const { data, isLoading } = useQuery({
+  // Upcoming events and token searches (:hosting, :group, :past) - infinite scroll on cursors
+  const {
+    data: cursorData,
+    isLoading: cursorLoading,
+    fetchNextPage,
+    hasNextPage,
+    isFetchingNextPage,
+  } = useInfiniteQuery({
+    queryKey: ['events', 'cursor', searchKeyword],
+    queryFn: ({ pageParam }) => searchKeyword
+      ? eventsAPI.searchAdvancedEventsByCursor({ q: searchKeyword, cursor: pageParam, size: 30 })
+      : eventsAPI.getUpcomingEventsByCursor(pageParam, 30),
+    initialPageParam: '',
+    getNextPageParam: (lastPage) => lastPage.data?.hasNext ? lastPage.data.nextCursor : undefined,
+    enabled: cursorMode,
+  })
+
+  // Plain keyword search and ":me" - numbered pages
+  const { data, isLoading: pagedLoading } = useQuery({
     queryKey: ['events', page, searchKeyword],
     queryFn: () => {
-      const hasMe = searchKeyword.includes(':me')
-      const hasHosting = searchKeyword.includes(':hosting')
-      const hasGroup = searchKeyword.includes(':group:')
-      const hasPast = searchKeyword.includes(':past')
-
       // Fallback: if it's a simple ":me" (optionally with :past) query, use my-joined endpoint
-      if (hasMe && !hasHosting && !hasGroup) {
-        return eventsAPI.getMyEvents(page, 100, hasPast)
+      if (isMyEventsQuery) {
+        return eventsAPI.getMyEvents(page, 100, searchKeyword.includes(':past'))
       }
 
-      // Any token-based search (:me, :hosting, :group, :past) uses advanced search endpoint
-      // which understands all tokens including group filtering and past events
-      if (hasMe || hasHosting || hasGroup || hasPast) {
-        return eventsAPI.searchAdvancedEvents({ q: searchKeyword, page, size: 50 })
-      }
-
-      // Plain keyword search — public search endpoint
-      if (searchKeyword) {
-        return eventsAPI.searchEvents(searchKeyword, page, 50)
-      }
-
-      // Default: get all upcoming events
-      return eventsAPI.getUpcomingEvents(page, 50)
+      // Plain keyword search — public search endpoint (ranked by relevance)
+      return eventsAPI.searchEvents(searchKeyword, page, 50)
     },
+    enabled: !cursorMode,
   })
 
+  // Load the next cursor page when the sentinel below the grid scrolls into view
+  useEffect(() => {
+    const sentinel = loadMoreRef.current
+    if (!cursorMode || !sentinel || !hasNextPage) return undefined
+    const observer = new IntersectionObserver((entries) => {
+      if (entries[0].isIntersecting && !isFetchingNextPage) {
+        fetchNextPage()
+      }
+    }, { rootMargin: '400px' })
+    observer.observe(sentinel)
+    return () => observer.disconnect()
+  }, [cursorMode, hasNextPage, isFetchingNextPage, fetchNextPage])
+
   // ============================================================
   // DERIVED STATE
   // ============================================================
-  const events = data?.data?.content || []  // Extract events array from response
-  const totalPages = data?.data?.totalPages || 0  // Total pages for pagination
+  const events = cursorMode
+    ? (cursorData?.pages || []).flatMap((p) => p.data?.content || [])
+    : data?.data?.content || []  // Extract events array from response
+  const totalPages = cursorMode ? 0 : data?.data?.totalPages || 0  // Total pages for pagination
+  const isLoading = cursorMode ? cursorLoading : pagedLoading
 
   // ============================================================
   // EVENT HANDLERS
@@ -175,6 +201,19 @@ export default function EventsPage() {
               ))}
             </div>
 
+            {/* ========== INFINITE SCROLL ========== */}
+            {cursorMode && hasNextPage && (
+              <div ref={loadMoreRef} className="mt-10 flex justify-center">
+                <button
+                  onClick={() => fetchNextPage()}
+                  disabled={isFetchingNextPage}
+                  className="py-3 px-6 bg-white/60 backdrop-blur-sm text-gray-700 font-semibold rounded-xl hover:bg-white transition-all disabled:opacity-50 disabled:cursor-not-allowed border border-gray-200 shadow-lg"
+                >
+                  {isFetchingNextPage ? 'Loading…' : 'Load more'}
+                </button>
+              </div>
+            )}
+
             {/* ========== PAGINATION ========== */}
             {totalPages > 1 && (
               <div className="mt-10 flex justify-center items-center gap-3">